@@ -0,0 +1,77 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a cold {@link BoxRuntime#getInstance()}, with the core BIFs and components registered from the build time
+ * registry index and without it. Every fork is a fresh JVM which starts the runtime exactly once, so the numbers
+ * include the class loading a CLI or serverless cold start pays.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 0 )
+@Measurement( iterations = 1 )
+@Fork( 10 )
+public class BoxRuntimeStartupBenchmark {
+
+	@Param( { "true", "false" } )
+	public boolean		registryIndex;
+
+	private Path		configPath;
+	private BoxRuntime	runtime;
+
+	@Setup
+	public void setup() throws IOException {
+		configPath = Files.createTempFile( "boxlang-startup", ".json" );
+		Files.writeString( configPath, "{ \"experimental\": { \"registryIndex\": " + registryIndex + " } }" );
+	}
+
+	@Benchmark
+	public BoxRuntime startup() {
+		runtime = BoxRuntime.getInstance( false, configPath.toString() );
+		return runtime;
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		if ( runtime != null ) {
+			runtime.shutdown();
+		}
+		Files.deleteIfExists( configPath );
+	}
+
+}
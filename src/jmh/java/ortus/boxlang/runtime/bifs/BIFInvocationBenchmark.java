@@ -0,0 +1,156 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Compares the positional BIF invocation against the arguments scope invocation over the 50 most used BIFs.
+ * BIFs which don't implement {@link IPositionalBIF} go through the arguments scope in both benchmarks, so they show the baseline.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BIFInvocationBenchmark {
+
+	private static final DateTime						NOW			= new DateTime();
+
+	/**
+	 * The arguments for each BIF, created fresh per call so mutating BIFs don't grow their input
+	 */
+	private static final Map<String, Supplier<Object[]>>	ARGUMENTS	= new LinkedHashMap<>();
+
+	static {
+		ARGUMENTS.put( "len", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "arrayLen", () -> new Object[] { Array.of( 1, 2, 3 ) } );
+		ARGUMENTS.put( "structCount", () -> new Object[] { Struct.of( "a", 1, "b", 2 ) } );
+		ARGUMENTS.put( "left", () -> new Object[] { "BoxLang", 3 } );
+		ARGUMENTS.put( "right", () -> new Object[] { "BoxLang", 4 } );
+		ARGUMENTS.put( "mid", () -> new Object[] { "BoxLang", 2, 3 } );
+		ARGUMENTS.put( "trim", () -> new Object[] { "  BoxLang  " } );
+		ARGUMENTS.put( "ucase", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "lcase", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "find", () -> new Object[] { "Lang", "BoxLang" } );
+		ARGUMENTS.put( "findNoCase", () -> new Object[] { "lang", "BoxLang" } );
+		ARGUMENTS.put( "replace", () -> new Object[] { "BoxLang", "Box", "Fox" } );
+		ARGUMENTS.put( "replaceNoCase", () -> new Object[] { "BoxLang", "box", "Fox" } );
+		ARGUMENTS.put( "reverse", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "repeatString", () -> new Object[] { "ab", 3 } );
+		ARGUMENTS.put( "compare", () -> new Object[] { "abc", "abd" } );
+		ARGUMENTS.put( "char", () -> new Object[] { 65 } );
+		ARGUMENTS.put( "ascii", () -> new Object[] { "A" } );
+		ARGUMENTS.put( "val", () -> new Object[] { "42abc" } );
+		ARGUMENTS.put( "listLen", () -> new Object[] { "a,b,c" } );
+		ARGUMENTS.put( "listGetAt", () -> new Object[] { "a,b,c", 2 } );
+		ARGUMENTS.put( "listFind", () -> new Object[] { "a,b,c", "b" } );
+		ARGUMENTS.put( "listAppend", () -> new Object[] { "a,b", "c" } );
+		ARGUMENTS.put( "arrayAppend", () -> new Object[] { Array.of( 1, 2 ), 3 } );
+		ARGUMENTS.put( "arrayContains", () -> new Object[] { Array.of( 1, 2, 3 ), 2 } );
+		ARGUMENTS.put( "arrayFind", () -> new Object[] { Array.of( 1, 2, 3 ), 3 } );
+		ARGUMENTS.put( "arrayToList", () -> new Object[] { Array.of( 1, 2, 3 ) } );
+		ARGUMENTS.put( "arrayNew", () -> new Object[] {} );
+		ARGUMENTS.put( "structKeyExists", () -> new Object[] { Struct.of( "a", 1 ), "a" } );
+		ARGUMENTS.put( "structNew", () -> new Object[] {} );
+		ARGUMENTS.put( "structInsert", () -> new Object[] { Struct.of( "a", 1 ), "b", 2 } );
+		ARGUMENTS.put( "structKeyList", () -> new Object[] { Struct.of( "a", 1, "b", 2 ) } );
+		ARGUMENTS.put( "structKeyArray", () -> new Object[] { Struct.of( "a", 1, "b", 2 ) } );
+		ARGUMENTS.put( "isNull", () -> new Object[] { null } );
+		ARGUMENTS.put( "isNumeric", () -> new Object[] { "42" } );
+		ARGUMENTS.put( "isArray", () -> new Object[] { Array.of( 1 ) } );
+		ARGUMENTS.put( "isStruct", () -> new Object[] { Struct.of( "a", 1 ) } );
+		ARGUMENTS.put( "isSimpleValue", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "isBoolean", () -> new Object[] { "yes" } );
+		ARGUMENTS.put( "isDate", () -> new Object[] { NOW } );
+		ARGUMENTS.put( "isEmpty", () -> new Object[] { "" } );
+		ARGUMENTS.put( "abs", () -> new Object[] { -42 } );
+		ARGUMENTS.put( "round", () -> new Object[] { 4.5 } );
+		ARGUMENTS.put( "ceiling", () -> new Object[] { 4.2 } );
+		ARGUMENTS.put( "floor", () -> new Object[] { 4.8 } );
+		ARGUMENTS.put( "max", () -> new Object[] { 4, 8 } );
+		ARGUMENTS.put( "min", () -> new Object[] { 4, 8 } );
+		ARGUMENTS.put( "int", () -> new Object[] { 4.8 } );
+		ARGUMENTS.put( "hash", () -> new Object[] { "BoxLang" } );
+		ARGUMENTS.put( "dateAdd", () -> new Object[] { "d", 1, NOW } );
+	}
+
+	// @formatter:off
+	@Param( {
+	    "len", "arrayLen", "structCount", "left", "right", "mid", "trim", "ucase", "lcase", "find",
+	    "findNoCase", "replace", "replaceNoCase", "reverse", "repeatString", "compare", "char", "ascii", "val", "listLen",
+	    "listGetAt", "listFind", "listAppend", "arrayAppend", "arrayContains", "arrayFind", "arrayToList", "arrayNew", "structKeyExists", "structNew",
+	    "structInsert", "structKeyList", "structKeyArray", "isNull", "isNumeric", "isArray", "isStruct", "isSimpleValue", "isBoolean", "isDate",
+	    "isEmpty", "abs", "round", "ceiling", "floor", "max", "min", "int", "hash", "dateAdd"
+	} )
+	// @formatter:on
+	public String					bif;
+
+	private BoxRuntime				runtime;
+	private IBoxContext				context;
+	private BIFDescriptor			descriptor;
+	private Key						name;
+	private Supplier<Object[]>		arguments;
+
+	@Setup
+	public void setup() {
+		runtime		= BoxRuntime.getInstance( true );
+		context		= new ScriptingRequestBoxContext( runtime.getRuntimeContext() );
+		name		= Key.of( bif );
+		descriptor	= runtime.getFunctionService().getGlobalFunction( name );
+		arguments	= ARGUMENTS.get( bif );
+		if ( descriptor == null || arguments == null ) {
+			throw new IllegalStateException( "Unknown BIF [" + bif + "]" );
+		}
+	}
+
+	@Benchmark
+	public Object positional() {
+		return descriptor.invoke( context, arguments.get(), false, name );
+	}
+
+	@Benchmark
+	public Object argumentsScope() {
+		return descriptor.invokeWithArgumentsScope( context, arguments.get(), false, name );
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.cache.policies.ICachePolicy;
+import ortus.boxlang.runtime.cache.policies.LRU;
+import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.cache.store.ConcurrentStore;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Measures the eviction cost and the hit ratio of the eviction policies on a full {@link ConcurrentStore}.
+ * The {@code legacy} policy only provides a comparator, so it shows the old sort-the-whole-pool eviction.
+ * The hit ratio benchmark reads keys with a Zipf-like skew over ten times more keys than the cache can hold and loads
+ * the misses, the {@code hits} and {@code misses} counters are reported next to the timings.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CacheEvictionBenchmark {
+
+	private static final Key	CACHE_NAME	= Key.of( "evictionBenchmark" );
+
+	@Param( { "LRU", "LFU", "WTinyLFU", "legacy" } )
+	public String				policy;
+
+	@Param( { "1000000" } )
+	public int					maxObjects;
+
+	private ConcurrentStore		store;
+
+	private long				universe;
+
+	private long				sequence;
+
+	/**
+	 * The hit ratio counters
+	 */
+	@AuxCounters( AuxCounters.Type.EVENTS )
+	@State( Scope.Thread )
+	public static class HitRatio {
+
+		public long	hits;
+		public long	misses;
+
+		@Setup( Level.Iteration )
+		public void reset() {
+			this.hits	= 0;
+			this.misses	= 0;
+		}
+	}
+
+	@Setup
+	public void setup() {
+		ICacheProvider	provider		= BoxRuntime.getInstance().getCacheService().getDefaultCache();
+		// A comparator only policy, which makes the store sort the pool on every eviction
+		ICachePolicy	legacyPolicy	= () -> new LRU().getComparator();
+		this.store = new ConcurrentStore();
+		this.store.init(
+		    provider,
+		    Struct.of(
+		        "maxObjects", this.maxObjects,
+		        "evictCount", 1,
+		        "evictionPolicy", this.policy.equals( "legacy" ) ? legacyPolicy : this.policy,
+		        "resetTimeoutOnAccess", false
+		    )
+		);
+		this.universe = this.maxObjects * 10L;
+		for ( int i = 0; i < this.maxObjects; i++ ) {
+			put( Key.of( "key" + i ) );
+		}
+		this.sequence = this.maxObjects;
+	}
+
+	@Benchmark
+	public int setAndEvict() {
+		put( Key.of( "key" + this.sequence++ ) );
+		return this.store.getSize();
+	}
+
+	@Benchmark
+	public Object zipfWorkload( HitRatio counters ) {
+		// Low ids are far more likely than high ones
+		long		id		= ( long ) Math.pow( this.universe, ThreadLocalRandom.current().nextDouble() );
+		Key			key		= Key.of( "key" + id );
+		ICacheEntry	entry	= this.store.get( key );
+		if ( entry != null ) {
+			counters.hits++;
+			return entry;
+		}
+		counters.misses++;
+		return put( key );
+	}
+
+	/**
+	 * Store an entry and evict like the provider does once the store is over its size
+	 *
+	 * @param key The key to store
+	 *
+	 * @return The new entry
+	 */
+	private ICacheEntry put( Key key ) {
+		ICacheEntry entry = new BoxCacheEntry( CACHE_NAME, 3600, 0, key, key, new Struct() );
+		this.store.set( key, entry );
+		if ( this.store.getSize() > this.maxObjects ) {
+			this.store.evict();
+		}
+		return entry;
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.scopes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares key creation and map lookups with and without the {@link KeyTable} interning.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class KeyBenchmark {
+
+	private static final String[]	NAMES	= {
+	    "firstName", "lastName", "email", "createdDate", "modifiedDate", "isActive", "userID", "roles",
+	    "address", "city", "state", "postalCode", "country", "phone", "notes", "status"
+	};
+
+	private Map<Key, Object>		map;
+	private Key[]					internedLookups;
+	private Key[]					plainLookups;
+
+	@Setup
+	public void setup() {
+		map				= new HashMap<>();
+		internedLookups	= new Key[ NAMES.length ];
+		plainLookups	= new Key[ NAMES.length ];
+		for ( int i = 0; i < NAMES.length; i++ ) {
+			map.put( Key.of( NAMES[ i ] ), i );
+			// Different case so the plain keys can't short-circuit on reference equality
+			internedLookups[ i ]	= Key.of( NAMES[ i ].toUpperCase() );
+			plainLookups[ i ]		= new Key( NAMES[ i ].toUpperCase() );
+		}
+	}
+
+	@Benchmark
+	public void createInterned( Blackhole bh ) {
+		for ( String name : NAMES ) {
+			bh.consume( Key.of( name ) );
+		}
+	}
+
+	@Benchmark
+	public void createPlain( Blackhole bh ) {
+		for ( String name : NAMES ) {
+			bh.consume( new Key( name ) );
+		}
+	}
+
+	@Benchmark
+	public void lookupInterned( Blackhole bh ) {
+		for ( Key key : internedLookups ) {
+			bh.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void lookupPlain( Blackhole bh ) {
+		for ( Key key : plainLookups ) {
+			bh.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public void createAndLookupInterned( Blackhole bh ) {
+		for ( String name : NAMES ) {
+			bh.consume( map.get( Key.of( name ) ) );
+		}
+	}
+
+	@Benchmark
+	public void createAndLookupPlain( Blackhole bh ) {
+		for ( String name : NAMES ) {
+			bh.consume( map.get( new Key( name ) ) );
+		}
+	}
+
+}
@@ -26,12 +26,15 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.runnables.RunnableLoader;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
 
 /**
@@ -48,8 +51,10 @@ public class BXCompiler {
 	 * @param target        Path to target directory or file
 	 * @param stopOnError   Whether to stop processing on first error
 	 * @param includeStatic Whether to include static files in compilation
+	 * @param archive       Path to a class archive to pack the compiled classes into, instead of the target
+	 * @param mapping       The mapping name the sources are served through, used when packing an archive
 	 */
-	public record CompilerOptions( String source, String target, Boolean stopOnError, Boolean includeStatic ) {
+	public record CompilerOptions( String source, String target, Boolean stopOnError, Boolean includeStatic, String archive, String mapping ) {
 	}
 
 	/**
@@ -99,6 +104,33 @@ public class BXCompiler {
 				System.exit( 1 );
 			}
 
+			// Pack a class archive instead of writing to a target
+			if ( options.archive() != null ) {
+				Path archivePath = Paths.get( options.archive() ).normalize();
+				if ( !archivePath.isAbsolute() ) {
+					archivePath = Paths.get( "" ).resolve( archivePath ).normalize().toAbsolutePath().normalize();
+				}
+				System.out.println( "═══════════════════════════════════════════════════════════════" );
+				System.out.println( "🥊 BOXLANG COMPILER" );
+				System.out.println( "═══════════════════════════════════════════════════════════════" );
+				System.out.println();
+				System.out.println( "📂 Source: " + sourcePath.toString() );
+				System.out.println( "📦 Archive: " + archivePath.toString() );
+				System.out.println( "🗺️  Mapping: " + options.mapping() );
+				System.out.println( "🛑 Stop On Error: " + options.stopOnError() );
+				System.out.println();
+				System.out.println( "───────────────────────────────────────────────────────────────" );
+				System.out.println( "⚡ Starting compilation..." );
+				System.out.println();
+
+				compileArchive( sourcePath, archivePath, options.mapping(), options.stopOnError(), runtime, errors, successCount, failureCount );
+
+				long	elapsedTime	= System.currentTimeMillis() - startTime;
+				double	seconds		= elapsedTime / 1000.0;
+				printCompilationSummary( successCount.get(), failureCount.get(), errors, seconds );
+				System.exit( failureCount.get() > 0 ? 1 : 0 );
+			}
+
 			// Verify target path exists
 			Path targetPath = Paths.get( options.target() ).normalize();
 			if ( !targetPath.isAbsolute() ) {
@@ -267,6 +299,87 @@ public class BXCompiler {
 		}
 	}
 
+	/**
+	 * Compiles a source directory or file and packs all the classes into a single class archive, which the runtime can
+	 * memory map via the {@code classArchive} setting. The sources are compiled through the given mapping so the
+	 * archived classes get the same names the runtime gives them when serving the sources through that mapping.
+	 *
+	 * @param sourcePath   The source directory or file
+	 * @param archivePath  The archive file to write
+	 * @param mapping      The mapping name the sources are served through
+	 * @param stopOnError  If true, throws an exception on compilation errors; otherwise logs the error and continues.
+	 * @param runtime      The BoxRuntime instance used for compilation.
+	 * @param errors       List to collect file paths for failed compilations.
+	 * @param successCount Counter of compiled files
+	 * @param failureCount Counter of failed files
+	 */
+	public static void compileArchive(
+	    Path sourcePath,
+	    Path archivePath,
+	    String mapping,
+	    Boolean stopOnError,
+	    BoxRuntime runtime,
+	    List<String> errors,
+	    AtomicInteger successCount,
+	    AtomicInteger failureCount ) {
+		final Path								sourceRoot	= sourcePath.toFile().isDirectory() ? sourcePath : sourcePath.getParent();
+		final Map<String, ClassArchive.Entry>	entries		= new ConcurrentSkipListMap<>();
+		final IBoxpiler							boxpiler	= RunnableLoader.getInstance().getBoxpiler();
+
+		List<Path>								files;
+		try ( var stream = Files.walk( sourcePath ) ) {
+			files = stream
+			    .filter( Files::isRegularFile )
+			    .filter( path -> {
+				    String fileName = path.getFileName().toString();
+				    return SUPPORTED_EXTENSIONS.contains( fileName.substring( fileName.lastIndexOf( "." ) + 1 ).toLowerCase() );
+			    } )
+			    .toList();
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error walking source path", e );
+		}
+
+		files.parallelStream().forEach( path -> {
+			String				relativePath		= sourceRoot.relativize( path ).toString();
+			ResolvedFilePath	resolvedFilePath	= ResolvedFilePath.of(
+			    mapping,
+			    sourceRoot.toString(),
+			    Path.of( mapping, relativePath ).normalize().toString(),
+			    path
+			);
+			try {
+				System.out.println( "⚡ Packing -> " + relativePath );
+				List<byte[]>	bytesList	= new ArrayList<>( boxpiler.compileTemplateBytes( resolvedFilePath ) );
+				// The first element is the FQN of the main class
+				String			fqn			= new String( bytesList.removeFirst() );
+				SourceMap		sourceMap	= boxpiler.getSourceMapFromFQN( fqn );
+				String			sourceJSON	= sourceMap == null ? null : JSONUtil.getJSONBuilder().asString( sourceMap );
+				entries.put( fqn, ClassArchive.Entry.of( fqn, resolvedFilePath, bytesList, sourceJSON ) );
+				successCount.incrementAndGet();
+			} catch ( Exception e ) {
+				failureCount.incrementAndGet();
+				synchronized ( errors ) {
+					errors.add( path.toString() );
+				}
+				if ( stopOnError ) {
+					throw new BoxRuntimeException( "Error compiling " + path.toString(), e );
+				}
+				System.out.println( "═══════════════════════════════════════════════════════════════" );
+				System.out.println( "❌ Error compiling " + path.toString() + ": " + e.getMessage() );
+				System.out.println( "═══════════════════════════════════════════════════════════════" );
+			}
+		} );
+
+		try {
+			ensureParentDirectoriesExist( archivePath );
+			ClassArchive.write( archivePath, entries.values() );
+			System.out.println();
+			System.out.println( "📦 Wrote " + entries.size() + " sources to " + archivePath.toString() );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Unable to write class archive " + archivePath.toString(), e );
+		}
+	}
+
 	/**
 	 * Ensures that the parent directories of the target path exist, creating them if necessary.
 	 *
@@ -297,6 +410,8 @@ public class BXCompiler {
 		String	target			= null;
 		Boolean	stopOnError		= false;
 		Boolean	includeStatic	= false;
+		String	archive			= null;
+		String	mapping			= "/";
 
 		for ( int i = 0; i < args.length; i++ ) {
 			if ( args[ i ].equalsIgnoreCase( "--includeStatic" ) ) {
@@ -314,6 +429,18 @@ public class BXCompiler {
 				}
 				target = args[ i + 1 ];
 			}
+			if ( args[ i ].equalsIgnoreCase( "--archive" ) ) {
+				if ( i + 1 >= args.length ) {
+					throw new BoxRuntimeException( "--archive requires a path" );
+				}
+				archive = args[ i + 1 ];
+			}
+			if ( args[ i ].equalsIgnoreCase( "--mapping" ) ) {
+				if ( i + 1 >= args.length ) {
+					throw new BoxRuntimeException( "--mapping requires a name" );
+				}
+				mapping = args[ i + 1 ];
+			}
 			if ( args[ i ].equalsIgnoreCase( "--stopOnError" ) ) {
 				if ( i + 1 >= args.length || args[ i + 1 ].startsWith( "--" ) ) {
 					stopOnError = true;
@@ -323,11 +450,11 @@ public class BXCompiler {
 			}
 		}
 
-		if ( target == null ) {
-			throw new BoxRuntimeException( "--target is required" );
+		if ( target == null && archive == null ) {
+			throw new BoxRuntimeException( "--target or --archive is required" );
 		}
 
-		return new CompilerOptions( source, target, stopOnError, includeStatic );
+		return new CompilerOptions( source, target, stopOnError, includeStatic, archive, mapping );
 	}
 
 	/**
@@ -383,7 +510,9 @@ public class BXCompiler {
 		System.out.println( "⚙️  OPTIONS:" );
 		System.out.println( "  -h, --help                  ❓ Show this help message and exit" );
 		System.out.println( "      --source <PATH>         📂 Path to source directory or file to compile (default: current directory)" );
-		System.out.println( "      --target <PATH>         🎯 Path to target directory or file (required)" );
+		System.out.println( "      --target <PATH>         🎯 Path to target directory or file (required unless --archive is used)" );
+		System.out.println( "      --archive <FILE>        📦 Pack all compiled classes into a single class archive file instead" );
+		System.out.println( "      --mapping <NAME>        🗺️  Mapping name the sources are served through when packing an archive (default: /)" );
 		System.out.println( "      --includeStatic         🔍 Include static files in compilation (default: false)" );
 		System.out.println( "      --stopOnError [BOOL]    🛑 Stop processing on first error (default: false)" );
 		System.out.println();
@@ -407,6 +536,9 @@ public class BXCompiler {
 		System.out.println( "  # 🛑 Stop on first compilation error" );
 		System.out.println( "  boxlang compile --source ./src --target ./build --stopOnError" );
 		System.out.println();
+		System.out.println( "  # 📦 Pack the web root into a class archive for the classArchive setting" );
+		System.out.println( "  boxlang compile --source ./www --archive ./app.bxca --mapping /" );
+		System.out.println();
 		System.out.println( "📂 PATH REQUIREMENTS:" );
 		System.out.println( "  • Target directories are created automatically if they don't exist" );
 		System.out.println( "  • Relative paths are resolved against the current working directory" );
@@ -86,6 +86,11 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	protected DiskClassUtil							diskClassUtil;
 
+	/**
+	 * The packed class archive, if one is configured
+	 */
+	protected ClassArchive							classArchive;
+
 	/**
 	 * The directory where the generated classes are stored
 	 */
@@ -103,7 +108,8 @@ public abstract class Boxpiler implements IBoxpiler {
 	 */
 	public Boxpiler() {
 		this.classGenerationDirectory	= Paths.get( this.runtime.getConfiguration().classGenerationDirectory );
-		this.diskClassUtil				= new DiskClassUtil( classGenerationDirectory );
+		this.classArchive				= openClassArchive( this.runtime.getConfiguration().classArchive );
+		this.diskClassUtil				= new DiskClassUtil( classGenerationDirectory, classArchive );
 
 		// Create the class generation directory if it doesn't exist
 		this.classGenerationDirectory.toFile().mkdirs();
@@ -125,6 +131,16 @@ public abstract class Boxpiler implements IBoxpiler {
 	 * --------------------------------------------------------------------------
 	 */
 
+	/**
+	 * Get the packed class archive
+	 *
+	 * @return The class archive, or null if none is configured
+	 */
+	@Override
+	public ClassArchive getClassArchive() {
+		return classArchive;
+	}
+
 	/**
 	 * Get a class pool by name
 	 *
@@ -511,4 +527,31 @@ public abstract class Boxpiler implements IBoxpiler {
 		return compileClassInfo( classInfo.classPoolName(), classInfo.fqn().toString() );
 	}
 
+	/**
+	 * Open the configured class archive. A missing or unreadable archive is logged and ignored, so the runtime falls back
+	 * to compiling the sources.
+	 *
+	 * @param archivePath The path to the archive, may be empty
+	 *
+	 * @return The archive, or null
+	 */
+	private ClassArchive openClassArchive( String archivePath ) {
+		if ( archivePath == null || archivePath.isBlank() ) {
+			return null;
+		}
+		Path path = Paths.get( archivePath );
+		if ( !Files.exists( path ) ) {
+			logger.warn( "The class archive [{}] does not exist, classes will be compiled from source", path );
+			return null;
+		}
+		try {
+			ClassArchive archive = ClassArchive.open( path );
+			logger.debug( "Opened class archive [{}] with [{}] compiled sources", path, archive.size() );
+			return archive;
+		} catch ( IOException e ) {
+			logger.warn( "Unable to open the class archive [{}], classes will be compiled from source: {}", path, e.getMessage() );
+			return null;
+		}
+	}
+
 }
@@ -0,0 +1,449 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.objectweb.asm.ClassReader;
+
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+/**
+ * A single file that packs the compiled classes and source maps of many sources, as an alternative to the one file per
+ * class layout of the class generation directory.
+ * <p>
+ * The archive is memory mapped when it's opened and only its index is parsed. Class bytes are handed out as read only
+ * slices of the mapped file, so defining a class from the archive doesn't copy it onto the heap or touch the file system.
+ * <p>
+ * Entries are keyed by the FQN of the compiled source. Each one records the source's content hash, which decides whether
+ * the entry is still fresh whatever the file dates are after a deploy, and the location the source was compiled at, so
+ * the loader knows whether the paths baked into the class need patching.
+ * <p>
+ * Layout, all numbers big endian:
+ *
+ * <pre>
+ * header: int magic, int format version, int bytecode version, int entry count, long index offset
+ * data:   class bytes and source maps, back to back
+ * index:  per entry: fqn, source hash, source last modified, mapping name, mapping path, relative path, absolute path,
+ *         class count, per class: name, data offset, length, then source map offset and length (-1 if none)
+ * </pre>
+ *
+ * Strings are stored as an int byte length (-1 for null) followed by UTF-8 bytes.
+ */
+public class ClassArchive {
+
+	/**
+	 * The magic number every archive starts with, "BXCA"
+	 */
+	public static final int				MAGIC			= 0x42584341;
+
+	/**
+	 * The version of the archive layout
+	 */
+	public static final int				FORMAT_VERSION	= 1;
+
+	/**
+	 * The size of the header, in bytes
+	 */
+	private static final int			HEADER_SIZE		= 24;
+
+	/**
+	 * The archive file
+	 */
+	private final Path					file;
+
+	/**
+	 * The entries, by the FQN of their main class
+	 */
+	private final Map<String, Entry>	entries;
+
+	/**
+	 * The compiled classes of one source
+	 *
+	 * @param fqn                The FQN of the main class
+	 * @param sourceHash         The SHA-256 hash of the source file
+	 * @param sourceLastModified The last modified date of the source file when it was compiled
+	 * @param mappingName        The mapping name the source was compiled through
+	 * @param mappingPath        The mapping path the source was compiled through
+	 * @param relativePath       The relative path the source was compiled through
+	 * @param absolutePath       The absolute path of the source when it was compiled
+	 * @param classes            The class bytes, by class name, main class first
+	 * @param sourceMap          The source map JSON, or null
+	 */
+	public record Entry(
+	    String fqn,
+	    byte[] sourceHash,
+	    long sourceLastModified,
+	    String mappingName,
+	    String mappingPath,
+	    String relativePath,
+	    String absolutePath,
+	    Map<String, ByteBuffer> classes,
+	    ByteBuffer sourceMap ) {
+
+		/**
+		 * Create an entry for a freshly compiled source
+		 *
+		 * @param fqn              The FQN of the main class
+		 * @param resolvedFilePath The resolved path the source was compiled through
+		 * @param classBytes       The bytes of the compiled classes
+		 * @param sourceMapJSON    The source map JSON, or null
+		 *
+		 * @return The entry
+		 *
+		 * @throws IOException If the source can't be read to hash it
+		 */
+		public static Entry of( String fqn, ResolvedFilePath resolvedFilePath, List<byte[]> classBytes, String sourceMapJSON ) throws IOException {
+			Path					source	= resolvedFilePath.absolutePath();
+			Map<String, ByteBuffer>	classes	= new LinkedHashMap<>();
+			for ( byte[] bytes : classBytes ) {
+				classes.put( new ClassReader( bytes ).getClassName().replace( '/', '.' ), ByteBuffer.wrap( bytes ) );
+			}
+			return new Entry(
+			    fqn,
+			    hashSource( source ),
+			    Files.getLastModifiedTime( source ).toMillis(),
+			    resolvedFilePath.mappingName(),
+			    resolvedFilePath.mappingPath(),
+			    resolvedFilePath.relativePath(),
+			    source.toString(),
+			    classes,
+			    sourceMapJSON == null ? null : ByteBuffer.wrap( sourceMapJSON.getBytes( StandardCharsets.UTF_8 ) )
+			);
+		}
+
+		/**
+		 * Get the bytes of a class. The buffer is a fresh view that can be consumed by the caller.
+		 *
+		 * @param name The class name
+		 *
+		 * @return The class bytes, or null if the class isn't in this entry
+		 */
+		public ByteBuffer classBytes( String name ) {
+			ByteBuffer bytes = classes.get( name );
+			return bytes == null ? null : bytes.duplicate();
+		}
+
+		/**
+		 * Get the source map
+		 *
+		 * @return The source map JSON, or null if there is none
+		 */
+		public String sourceMapJSON() {
+			if ( sourceMap == null ) {
+				return null;
+			}
+			return StandardCharsets.UTF_8.decode( sourceMap.duplicate() ).toString();
+		}
+
+		/**
+		 * Check if the entry was compiled through the same paths a source resolves to now, in which case its classes can
+		 * be used as they are
+		 *
+		 * @param resolvedFilePath The resolved path of the source
+		 *
+		 * @return True if all the paths match
+		 */
+		public boolean isLocatedAt( ResolvedFilePath resolvedFilePath ) {
+			return Objects.equals( mappingName, resolvedFilePath.mappingName() )
+			    && Objects.equals( mappingPath, resolvedFilePath.mappingPath() )
+			    && Objects.equals( relativePath, resolvedFilePath.relativePath() )
+			    && Objects.equals( absolutePath, resolvedFilePath.absolutePath().toString() );
+		}
+
+		/**
+		 * Check if the entry was compiled from the current contents of a source. Only the content hash is trusted: image
+		 * and archive tools often pin every file to the same date, so an equal last modified date doesn't mean the source
+		 * is unchanged.
+		 *
+		 * @param source The source file
+		 *
+		 * @return True if the source hasn't changed since it was compiled
+		 */
+		public boolean matchesSource( Path source ) {
+			try {
+				return Arrays.equals( sourceHash, hashSource( source ) );
+			} catch ( IOException e ) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param file    The archive file
+	 * @param entries The entries, by FQN
+	 */
+	private ClassArchive( Path file, Map<String, Entry> entries ) {
+		this.file		= file;
+		this.entries	= entries;
+	}
+
+	/**
+	 * Memory map an archive and read its index
+	 *
+	 * @param file The archive file
+	 *
+	 * @return The archive
+	 *
+	 * @throws IOException If the file can't be read, isn't an archive, or was built for another bytecode version
+	 */
+	public static ClassArchive open( Path file ) throws IOException {
+		ByteBuffer buffer;
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			if ( channel.size() > Integer.MAX_VALUE ) {
+				throw new IOException( "The class archive [" + file + "] is larger than 2GB" );
+			}
+			// The mapping stays valid after the channel is closed
+			buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+		}
+
+		if ( buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC ) {
+			throw new IOException( "The file [" + file + "] is not a class archive" );
+		}
+		int formatVersion = buffer.getInt();
+		if ( formatVersion != FORMAT_VERSION ) {
+			throw new IOException( "The class archive [" + file + "] has format version [" + formatVersion + "], expected [" + FORMAT_VERSION + "]" );
+		}
+		int bytecodeVersion = buffer.getInt();
+		if ( bytecodeVersion != IBoxpiler.BYTECODE_VERSION ) {
+			throw new IOException(
+			    "The class archive [" + file + "] was compiled for bytecode version [" + bytecodeVersion + "] and is incompatible with this runtime. Rebuild it." );
+		}
+		int					count	= buffer.getInt();
+		Map<String, Entry>	entries	= new HashMap<>( count * 2 );
+		buffer.position( Math.toIntExact( buffer.getLong() ) );
+
+		for ( int i = 0; i < count; i++ ) {
+			String	fqn				= readString( buffer );
+			byte[]	sourceHash		= new byte[ buffer.getInt() ];
+			buffer.get( sourceHash );
+			long	lastModified	= buffer.getLong();
+			String	mappingName		= readString( buffer );
+			String	mappingPath		= readString( buffer );
+			String	relativePath	= readString( buffer );
+			String	absolutePath	= readString( buffer );
+			int		classCount		= buffer.getInt();
+			Map<String, ByteBuffer> classes = new LinkedHashMap<>();
+			for ( int c = 0; c < classCount; c++ ) {
+				String name = readString( buffer );
+				classes.put( name, slice( buffer, buffer.getLong(), buffer.getInt() ) );
+			}
+			long		sourceMapOffset	= buffer.getLong();
+			int			sourceMapLength	= buffer.getInt();
+			ByteBuffer	sourceMap		= sourceMapLength < 0 ? null : slice( buffer, sourceMapOffset, sourceMapLength );
+			entries.put( fqn, new Entry( fqn, sourceHash, lastModified, mappingName, mappingPath, relativePath, absolutePath, classes, sourceMap ) );
+		}
+		return new ClassArchive( file, entries );
+	}
+
+	/**
+	 * Write an archive, replacing the file if it exists
+	 *
+	 * @param file    The archive file
+	 * @param entries The entries to pack
+	 *
+	 * @throws IOException If the file can't be written
+	 */
+	public static void write( Path file, Collection<Entry> entries ) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		Files.createDirectories( parent );
+		Path temp = Files.createTempFile( parent, file.getFileName().toString(), ".tmp" );
+		try {
+			try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temp ) ) ) ) {
+				// The data section comes first, so the offsets of everything are known before the index is written
+				long dataSize = 0;
+				for ( Entry entry : entries ) {
+					for ( ByteBuffer bytes : entry.classes().values() ) {
+						dataSize += bytes.remaining();
+					}
+					dataSize += entry.sourceMap() == null ? 0 : entry.sourceMap().remaining();
+				}
+
+				out.writeInt( MAGIC );
+				out.writeInt( FORMAT_VERSION );
+				out.writeInt( IBoxpiler.BYTECODE_VERSION );
+				out.writeInt( entries.size() );
+				out.writeLong( HEADER_SIZE + dataSize );
+
+				for ( Entry entry : entries ) {
+					for ( ByteBuffer bytes : entry.classes().values() ) {
+						writeBytes( out, bytes );
+					}
+					if ( entry.sourceMap() != null ) {
+						writeBytes( out, entry.sourceMap() );
+					}
+				}
+
+				long offset = HEADER_SIZE;
+				for ( Entry entry : entries ) {
+					writeString( out, entry.fqn() );
+					out.writeInt( entry.sourceHash().length );
+					out.write( entry.sourceHash() );
+					out.writeLong( entry.sourceLastModified() );
+					writeString( out, entry.mappingName() );
+					writeString( out, entry.mappingPath() );
+					writeString( out, entry.relativePath() );
+					writeString( out, entry.absolutePath() );
+					out.writeInt( entry.classes().size() );
+					for ( Map.Entry<String, ByteBuffer> classEntry : entry.classes().entrySet() ) {
+						writeString( out, classEntry.getKey() );
+						out.writeLong( offset );
+						out.writeInt( classEntry.getValue().remaining() );
+						offset += classEntry.getValue().remaining();
+					}
+					if ( entry.sourceMap() == null ) {
+						out.writeLong( -1 );
+						out.writeInt( -1 );
+					} else {
+						out.writeLong( offset );
+						out.writeInt( entry.sourceMap().remaining() );
+						offset += entry.sourceMap().remaining();
+					}
+				}
+			}
+			Files.move( temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		} finally {
+			Files.deleteIfExists( temp );
+		}
+	}
+
+	/**
+	 * Hash the contents of a source file
+	 *
+	 * @param source The source file
+	 *
+	 * @return The SHA-256 hash
+	 *
+	 * @throws IOException If the file can't be read
+	 */
+	public static byte[] hashSource( Path source ) throws IOException {
+		try {
+			return MessageDigest.getInstance( "SHA-256" ).digest( Files.readAllBytes( source ) );
+		} catch ( NoSuchAlgorithmException e ) {
+			throw new BoxRuntimeException( "SHA-256 is not available to hash the source [" + source + "]", e );
+		}
+	}
+
+	/**
+	 * Get the archive file
+	 *
+	 * @return The file
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Get the entry of a compiled source
+	 *
+	 * @param fqn The FQN of the main class
+	 *
+	 * @return The entry, or null if the source isn't in the archive
+	 */
+	public Entry get( String fqn ) {
+		return entries.get( fqn );
+	}
+
+	/**
+	 * Get all the entries
+	 *
+	 * @return The entries
+	 */
+	public Collection<Entry> getEntries() {
+		return Collections.unmodifiableCollection( entries.values() );
+	}
+
+	/**
+	 * Get the number of compiled sources in the archive
+	 *
+	 * @return The number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Get a read only view of part of the mapped archive
+	 */
+	private static ByteBuffer slice( ByteBuffer buffer, long offset, int length ) {
+		return buffer.slice( Math.toIntExact( offset ), length );
+	}
+
+	/**
+	 * Read a length prefixed UTF-8 string
+	 */
+	private static String readString( ByteBuffer buffer ) {
+		int length = buffer.getInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		byte[] bytes = new byte[ length ];
+		buffer.get( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Write a length prefixed UTF-8 string
+	 */
+	private static void writeString( DataOutputStream out, String value ) throws IOException {
+		if ( value == null ) {
+			out.writeInt( -1 );
+			return;
+		}
+		byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+		out.writeInt( bytes.length );
+		out.write( bytes );
+	}
+
+	/**
+	 * Write the remaining bytes of a buffer without consuming it
+	 */
+	private static void writeBytes( DataOutputStream out, ByteBuffer bytes ) throws IOException {
+		ByteBuffer view = bytes.duplicate();
+		if ( view.hasArray() ) {
+			out.write( view.array(), view.arrayOffset() + view.position(), view.remaining() );
+			return;
+		}
+		byte[] copy = new byte[ view.remaining() ];
+		view.get( copy );
+		out.write( copy );
+	}
+
+}
@@ -36,7 +36,12 @@ public class DiskClassUtil {
 	/**
 	 * The location of the disk store
 	 */
-	private Path diskStore;
+	private Path			diskStore;
+
+	/**
+	 * The packed class archive, consulted for source maps that are not on disk
+	 */
+	private ClassArchive	classArchive;
 
 	/**
 	 * Constructor
@@ -44,7 +49,18 @@ public class DiskClassUtil {
 	 * @param diskStore disk store location path
 	 */
 	public DiskClassUtil( Path diskStore ) {
-		this.diskStore = diskStore;
+		this( diskStore, null );
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param diskStore    disk store location path
+	 * @param classArchive the packed class archive, may be null
+	 */
+	public DiskClassUtil( Path diskStore, ClassArchive classArchive ) {
+		this.diskStore		= diskStore;
+		this.classArchive	= classArchive;
 	}
 
 	/**
@@ -55,7 +71,22 @@ public class DiskClassUtil {
 	 * @return true if JSON exists on disk
 	 */
 	public boolean hasLineNumbers( String classPoolName, String name ) {
-		return generateDiskpath( classPoolName, name, "json" ).toFile().exists();
+		return generateDiskpath( classPoolName, name, "json" ).toFile().exists() || readArchivedLineNumbers( name ) != null;
+	}
+
+	/**
+	 * Read the line number JSON of a class from the class archive
+	 *
+	 * @param fqn The fully qualified name of the class
+	 *
+	 * @return The JSON, or null if there is no archive or it has no line numbers for the class
+	 */
+	private String readArchivedLineNumbers( String fqn ) {
+		if ( classArchive == null ) {
+			return null;
+		}
+		ClassArchive.Entry entry = classArchive.get( fqn );
+		return entry == null ? null : entry.sourceMapJSON();
 	}
 
 	/**
@@ -99,6 +130,10 @@ public class DiskClassUtil {
 			return null;
 		}
 		Path diskPath = generateDiskpath( classPoolName, fqn, "json" );
+		// Line numbers written since the archive was built take precedence
+		if ( !diskPath.toFile().exists() ) {
+			return JSONUtil.fromJSON( SourceMap.class, readArchivedLineNumbers( fqn ) );
+		}
 		try {
 			String json = new String( Files.readAllBytes( diskPath ) );
 			return JSONUtil.fromJSON( SourceMap.class, json );
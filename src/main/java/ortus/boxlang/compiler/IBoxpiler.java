@@ -317,6 +317,16 @@ public interface IBoxpiler {
 	 */
 	SourceMap getSourceMapFromFQN( String FQN );
 
+	/**
+	 * Retrieves the packed class archive configured with the {@code classArchive} setting. Class loaders define the classes
+	 * it contains from it instead of compiling them or reading them from the class generation directory.
+	 *
+	 * @return The class archive, or null if none is configured
+	 */
+	default ClassArchive getClassArchive() {
+		return null;
+	}
+
 	/**
 	 * Extracts the base fully qualified name (FQN) from a class that may contain inner class suffixes.
 	 *
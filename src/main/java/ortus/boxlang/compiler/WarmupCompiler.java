@@ -0,0 +1,364 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.BoxExecutor;
+import ortus.boxlang.runtime.config.segments.WarmupConfig;
+import ortus.boxlang.runtime.logging.BoxLangLogger;
+import ortus.boxlang.runtime.modules.ModuleRecord;
+import ortus.boxlang.runtime.runnables.RunnableLoader;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.Mapping;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+/**
+ * Compiles the sources of an application ahead of time, so the first requests after a deploy find their classes in
+ * the class pools and the disk class store instead of compiling them one at a time.
+ * <p>
+ * The files are found by walking the mappings, paths and modules of the {@code warmup} configuration, and are
+ * compiled in parallel through the same boxpiler calls a request would make.
+ */
+public class WarmupCompiler {
+
+	/**
+	 * The name of the executor the files are compiled on
+	 */
+	public static final String	EXECUTOR_NAME	= "boxlang-warmup";
+
+	private final BoxRuntime	runtime;
+	private final WarmupConfig	config;
+	private final BoxLangLogger	logger;
+
+	/**
+	 * A file that was compiled
+	 *
+	 * @param path   The path to the file
+	 * @param timeMs How long it took to compile, in milliseconds
+	 * @param error  The error message if it could not be compiled, null otherwise
+	 */
+	public record FileResult( Path path, long timeMs, String error ) {
+
+		/**
+		 * Whether the file compiled
+		 *
+		 * @return True if there was no error
+		 */
+		public boolean successful() {
+			return error == null;
+		}
+	}
+
+	/**
+	 * The outcome of a warmup
+	 *
+	 * @param files  Every file that was compiled, in the order it was found
+	 * @param timeMs How long the whole warmup took, in milliseconds
+	 */
+	public record WarmupResult( List<FileResult> files, long timeMs ) {
+
+		/**
+		 * Get the files that compiled
+		 *
+		 * @return The files without an error
+		 */
+		public List<FileResult> compiled() {
+			return files.stream().filter( FileResult::successful ).toList();
+		}
+
+		/**
+		 * Get the files that could not be compiled
+		 *
+		 * @return The files with an error
+		 */
+		public List<FileResult> failed() {
+			return files.stream().filter( file -> !file.successful() ).toList();
+		}
+
+		/**
+		 * Get the result as a struct
+		 *
+		 * @return A struct with the totals and an array of per file results
+		 */
+		public IStruct asStruct() {
+			Array fileResults = new Array();
+			files.forEach( file -> fileResults.add( Struct.of(
+			    Key.path, file.path().toString(),
+			    Key.time, file.timeMs(),
+			    Key.error, file.error()
+			) ) );
+			return Struct.of(
+			    Key.time, timeMs,
+			    Key.count, files.size(),
+			    Key.failures, failed().size(),
+			    Key.files, fileResults
+			);
+		}
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param runtime The runtime to compile with
+	 * @param config  The warmup configuration
+	 */
+	public WarmupCompiler( BoxRuntime runtime, WarmupConfig config ) {
+		this.runtime	= runtime;
+		this.config		= config;
+		this.logger		= runtime.getLoggingService().getRuntimeLogger();
+	}
+
+	/**
+	 * Find and compile all the configured sources, blocking until every file is done
+	 *
+	 * @return The per file timings and failures
+	 */
+	public WarmupResult run() {
+		long					start	= System.nanoTime();
+		List<ResolvedFilePath>	files	= findFiles();
+		int						threads	= config.maxThreads != null && config.maxThreads > 0
+		    ? config.maxThreads
+		    : Runtime.getRuntime().availableProcessors();
+
+		this.logger.info( "+ Warmup compiling [{}] files with [{}] threads", files.size(), threads );
+
+		List<FileResult>	results		= new ArrayList<>( files.size() );
+		BoxExecutor			executor	= this.runtime.getAsyncService().newFixedExecutor( EXECUTOR_NAME, threads );
+		try {
+			List<Future<FileResult>> futures = new ArrayList<>( files.size() );
+			for ( ResolvedFilePath file : files ) {
+				futures.add( executor.executor().submit( () -> compile( file ) ) );
+			}
+			for ( int i = 0; i < futures.size(); i++ ) {
+				try {
+					results.add( futures.get( i ).get() );
+				} catch ( ExecutionException e ) {
+					results.add( new FileResult( files.get( i ).absolutePath(), 0, String.valueOf( e.getCause() ) ) );
+				}
+			}
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			this.logger.warn( "Warmup was interrupted after compiling [{}] of [{}] files", results.size(), files.size() );
+		} finally {
+			executor.shutdownNow();
+			this.runtime.getAsyncService().deleteExecutor( EXECUTOR_NAME );
+		}
+
+		WarmupResult result = new WarmupResult( results, TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) );
+		for ( FileResult file : result.failed() ) {
+			this.logger.warn( "Warmup could not compile [{}]: {}", file.path(), file.error() );
+		}
+		this.logger.info(
+		    "+ Warmup compiled [{}] files with [{}] failures in [{}]ms",
+		    result.compiled().size(),
+		    result.failed().size(),
+		    result.timeMs()
+		);
+		return result;
+	}
+
+	/**
+	 * Find the files to compile. A file reachable from more than one root is only compiled through the first one.
+	 *
+	 * @return The resolved paths of the files, as a request reaching them through their mapping would resolve them
+	 */
+	public List<ResolvedFilePath> findFiles() {
+		Map<Path, ResolvedFilePath>	found		= new LinkedHashMap<>();
+		IStruct						mappings	= this.runtime.getConfiguration().mappings;
+
+		for ( String name : config.mappings ) {
+			if ( mappings.get( Key.of( Mapping.cleanName( name ) ) ) instanceof Mapping mapping ) {
+				walk( mapping, Path.of( mapping.path() ), found );
+			} else {
+				this.logger.warn( "Warmup mapping [{}] is not registered, skipping it", name );
+			}
+		}
+
+		for ( String directory : config.paths ) {
+			Path path = Path.of( directory ).toAbsolutePath().normalize();
+			walk( findMapping( path, mappings ), path, found );
+		}
+
+		if ( Boolean.TRUE.equals( config.modules ) ) {
+			for ( ModuleRecord module : this.runtime.getModuleService().getRegistry().values() ) {
+				if ( module.mapping != null && module.physicalPath != null ) {
+					walk( module.mapping, module.physicalPath, found );
+				}
+			}
+		}
+
+		return new ArrayList<>( found.values() );
+	}
+
+	/**
+	 * Compile a file the way a request would, into the class pools and the disk class store
+	 *
+	 * @param file The file to compile
+	 *
+	 * @return The timing of the file, and the error if it failed
+	 */
+	private FileResult compile( ResolvedFilePath file ) {
+		long	start	= System.nanoTime();
+		String	error	= null;
+		try {
+			IBoxpiler boxpiler = RunnableLoader.getInstance().getBoxpiler();
+			if ( this.runtime.getConfiguration().validClassExtensions.contains( extension( file.absolutePath() ) ) ) {
+				boxpiler.compileClass( file );
+			} else {
+				boxpiler.compileTemplate( file );
+			}
+		} catch ( Exception | StackOverflowError e ) {
+			error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+		}
+		long timeMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+		this.logger.debug( "Warmup compiled [{}] in [{}]ms", file.absolutePath(), timeMs );
+		return new FileResult( file.absolutePath(), timeMs, error );
+	}
+
+	/**
+	 * Add the matching files of a directory to the found files
+	 *
+	 * @param mapping   The mapping the files are reached through, or null to resolve them by absolute path
+	 * @param directory The directory to walk
+	 * @param found     The files found so far, by absolute path
+	 */
+	private void walk( Mapping mapping, Path directory, Map<Path, ResolvedFilePath> found ) {
+		Path root = directory.toAbsolutePath().normalize();
+		if ( !Files.isDirectory( root ) ) {
+			this.logger.warn( "Warmup directory [{}] does not exist, skipping it", root );
+			return;
+		}
+		List<PathMatcher>	includes	= matchers( config.includes );
+		List<PathMatcher>	excludes	= matchers( config.excludes );
+		Path				mappingRoot	= mapping == null ? null : Path.of( mapping.path() ).toAbsolutePath().normalize();
+
+		try ( Stream<Path> paths = Files.walk( root ) ) {
+			paths
+			    .filter( Files::isRegularFile )
+			    .map( path -> path.toAbsolutePath().normalize() )
+			    .filter( path -> !found.containsKey( path ) )
+			    .filter( path -> {
+				    Path relative = root.relativize( path );
+				    if ( !isCompilable( path ) || excludes.stream().anyMatch( matcher -> matcher.matches( relative ) ) ) {
+					    return false;
+				    }
+				    return includes.isEmpty() || includes.stream().anyMatch( matcher -> matcher.matches( relative ) );
+			    } )
+			    .forEach( path -> found.put( path, resolve( mapping, mappingRoot, path ) ) );
+		} catch ( IOException e ) {
+			this.logger.warn( "Warmup could not read directory [{}]: {}", root, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Resolve a file the way FileSystemUtil resolves a path that starts with a mapping name
+	 *
+	 * @param mapping     The mapping, or null
+	 * @param mappingRoot The absolute path of the mapping
+	 * @param path        The absolute path of the file
+	 *
+	 * @return The resolved file path
+	 */
+	private static ResolvedFilePath resolve( Mapping mapping, Path mappingRoot, Path path ) {
+		if ( mapping == null || !path.startsWith( mappingRoot ) ) {
+			return ResolvedFilePath.of( path );
+		}
+		String relativePath = Path.of( mapping.name(), mappingRoot.relativize( path ).toString() ).normalize().toString();
+		return ResolvedFilePath.of( mapping.name(), mapping.path(), relativePath, path );
+	}
+
+	/**
+	 * Find the mapping with the longest path that contains a directory
+	 *
+	 * @param directory The absolute directory
+	 * @param mappings  The registered mappings
+	 *
+	 * @return The mapping, or null if the directory isn't inside any of them
+	 */
+	private static Mapping findMapping( Path directory, IStruct mappings ) {
+		Mapping	match		= null;
+		int		matchLength	= -1;
+		for ( Object value : mappings.values() ) {
+			if ( value instanceof Mapping mapping ) {
+				Path mappingRoot = Path.of( mapping.path() ).toAbsolutePath().normalize();
+				if ( directory.startsWith( mappingRoot ) && mappingRoot.getNameCount() > matchLength ) {
+					match		= mapping;
+					matchLength	= mappingRoot.getNameCount();
+				}
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Check if a file has a valid class or template extension
+	 *
+	 * @param path The file
+	 *
+	 * @return True if the runtime can compile it
+	 */
+	private boolean isCompilable( Path path ) {
+		String ext = extension( path );
+		return this.runtime.getConfiguration().validClassExtensions.contains( ext )
+		    || this.runtime.getConfiguration().getValidTemplateExtensions().contains( ext );
+	}
+
+	/**
+	 * Get the lower case extension of a file, without the dot
+	 *
+	 * @param path The file
+	 *
+	 * @return The extension, or an empty string
+	 */
+	private static String extension( Path path ) {
+		String	fileName	= path.getFileName().toString().toLowerCase();
+		int		dot			= fileName.lastIndexOf( '.' );
+		return dot == -1 ? "" : fileName.substring( dot + 1 );
+	}
+
+	/**
+	 * Build the path matchers for a list of globs
+	 *
+	 * @param globs The globs
+	 *
+	 * @return The matchers
+	 */
+	private static List<PathMatcher> matchers( List<String> globs ) {
+		return globs.stream()
+		    .map( glob -> FileSystems.getDefault().getPathMatcher( "glob:" + glob ) )
+		    .toList();
+	}
+
+}
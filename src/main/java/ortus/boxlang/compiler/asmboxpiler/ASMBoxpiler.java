@@ -23,7 +23,9 @@ import ortus.boxlang.compiler.ast.BoxInterface;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.BoxScript;
 import ortus.boxlang.compiler.ast.visitor.QueryEscapeSingleQuoteVisitor;
+import ortus.boxlang.compiler.ast.visitor.optimizer.ASTOptimizer;
 import ortus.boxlang.compiler.parser.ParsingResult;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.AsyncService.ExecutorType;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -108,6 +110,7 @@ public class ASMBoxpiler extends Boxpiler {
 
 	private List<byte[]> doWriteClassInfo( BoxNode node, ClassInfo classInfo ) {
 		node.accept( new QueryEscapeSingleQuoteVisitor( classInfo.sourceType() ) );
+		ASTOptimizer.optimize( node );
 		final List<byte[]>					classes		= new ArrayList<>();
 		final Map<String, ClassNode>		allClasses	= new LinkedHashMap<>();
 		final BiConsumer<String, ClassNode>	collector	= ( fqn, classNode ) -> allClasses.put( fqn, classNode );
@@ -241,7 +244,7 @@ public class ASMBoxpiler extends Boxpiler {
 		}
 	}
 
-	private static Transpiler transpiler( ClassInfo classInfo ) {
+	private Transpiler transpiler( ClassInfo classInfo ) {
 		Transpiler transpiler = Transpiler.getTranspiler();
 		transpiler.setProperty( "classname", classInfo.className() );
 		transpiler.setProperty( "packageName", classInfo.packageName().toString() );
@@ -252,6 +255,9 @@ public class ASMBoxpiler extends Boxpiler {
 		transpiler.setProperty( "mappingName", classInfo.resolvedFilePath() == null ? null : classInfo.resolvedFilePath().mappingName() );
 		transpiler.setProperty( "mappingPath", classInfo.resolvedFilePath() == null ? null : classInfo.resolvedFilePath().mappingPath() );
 		transpiler.setProperty( "relativePath", classInfo.resolvedFilePath() == null ? null : classInfo.resolvedFilePath().relativePath() );
+		// Resolve proven function locals and arguments directly instead of searching all nearby scopes
+		transpiler.setProperty( "fastLocalLookups",
+		    String.valueOf( BooleanCaster.attempt( runtime.getConfiguration().experimental.getOrDefault( "fastLocalLookups", false ) ).orElse( false ) ) );
 		return transpiler;
 	}
 
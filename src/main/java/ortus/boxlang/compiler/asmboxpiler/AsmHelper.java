@@ -1,14 +1,17 @@
 package ortus.boxlang.compiler.asmboxpiler;
 
 import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantBootstraps;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -16,6 +19,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ConstantDynamic;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
@@ -46,20 +50,28 @@ import ortus.boxlang.compiler.ast.BoxInterface;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.BoxStatement;
 import ortus.boxlang.compiler.ast.expression.BoxArgument;
+import ortus.boxlang.compiler.ast.expression.BoxAssignment;
+import ortus.boxlang.compiler.ast.expression.BoxAssignmentModifier;
 import ortus.boxlang.compiler.ast.expression.BoxIdentifier;
+import ortus.boxlang.compiler.ast.statement.BoxArgumentDeclaration;
 import ortus.boxlang.compiler.ast.statement.BoxExpressionStatement;
+import ortus.boxlang.compiler.ast.statement.BoxForIn;
 import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
 import ortus.boxlang.compiler.ast.statement.BoxReturnType;
 import ortus.boxlang.compiler.ast.statement.BoxType;
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.bifs.BIFCallSite;
+import ortus.boxlang.runtime.context.FunctionBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.dynamic.IReferenceable;
 import ortus.boxlang.runtime.dynamic.Referencer;
 import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.interop.InteropCallSite;
 import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.runnables.BoxClassSupport;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.AbstractFunction;
 import ortus.boxlang.runtime.types.Argument;
@@ -533,6 +545,55 @@ public class AsmHelper {
 
 	}
 
+	/**
+	 * Invoke a BIF which is registered at compile time with positional arguments. Expects the context on the stack.
+	 * The call site binds to the BIF descriptor directly, see {@link BIFCallSite}.
+	 *
+	 * @param transpiler The transpiler
+	 * @param args       The positional arguments
+	 * @param name       The name of the BIF
+	 * @param context    The transformer context for the arguments
+	 *
+	 * @return The nodes, leaving the result of the invocation on the stack
+	 */
+	public static List<AbstractInsnNode> callBIFInvoke( Transpiler transpiler, List<BoxArgument> args, String name, TransformerContext context ) {
+		List<AbstractInsnNode> nodes = new ArrayList<AbstractInsnNode>();
+		nodes.addAll(
+		    AsmHelper.array( Type.getType( Object.class ), args,
+		        ( argument, i ) -> transpiler.transform( args.get( i ), context, ReturnValueContext.VALUE ) )
+		);
+		nodes.add( new InvokeDynamicInsnNode(
+		    "invokeBIF",
+		    Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( IBoxContext.class ), Type.getType( Object[].class ) ),
+		    new Handle(
+		        Opcodes.H_INVOKESTATIC,
+		        Type.getInternalName( BIFCallSite.class ),
+		        "bootstrap",
+		        Type.getMethodDescriptor(
+		            Type.getType( CallSite.class ),
+		            Type.getType( MethodHandles.Lookup.class ),
+		            Type.getType( String.class ),
+		            Type.getType( MethodType.class ),
+		            Type.getType( String.class )
+		        ),
+		        false
+		    ),
+		    name
+		) );
+		return nodes;
+	}
+
+	/**
+	 * Is the function name a BIF registered in the runtime we are compiling in
+	 *
+	 * @param name The function name
+	 *
+	 * @return True if a global function with that name exists
+	 */
+	public static boolean isRegisteredBIF( String name ) {
+		return BoxRuntime.getInstance().getFunctionService().hasGlobalFunction( name );
+	}
+
 	public static List<AbstractInsnNode> callReferencerGetAndInvoke(
 	    Transpiler transpiler,
 	    List<BoxArgument> args,
@@ -562,9 +623,8 @@ public class AsmHelper {
 			nodes.add( new FieldInsnNode( Opcodes.GETSTATIC, Type.getInternalName( Boolean.class ), safe ? "TRUE" : "FALSE",
 			    Type.getDescriptor( Boolean.class ) ) );
 
-			nodes.add( new MethodInsnNode(
-			    Opcodes.INVOKESTATIC,
-			    Type.getInternalName( Referencer.class ),
+			// Same contract as Referencer.getAndInvoke(), but each call site gets its own inline cache for Java method lookups
+			nodes.add( new InvokeDynamicInsnNode(
 			    "getAndInvoke",
 			    Type.getMethodDescriptor( Type.getType( Object.class ),
 			        Type.getType( IBoxContext.class ),
@@ -573,8 +633,19 @@ public class AsmHelper {
 			        Type.getType( Object[].class ),
 			        Type.getType( Boolean.class )
 			    ),
-			    false )
-			);
+			    new Handle(
+			        Opcodes.H_INVOKESTATIC,
+			        Type.getInternalName( InteropCallSite.class ),
+			        "bootstrap",
+			        Type.getMethodDescriptor(
+			            Type.getType( CallSite.class ),
+			            Type.getType( MethodHandles.Lookup.class ),
+			            Type.getType( String.class ),
+			            Type.getType( MethodType.class )
+			        ),
+			        false
+			    )
+			) );
 
 			return nodes;
 		}
@@ -1920,6 +1991,154 @@ public class AsmHelper {
 		return nodes;
 	}
 
+	/**
+	 * Names which always resolve as scopes (or special variables) in a function, and therefore can never
+	 * take the local lookup fast path, even when declared as an argument or var.
+	 */
+	private static final Set<String> NON_LOCAL_NAMES = Set.of(
+	    "local", "arguments", "variables", "this", "super", "static", "request", "application", "session", "server", "cgi", "url", "form",
+	    "cookie", "client", "thread", "bxthread", "cfthread", "attributes", "caller", "thistag", "$bx", "var" );
+
+	/**
+	 * Collect the names the compiler can prove are declared in a function body: its arguments, and every
+	 * unscoped variable declared with the var keyword. These are the lookups that can go straight to the local
+	 * and arguments scopes at runtime.
+	 *
+	 * @param transpiler The transpiler
+	 * @param args       The function arguments
+	 * @param body       The function body statements, may be null
+	 *
+	 * @return The lower cased names, or null if fast local lookups are disabled
+	 */
+	public static Set<String> collectFunctionLocals( Transpiler transpiler, List<BoxArgumentDeclaration> args, List<? extends BoxNode> body ) {
+		if ( !Boolean.parseBoolean( transpiler.getProperty( "fastLocalLookups" ) ) ) {
+			return null;
+		}
+
+		Set<String> names = new HashSet<>();
+		args.forEach( arg -> names.add( arg.getName().toLowerCase() ) );
+		if ( body != null ) {
+			for ( BoxNode statement : body ) {
+				statement.getDescendantsOfType( BoxAssignment.class, assignment -> assignment.getModifiers().contains( BoxAssignmentModifier.VAR ) )
+				    .forEach( assignment -> {
+					    if ( assignment.getLeft() instanceof BoxIdentifier id ) {
+						    names.add( id.getName().toLowerCase() );
+					    }
+				    } );
+				statement.getDescendantsOfType( BoxForIn.class, forIn -> Boolean.TRUE.equals( forIn.getHasVar() ) )
+				    .forEach( forIn -> {
+					    if ( forIn.getVariable() instanceof BoxIdentifier id ) {
+						    names.add( id.getName().toLowerCase() );
+					    }
+				    } );
+			}
+		}
+		names.removeAll( NON_LOCAL_NAMES );
+		return names;
+	}
+
+	/**
+	 * Search for an unscoped variable in the nearby scopes of the current context.
+	 * If the variable is a proven local or argument of the function being compiled, we emit the direct
+	 * local/arguments probe instead of the full nearby scope search.
+	 *
+	 * context.scopeFindNearby( Key, defaultScope, forAssign )
+	 * or
+	 * ((FunctionBoxContext) context).scopeFindLocal( Key, defaultScope, forAssign )
+	 *
+	 * @param transpiler       The transpiler
+	 * @param name             The variable name
+	 * @param withDefaultScope Pass the default assignment scope, else null
+	 * @param forAssign        Whether the search is for an assignment
+	 *
+	 * @return The nodes, leaving a ScopeSearchResult on the stack
+	 */
+	public static List<AbstractInsnNode> scopeFindNearby( Transpiler transpiler, String name, boolean withDefaultScope, boolean forAssign ) {
+		List<AbstractInsnNode>			nodes		= new ArrayList<>();
+		Optional<MethodContextTracker>	tracker		= transpiler.getCurrentMethodContextTracker();
+		boolean							isLocal		= tracker.map( t -> t.isFunctionLocal( name ) ).orElse( false );
+
+		tracker.ifPresent( t -> nodes.addAll( t.loadCurrentContext() ) );
+		if ( isLocal ) {
+			nodes.add( new TypeInsnNode( Opcodes.CHECKCAST, Type.getInternalName( FunctionBoxContext.class ) ) );
+		}
+		nodes.addAll( transpiler.createKey( name ) );
+		if ( withDefaultScope ) {
+			tracker.ifPresent( t -> nodes.addAll( t.loadCurrentContext() ) );
+			nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
+			    Type.getInternalName( IBoxContext.class ),
+			    "getDefaultAssignmentScope",
+			    Type.getMethodDescriptor( Type.getType( IScope.class ) ),
+			    true ) );
+		} else {
+			nodes.add( new InsnNode( Opcodes.ACONST_NULL ) );
+		}
+		nodes.add( new LdcInsnNode( forAssign ? 1 : 0 ) );
+		if ( isLocal ) {
+			nodes.add( new MethodInsnNode( Opcodes.INVOKEVIRTUAL,
+			    Type.getInternalName( FunctionBoxContext.class ),
+			    "scopeFindLocal",
+			    Type.getMethodDescriptor( Type.getType( IBoxContext.ScopeSearchResult.class ), Type.getType( Key.class ), Type.getType( IScope.class ),
+			        Type.BOOLEAN_TYPE ),
+			    false ) );
+		} else {
+			nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
+			    Type.getInternalName( IBoxContext.class ),
+			    "scopeFindNearby",
+			    Type.getMethodDescriptor( Type.getType( IBoxContext.ScopeSearchResult.class ), Type.getType( Key.class ), Type.getType( IScope.class ),
+			        Type.BOOLEAN_TYPE ),
+			    true ) );
+		}
+		return nodes;
+	}
+
+	/**
+	 * Load a boxed numeric literal as a dynamic class constant.
+	 * The constant is resolved once per class via ConstantBootstraps.invoke(), so evaluating the literal in a loop
+	 * never allocates a new Integer, Long, Double or BigDecimal.
+	 *
+	 * @param value The literal value, must be an Integer, Long, Double or BigDecimal
+	 *
+	 * @return The ldc node, leaving the boxed number on the stack
+	 */
+	public static AbstractInsnNode numericConstant( Number value ) {
+		Handle	factory;
+		Object	argument;
+		if ( value instanceof Integer i ) {
+			factory		= new Handle( Opcodes.H_INVOKESTATIC, Type.getInternalName( Integer.class ), "valueOf",
+			    Type.getMethodDescriptor( Type.getType( Integer.class ), Type.INT_TYPE ), false );
+			argument	= i;
+		} else if ( value instanceof Long l ) {
+			factory		= new Handle( Opcodes.H_INVOKESTATIC, Type.getInternalName( Long.class ), "valueOf",
+			    Type.getMethodDescriptor( Type.getType( Long.class ), Type.LONG_TYPE ), false );
+			argument	= l;
+		} else if ( value instanceof Double d ) {
+			factory		= new Handle( Opcodes.H_INVOKESTATIC, Type.getInternalName( Double.class ), "valueOf",
+			    Type.getMethodDescriptor( Type.getType( Double.class ), Type.DOUBLE_TYPE ), false );
+			argument	= d;
+		} else if ( value instanceof BigDecimal bd ) {
+			factory		= new Handle( Opcodes.H_NEWINVOKESPECIAL, Type.getInternalName( BigDecimal.class ), "<init>",
+			    Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( String.class ) ), false );
+			argument	= bd.toString();
+		} else {
+			throw new IllegalArgumentException( "Unsupported numeric constant type: " + value.getClass().getName() );
+		}
+		return new LdcInsnNode( new ConstantDynamic(
+		    "number",
+		    Type.getDescriptor( value.getClass() ),
+		    new Handle(
+		        Opcodes.H_INVOKESTATIC,
+		        Type.getInternalName( ConstantBootstraps.class ),
+		        "invoke",
+		        Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( MethodHandles.Lookup.class ), Type.getType( String.class ),
+		            Type.getType( Class.class ), Type.getType( MethodHandle.class ), Type.getType( Object[].class ) ),
+		        false
+		    ),
+		    factory,
+		    argument
+		) );
+	}
+
 	/**
 	 * Guard against methods exceeding JVM's 64KB bytecode limit.
 	 * Overload without tracker parameter - uses null (allows splitting).
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import org.objectweb.asm.Opcodes;
@@ -31,6 +32,7 @@ public class MethodContextTracker {
 	private Map<BoxNode, LabelNode>		nodeBreaks			= new LinkedHashMap<>();
 	private Map<BoxNode, LabelNode>		nodeContinues		= new LinkedHashMap<>();
 	private Map<String, BoxNode>		stringLabel			= new LinkedHashMap<>();
+	private Set<String>					functionLocals		= null;
 
 	public enum CompilationType {
 		BoxClass,
@@ -193,6 +195,29 @@ public class MethodContextTracker {
 		contextStack.removeLast();
 	}
 
+	/**
+	 * Register the (lower cased) names of the variables the compiler proved are declared
+	 * in the function whose body this method is compiling, as arguments or with the var keyword.
+	 *
+	 * @param functionLocals The declared names, or null to disable local lookups for this method
+	 */
+	public void setFunctionLocals( Set<String> functionLocals ) {
+		this.functionLocals = functionLocals;
+	}
+
+	/**
+	 * Can an unscoped variable of this name be looked up directly in the local and arguments scopes?
+	 * Only true while the current context is still the function context itself, as nested contexts
+	 * (catch blocks, etc) have nearby scopes of their own.
+	 *
+	 * @param name The variable name
+	 *
+	 * @return True if the name is a declared local or argument of the current function context
+	 */
+	public boolean isFunctionLocal( String name ) {
+		return functionLocals != null && contextStack.size() == 1 && functionLocals.contains( name.toLowerCase() );
+	}
+
 	public List<AbstractInsnNode> loadCurrentContext() {
 		return List.of(
 		    new VarInsnNode( Opcodes.ALOAD, contextStack.getLast() )
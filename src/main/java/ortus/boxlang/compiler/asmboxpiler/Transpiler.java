@@ -46,6 +46,7 @@ public abstract class Transpiler implements ITranspiler {
 	private final HashMap<String, String>					properties				= new HashMap<String, String>();
 	private final HashMap<String, List<AbstractInsnNode>>	udfs					= new HashMap<String, List<AbstractInsnNode>>();
 	private Map<String, BoxExpression>						keys					= new LinkedHashMap<String, BoxExpression>();
+	private Map<String, Integer>							keyIndexes				= new HashMap<String, Integer>();
 	private Map<String, ClassNode>							auxiliaries				= new LinkedHashMap<String, ClassNode>();
 	private List<TryCatchBlockNode>							tryCatchBlockNodes		= new ArrayList<TryCatchBlockNode>();
 	private int												lambdaCounter			= 0;
@@ -198,10 +199,12 @@ public abstract class Transpiler implements ITranspiler {
 			throw new IllegalStateException( "Key must be a string or integer literal" );
 		}
 		// check if exists
-		if ( keys.containsKey( name ) ) {
-			return new ArrayList<>( keys.keySet() ).indexOf( name );
+		Integer index = keyIndexes.get( name );
+		if ( index != null ) {
+			return index;
 		}
 		keys.put( name, key );
+		keyIndexes.put( name, keys.size() - 1 );
 		return keys.size() - 1;
 	}
 
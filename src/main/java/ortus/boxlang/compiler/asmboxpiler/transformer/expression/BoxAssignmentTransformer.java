@@ -283,21 +283,7 @@ public class BoxAssignmentTransformer extends AbstractTransformer {
 			} else {
 				// Otherwise, search for varible in scopes
 				baseObjectClass = IBoxContext.ScopeSearchResult.class;
-				tracker.ifPresent( t -> nodes.addAll( t.loadCurrentContext() ) );
-				nodes.addAll( transpiler.createKey( id.getName() ) );
-				tracker.ifPresent( t -> nodes.addAll( t.loadCurrentContext() ) );
-				nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
-				    Type.getInternalName( IBoxContext.class ),
-				    "getDefaultAssignmentScope",
-				    Type.getMethodDescriptor( Type.getType( IScope.class ) ),
-				    true ) );
-				nodes.add( new LdcInsnNode( 1 ) );
-				nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
-				    Type.getInternalName( IBoxContext.class ),
-				    "scopeFindNearby",
-				    Type.getMethodDescriptor( Type.getType( IBoxContext.ScopeSearchResult.class ), Type.getType( Key.class ), Type.getType( IScope.class ),
-				        Type.BOOLEAN_TYPE ),
-				    true ) );
+				nodes.addAll( AsmHelper.scopeFindNearby( transpiler, id.getName(), true, true ) );
 			}
 
 			nodes.addAll( jRight );
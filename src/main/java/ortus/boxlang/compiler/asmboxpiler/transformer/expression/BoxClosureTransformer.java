@@ -16,6 +16,7 @@ package ortus.boxlang.compiler.asmboxpiler.transformer.expression;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Opcodes;
@@ -92,6 +93,9 @@ public class BoxClosureTransformer extends AbstractTransformer {
 		    true,
 		    transpiler, isBlock,
 		    () -> {
+			    Set<String> functionLocals = AsmHelper.collectFunctionLocals( transpiler, boxClosure.getArgs(), List.of( boxClosure.getBody() ) );
+			    transpiler.getCurrentMethodContextTracker().ifPresent( t -> t.setFunctionLocals( functionLocals ) );
+
 			    List<AbstractInsnNode> bodyNodes = new ArrayList<AbstractInsnNode>();
 
 			    BoxNode				body		= boxClosure.getBody();
@@ -17,14 +17,9 @@ package ortus.boxlang.compiler.asmboxpiler.transformer.expression;
 import java.math.BigDecimal;
 import java.util.List;
 
-import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
-import org.objectweb.asm.tree.InsnNode;
-import org.objectweb.asm.tree.LdcInsnNode;
-import org.objectweb.asm.tree.MethodInsnNode;
-import org.objectweb.asm.tree.TypeInsnNode;
 
+import ortus.boxlang.compiler.asmboxpiler.AsmHelper;
 import ortus.boxlang.compiler.asmboxpiler.Transpiler;
 import ortus.boxlang.compiler.asmboxpiler.transformer.AbstractTransformer;
 import ortus.boxlang.compiler.asmboxpiler.transformer.ReturnValueContext;
@@ -43,24 +38,11 @@ public class BoxDecimalLiteralTransformer extends AbstractTransformer {
 	public List<AbstractInsnNode> transform( BoxNode node, TransformerContext context, ReturnValueContext returnContext ) throws IllegalStateException {
 		BoxDecimalLiteral literal = ( BoxDecimalLiteral ) node;
 
+		// Literals are loaded as class constants so evaluating them never allocates
 		if ( MathUtil.isHighPrecisionMath() ) {
-			return List.of(
-			    new TypeInsnNode( Opcodes.NEW, Type.getInternalName( BigDecimal.class ) ),
-			    new InsnNode( Opcodes.DUP ),
-			    new LdcInsnNode( literal.getValue() ),
-			    new MethodInsnNode( Opcodes.INVOKESPECIAL,
-			        Type.getInternalName( BigDecimal.class ),
-			        "<init>",
-			        Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( String.class ) ),
-			        false
-			    )
-			);
+			return List.of( AsmHelper.numericConstant( new BigDecimal( literal.getValue() ) ) );
 		}
 
-		return List.of( new LdcInsnNode( Double.valueOf( literal.getValue() ) ), new MethodInsnNode( Opcodes.INVOKESTATIC,
-		    Type.getInternalName( Double.class ),
-		    "valueOf",
-		    Type.getMethodDescriptor( Type.getType( Double.class ), Type.DOUBLE_TYPE ),
-		    false ) );
+		return List.of( AsmHelper.numericConstant( Double.valueOf( literal.getValue() ) ) );
 	}
 }
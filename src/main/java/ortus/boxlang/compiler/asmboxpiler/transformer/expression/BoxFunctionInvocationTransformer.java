@@ -45,9 +45,15 @@ public class BoxFunctionInvocationTransformer extends AbstractTransformer {
 		List<AbstractInsnNode>	nodes		= new ArrayList<>();
 		nodes.addAll( transpiler.getCurrentMethodContextTracker().get().loadCurrentContext() );
 
-		TransformerContext argContext = safe ? TransformerContext.SAFE : context;
-		nodes.addAll( AsmHelper.callinvokeFunction( transpiler, Type.getType( Key.class ), function.getArguments(), transpiler.createKey( function.getName() ),
-		    argContext, safe ) );
+		TransformerContext	argContext	= safe ? TransformerContext.SAFE : context;
+		boolean				positional	= function.getArguments().isEmpty() || function.getArguments().get( 0 ).getName() == null;
+		if ( positional && AsmHelper.isRegisteredBIF( function.getName() ) ) {
+			// BIFs always win over UDFs, so we can bind straight to it
+			nodes.addAll( AsmHelper.callBIFInvoke( transpiler, function.getArguments(), function.getName(), argContext ) );
+		} else {
+			nodes.addAll( AsmHelper.callinvokeFunction( transpiler, Type.getType( Key.class ), function.getArguments(),
+			    transpiler.createKey( function.getName() ), argContext, safe ) );
+		}
 
 		if ( returnContext.empty ) {
 			nodes.add( new InsnNode( Opcodes.POP ) );
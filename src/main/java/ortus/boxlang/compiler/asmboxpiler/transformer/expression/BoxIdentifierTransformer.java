@@ -21,7 +21,6 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnNode;
-import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 
 import ortus.boxlang.compiler.asmboxpiler.AsmHelper;
@@ -32,8 +31,6 @@ import ortus.boxlang.compiler.asmboxpiler.transformer.TransformerContext;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.expression.BoxIdentifier;
 import ortus.boxlang.runtime.context.IBoxContext;
-import ortus.boxlang.runtime.scopes.IScope;
-import ortus.boxlang.runtime.scopes.Key;
 
 public class BoxIdentifierTransformer extends AbstractTransformer {
 
@@ -51,25 +48,7 @@ public class BoxIdentifierTransformer extends AbstractTransformer {
 			// If id is an imported class name, load the class directly instead of searching scopes for it
 			nodes.addAll( AsmHelper.loadClass( transpiler, identifier ) );
 		} else {
-			transpiler.getCurrentMethodContextTracker().ifPresent( ( t ) -> nodes.addAll( t.loadCurrentContext() ) );
-			nodes.addAll( transpiler.createKey( identifier.getName() ) );
-			if ( context == TransformerContext.SAFE ) {
-				transpiler.getCurrentMethodContextTracker().ifPresent( ( t ) -> nodes.addAll( t.loadCurrentContext() ) );
-				nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
-				    Type.getInternalName( IBoxContext.class ),
-				    "getDefaultAssignmentScope",
-				    Type.getMethodDescriptor( Type.getType( IScope.class ) ),
-				    true ) );
-			} else {
-				nodes.add( new InsnNode( Opcodes.ACONST_NULL ) );
-			}
-			nodes.add( new LdcInsnNode( 0 ) );
-			nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
-			    Type.getInternalName( IBoxContext.class ),
-			    "scopeFindNearby",
-			    Type.getMethodDescriptor( Type.getType( IBoxContext.ScopeSearchResult.class ), Type.getType( Key.class ), Type.getType( IScope.class ),
-			        Type.BOOLEAN_TYPE ),
-			    true ) );
+			nodes.addAll( AsmHelper.scopeFindNearby( transpiler, identifier.getName(), context == TransformerContext.SAFE, false ) );
 			nodes.add( new MethodInsnNode( Opcodes.INVOKEVIRTUAL,
 			    Type.getInternalName( IBoxContext.ScopeSearchResult.class ),
 			    "value",
@@ -19,13 +19,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnNode;
-import org.objectweb.asm.tree.LdcInsnNode;
-import org.objectweb.asm.tree.MethodInsnNode;
-import org.objectweb.asm.tree.TypeInsnNode;
 
+import ortus.boxlang.compiler.asmboxpiler.AsmHelper;
 import ortus.boxlang.compiler.asmboxpiler.AsmTranspiler;
 import ortus.boxlang.compiler.asmboxpiler.transformer.AbstractTransformer;
 import ortus.boxlang.compiler.asmboxpiler.transformer.ReturnValueContext;
@@ -44,36 +41,14 @@ public class BoxIntegerLiteralTransformer extends AbstractTransformer {
 		BoxIntegerLiteral		literal	= ( BoxIntegerLiteral ) node;
 		int						len		= literal.getValue().length();
 		List<AbstractInsnNode>	nodes	= new ArrayList<>();
+		// Literals are loaded as class constants so evaluating them never allocates
 		// 10 or fewer chars can use an int literal
 		if ( len < 10 ) {
-			nodes.add(
-			    new LdcInsnNode( Integer.valueOf( literal.getValue() ) ) );
-			nodes.add( new MethodInsnNode( Opcodes.INVOKESTATIC,
-			    Type.getInternalName( Integer.class ),
-			    "valueOf",
-			    Type.getMethodDescriptor( Type.getType( Integer.class ), Type.INT_TYPE ),
-			    false
-			)
-			);
+			nodes.add( AsmHelper.numericConstant( Integer.valueOf( literal.getValue() ) ) );
 		} else if ( len <= 19 ) {
-			nodes.add(
-			    new LdcInsnNode( Long.valueOf( literal.getValue() ) ) );
-			nodes.add( new MethodInsnNode( Opcodes.INVOKESTATIC,
-			    Type.getInternalName( Long.class ),
-			    "valueOf",
-			    Type.getMethodDescriptor( Type.getType( Long.class ), Type.LONG_TYPE ),
-			    false
-			) );
+			nodes.add( AsmHelper.numericConstant( Long.valueOf( literal.getValue() ) ) );
 		} else {
-			nodes.add( new TypeInsnNode( Opcodes.NEW, Type.getInternalName( BigDecimal.class ) ) );
-			nodes.add( new InsnNode( Opcodes.DUP ) );
-			nodes.add( new LdcInsnNode( literal.getValue() ) );
-			nodes.add( new MethodInsnNode( Opcodes.INVOKESPECIAL,
-			    Type.getInternalName( BigDecimal.class ),
-			    "<init>",
-			    Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( String.class ) ),
-			    false
-			) );
+			nodes.add( AsmHelper.numericConstant( new BigDecimal( literal.getValue() ) ) );
 		}
 
 		if ( returnContext.empty ) {
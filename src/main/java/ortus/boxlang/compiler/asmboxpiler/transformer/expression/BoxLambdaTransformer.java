@@ -16,6 +16,7 @@ package ortus.boxlang.compiler.asmboxpiler.transformer.expression;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Opcodes;
@@ -83,6 +84,9 @@ public class BoxLambdaTransformer extends AbstractTransformer {
 		    true,
 		    transpiler, false,
 		    () -> {
+			    Set<String> functionLocals = AsmHelper.collectFunctionLocals( transpiler, boxLambda.getArgs(), List.of( boxLambda.getBody() ) );
+			    transpiler.getCurrentMethodContextTracker().ifPresent( t -> t.setFunctionLocals( functionLocals ) );
+
 			    if ( boxLambda.getBody().getChildren().size() == 0 ) {
 				    return List.of( new InsnNode( Opcodes.ACONST_NULL ) );
 			    }
@@ -24,7 +24,6 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.FieldInsnNode;
-import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 
 import ortus.boxlang.compiler.asmboxpiler.AsmHelper;
@@ -37,6 +36,7 @@ import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.expression.BoxIdentifier;
 import ortus.boxlang.compiler.ast.expression.BoxScope;
 import ortus.boxlang.compiler.ast.expression.BoxSpreadExpression;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
 import ortus.boxlang.compiler.ast.expression.BoxStructLiteral;
 import ortus.boxlang.compiler.ast.expression.BoxStructType;
 import ortus.boxlang.runtime.dynamic.LiteralSpreadUtil;
@@ -96,14 +96,17 @@ public class BoxStructLiteralTransformer extends AbstractTransformer {
 	}
 
 	/**
-	 * transformKey.
+	 * transformKey. Constant keys are loaded from the class' pre-created keys instead of being cast from a string at runtime.
 	 */
 	private List<AbstractInsnNode> transformKey( BoxExpression keyExpr, TransformerContext context ) {
 		if ( keyExpr instanceof BoxIdentifier identifier ) {
-			return List.of( new LdcInsnNode( identifier.getName() ) );
+			return transpiler.createKey( identifier.getName() );
 		}
 		if ( keyExpr instanceof BoxScope scope ) {
-			return List.of( new LdcInsnNode( scope.getName() ) );
+			return transpiler.createKey( scope.getName() );
+		}
+		if ( keyExpr instanceof BoxStringLiteral ) {
+			return transpiler.createKey( keyExpr );
 		}
 		return transpiler.transform( keyExpr, context, ReturnValueContext.VALUE );
 	}
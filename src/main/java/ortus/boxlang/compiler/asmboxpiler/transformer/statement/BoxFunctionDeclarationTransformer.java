@@ -124,6 +124,8 @@ public class BoxFunctionDeclarationTransformer extends AbstractTransformer {
 		    true,
 		    transpiler, true,
 		    () -> {
+			    Set<String> functionLocals = AsmHelper.collectFunctionLocals( transpiler, function.getArgs(), function.getBody() );
+			    transpiler.getCurrentMethodContextTracker().ifPresent( t -> t.setFunctionLocals( functionLocals ) );
 
 			    if ( function.getBody() == null ) {
 				    return new ArrayList<AbstractInsnNode>();
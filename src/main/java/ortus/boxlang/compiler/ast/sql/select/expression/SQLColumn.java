@@ -43,11 +43,33 @@ public class SQLColumn extends SQLExpression {
 
 	private Key									name;
 
-	// THIS DATA IS SPECIFIC TO THE EXECUTION. IF WE START CACHING THIS AST, REWORK THIS TO BE STORED ELSEWHERE
-	private List<Object[]>						data			= null;
-	private int									tableIndex		= -1;
-	private int									colIndex		= -1;
-	private QueryColumnType						type			= null;
+	/**
+	 * Where the values of a column are found in one execution. The AST is cached and shared between executions, so this
+	 * lives in the {@link QoQSelectExecution} and not in the node.
+	 *
+	 * @param tableIndex The position of the column's table in the intersections
+	 * @param colIndex   The position of the column in its table
+	 * @param type       The type of the column
+	 * @param table      The column's table
+	 */
+	public record Binding( int tableIndex, int colIndex, QueryColumnType type, Query table ) {
+
+		/**
+		 * Get the value of the column in an intersection
+		 *
+		 * @param intersection The intersection
+		 *
+		 * @return The value, or null if an outer join matched nothing
+		 */
+		public Object get( int[] intersection ) {
+			int rowNum = intersection[ tableIndex ];
+			// This means an outer join matched nothing
+			if ( rowNum == 0 ) {
+				return null;
+			}
+			return table.getCell( rowNum - 1, colIndex );
+		}
+	}
 
 	/**
 	 * Constructor
@@ -105,42 +127,41 @@ public class SQLColumn extends SQLExpression {
 	}
 
 	/**
-	 * Get the table, performing runtime lookup if necessary
+	 * Resolve where this column's values are found for an execution. Use {@link QoQSelectExecution#getColumnBinding(SQLColumn)}
+	 * instead, which only resolves once per execution.
+	 *
+	 * @param QoQExec The execution
+	 *
+	 * @return The binding
 	 */
-	public void ensureData( QoQSelectExecution QoQExec ) {
-		if ( data != null ) {
-			return;
-		}
-
-		synchronized ( this ) {
-			var t = getTable();
-			if ( data != null ) {
-				return;
-			}
-			if ( t == null ) {
-				// Abmiguity, we need to find the table
-				var tables = QoQExec.getTableLookup().entrySet();
-				for ( var tableSet : tables ) {
-					if ( tableSet.getValue().getColumns().containsKey( name ) ) {
-						t = tableSet.getKey();
-					}
-				}
-				if ( t == null ) {
-					throw new BoxRuntimeException( "Column " + name + " is ambiguous and not found in any table." );
+	public Binding bind( QoQSelectExecution QoQExec ) {
+		var t = getTable();
+		if ( t == null ) {
+			// Abmiguity, we need to find the table
+			var tables = QoQExec.getTableLookup().entrySet();
+			for ( var tableSet : tables ) {
+				if ( tableSet.getValue().getColumns().containsKey( name ) ) {
+					t = tableSet.getKey();
 				}
 			}
-			tableIndex = t.getIndex();
-			Query		table	= QoQExec.getTableLookup().get( t );
-			// Cache this data for future use
-			QueryColumn	column	= table.getColumns().get( name );
-			if ( column == null ) {
-				throw new BoxRuntimeException(
-				    "Column " + name + " not found in table " + ( t instanceof SQLTableVariable tv ? tv.getName() : t.getAlias() ) );
+			if ( t == null ) {
+				throw new BoxRuntimeException( "Column " + name + " is ambiguous and not found in any table." );
 			}
-			colIndex	= column.getIndex();
-			type		= column.getType();
-			data		= table.getData();
 		}
+		Query		table	= QoQExec.getTableLookup().get( t );
+		QueryColumn	column	= table.getColumns().get( name );
+		if ( column == null ) {
+			throw new BoxRuntimeException(
+			    "Column " + name + " not found in table " + ( t instanceof SQLTableVariable tv ? tv.getName() : t.getAlias() ) );
+		}
+		return new Binding( t.getIndex(), column.getIndex(), column.getType(), table );
+	}
+
+	/**
+	 * Get the position of this column's table in the intersections, performing runtime lookup if necessary
+	 */
+	public int getTableIndex( QoQSelectExecution QoQExec ) {
+		return QoQExec.getColumnBinding( this ).tableIndex();
 	}
 
 	/**
@@ -155,8 +176,7 @@ public class SQLColumn extends SQLExpression {
 	 * What type does this expression evaluate to
 	 */
 	public QueryColumnType getType( QoQSelectExecution QoQExec ) {
-		ensureData( QoQExec );
-		return type;
+		return QoQExec.getColumnBinding( this ).type();
 		// return QoQExec.getTableLookup().get( getTableFinal( QoQExec ) ).getColumns().get( name ).getType();
 	}
 
@@ -164,26 +184,7 @@ public class SQLColumn extends SQLExpression {
 	 * Evaluate the expression
 	 */
 	public Object evaluate( QoQSelectExecution QoQExec, int[] intersection ) {
-		ensureData( QoQExec );
-		int rowNum = intersection[ tableIndex ];
-
-		// This means an outer join matched nothing
-		if ( rowNum == 0 ) {
-			return null;
-		}
-
-		return data.get( intersection[ tableIndex ] - 1 )[ colIndex ];
-		/*
-		 * var tableFinal = getTableFinal( QoQExec );
-		 * // System.out.println( "getting SQL column: " + name.getName() + " from table: " + tableFinal.getName() + " with index: " + tableFinal.getIndex() );
-		 * // System.out.println( "intersection: " + Arrays.toString( intersection ) );
-		 * int rowNum = intersection[ tableFinal.getIndex() ];
-		 * // This means an outer join matched nothing
-		 * if ( rowNum == 0 ) {
-		 * return null;
-		 * }
-		 * return QoQExec.getTableLookup().get( tableFinal ).getCell( name, rowNum - 1 );
-		 */
+		return QoQExec.getColumnBinding( this ).get( intersection );
 	}
 
 	/**
@@ -1170,7 +1170,7 @@ public class FeatureAuditVisitor extends VoidBoxVisitor {
 			if ( !missing ) {
 				// If the component service has the component, but it's the dummy component,
 				// then it's actually missing.
-				if ( componentService.getComponent( name ).componentClass.equals( DummyComponent.class ) ) {
+				if ( componentService.getComponent( name ).getComponentClassName().equals( DummyComponent.class.getName() ) ) {
 					missing = true;
 				}
 			}
@@ -0,0 +1,107 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * I run the registered {@link OptimizationPass}es over an AST before it is handed to the boxpiler.
+ * <p>
+ * Every pass is off unless it is turned on by name in the {@code experimental.compilerOptimizations} setting of the
+ * runtime configuration:
+ *
+ * <pre>
+ * "experimental": {
+ *     "compilerOptimizations": {
+ *         "constantFolding": true,
+ *         "stringConcatMerging": true,
+ *         "deadBranchElimination": true,
+ *         "constantKeys": true
+ *     }
+ * }
+ * </pre>
+ *
+ * Passes run in the order they were registered. Modules can add their own passes with {@link #registerPass(Supplier)}.
+ */
+public class ASTOptimizer {
+
+	/**
+	 * The registered passes, in the order they run
+	 */
+	private static final List<Supplier<OptimizationPass>> passes = new CopyOnWriteArrayList<>( List.of(
+	    ConstantFoldingPass::new,
+	    StringConcatMergingPass::new,
+	    DeadBranchEliminationPass::new,
+	    ConstantKeyPass::new
+	) );
+
+	/**
+	 * Private constructor, this is a static utility
+	 */
+	private ASTOptimizer() {
+	}
+
+	/**
+	 * Register an optimization pass. It runs after all the passes registered before it.
+	 *
+	 * @param pass A supplier of new instances of the pass
+	 */
+	public static void registerPass( Supplier<OptimizationPass> pass ) {
+		passes.add( pass );
+	}
+
+	/**
+	 * Run the passes enabled in the runtime configuration over a tree
+	 *
+	 * @param root The root node of the tree
+	 *
+	 * @return The optimized root node
+	 */
+	public static BoxNode optimize( BoxNode root ) {
+		Object toggles = BoxRuntime.getInstance().getConfiguration().experimental.get( Key.compilerOptimizations );
+		return optimize( root, toggles instanceof IStruct struct ? struct : Struct.EMPTY );
+	}
+
+	/**
+	 * Run the enabled passes over a tree
+	 *
+	 * @param root    The root node of the tree
+	 * @param toggles The pass toggles, keyed by pass name. Passes not in the struct are off.
+	 *
+	 * @return The optimized root node
+	 */
+	public static BoxNode optimize( BoxNode root, IStruct toggles ) {
+		if ( toggles.isEmpty() ) {
+			return root;
+		}
+		for ( Supplier<OptimizationPass> supplier : passes ) {
+			OptimizationPass pass = supplier.get();
+			if ( BooleanCaster.attempt( toggles.get( Key.of( pass.getName() ) ) ).orElse( false ) ) {
+				root = pass.optimize( root );
+			}
+		}
+		return root;
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import ortus.boxlang.compiler.ast.BoxExpression;
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxBinaryOperation;
+import ortus.boxlang.compiler.ast.expression.BoxBinaryOperator;
+import ortus.boxlang.compiler.ast.expression.BoxBooleanLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxNegateOperation;
+import ortus.boxlang.compiler.ast.expression.BoxNegateOperator;
+
+/**
+ * I fold operations on literals into the literal they evaluate to.
+ * <p>
+ * Only operations whose result is the same no matter how the runtime is configured are folded:
+ * <ul>
+ * <li>Addition and subtraction of integer literals that stay within the range the runtime keeps as an Integer. Other
+ * arithmetic depends on the high precision math setting, so it is left alone.</li>
+ * <li>Logical and/or of boolean literals, including the short-circuiting {@code true || x} and {@code false && x}</li>
+ * <li>Logical not of a boolean literal</li>
+ * </ul>
+ */
+public class ConstantFoldingPass extends OptimizationPass {
+
+	/**
+	 * Constructor
+	 */
+	public ConstantFoldingPass() {
+		super();
+	}
+
+	@Override
+	public String getName() {
+		return "constantFolding";
+	}
+
+	@Override
+	public BoxNode visit( BoxBinaryOperation node ) {
+		super.visit( node );
+		BoxExpression		left		= unwrapParentheses( node.getLeft() );
+		BoxExpression		right		= unwrapParentheses( node.getRight() );
+		BoxBinaryOperator	operator	= node.getOperator();
+
+		if ( operator == BoxBinaryOperator.Plus || operator == BoxBinaryOperator.Minus ) {
+			Integer	leftValue	= integerValue( left );
+			Integer	rightValue	= integerValue( right );
+			if ( leftValue != null && rightValue != null ) {
+				long	result	= operator == BoxBinaryOperator.Plus ? ( long ) leftValue + rightValue : ( long ) leftValue - rightValue;
+				String	literal	= String.valueOf( result );
+				// Anything longer would be compiled to a Long, while the runtime returns an Integer whenever it fits
+				if ( literal.length() < MAX_INTEGER_LITERAL_LENGTH ) {
+					return new BoxIntegerLiteral( literal, node.getPosition(), node.getSourceText() );
+				}
+			}
+		} else if ( operator == BoxBinaryOperator.And || operator == BoxBinaryOperator.Or ) {
+			boolean isAnd = operator == BoxBinaryOperator.And;
+			if ( left instanceof BoxBooleanLiteral leftLiteral ) {
+				// true || x and false && x never evaluate x
+				if ( leftLiteral.getValue() != isAnd ) {
+					return new BoxBooleanLiteral( leftLiteral.getValue(), node.getPosition(), node.getSourceText() );
+				}
+				if ( right instanceof BoxBooleanLiteral rightLiteral ) {
+					return new BoxBooleanLiteral( rightLiteral.getValue(), node.getPosition(), node.getSourceText() );
+				}
+			}
+		}
+		return node;
+	}
+
+	@Override
+	public BoxNode visit( BoxNegateOperation node ) {
+		super.visit( node );
+		if ( node.getOperator() == BoxNegateOperator.Not && unwrapParentheses( node.getExpr() ) instanceof BoxBooleanLiteral literal ) {
+			return new BoxBooleanLiteral( !literal.getValue(), node.getPosition(), node.getSourceText() );
+		}
+		return node;
+	}
+
+	/**
+	 * Get the value of an integer literal the runtime would see as an Integer
+	 *
+	 * @param expression The expression
+	 *
+	 * @return The value, or null if the expression isn't such a literal
+	 */
+	private static Integer integerValue( BoxExpression expression ) {
+		if ( isIntegerLiteral( expression ) ) {
+			return Integer.valueOf( ( ( BoxIntegerLiteral ) expression ).getValue() );
+		}
+		return null;
+	}
+
+}
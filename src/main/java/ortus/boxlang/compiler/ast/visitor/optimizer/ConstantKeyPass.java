@@ -0,0 +1,108 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import ortus.boxlang.compiler.ast.BoxExpression;
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxArrayAccess;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxSpreadExpression;
+import ortus.boxlang.compiler.ast.expression.BoxStringConcat;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxStructLiteral;
+
+/**
+ * I turn constant keys into the plain literals the compiler hoists into the class' static array of keys, so the key is
+ * created once when the class loads instead of with {@code Key.of()} every time the code runs.
+ * <p>
+ * This covers the access in {@code foo[ "bar" ]} style expressions and the keys of struct literals, when they are
+ * wrapped in parentheses or are an interpolation of a single string literal.
+ */
+public class ConstantKeyPass extends OptimizationPass {
+
+	/**
+	 * Constructor
+	 */
+	public ConstantKeyPass() {
+		super();
+	}
+
+	@Override
+	public String getName() {
+		return "constantKeys";
+	}
+
+	@Override
+	public BoxNode visit( BoxArrayAccess node ) {
+		super.visit( node );
+		BoxExpression key = constantKey( node.getAccess() );
+		if ( key != null && key != node.getAccess() ) {
+			node.setAccess( key );
+		}
+		return node;
+	}
+
+	@Override
+	public BoxNode visit( BoxStructLiteral node ) {
+		super.visit( node );
+		// Struct literal values alternate between keys and values, spreads excepted, which are never constant
+		for ( int i = 0; i < node.getValues().size(); i++ ) {
+			BoxExpression	value	= node.getValues().get( i );
+			BoxExpression	key		= isKeyPosition( node, i ) ? constantKey( value ) : null;
+			if ( key != null && key != value && key instanceof BoxStringLiteral ) {
+				node.replaceChildren( value, key );
+				key.setParent( node );
+				node.getValues().set( i, key );
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Get the literal a key expression always evaluates to
+	 *
+	 * @param key The key expression
+	 *
+	 * @return A string or integer literal, or null if the key isn't constant
+	 */
+	private static BoxExpression constantKey( BoxExpression key ) {
+		BoxExpression expression = unwrapParentheses( key );
+		if ( expression instanceof BoxStringConcat concat && concat.getValues().size() == 1
+		    && unwrapParentheses( concat.getValues().get( 0 ) ) instanceof BoxStringLiteral literal ) {
+			expression = literal;
+		}
+		if ( expression instanceof BoxStringLiteral || expression instanceof BoxIntegerLiteral ) {
+			return expression;
+		}
+		return null;
+	}
+
+	/**
+	 * Check if a value of a struct literal is a key, counting through any spread expressions
+	 *
+	 * @param node  The struct literal
+	 * @param index The index of the value
+	 *
+	 * @return True if the value is a key
+	 */
+	private static boolean isKeyPosition( BoxStructLiteral node, int index ) {
+		int i = 0;
+		while ( i < index ) {
+			i += node.getValues().get( i ) instanceof BoxSpreadExpression ? 1 : 2;
+		}
+		return i == index && ! ( node.getValues().get( i ) instanceof BoxSpreadExpression );
+	}
+
+}
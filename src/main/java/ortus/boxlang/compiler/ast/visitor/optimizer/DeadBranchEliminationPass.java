@@ -0,0 +1,71 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import java.util.ArrayList;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.BoxStatement;
+import ortus.boxlang.compiler.ast.expression.BoxBooleanLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxTernaryOperation;
+import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
+import ortus.boxlang.compiler.ast.statement.BoxIfElse;
+import ortus.boxlang.compiler.ast.statement.BoxStatementBlock;
+
+/**
+ * I remove the branches of if statements and ternary operations whose condition is a boolean literal, usually after
+ * {@link ConstantFoldingPass} has folded the condition.
+ * <p>
+ * A branch that declares a function is kept, since functions are declared whether or not the branch runs.
+ */
+public class DeadBranchEliminationPass extends OptimizationPass {
+
+	/**
+	 * Constructor
+	 */
+	public DeadBranchEliminationPass() {
+		super();
+	}
+
+	@Override
+	public String getName() {
+		return "deadBranchElimination";
+	}
+
+	@Override
+	public BoxNode visit( BoxIfElse node ) {
+		super.visit( node );
+		if ( ! ( unwrapParentheses( node.getCondition() ) instanceof BoxBooleanLiteral condition ) ) {
+			return node;
+		}
+		BoxStatement	taken	= condition.getValue() ? node.getThenBody() : node.getElseBody();
+		BoxStatement	dead	= condition.getValue() ? node.getElseBody() : node.getThenBody();
+		if ( dead != null && !dead.getDescendantsOfType( BoxFunctionDeclaration.class ).isEmpty() ) {
+			return node;
+		}
+		// The if may be the body of another statement, so it is replaced by an empty block rather than removed
+		return taken != null ? taken : new BoxStatementBlock( new ArrayList<>(), node.getPosition(), node.getSourceText() );
+	}
+
+	@Override
+	public BoxNode visit( BoxTernaryOperation node ) {
+		super.visit( node );
+		if ( unwrapParentheses( node.getCondition() ) instanceof BoxBooleanLiteral condition ) {
+			return condition.getValue() ? node.getWhenTrue() : node.getWhenFalse();
+		}
+		return node;
+	}
+
+}
@@ -0,0 +1,89 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import ortus.boxlang.compiler.ast.BoxExpression;
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxParenthesis;
+import ortus.boxlang.compiler.ast.visitor.ReplacingBoxVisitor;
+
+/**
+ * Base class for the optimization passes the {@link ASTOptimizer} runs on an AST right before it is compiled.
+ * <p>
+ * A pass rewrites the tree in place by returning replacement nodes from its visit methods, and it must never change
+ * what the code does. Each pass has a name which is used to turn it on and off in the {@code compilerOptimizations}
+ * experimental setting. Passes are created for each compilation, so they may keep state while they walk a tree.
+ */
+public abstract class OptimizationPass extends ReplacingBoxVisitor {
+
+	/**
+	 * Integer literals shorter than this are compiled to an Integer, see the BoxIntegerLiteralTransformer
+	 */
+	protected static final int MAX_INTEGER_LITERAL_LENGTH = 10;
+
+	/**
+	 * Constructor
+	 */
+	protected OptimizationPass() {
+		super();
+	}
+
+	/**
+	 * The name of the pass, used as its toggle in the configuration
+	 *
+	 * @return The name of the pass
+	 */
+	public abstract String getName();
+
+	/**
+	 * Run the pass over a tree
+	 *
+	 * @param root The root node of the tree
+	 *
+	 * @return The root node, which passes leave in place
+	 */
+	public BoxNode optimize( BoxNode root ) {
+		root.accept( this );
+		return root;
+	}
+
+	/**
+	 * Strip any parentheses wrapped around an expression
+	 *
+	 * @param expression The expression
+	 *
+	 * @return The innermost expression
+	 */
+	protected static BoxExpression unwrapParentheses( BoxExpression expression ) {
+		while ( expression instanceof BoxParenthesis parenthesis ) {
+			expression = parenthesis.getExpression();
+		}
+		return expression;
+	}
+
+	/**
+	 * Whether an expression is an integer literal the runtime would see as an Integer. Longer literals are compiled to
+	 * a Long.
+	 *
+	 * @param expression The expression
+	 *
+	 * @return True if the expression is such a literal
+	 */
+	protected static boolean isIntegerLiteral( BoxExpression expression ) {
+		return expression instanceof BoxIntegerLiteral literal && literal.getValue().length() < MAX_INTEGER_LITERAL_LENGTH;
+	}
+
+}
@@ -0,0 +1,173 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler.ast.visitor.optimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ortus.boxlang.compiler.ast.BoxExpression;
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxStringConcat;
+import ortus.boxlang.compiler.ast.expression.BoxStringInterpolation;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
+
+/**
+ * I merge the constant parts of string concatenations and interpolations.
+ * <p>
+ * Nested concatenations are flattened into their parent, and adjacent string literals (and integer literals, which
+ * always concatenate as their digits) are merged into a single literal. A concatenation left with a single literal
+ * is replaced by that literal. Concatenations that keep a single non-literal part are never created, since the
+ * compiler returns such a part as-is instead of casting it to a string.
+ */
+public class StringConcatMergingPass extends OptimizationPass {
+
+	/**
+	 * Constructor
+	 */
+	public StringConcatMergingPass() {
+		super();
+	}
+
+	@Override
+	public String getName() {
+		return "stringConcatMerging";
+	}
+
+	@Override
+	public BoxNode visit( BoxStringConcat node ) {
+		super.visit( node );
+		return merge( node );
+	}
+
+	@Override
+	public BoxNode visit( BoxStringInterpolation node ) {
+		super.visit( node );
+		return merge( node );
+	}
+
+	/**
+	 * Flatten and merge the parts of a concatenation
+	 *
+	 * @param node The concatenation or interpolation
+	 *
+	 * @return The node itself, or a string literal if every part was constant
+	 */
+	private BoxNode merge( BoxStringConcat node ) {
+		List<BoxExpression> parts = new ArrayList<>();
+		flatten( node, parts );
+		// A single part is returned as-is by the compiler, not as a string, so there is nothing to merge
+		if ( parts.size() == 1 ) {
+			return node;
+		}
+
+		List<BoxExpression>	merged	= new ArrayList<>( parts.size() );
+		List<BoxExpression>	run		= new ArrayList<>();
+		for ( BoxExpression part : parts ) {
+			if ( constantValue( part ) != null ) {
+				run.add( part );
+				continue;
+			}
+			mergeRun( run, merged );
+			merged.add( part );
+		}
+		mergeRun( run, merged );
+
+		if ( merged.size() == 1 && merged.get( 0 ) instanceof BoxStringLiteral literal ) {
+			return new BoxStringLiteral( literal.getValue(), node.getPosition(), node.getSourceText() );
+		}
+		if ( !sameParts( merged, node.getValues() ) ) {
+			node.setValues( merged );
+		}
+		return node;
+	}
+
+	/**
+	 * Collect the parts of a concatenation, descending into nested concatenations. The parts of a nested concatenation
+	 * are always concatenated as strings by the parent, so flattening them doesn't change the result.
+	 *
+	 * @param node  The concatenation
+	 * @param parts The list to collect the parts in
+	 */
+	private static void flatten( BoxStringConcat node, List<BoxExpression> parts ) {
+		for ( BoxExpression value : node.getValues() ) {
+			if ( value instanceof BoxStringConcat nested ) {
+				flatten( nested, parts );
+			} else {
+				parts.add( value );
+			}
+		}
+	}
+
+	/**
+	 * Check if two lists hold the very same parts
+	 *
+	 * @param left  The first list
+	 * @param right The second list
+	 *
+	 * @return True if both lists hold the same nodes in the same order
+	 */
+	private static boolean sameParts( List<BoxExpression> left, List<BoxExpression> right ) {
+		if ( left.size() != right.size() ) {
+			return false;
+		}
+		for ( int i = 0; i < left.size(); i++ ) {
+			if ( left.get( i ) != right.get( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the string a part of a concatenation will always produce
+	 *
+	 * @param part The part
+	 *
+	 * @return The string, or null if the part isn't constant
+	 */
+	private static String constantValue( BoxExpression part ) {
+		BoxExpression expression = unwrapParentheses( part );
+		if ( expression instanceof BoxStringLiteral literal ) {
+			return literal.getValue();
+		}
+		if ( isIntegerLiteral( expression ) ) {
+			return String.valueOf( Integer.parseInt( ( ( BoxIntegerLiteral ) expression ).getValue() ) );
+		}
+		return null;
+	}
+
+	/**
+	 * Add a run of constant parts to the merged parts as a single string literal, and empty the run
+	 *
+	 * @param run    The constant parts
+	 * @param merged The merged parts
+	 */
+	private static void mergeRun( List<BoxExpression> run, List<BoxExpression> merged ) {
+		if ( run.isEmpty() ) {
+			return;
+		}
+		BoxExpression first = run.get( 0 );
+		if ( run.size() == 1 && first instanceof BoxStringLiteral ) {
+			merged.add( first );
+		} else {
+			StringBuilder value = new StringBuilder();
+			run.forEach( part -> value.append( constantValue( part ) ) );
+			merged.add( new BoxStringLiteral( value.toString(), first.getPosition(), first.getSourceText() ) );
+		}
+		run.clear();
+	}
+
+}
@@ -54,6 +54,7 @@ import ortus.boxlang.compiler.ClassInfo;
 import ortus.boxlang.compiler.JavaSourceString;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.visitor.QueryEscapeSingleQuoteVisitor;
+import ortus.boxlang.compiler.ast.visitor.optimizer.ASTOptimizer;
 import ortus.boxlang.compiler.javaboxpiler.transformer.ProxyTransformer;
 import ortus.boxlang.compiler.javaboxpiler.transformer.indexer.BoxNodeKey;
 import ortus.boxlang.compiler.parser.ParsingResult;
@@ -116,6 +117,7 @@ public class JavaBoxpiler extends Boxpiler {
 	@SuppressWarnings( "unused" )
 	public String generateJavaSource( BoxNode node, ClassInfo classInfo ) {
 		node.accept( new QueryEscapeSingleQuoteVisitor( classInfo.sourceType() ) );
+		ASTOptimizer.optimize( node );
 		Transpiler transpiler = Transpiler.getTranspiler();
 		transpiler.setProperty( "classname", classInfo.className() );
 		transpiler.setProperty( "packageName", classInfo.packageName().toString() );
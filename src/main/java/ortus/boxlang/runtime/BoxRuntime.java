@@ -45,6 +45,8 @@ import org.slf4j.Logger;
 
 import ortus.boxlang.compiler.ClassInfo;
 import ortus.boxlang.compiler.IBoxpiler;
+import ortus.boxlang.compiler.WarmupCompiler;
+import ortus.boxlang.compiler.WarmupCompiler.WarmupResult;
 import ortus.boxlang.compiler.ast.BoxExpression;
 import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.compiler.parser.Parser;
@@ -58,12 +60,14 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.RuntimeBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.loader.DynamicClassLoader;
+import ortus.boxlang.runtime.loader.RegistryIndex;
 import ortus.boxlang.runtime.logging.LoggingService;
 import ortus.boxlang.runtime.runnables.BoxScript;
 import ortus.boxlang.runtime.runnables.BoxTemplate;
@@ -135,6 +139,16 @@ public class BoxRuntime implements java.io.Closeable {
 	 */
 	private Instant								startTime				= null;
 
+	/**
+	 * The outcome of the startup warmup compilation, if it ran
+	 */
+	private WarmupResult						warmupResult			= null;
+
+	/**
+	 * The build time index of the core BIFs and components, or null if there is none or it's disabled
+	 */
+	private RegistryIndex						registryIndex			= null;
+
 	/**
 	 * Debug mode; defaults to false
 	 */
@@ -536,6 +550,11 @@ public class BoxRuntime implements java.io.Closeable {
 		// Seed Mathematical Precision for the runtime
 		MathUtil.setHighPrecisionMath( getConfiguration().useHighPrecisionMath );
 
+		// Load the build time registry index the function and component services register from
+		if ( BooleanCaster.attempt( getConfiguration().experimental.getOrDefault( Key.registryIndex, true ) ).orElse( true ) ) {
+			this.registryIndex = RegistryIndex.load( BoxRuntime.class.getClassLoader() );
+		}
+
 		// Announce Startup to Services only
 		this.asyncService.onStartup();
 		this.interceptorService.onStartup();
@@ -572,6 +591,11 @@ public class BoxRuntime implements java.io.Closeable {
 		// This is done in order to avoid chicken-and-egg issues with modules
 		this.runtimeContext.startup();
 
+		// Compile the application ahead of time if configured, now that all the mappings and modules are registered
+		if ( Boolean.TRUE.equals( getConfiguration().warmup.enabled ) ) {
+			this.warmupResult = new WarmupCompiler( this, getConfiguration().warmup ).run();
+		}
+
 		// Runtime Started log it
 		this.logger.debug(
 		    "+ BoxLang Runtime Started at [{}] in [{}]ms",
@@ -926,6 +950,24 @@ public class BoxRuntime implements java.io.Closeable {
 		return startTime;
 	}
 
+	/**
+	 * Get the outcome of the startup warmup compilation
+	 *
+	 * @return the per file timings and failures, or null if the warmup is not enabled
+	 */
+	public WarmupResult getWarmupResult() {
+		return warmupResult;
+	}
+
+	/**
+	 * Get the build time index of the core BIFs and components
+	 *
+	 * @return The index, or null if there is none or it's disabled via {@code experimental.registryIndex}
+	 */
+	public RegistryIndex getRegistryIndex() {
+		return registryIndex;
+	}
+
 	/**
 	 * Check if this instance is started. After obtaining a runtime instance, call this method if there
 	 * are other competing threads which are also attemtping to get the instance. The instance you have may
@@ -1773,7 +1815,7 @@ public class BoxRuntime implements java.io.Closeable {
 
 					// Fire!!!
 					Object		result				= scriptRunnable.invoke( scriptingContext );
-					boolean		hadBufferContent	= scriptingContext.getBuffer().length() > 0;
+					boolean		hadBufferContent	= scriptingContext.getOutputBuffer().length() > 0;
 					scriptingContext.flushBuffer( false );
 					if ( !hadBufferContent && result != null ) {
 						CastAttempt<String> stringAttempt = StringCaster.attempt( result );
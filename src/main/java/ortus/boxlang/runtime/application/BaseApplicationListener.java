@@ -24,6 +24,8 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.bifs.BIFDescriptor;
+import ortus.boxlang.runtime.bifs.global.conversion.JSONSerialize;
 import ortus.boxlang.runtime.config.Configuration;
 import ortus.boxlang.runtime.context.ApplicationBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
@@ -54,9 +56,11 @@ import ortus.boxlang.runtime.types.XML;
 import ortus.boxlang.runtime.types.exceptions.AbortException;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.BLCollector;
+import ortus.boxlang.runtime.types.util.JSONUtil;
 import ortus.boxlang.runtime.util.EncryptionUtil;
 import ortus.boxlang.runtime.util.FileSystemUtil;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
+import ortus.boxlang.runtime.util.conversion.serializers.BoxQuerySerializer;
 
 /**
  * I represent an Application listener. I am the base class for a class-based listener, template-based listener, or default listener.
@@ -862,6 +866,12 @@ public abstract class BaseApplicationListener {
 			// switch on returnFormat
 			switch ( returnFormat.toLowerCase() ) {
 				case "json" :
+					// Stream the JSON into the output buffer, large results are never built as one String. A module
+					// overriding JSONSerialize still gets to serialize the result.
+					if ( isCoreJSONSerialize( context ) ) {
+						writeJSONResult( context, result );
+						return;
+					}
 					stringResult = ( String ) context.invokeFunction( Key.JSONSerialize, new Object[] { result, "struct" } );
 					break;
 				case "wddx" :
@@ -908,6 +918,41 @@ public abstract class BaseApplicationListener {
 		}
 	}
 
+	/**
+	 * Whether <code>JSONSerialize()</code> is the core BIF, and not one registered by a module in its place
+	 *
+	 * @param context The context
+	 *
+	 * @return True if the core BIF serializes JSON
+	 */
+	private boolean isCoreJSONSerialize( IBoxContext context ) {
+		// Same security check as invoking the BIF
+		context.getRuntime().getConfiguration().security.isBIFAllowed( Key.JSONSerialize );
+		BIFDescriptor serializer = context.getRuntime().getFunctionService().getGlobalFunction( Key.JSONSerialize );
+		return serializer != null && JSONSerialize.class.getName().equals( serializer.getBIFClassName() );
+	}
+
+	/**
+	 * Write the result of a remote method as JSON to the output buffer, the same way <code>JSONSerialize( result, "struct" )</code>
+	 * would serialize it.
+	 *
+	 * @param context The context
+	 * @param result  The result of the method
+	 */
+	private void writeJSONResult( IBoxContext context, Object result ) {
+		// Same rule as a non forced write to the buffer
+		Boolean explicitOutput = ( Boolean ) context.getConfigItem( Key.enforceExplicitOutput, false );
+		if ( explicitOutput && !context.isInOutputComponent() ) {
+			return;
+		}
+		BoxQuerySerializer.currentQueryFormat.set( "struct" );
+		try {
+			JSONUtil.writeJSON( result, context, false );
+		} finally {
+			BoxQuerySerializer.currentQueryFormat.remove();
+		}
+	}
+
 	/**
 	 * Handle the onClassRequest event when no method is specified.
 	 * This will try to dump the class metadata document if debug is enabled.
@@ -0,0 +1,208 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.executors;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.BaseStream;
+
+import ortus.boxlang.runtime.services.AsyncService.ExecutorType;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A long lived executor shared by the parallel collection functions (<code>arrayEach()</code>, <code>structMap()</code>,
+ * <code>queryFilter()</code>, etc.), see {@link ortus.boxlang.runtime.services.AsyncService#getParallelExecutor(int, boolean)}.
+ * <p>
+ * Unlike a plain {@link BoxExecutor}, the <code>submitAndGet()</code> methods do not shut the executor down once the
+ * result is in, so the threads are reused by the next operation. Every operation must also get a permit from the
+ * limiter shared by all the parallel executors. When none is left the operation runs sequentially on the calling thread
+ * instead of waiting, which keeps a global cap on the operations in the pools without ever blocking nested parallel
+ * operations. The operations must build their streams with {@link #parallel(BaseStream)} for this: a stream made
+ * parallel on the calling thread would run in the common fork join pool and ignore the max threads.
+ */
+public class ParallelExecutor extends BoxExecutor {
+
+	/**
+	 * Whether the current thread is running an operation inline because the limiter had no permits left
+	 */
+	private static final ThreadLocal<Boolean>	RUNNING_INLINE	= ThreadLocal.withInitial( () -> false );
+
+	/**
+	 * The permits shared by all the parallel executors
+	 */
+	private final Semaphore						limiter;
+
+	/**
+	 * The operations running in this executor right now
+	 */
+	private final AtomicInteger					inFlight		= new AtomicInteger( 0 );
+
+	/**
+	 * The most operations that ran in this executor at once
+	 */
+	private final AtomicInteger					peakInFlight	= new AtomicInteger( 0 );
+
+	/**
+	 * The operations that ran sequentially on the calling thread because the limiter had no permits left
+	 */
+	private final AtomicLong					callerRuns		= new AtomicLong( 0 );
+
+	/**
+	 * Constructor
+	 *
+	 * @param executor   The executor service
+	 * @param name       The name of the executor
+	 * @param type       The executor type
+	 * @param maxThreads The max threads, if applicable
+	 * @param limiter    The permits shared by all the parallel executors
+	 */
+	public ParallelExecutor( ExecutorService executor, String name, ExecutorType type, Integer maxThreads, Semaphore limiter ) {
+		super( executor, name, type, maxThreads );
+		this.limiter = limiter;
+	}
+
+	/**
+	 * Get the number of operations running in this executor right now
+	 *
+	 * @return The number of operations
+	 */
+	public int getInFlightCount() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Get the number of operations that ran sequentially on the calling thread because the global limit was reached
+	 *
+	 * @return The number of operations
+	 */
+	public long getCallerRunsCount() {
+		return this.callerRuns.get();
+	}
+
+	/**
+	 * Make a stream parallel, unless the current thread is running an operation inline because the global limit was
+	 * reached, in which case the stream is made sequential. Operations submitted to a parallel executor must use this
+	 * instead of {@link BaseStream#parallel()}.
+	 *
+	 * @param stream The stream
+	 *
+	 * @return The parallel or sequential stream
+	 */
+	public static <T, S extends BaseStream<T, S>> S parallel( S stream ) {
+		return RUNNING_INLINE.get() ? stream.sequential() : stream.parallel();
+	}
+
+	@Override
+	public IStruct getStats() {
+		IStruct stats = super.getStats();
+		stats.put( "inFlight", this.inFlight.get() );
+		stats.put( "peakInFlight", this.peakInFlight.get() );
+		stats.put( "callerRuns", this.callerRuns.get() );
+		return stats;
+	}
+
+	/**
+	 * Run a callable in the executor and wait for the result, or run it sequentially on the calling thread if the global
+	 * limit was reached. The executor stays up.
+	 *
+	 * @param fn The callable to run
+	 *
+	 * @return The result of the callable
+	 */
+	@Override
+	public Object submitAndGet( Callable<? extends Object> fn ) {
+		if ( !this.limiter.tryAcquire() ) {
+			this.callerRuns.incrementAndGet();
+			return callInline( fn );
+		}
+		this.peakInFlight.accumulateAndGet( this.inFlight.incrementAndGet(), Math::max );
+		try {
+			return submit( fn ).get();
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new BoxRuntimeException(
+			    "An interruption occurred while attempting to process the requested method in parallel", e
+			);
+		} catch ( ExecutionException e ) {
+			throw new BoxRuntimeException(
+			    "An execution error occurred while attempting to process the requested method in  in parallel", e
+			);
+		} finally {
+			this.inFlight.decrementAndGet();
+			this.limiter.release();
+		}
+	}
+
+	/**
+	 * Run a fork join task in the executor and wait for the result, or run it sequentially on the calling thread if the
+	 * global limit was reached. The executor stays up.
+	 *
+	 * @param fn The task to run
+	 *
+	 * @return The result of the task
+	 */
+	@Override
+	public Object submitAndGet( ForkJoinTask<? extends Object> fn ) {
+		return submitAndGet( ( Callable<? extends Object> ) fn::invoke );
+	}
+
+	/**
+	 * Run a runnable in the executor and wait for it to finish, or run it sequentially on the calling thread if the
+	 * global limit was reached. The executor stays up.
+	 *
+	 * @param fn The runnable to run
+	 *
+	 * @return null
+	 */
+	@Override
+	public Object submitAndGet( Runnable fn ) {
+		return submitAndGet( () -> {
+			fn.run();
+			return null;
+		} );
+	}
+
+	/**
+	 * Run a callable on the calling thread, with the same error handling as when it runs in the executor. The streams it
+	 * builds with {@link #parallel(BaseStream)} are sequential.
+	 *
+	 * @param fn The callable to run
+	 *
+	 * @return The result of the callable
+	 */
+	private static Object callInline( Callable<? extends Object> fn ) {
+		boolean wasInline = RUNNING_INLINE.get();
+		RUNNING_INLINE.set( true );
+		try {
+			return fn.call();
+		} catch ( Exception e ) {
+			throw new BoxRuntimeException(
+			    "An execution error occurred while attempting to process the requested method in  in parallel", e
+			);
+		} finally {
+			RUNNING_INLINE.set( wasInline );
+		}
+	}
+
+}
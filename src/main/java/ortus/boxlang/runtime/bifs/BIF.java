@@ -110,8 +110,7 @@ public abstract class BIF {
 	 */
 	public Object invoke( IBoxContext context, ArgumentsScope arguments ) {
 		// We do this, since it's hot code
-		boolean	doEvents	= this.interceptorService.hasState( BoxEvent.ON_BIF_INVOCATION.key() ) ||
-		    this.interceptorService.hasState( BoxEvent.POST_BIF_INVOCATION.key() );
+		boolean	doEvents	= hasInvocationListeners();
 
 		IStruct	data		= null;
 		if ( doEvents ) {
@@ -150,6 +149,16 @@ public abstract class BIF {
 		return result;
 	}
 
+	/**
+	 * Are there any interceptors listening to BIF invocations
+	 *
+	 * @return True if the invocation events need to be announced
+	 */
+	public boolean hasInvocationListeners() {
+		return this.interceptorService.hasState( BoxEvent.ON_BIF_INVOCATION.key() ) ||
+		    this.interceptorService.hasState( BoxEvent.POST_BIF_INVOCATION.key() );
+	}
+
 	/**
 	 * This is overridden by the concrete to provide the actual BIF implementation
 	 *
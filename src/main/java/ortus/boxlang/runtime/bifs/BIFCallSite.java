@@ -0,0 +1,144 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ParentPassthroughBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.services.FunctionService;
+
+/**
+ * A compiled call site for a BIF which was already registered when the calling code was compiled.
+ * <p>
+ * Every {@code bif( args )} expression with positional arguments whose name resolves to a global function at compile time
+ * is compiled to an {@code invokedynamic} instruction bootstrapped by
+ * {@link #bootstrap(MethodHandles.Lookup, String, MethodType, String)}. The call site remembers the {@link BIFDescriptor}
+ * and invokes it directly, skipping the function lookup in the context. Since BIFs always win over UDFs when resolving
+ * {@code foo()}, the result is the same as {@link IBoxContext#invokeFunction(Key, Object[])}.
+ * <p>
+ * The descriptor is resolved again whenever the global functions change, and if the BIF is no longer registered the
+ * call is handed back to the context.
+ */
+public final class BIFCallSite {
+
+	/**
+	 * The handle to {@link #invoke(IBoxContext, Object[])} which all call sites bind to
+	 */
+	private static final MethodHandle	INVOKE;
+
+	static {
+		try {
+			INVOKE = MethodHandles.lookup().findVirtual(
+			    BIFCallSite.class,
+			    "invoke",
+			    MethodType.methodType( Object.class, IBoxContext.class, Object[].class )
+			);
+		} catch ( NoSuchMethodException | IllegalAccessException e ) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	/**
+	 * A resolved BIF
+	 *
+	 * @param descriptor The BIF descriptor, null if the BIF is not registered
+	 * @param version    The function service version it was resolved in
+	 */
+	private record Binding( BIFDescriptor descriptor, int version ) {
+	}
+
+	/**
+	 * The name of the BIF
+	 */
+	private final Key				name;
+
+	/**
+	 * The function service the BIF is resolved from
+	 */
+	private final FunctionService	functionService;
+
+	/**
+	 * The current binding, lazily resolved
+	 */
+	private volatile Binding		binding;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name The name of the BIF
+	 */
+	public BIFCallSite( Key name ) {
+		this.name				= name;
+		this.functionService	= BoxRuntime.getInstance().getFunctionService();
+	}
+
+	/**
+	 * Bootstrap method for the {@code invokedynamic} instructions emitted by the ASM boxpiler
+	 *
+	 * @param lookup     The caller lookup
+	 * @param methodName The call site name
+	 * @param type       The call site type
+	 * @param bifName    The name of the BIF being invoked
+	 *
+	 * @return A constant call site bound to the BIF
+	 */
+	public static CallSite bootstrap( MethodHandles.Lookup lookup, String methodName, MethodType type, String bifName ) {
+		return new ConstantCallSite( INVOKE.bindTo( new BIFCallSite( Key.of( bifName ) ) ).asType( type ) );
+	}
+
+	/**
+	 * Invoke the BIF with positional arguments
+	 *
+	 * @param context             The context we're executing inside of
+	 * @param positionalArguments The arguments to pass to the BIF
+	 *
+	 * @return The result of the invocation
+	 */
+	public Object invoke( IBoxContext context, Object[] positionalArguments ) {
+		BIFDescriptor descriptor = resolve();
+		// Not a BIF anymore, or the context wants to decide where the call goes
+		if ( descriptor == null || context instanceof ParentPassthroughBoxContext ) {
+			return context.invokeFunction( this.name, positionalArguments );
+		}
+		context.getRuntime().getConfiguration().security.isBIFAllowed( this.name );
+		return descriptor.invoke( context, positionalArguments, false, this.name );
+	}
+
+	/**
+	 * Get the descriptor for the BIF, resolving it again if the global functions have changed
+	 *
+	 * @return The descriptor, or null if the BIF is not registered
+	 */
+	private BIFDescriptor resolve() {
+		int		version	= this.functionService.getGlobalFunctionsVersion();
+		Binding	current	= this.binding;
+		if ( current == null || current.version() != version ) {
+			current			= new Binding( this.functionService.getGlobalFunction( this.name ), version );
+			this.binding	= current;
+		}
+		return current.descriptor();
+	}
+
+}
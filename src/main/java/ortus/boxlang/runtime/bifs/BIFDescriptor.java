@@ -24,6 +24,7 @@ import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.loader.RegistryIndex;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.InterceptorService;
@@ -45,9 +46,23 @@ public class BIFDescriptor {
 	public Key						name;
 
 	/**
-	 * BIF class
+	 * BIF class, lazily loaded when the descriptor comes from the registry index
+	 *
+	 * @deprecated Since 1.13.0 Use {@link #getBIFClass()} instead. This is null until the BIF is first used when the
+	 *             descriptor comes from the registry index.
+	 */
+	@Deprecated
+	public volatile Class<?>		BIFClass;
+
+	/**
+	 * BIF class name, used to load the class on first use
+	 */
+	private final String			BIFClassName;
+
+	/**
+	 * The class loader to load the BIF class with
 	 */
-	public Class<?>					BIFClass;
+	private final ClassLoader		classLoader;
 
 	/**
 	 * Module name, or null if global
@@ -69,6 +84,11 @@ public class BIFDescriptor {
 	 */
 	public Boolean					isGlobal;
 
+	/**
+	 * Can the BIF be invoked through {@link IPositionalBIF}, lazily computed
+	 */
+	private volatile Boolean		positionalInvocation;
+
 	/**
 	 * The interceptor service helper
 	 */
@@ -93,12 +113,39 @@ public class BIFDescriptor {
 	    BIF BIFInstance ) {
 		this.name			= name;
 		this.BIFClass		= BIFClass;
+		this.BIFClassName	= BIFClass.getName();
+		this.classLoader	= BIFClass.getClassLoader();
 		this.module			= module;
 		this.namespace		= namespace;
 		this.isGlobal		= isGlobal;
 		this.BIFInstance	= BIFInstance;
 	}
 
+	/**
+	 * Constructor for a BIF whose class is loaded on first use, such as the ones from the {@link RegistryIndex}
+	 *
+	 * @param name         The name of the BIF
+	 * @param BIFClassName The class name of the BIF
+	 * @param classLoader  The class loader to load the BIF class with
+	 * @param module       The module name, or null if global
+	 * @param namespace    The namespace name, or null if global
+	 * @param isGlobal     Is this a global BIF?
+	 */
+	public BIFDescriptor(
+	    Key name,
+	    String BIFClassName,
+	    ClassLoader classLoader,
+	    String module,
+	    String namespace,
+	    Boolean isGlobal ) {
+		this.name			= name;
+		this.BIFClassName	= BIFClassName;
+		this.classLoader	= classLoader;
+		this.module			= module;
+		this.namespace		= namespace;
+		this.isGlobal		= isGlobal;
+	}
+
 	/**
 	 * Descriptor belongs to a modules or not
 	 *
@@ -117,6 +164,32 @@ public class BIFDescriptor {
 		return namespace != null;
 	}
 
+	/**
+	 * Get the BIF class and lazily load it if needed
+	 *
+	 * @return The BIF class
+	 */
+	public Class<?> getBIFClass() {
+		if ( this.BIFClass == null ) {
+			synchronized ( this ) {
+				// Double check inside lock
+				if ( this.BIFClass == null ) {
+					this.BIFClass = RegistryIndex.loadClass( this.BIFClassName, this.classLoader );
+				}
+			}
+		}
+		return this.BIFClass;
+	}
+
+	/**
+	 * Get the BIF class name without loading the class
+	 *
+	 * @return The fully qualified BIF class name
+	 */
+	public String getBIFClassName() {
+		return this.BIFClassName;
+	}
+
 	public IStruct getArguments() {
 		IStruct argumentsStruct = new Struct( Struct.TYPES.LINKED );
 		Arrays.stream( getBIF().getDeclaredArguments() )
@@ -147,7 +220,7 @@ public class BIFDescriptor {
 			synchronized ( this ) {
 				// Double check inside lock
 				if ( this.BIFInstance == null ) {
-					this.BIFInstance = ( BIF ) DynamicObject.of( this.BIFClass ).invokeConstructor( ( IBoxContext ) null ).getTargetInstance();
+					this.BIFInstance = ( BIF ) DynamicObject.of( getBIFClass() ).invokeConstructor( ( IBoxContext ) null ).getTargetInstance();
 					interceptorService.announce(
 					    BoxEvent.ON_BIF_INSTANCE,
 					    () -> Struct.ofNonConcurrent(
@@ -162,6 +235,22 @@ public class BIFDescriptor {
 		return this.BIFInstance;
 	}
 
+	/**
+	 * Can the BIF be invoked with a bound argument array instead of an arguments scope. That requires it to implement
+	 * {@link IPositionalBIF} and to not declare any argument validators, since those work on the arguments scope.
+	 *
+	 * @return True if the positional fast path can be used
+	 */
+	public boolean supportsPositionalInvocation() {
+		if ( this.positionalInvocation == null ) {
+			BIF bif = getBIF();
+			this.positionalInvocation = bif instanceof IPositionalBIF
+			    && Arrays.stream( bif.getDeclaredArguments() )
+			        .allMatch( argument -> argument.validators() == null || argument.validators().isEmpty() );
+		}
+		return this.positionalInvocation;
+	}
+
 	/**
 	 * Invoke the BIF with no arguments
 	 *
@@ -192,6 +281,26 @@ public class BIFDescriptor {
 	 * @return The result of the invocation
 	 */
 	public Object invoke( IBoxContext context, Object[] positionalArguments, boolean isMember, Key name ) {
+		BIF bif = getBIF();
+		// Fast path, skip the arguments scope entirely
+		if ( supportsPositionalInvocation() && positionalArguments.length <= bif.getDeclaredArguments().length && !bif.hasInvocationListeners() ) {
+			Object[] arguments = ArgumentUtil.bindPositionalArguments( context, positionalArguments, bif.getDeclaredArguments(), name, true );
+			return ( ( IPositionalBIF ) bif )._invokePositional( context, arguments, isMember, name );
+		}
+		return invokeWithArgumentsScope( context, positionalArguments, isMember, name );
+	}
+
+	/**
+	 * Invoke the BIF with positional arguments, always going through an arguments scope
+	 *
+	 * @param context             The context
+	 * @param positionalArguments The positional arguments
+	 * @param isMember            Is this a member BIF?
+	 * @param name                The name of the BIF
+	 *
+	 * @return The result of the invocation
+	 */
+	public Object invokeWithArgumentsScope( IBoxContext context, Object[] positionalArguments, boolean isMember, Key name ) {
 		ArgumentsScope	scope				= new ArgumentsScope();
 		Argument[]		declaredArguments	= getBIF().getDeclaredArguments();
 		ArgumentUtil.createArgumentsScope( context, positionalArguments, declaredArguments, scope, name, true );
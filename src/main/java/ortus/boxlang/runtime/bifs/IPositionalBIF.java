@@ -0,0 +1,48 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Optional contract for hot BIFs which can be invoked without building an {@link ortus.boxlang.runtime.scopes.ArgumentsScope}.
+ * <p>
+ * When a BIF implementing this interface is invoked with positional arguments, the {@link BIFDescriptor} binds them to the
+ * declared arguments itself and calls {@link #_invokePositional(IBoxContext, Object[], boolean, Key)} with a pre-validated
+ * array: one slot per declared argument in declaration order, with the declared types enforced, default values applied and
+ * missing required arguments rejected. The descriptor falls back to the regular {@link BIF#_invoke(IBoxContext, ortus.boxlang.runtime.scopes.ArgumentsScope)}
+ * whenever that is not possible, like named arguments, extra arguments, custom validators or BIF interceptors.
+ * <p>
+ * Both methods must produce the same result for the same arguments.
+ */
+public interface IPositionalBIF {
+
+	/**
+	 * Invoke the BIF with its bound arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked
+	 * @param arguments The argument values, one per declared argument, in declaration order
+	 * @param isMember  Whether the BIF is being invoked as a member function
+	 * @param name      The name the BIF was invoked with
+	 *
+	 * @return The result of the invocation
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name );
+
+}
@@ -17,9 +17,11 @@ package ortus.boxlang.runtime.bifs.global.array;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.bifs.IPositionalBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -28,7 +30,7 @@ import ortus.boxlang.runtime.types.BoxLangType;
 
 @BoxBIF( description = "Append a value to an array" )
 @BoxMember( type = BoxLangType.ARRAY )
-public class ArrayAppend extends BIF {
+public class ArrayAppend extends BIF implements IPositionalBIF {
 
 	/**
 	 * Constructor
@@ -56,10 +58,33 @@ public class ArrayAppend extends BIF {
 	 *                 appended as a single element.
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
-		Array				actualArray	= arguments.getAsArray( Key.array );
-		Object				value		= arguments.get( Key.value );
-		CastAttempt<Array>	attempt		= ArrayCaster.attempt( value );
-		if ( arguments.getAsBoolean( Key.merge ) && attempt.wasSuccessful() ) {
+		return append( arguments.getAsArray( Key.array ), arguments.get( Key.value ), arguments.getAsBoolean( Key.merge ) );
+	}
+
+	/**
+	 * Append a value to an array when invoked with positional arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments The bound argument values.
+	 * @param isMember  Whether the BIF is being invoked as a member function.
+	 * @param name      The name the BIF was invoked with.
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name ) {
+		return append( ( Array ) DynamicObject.unWrap( arguments[ 0 ] ), arguments[ 1 ], ( Boolean ) DynamicObject.unWrap( arguments[ 2 ] ) );
+	}
+
+	/**
+	 * Append a value to an array
+	 *
+	 * @param actualArray The array to append to
+	 * @param value       The value to append
+	 * @param merge       Whether to merge the elements of an array value
+	 *
+	 * @return The array
+	 */
+	private Object append( Array actualArray, Object value, Boolean merge ) {
+		CastAttempt<Array> attempt = ArrayCaster.attempt( value );
+		if ( merge && attempt.wasSuccessful() ) {
 			actualArray.addAll( attempt.get() );
 		} else {
 			actualArray.add( value );
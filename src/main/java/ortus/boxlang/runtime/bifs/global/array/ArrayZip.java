@@ -98,6 +98,7 @@ public class ArrayZip extends BIF {
 
 		ParallelSettings						settings	= ListUtil.resolveParallelSettings( arguments );
 		Boolean									parallel	= arguments.getAsBoolean( Key.parallel );
+		ThreadBoxContext.prepareForParallel( context, parallel );
 
 		// Build the mapper based on the callback
 		// If the callback requires strict arguments, we only pass the item (Usually
@@ -63,8 +63,7 @@ public class JSONDeserialize extends BIF {
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
 		String	json			= arguments.getAsString( Key.json );
 		Boolean	strictMapping	= arguments.getAsBoolean( Key.strictMapping );
-		Object	result			= JSONUtil.fromJSON( json );
-		return JSONUtil.mapToBLTypes( result, strictMapping );
+		return JSONUtil.fromJSONToBLTypes( json, strictMapping );
 	}
 
 }
@@ -16,13 +16,14 @@ package ortus.boxlang.runtime.bifs.global.decision;
 
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.bifs.IPositionalBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
 
 @BoxBIF( description = "Check if value is null" )
-public class IsNull extends BIF {
+public class IsNull extends BIF implements IPositionalBIF {
 
 	/**
 	 * Constructor
@@ -46,4 +47,16 @@ public class IsNull extends BIF {
 		return arguments.get( Key.object ) == null;
 	}
 
+	/**
+	 * Check if the value is null when invoked with positional arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments The bound argument values.
+	 * @param isMember  Whether the BIF is being invoked as a member function.
+	 * @param name      The name the BIF was invoked with.
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name ) {
+		return arguments[ 0 ] == null;
+	}
+
 }
\ No newline at end of file
@@ -23,10 +23,12 @@ import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.IJDBCCapableContext;
 import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
+import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.jdbc.BoxConnection;
 import ortus.boxlang.runtime.jdbc.ConnectionManager;
 import ortus.boxlang.runtime.jdbc.ExecutedQuery;
 import ortus.boxlang.runtime.jdbc.PendingQuery;
+import ortus.boxlang.runtime.jdbc.QueryCursor;
 import ortus.boxlang.runtime.jdbc.QueryOptions;
 import ortus.boxlang.runtime.jdbc.qoq.QoQConnection;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
@@ -35,6 +37,7 @@ import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.validation.Validator;
 
 @BoxBIF( description = "Execute a SQL query" )
@@ -87,6 +90,9 @@ public class QueryExecute extends BIF {
 	 * <h2>Options</h2>
 	 * The available options for this BIF are:
 	 * <ul>
+	 * <li><strong>batch:boolean</strong> - Whether the params are an array of parameter sets, each an array or struct of bindings, executed with the
+	 * same statement in JDBC batches. Outside a transaction each batch is committed on its own. Defaults to false</li>
+	 * <li><strong>batchSize:numeric</strong> - The number of parameter sets sent to the database per batch, defaults to 1000</li>
 	 * <li><strong>cache:boolean</strong> - Whether to cache the query results, defaults to false</li>
 	 * <li><strong>cacheKey:string</strong> - Your own cache key, if not specified, the SQL will be used as the cache key</li>
 	 * <li><strong>cacheTimeout:timespan|seconds</strong> - The timeout for the cache, defaults to 0 (no timeout)</li>
@@ -99,7 +105,9 @@ public class QueryExecute extends BIF {
 	 * <li><strong>maxrows:numeric</strong> - Maximum number of rows to return</li>
 	 * <li><strong>password:string</strong> - Override the datasource password for this query only. NOTE: Not all JDBC drivers support this; will fall back to unpooled connection if unsupported</li>
 	 * <li><strong>result</strong> - The name of the variable to store the results of the query</li>
-	 * <li><strong>returntype</strong> - The return type: "query", "array", "struct"</li>
+	 * <li><strong>returntype</strong> - The return type: "query", "array", "struct", or "cursor". A cursor reads the rows as they are iterated
+	 * and holds its connection until it is exhausted or closed, see {@link QueryCursor}. It can't be cached or used with the <code>result</code>
+	 * option</li>
 	 * <li><strong>timeout</strong> - Query timeout in seconds</li>
 	 * <li><strong>username:string</strong> - Override the datasource username for this query only. NOTE: Not all JDBC drivers support this; will fall back to unpooled connection if unsupported</li>
 	 * </ul>
@@ -135,10 +143,35 @@ public class QueryExecute extends BIF {
 	 * @return The executed query results, based on the return type specified in the options
 	 */
 	public static Object execute( IBoxContext context, String sql, Object bindings, IStruct optionsStruct ) {
-		QueryOptions	options			= new QueryOptions( optionsStruct != null ? optionsStruct : new Struct() );
+		QueryOptions options = new QueryOptions( optionsStruct != null ? optionsStruct : new Struct() );
+
+		// A batch parses the SQL with its first parameter set and binds the others to the same statement
+		if ( options.batch ) {
+			if ( options.isQoQ() || options.wantsCursor() ) {
+				throw new BoxRuntimeException( "The batch option can't be used with query of queries or the cursor return type" );
+			}
+			Array			parameterSets	= ArrayCaster.cast( bindings );
+			PendingQuery	batchQuery		= new PendingQuery( context, sql, parameterSets.isEmpty() ? null : parameterSets.get( 0 ), options );
+			ExecutedQuery	executedBatch	= batchQuery.executeBatch( context.getParentOfType( IJDBCCapableContext.class ).getConnectionManager(), context,
+			    parameterSets );
+			if ( options.wantsResultStruct() ) {
+				Objects.requireNonNull( options.resultVariableName, "Result variable name must not be null when result struct is requested" );
+				ExpressionInterpreter.setVariable( context, options.resultVariableName, executedBatch.getResults().getMetaData() );
+			}
+			return options.castAsReturnType( executedBatch );
+		}
+
 		PendingQuery	pendingQuery	= new PendingQuery( context, sql, bindings, options );
 		ExecutedQuery	executedQuery;
 
+		// Cursors stream the rows of the live result set, so there is no result struct to store
+		if ( options.wantsCursor() ) {
+			if ( options.isQoQ() ) {
+				throw new BoxRuntimeException( "The cursor return type is not supported for query of queries, their results are already in memory" );
+			}
+			return pendingQuery.executeCursor( context.getParentOfType( IJDBCCapableContext.class ).getConnectionManager(), context );
+		}
+
 		// QoQ uses a special QoQ connection
 		if ( options.isQoQ() ) {
 			Connection connection = new QoQConnection( context );
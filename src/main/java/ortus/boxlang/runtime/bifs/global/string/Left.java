@@ -17,7 +17,9 @@ package ortus.boxlang.runtime.bifs.global.string;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.bifs.IPositionalBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -26,7 +28,7 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 @BoxBIF( description = "Return the leftmost characters of a string" )
 @BoxMember( type = BoxLangType.STRING_STRICT )
-public class Left extends BIF {
+public class Left extends BIF implements IPositionalBIF {
 
 	/**
 	 * Constructor
@@ -50,13 +52,35 @@ public class Left extends BIF {
 	 * @argument.count The number of characters to retrieve.
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
-		String input = arguments.getAsString( Key.string );
+		return left( arguments.getAsString( Key.string ), arguments.getAsInteger( Key.count ) );
+	}
+
+	/**
+	 * Extract the leftmost count characters from a string when invoked with positional arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments The bound argument values.
+	 * @param isMember  Whether the BIF is being invoked as a member function.
+	 * @param name      The name the BIF was invoked with.
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name ) {
+		return left( ( String ) DynamicObject.unWrap( arguments[ 0 ] ), ( Integer ) DynamicObject.unWrap( arguments[ 1 ] ) );
+	}
 
+	/**
+	 * Extract the leftmost count characters from a string
+	 *
+	 * @param input      The string to extract from
+	 * @param countValue The number of characters to retrieve
+	 *
+	 * @return The extracted string
+	 */
+	private Object left( String input, Integer countValue ) {
 		if ( input == null ) {
 			return "";
 		}
 
-		int count = arguments.getAsInteger( Key.count );
+		int count = countValue;
 
 		// Check if count is zero
 		if ( count == 0 ) {
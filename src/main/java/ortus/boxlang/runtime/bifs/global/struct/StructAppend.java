@@ -67,9 +67,9 @@ public class StructAppend extends BIF {
 		IStruct			assignments	= ensureRecipient( arguments.getAsStruct( Key.struct2 ) );
 
 		if ( overwrite ) {
-			recipient.addAll( assignments.getWrapped() );
+			recipient.addAll( assignments.getWrappedReadOnly() );
 		} else {
-			assignments.entrySet().stream().forEach( entry -> recipient.putIfAbsent( entry.getKey(), entry.getValue() ) );
+			assignments.forEach( recipient::putIfAbsent );
 		}
 
 		return recipient;
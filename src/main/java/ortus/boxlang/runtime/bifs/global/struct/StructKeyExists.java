@@ -20,7 +20,9 @@ package ortus.boxlang.runtime.bifs.global.struct;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.bifs.IPositionalBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -31,7 +33,7 @@ import ortus.boxlang.runtime.types.IStruct;
 @BoxMember( type = BoxLangType.STRUCT )
 @BoxMember( type = BoxLangType.XML, name = "keyExists" )
 
-public class StructKeyExists extends BIF {
+public class StructKeyExists extends BIF implements IPositionalBIF {
 
 	/**
 	 * Constructor
@@ -55,8 +57,32 @@ public class StructKeyExists extends BIF {
 	 * @argument.key The key within the struct to test for existence
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
-		Key		keyKey	= Key.of( arguments.get( Key.key ) );
-		IStruct	struct	= arguments.getAsStruct( Key.struct );
+		return keyExists( context, arguments.getAsStruct( Key.struct ), arguments.get( Key.key ) );
+	}
+
+	/**
+	 * Check if a key exists in a struct when invoked with positional arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments The bound argument values.
+	 * @param isMember  Whether the BIF is being invoked as a member function.
+	 * @param name      The name the BIF was invoked with.
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name ) {
+		return keyExists( context, ( IStruct ) DynamicObject.unWrap( arguments[ 0 ] ), arguments[ 1 ] );
+	}
+
+	/**
+	 * Check if a key exists in a struct
+	 *
+	 * @param context The context in which the BIF is being invoked.
+	 * @param struct  The struct to check
+	 * @param key     The key to look for
+	 *
+	 * @return True if the key exists and is defined
+	 */
+	private Object keyExists( IBoxContext context, IStruct struct, Object key ) {
+		Key keyKey = Key.of( key );
 
 		// First check if the key exists in the struct. This is here to filter out keys which are accessible, but
 		// not actually returned by the keySet() method, such as the `1` key in an arguments scope. You can access it, but it's not really there as a key.
@@ -55,7 +55,7 @@ public class GetComponentList extends BIF {
 			        componentName,
 			        Struct.of(
 			            "module", descriptor.hasModule() ? descriptor.module : "---",
-			            "className", descriptor.componentClass.getCanonicalName(),
+			            "className", descriptor.getComponentClass().getCanonicalName(),
 			            "allowsBody", descriptor.allowsBody(),
 			            "requiresBody", descriptor.requiresBody(),
 			            "ignoreEnableOutputOnly", descriptor.ignoreEnableOutputOnly(),
@@ -69,7 +69,7 @@ public class GetFunctionList extends BIF {
 						            Key.module, bif.hasModule() ? bif.module : "---",
 						            Key.namespace, bif.hasNamespace() ? bif.namespace : "---",
 						            Key.isGlobal, bif.isGlobal,
-						            Key.className, bif.BIFClass.getCanonicalName(),
+						            Key.className, bif.getBIFClass().getCanonicalName(),
 						            Key.arguments, bif.getArguments()
 						        )
 						    );
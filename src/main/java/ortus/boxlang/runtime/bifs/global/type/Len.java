@@ -17,6 +17,7 @@ package ortus.boxlang.runtime.bifs.global.type;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.bifs.IPositionalBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
@@ -45,7 +46,7 @@ import ortus.boxlang.runtime.types.util.TypeUtil;
 @BoxMember( type = BoxLangType.DATETIME, name = "len" )
 @BoxMember( type = BoxLangType.DATE, name = "len" )
 @BoxMember( type = BoxLangType.CUSTOM, customType = java.util.Set.class, name = "len" )
-public class Len extends BIF {
+public class Len extends BIF implements IPositionalBIF {
 
 	private static Key stringLenKey = Key.of( "StringLen" );
 
@@ -96,6 +97,30 @@ public class Len extends BIF {
 			object = string;
 		}
 
+		return length( object, arguments.getAsKey( __functionName ) );
+	}
+
+	/**
+	 * Get the length of the value when invoked with positional arguments
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments The bound argument values.
+	 * @param isMember  Whether the BIF is being invoked as a member function.
+	 * @param name      The name the BIF was invoked with.
+	 */
+	public Object _invokePositional( IBoxContext context, Object[] arguments, boolean isMember, Key name ) {
+		return length( arguments[ 0 ], name );
+	}
+
+	/**
+	 * Get the length of a value
+	 *
+	 * @param object       The value to measure
+	 * @param functionName The name the BIF was invoked with
+	 *
+	 * @return The length
+	 */
+	private Object length( Object object, Key functionName ) {
 		if ( object == null ) {
 			return 0;
 		}
@@ -109,7 +134,7 @@ public class Len extends BIF {
 			return set.size();
 		}
 
-		if ( !arguments.getAsKey( __functionName ).equals( stringLenKey ) ) {
+		if ( !functionName.equals( stringLenKey ) ) {
 			CastAttempt<Array> arrayAttempt = ArrayCaster.attempt( object );
 			if ( arrayAttempt.wasSuccessful() ) {
 				return arrayAttempt.get().size();
@@ -0,0 +1,143 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Base class for the eviction indexes shipped with BoxLang.
+ * <p>
+ * All the bookkeeping happens under a single lock. Sets and removals always wait for it, but access records are dropped
+ * if the lock is busy, so cache hits never queue up behind an eviction run or each other.
+ */
+public abstract class AbstractEvictionIndex implements IEvictionIndex {
+
+	/**
+	 * Guards the ordering structures of the index
+	 */
+	protected final ReentrantLock lock = new ReentrantLock();
+
+	@Override
+	public void recordSet( Key key ) {
+		this.lock.lock();
+		try {
+			onSet( key );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void recordAccess( Key key ) {
+		if ( this.lock.tryLock() ) {
+			try {
+				onAccess( key );
+			} finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void recordRemoval( Key key ) {
+		this.lock.lock();
+		try {
+			onRemoval( key );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.lock.lock();
+		try {
+			onClear();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Key> selectVictims( int count, Predicate<Key> evictable ) {
+		this.lock.lock();
+		try {
+			return onSelectVictims( count, evictable );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		this.lock.lock();
+		try {
+			return onSize();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Track a set entry, called under the lock
+	 *
+	 * @param key The key of the entry
+	 */
+	protected abstract void onSet( Key key );
+
+	/**
+	 * Track a cache hit, called under the lock
+	 *
+	 * @param key The key of the entry
+	 */
+	protected abstract void onAccess( Key key );
+
+	/**
+	 * Forget a removed entry, called under the lock
+	 *
+	 * @param key The key of the entry
+	 */
+	protected abstract void onRemoval( Key key );
+
+	/**
+	 * Forget all the keys, called under the lock
+	 */
+	protected abstract void onClear();
+
+	/**
+	 * Select and remove the victims, called under the lock
+	 *
+	 * @param count     The maximum number of keys to select
+	 * @param evictable The filter deciding if a key can be evicted
+	 *
+	 * @return The selected keys
+	 */
+	protected abstract List<Key> onSelectVictims( int count, Predicate<Key> evictable );
+
+	/**
+	 * The number of keys tracked, called under the lock
+	 *
+	 * @return The number of keys
+	 */
+	protected abstract int onSize();
+
+}
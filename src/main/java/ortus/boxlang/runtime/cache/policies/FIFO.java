@@ -43,4 +43,16 @@ public class FIFO implements ICachePolicy {
 		return "created ASC";
 	}
 
+	/**
+	 * Track the keys in insertion order, evicting the oldest first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new OrderedEvictionIndex( false, false );
+	}
+
 }
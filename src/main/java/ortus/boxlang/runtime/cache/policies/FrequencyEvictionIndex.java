@@ -0,0 +1,202 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Keeps the keys in hit count buckets, which covers the LFU and MFU policies.
+ * <p>
+ * The buckets form a linked list ordered by hit count. A hit always moves a key to the next bucket, so every
+ * operation is O(1): the classic constant time LFU layout. Keys within a bucket are kept in insertion order, so ties
+ * are broken by age.
+ */
+public class FrequencyEvictionIndex extends AbstractEvictionIndex {
+
+	/**
+	 * A bucket of keys sharing the same hit count
+	 */
+	private static final class Bucket {
+
+		final long					hits;
+		final LinkedHashSet<Key>	keys	= new LinkedHashSet<>();
+		Bucket						previous;
+		Bucket						next;
+
+		Bucket( long hits ) {
+			this.hits = hits;
+		}
+	}
+
+	/**
+	 * The bucket of every key
+	 */
+	private final Map<Key, Bucket>	buckets	= new HashMap<>();
+
+	/**
+	 * The bucket with the lowest hit count
+	 */
+	private Bucket					lowest;
+
+	/**
+	 * The bucket with the highest hit count
+	 */
+	private Bucket					highest;
+
+	/**
+	 * Evict the most used keys first (MFU) instead of the least used ones (LFU)
+	 */
+	private final boolean			mostUsedFirst;
+
+	/**
+	 * Constructor
+	 *
+	 * @param mostUsedFirst True to evict the most used keys first (MFU), false for the least used ones (LFU)
+	 */
+	public FrequencyEvictionIndex( boolean mostUsedFirst ) {
+		this.mostUsedFirst = mostUsedFirst;
+	}
+
+	@Override
+	protected void onSet( Key key ) {
+		// A set is a new entry with no hits
+		onRemoval( key );
+		Bucket bucket = this.lowest;
+		if ( bucket == null || bucket.hits != 0 ) {
+			bucket = insertAfter( null, 0 );
+		}
+		bucket.keys.add( key );
+		this.buckets.put( key, bucket );
+	}
+
+	@Override
+	protected void onAccess( Key key ) {
+		Bucket current = this.buckets.get( key );
+		if ( current == null ) {
+			return;
+		}
+		Bucket next = current.next;
+		if ( next == null || next.hits != current.hits + 1 ) {
+			next = insertAfter( current, current.hits + 1 );
+		}
+		current.keys.remove( key );
+		next.keys.add( key );
+		this.buckets.put( key, next );
+		if ( current.keys.isEmpty() ) {
+			unlink( current );
+		}
+	}
+
+	@Override
+	protected void onRemoval( Key key ) {
+		Bucket bucket = this.buckets.remove( key );
+		if ( bucket != null ) {
+			bucket.keys.remove( key );
+			if ( bucket.keys.isEmpty() ) {
+				unlink( bucket );
+			}
+		}
+	}
+
+	@Override
+	protected void onClear() {
+		this.buckets.clear();
+		this.lowest		= null;
+		this.highest	= null;
+	}
+
+	@Override
+	protected List<Key> onSelectVictims( int count, Predicate<Key> evictable ) {
+		List<Key>	victims	= new ArrayList<>( count );
+		Bucket		bucket	= this.mostUsedFirst ? this.highest : this.lowest;
+		while ( victims.size() < count && bucket != null ) {
+			Bucket			following	= this.mostUsedFirst ? bucket.previous : bucket.next;
+			Iterator<Key>	iterator	= bucket.keys.iterator();
+			while ( victims.size() < count && iterator.hasNext() ) {
+				Key key = iterator.next();
+				if ( evictable.test( key ) ) {
+					victims.add( key );
+					iterator.remove();
+					this.buckets.remove( key );
+				}
+			}
+			if ( bucket.keys.isEmpty() ) {
+				unlink( bucket );
+			}
+			bucket = following;
+		}
+		return victims;
+	}
+
+	@Override
+	protected int onSize() {
+		return this.buckets.size();
+	}
+
+	/**
+	 * Create a bucket and link it after another one
+	 *
+	 * @param previous The bucket to link after, or null to make it the lowest
+	 * @param hits     The hit count of the new bucket
+	 *
+	 * @return The new bucket
+	 */
+	private Bucket insertAfter( Bucket previous, long hits ) {
+		Bucket bucket = new Bucket( hits );
+		bucket.previous	= previous;
+		bucket.next		= previous == null ? this.lowest : previous.next;
+		if ( bucket.previous == null ) {
+			this.lowest = bucket;
+		} else {
+			bucket.previous.next = bucket;
+		}
+		if ( bucket.next == null ) {
+			this.highest = bucket;
+		} else {
+			bucket.next.previous = bucket;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Unlink an empty bucket
+	 *
+	 * @param bucket The bucket to unlink
+	 */
+	private void unlink( Bucket bucket ) {
+		if ( bucket.previous == null ) {
+			this.lowest = bucket.next;
+		} else {
+			bucket.previous.next = bucket.next;
+		}
+		if ( bucket.next == null ) {
+			this.highest = bucket.previous;
+		} else {
+			bucket.next.previous = bucket.previous;
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.Arrays;
+
+/**
+ * A compact Count-Min sketch of 4-bit counters, used by {@link WTinyLFU} to estimate how often a key was seen.
+ * <p>
+ * Every long of the table holds sixteen counters, four for each of the four hash functions. Counters saturate at 15
+ * and the whole sketch is halved once the number of increments reaches ten times its width, so old popularity fades
+ * away and new keys get a chance.
+ * <p>
+ * This class is not thread safe, callers must guard it.
+ */
+public class FrequencySketch {
+
+	/**
+	 * Seeds of the four hash functions
+	 */
+	private static final long[]	SEEDS		= { 0x97cb3127L, 0xab7e8f2dL, 0x6a09e667L, 0x3c6ef372L };
+
+	/**
+	 * Mask to halve all sixteen counters of a long at once
+	 */
+	private static final long	RESET_MASK	= 0x7777777777777777L;
+
+	/**
+	 * The counters
+	 */
+	private final long[]		table;
+
+	/**
+	 * The number of increments after which the counters are halved
+	 */
+	private final int			sampleSize;
+
+	/**
+	 * The number of increments since the last halving
+	 */
+	private int					size;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity The maximum number of entries of the cache
+	 */
+	public FrequencySketch( int capacity ) {
+		int width = Integer.highestOneBit( Math.max( 16, Math.min( capacity, 1 << 30 ) ) - 1 ) << 1;
+		this.table		= new long[ width ];
+		this.sampleSize	= ( int ) Math.min( 10L * width, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * Estimate how many times a key was seen, up to 15
+	 *
+	 * @param hash The hash of the key
+	 *
+	 * @return The estimated frequency
+	 */
+	public int frequency( int hash ) {
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			long	h		= spread( hash, i );
+			int		index	= ( int ) ( h >>> 32 ) & ( this.table.length - 1 );
+			int		offset	= ( ( i << 2 ) + ( int ) ( h & 3 ) ) << 2;
+			frequency = Math.min( frequency, ( int ) ( ( this.table[ index ] >>> offset ) & 0xfL ) );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an occurrence of a key
+	 *
+	 * @param hash The hash of the key
+	 */
+	public void increment( int hash ) {
+		boolean added = false;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			long	h		= spread( hash, i );
+			int		index	= ( int ) ( h >>> 32 ) & ( this.table.length - 1 );
+			int		offset	= ( ( i << 2 ) + ( int ) ( h & 3 ) ) << 2;
+			long	mask	= 0xfL << offset;
+			if ( ( this.table[ index ] & mask ) != mask ) {
+				this.table[ index ]	+= 1L << offset;
+				added				= true;
+			}
+		}
+		if ( added && ++this.size >= this.sampleSize ) {
+			reset();
+		}
+	}
+
+	/**
+	 * Forget everything
+	 */
+	public void clear() {
+		Arrays.fill( this.table, 0L );
+		this.size = 0;
+	}
+
+	/**
+	 * Halve all the counters
+	 */
+	private void reset() {
+		for ( int i = 0; i < this.table.length; i++ ) {
+			this.table[ i ] = ( this.table[ i ] >>> 1 ) & RESET_MASK;
+		}
+		this.size = this.size / 2;
+	}
+
+	/**
+	 * Mix the key hash with the seed of a hash function
+	 *
+	 * @param hash The hash of the key
+	 * @param i    The hash function
+	 *
+	 * @return The mixed hash
+	 */
+	private static long spread( int hash, int i ) {
+		long h = ( hash + SEEDS[ i ] ) * SEEDS[ i ];
+		h += h >>> 32;
+		h ^= h >>> 17;
+		h *= 0x9e3779b97f4a7c15L;
+		return h ^ ( h >>> 29 );
+	}
+
+}
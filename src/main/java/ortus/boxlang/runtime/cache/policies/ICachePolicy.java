@@ -37,6 +37,10 @@ import ortus.boxlang.runtime.cache.ICacheEntry;
  * - First In First Out (FIFO)
  * - Last In First Out (LIFO)
  * - Random
+ * - Window TinyLFU (WTinyLFU)
+ *
+ * In-memory stores ask the policy for an {@link IEvictionIndex} which keeps the eviction order up to date as entries
+ * come and go. Policies that don't provide one are evicted by sorting the store with their comparator.
  */
 @FunctionalInterface
 public interface ICachePolicy {
@@ -61,4 +65,16 @@ public interface ICachePolicy {
 		return "lastAccessed ASC, hits ASC";
 	}
 
+	/**
+	 * Create an eviction index for an in-memory store using this policy.
+	 * Each store gets its own index.
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index, or null to evict by sorting the store with the comparator
+	 */
+	default IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return null;
+	}
+
 }
@@ -0,0 +1,79 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * An eviction index keeps the eviction order of an in-memory store up to date as entries are set, accessed and removed,
+ * so the store can pick its victims without sorting the whole pool on every eviction run.
+ * <p>
+ * Indexes are created by {@link ICachePolicy#newEvictionIndex(int)}. They only track keys: the store remains the
+ * source of truth for the entries themselves.
+ */
+public interface IEvictionIndex {
+
+	/**
+	 * Record that an entry was set in the store, either new or replacing an existing one
+	 *
+	 * @param key The key of the entry
+	 */
+	public void recordSet( Key key );
+
+	/**
+	 * Record a cache hit. Indexes may drop access records under contention, since losing a few of them only makes the
+	 * eviction order slightly less precise.
+	 *
+	 * @param key The key of the entry
+	 */
+	public void recordAccess( Key key );
+
+	/**
+	 * Record that an entry was removed from the store
+	 *
+	 * @param key The key of the entry
+	 */
+	public void recordRemoval( Key key );
+
+	/**
+	 * Forget all the keys
+	 */
+	public void clear();
+
+	/**
+	 * Select the keys to evict, in eviction order, and remove them from the index.
+	 * Keys rejected by the filter (eternal entries, or entries no longer in the store) stay in the index.
+	 *
+	 * @param count     The maximum number of keys to select
+	 * @param evictable The filter deciding if a key can be evicted
+	 *
+	 * @return The selected keys
+	 */
+	public List<Key> selectVictims( int count, Predicate<Key> evictable );
+
+	/**
+	 * Get the number of keys tracked by the index
+	 *
+	 * @return The number of keys
+	 */
+	public int size();
+
+}
@@ -44,4 +44,16 @@ public class LFU implements ICachePolicy {
 		return "hits ASC";
 	}
 
+	/**
+	 * Track the keys by hit count, evicting the least used first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new FrequencyEvictionIndex( false );
+	}
+
 }
@@ -43,4 +43,16 @@ public class LIFO implements ICachePolicy {
 		return "created DESC";
 	}
 
+	/**
+	 * Track the keys in insertion order, evicting the newest first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new OrderedEvictionIndex( false, true );
+	}
+
 }
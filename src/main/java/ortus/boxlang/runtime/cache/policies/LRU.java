@@ -43,4 +43,16 @@ public class LRU implements ICachePolicy {
 		return "lastAccessed ASC";
 	}
 
+	/**
+	 * Track the keys in access order, evicting the oldest first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new OrderedEvictionIndex( true, false );
+	}
+
 }
@@ -43,4 +43,16 @@ public class MFU implements ICachePolicy {
 		return "hits DESC";
 	}
 
+	/**
+	 * Track the keys by hit count, evicting the most used first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new FrequencyEvictionIndex( true );
+	}
+
 }
@@ -43,4 +43,16 @@ public class MRU implements ICachePolicy {
 		return "lastAccessed DESC";
 	}
 
+	/**
+	 * Track the keys in access order, evicting the newest first
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new OrderedEvictionIndex( true, true );
+	}
+
 }
@@ -0,0 +1,113 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Keeps the keys in insertion or access order, which covers the LRU, MRU, FIFO and LIFO policies.
+ * Every operation is O(1), and selecting victims only walks as many keys as it needs.
+ */
+public class OrderedEvictionIndex extends AbstractEvictionIndex {
+
+	/**
+	 * The keys, oldest first
+	 */
+	private final LinkedHashMap<Key, Boolean>	order;
+
+	/**
+	 * Cache hits move the key to the newest end
+	 */
+	private final boolean						accessOrder;
+
+	/**
+	 * Evict from the newest end instead of the oldest
+	 */
+	private final boolean						newestFirst;
+
+	/**
+	 * Constructor
+	 *
+	 * @param accessOrder True to order by last access (LRU/MRU), false to order by insertion (FIFO/LIFO)
+	 * @param newestFirst True to evict the newest keys first (MRU/LIFO), false for the oldest (LRU/FIFO)
+	 */
+	public OrderedEvictionIndex( boolean accessOrder, boolean newestFirst ) {
+		this.order			= new LinkedHashMap<>( 16, 0.75f, accessOrder );
+		this.accessOrder	= accessOrder;
+		this.newestFirst	= newestFirst;
+	}
+
+	@Override
+	public void recordAccess( Key key ) {
+		// Insertion ordered indexes don't care about hits, don't even take the lock
+		if ( this.accessOrder ) {
+			super.recordAccess( key );
+		}
+	}
+
+	@Override
+	protected void onSet( Key key ) {
+		// A set is a new insertion, even if the key was already there
+		this.order.remove( key );
+		this.order.put( key, Boolean.TRUE );
+	}
+
+	@Override
+	protected void onAccess( Key key ) {
+		// Access ordered map, a get moves it to the end
+		this.order.get( key );
+	}
+
+	@Override
+	protected void onRemoval( Key key ) {
+		this.order.remove( key );
+	}
+
+	@Override
+	protected void onClear() {
+		this.order.clear();
+	}
+
+	@Override
+	protected List<Key> onSelectVictims( int count, Predicate<Key> evictable ) {
+		List<Key>		victims		= new ArrayList<>( count );
+		Iterator<Key>	iterator	= this.newestFirst
+		    ? this.order.sequencedKeySet().reversed().iterator()
+		    : this.order.sequencedKeySet().iterator();
+		while ( victims.size() < count && iterator.hasNext() ) {
+			Key key = iterator.next();
+			if ( evictable.test( key ) ) {
+				victims.add( key );
+				iterator.remove();
+			}
+		}
+		return victims;
+	}
+
+	@Override
+	protected int onSize() {
+		return this.order.size();
+	}
+
+}
@@ -51,4 +51,16 @@ public class Random implements ICachePolicy {
 		return "RANDOM()";
 	}
 
+	/**
+	 * Track the keys in an array to pick random victims
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new RandomEvictionIndex();
+	}
+
 }
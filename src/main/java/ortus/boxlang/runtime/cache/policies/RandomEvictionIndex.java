@@ -0,0 +1,118 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * Keeps the keys in an array so random victims can be picked in O(1).
+ * Removals swap the last key into the freed slot, so the array never has holes.
+ */
+public class RandomEvictionIndex extends AbstractEvictionIndex {
+
+	/**
+	 * The keys, in no particular order
+	 */
+	private final List<Key>				keys		= new ArrayList<>();
+
+	/**
+	 * The position of every key in the array
+	 */
+	private final Map<Key, Integer>		positions	= new HashMap<>();
+
+	@Override
+	public void recordAccess( Key key ) {
+		// Hits don't matter when picking at random
+	}
+
+	@Override
+	protected void onSet( Key key ) {
+		if ( !this.positions.containsKey( key ) ) {
+			this.positions.put( key, this.keys.size() );
+			this.keys.add( key );
+		}
+	}
+
+	@Override
+	protected void onAccess( Key key ) {
+		// Hits don't matter when picking at random
+	}
+
+	@Override
+	protected void onRemoval( Key key ) {
+		Integer position = this.positions.remove( key );
+		if ( position != null ) {
+			removeAt( position );
+		}
+	}
+
+	@Override
+	protected void onClear() {
+		this.keys.clear();
+		this.positions.clear();
+	}
+
+	@Override
+	protected List<Key> onSelectVictims( int count, Predicate<Key> evictable ) {
+		List<Key>	victims		= new ArrayList<>( count );
+		// Walk from a random spot, each key is visited at most once
+		int			remaining	= this.keys.size();
+		int			position	= remaining == 0 ? 0 : ThreadLocalRandom.current().nextInt( remaining );
+		while ( victims.size() < count && remaining-- > 0 && !this.keys.isEmpty() ) {
+			if ( position >= this.keys.size() ) {
+				position = 0;
+			}
+			Key key = this.keys.get( position );
+			if ( evictable.test( key ) ) {
+				victims.add( key );
+				this.positions.remove( key );
+				// The last key moves into this slot, so look at the same position again
+				removeAt( position );
+			} else {
+				position++;
+			}
+		}
+		return victims;
+	}
+
+	@Override
+	protected int onSize() {
+		return this.keys.size();
+	}
+
+	/**
+	 * Remove the key at a position by moving the last key into it
+	 *
+	 * @param position The position to free
+	 */
+	private void removeAt( int position ) {
+		Key last = this.keys.removeLast();
+		if ( position < this.keys.size() ) {
+			this.keys.set( position, last );
+			this.positions.put( last, position );
+		}
+	}
+
+}
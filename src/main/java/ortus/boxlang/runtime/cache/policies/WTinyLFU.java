@@ -0,0 +1,61 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.Comparator;
+
+import ortus.boxlang.runtime.cache.ICacheEntry;
+
+/**
+ * WTinyLFU - Window TinyLFU admission on top of a segmented LRU.
+ *
+ * In-memory stores use the {@link WTinyLFUEvictionIndex}, which only lets a new entry push out an existing one if it
+ * has been seen more often. Other stores fall back to comparing by hits, then by last accessed ascending.
+ */
+public class WTinyLFU implements ICachePolicy {
+
+	/**
+	 * Get the comparator for HashMaps
+	 */
+	public Comparator<ICacheEntry> getComparator() {
+		return Comparator.comparing( ICacheEntry::hits ).thenComparing( ICacheEntry::lastAccessed );
+	}
+
+	/**
+	 * Get the SQL ORDER BY clause for this policy
+	 *
+	 * @return The ORDER BY clause (without "ORDER BY" prefix) for SQL queries
+	 */
+	@Override
+	public String getSQLOrderBy() {
+		return "hits ASC, lastAccessed ASC";
+	}
+
+	/**
+	 * Track the keys in an admission window and a segmented LRU guarded by a frequency sketch
+	 *
+	 * @param maxObjects The maximum number of objects of the store
+	 *
+	 * @return The eviction index
+	 */
+	@Override
+	public IEvictionIndex newEvictionIndex( int maxObjects ) {
+		return new WTinyLFUEvictionIndex( maxObjects );
+	}
+
+}
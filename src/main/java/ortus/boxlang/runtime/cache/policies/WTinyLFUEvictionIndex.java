@@ -0,0 +1,238 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.policies;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * The eviction index behind the {@link WTinyLFU} policy.
+ * <p>
+ * New keys enter a small LRU admission window (1% of the capacity). The rest of the cache is a segmented LRU: keys
+ * leaving the window go to the probation segment, and a hit in probation promotes them to the protected segment (80% of
+ * the main space). When the store needs victims and the window is over its share, the oldest window key competes with
+ * the oldest probation key and the one the {@link FrequencySketch} has seen less often is evicted, while the winner stays
+ * in the main space. That keeps one-hit wonders from flushing out popular entries.
+ */
+public class WTinyLFUEvictionIndex extends AbstractEvictionIndex {
+
+	/**
+	 * The admission window, oldest first
+	 */
+	private final LinkedHashMap<Key, Boolean>	window		= new LinkedHashMap<>( 16, 0.75f, true );
+
+	/**
+	 * The probation segment of the main space, oldest first
+	 */
+	private final LinkedHashMap<Key, Boolean>	probation	= new LinkedHashMap<>( 16, 0.75f, true );
+
+	/**
+	 * The protected segment of the main space, oldest first
+	 */
+	private final LinkedHashMap<Key, Boolean>	protect		= new LinkedHashMap<>( 16, 0.75f, true );
+
+	/**
+	 * The popularity estimates
+	 */
+	private final FrequencySketch				sketch;
+
+	/**
+	 * The maximum size of the window
+	 */
+	private final int							maxWindow;
+
+	/**
+	 * The maximum size of the main space
+	 */
+	private final int							maxMain;
+
+	/**
+	 * The maximum size of the protected segment
+	 */
+	private final int							maxProtected;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity The maximum number of entries of the cache
+	 */
+	public WTinyLFUEvictionIndex( int capacity ) {
+		int safeCapacity = Math.max( 1, capacity );
+		this.maxWindow		= Math.max( 1, safeCapacity / 100 );
+		this.maxMain		= Math.max( 1, safeCapacity - this.maxWindow );
+		this.maxProtected	= ( int ) ( this.maxMain * 0.8 );
+		this.sketch			= new FrequencySketch( safeCapacity );
+	}
+
+	/**
+	 * Get the popularity estimate of a key
+	 *
+	 * @param key The key
+	 *
+	 * @return The estimated frequency, up to 15
+	 */
+	public int frequency( Key key ) {
+		this.lock.lock();
+		try {
+			return this.sketch.frequency( key.hashCode() );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	protected void onSet( Key key ) {
+		this.sketch.increment( key.hashCode() );
+		// Replacing an entry counts as using it
+		if ( this.window.containsKey( key ) || this.probation.containsKey( key ) || this.protect.containsKey( key ) ) {
+			touch( key );
+			return;
+		}
+		this.window.put( key, Boolean.TRUE );
+		drainWindow();
+	}
+
+	@Override
+	protected void onAccess( Key key ) {
+		this.sketch.increment( key.hashCode() );
+		touch( key );
+	}
+
+	@Override
+	protected void onRemoval( Key key ) {
+		if ( this.window.remove( key ) == null && this.probation.remove( key ) == null ) {
+			this.protect.remove( key );
+		}
+	}
+
+	@Override
+	protected void onClear() {
+		this.window.clear();
+		this.probation.clear();
+		this.protect.clear();
+		this.sketch.clear();
+	}
+
+	@Override
+	protected List<Key> onSelectVictims( int count, Predicate<Key> evictable ) {
+		List<Key>	victims	= new ArrayList<>( count );
+		// Keys we could not evict in this pass, once we see them again that segment has nothing left to give
+		Set<Key>	skipped	= new HashSet<>();
+		// Every key is looked at most twice, so eternal entries can't make us loop forever
+		int			budget	= 2 * onSize();
+		drainWindow();
+		while ( victims.size() < count && budget-- > 0 && onSize() > 0 ) {
+			Key candidate = this.window.size() > this.maxWindow ? firstKey( this.window ) : null;
+			Key victim = firstKey( this.probation );
+			if ( victim == null ) {
+				victim = firstKey( this.protect );
+			}
+			if ( skipped.contains( candidate ) ) {
+				candidate = null;
+			}
+			if ( skipped.contains( victim ) ) {
+				victim = null;
+			}
+
+			Key loser;
+			if ( candidate == null ) {
+				loser = victim != null ? victim : firstKey( this.window );
+				if ( loser == null || skipped.contains( loser ) ) {
+					break;
+				}
+			} else if ( victim == null ) {
+				loser = candidate;
+			} else {
+				// The window key only gets in if it is more popular than the main space victim
+				if ( this.sketch.frequency( candidate.hashCode() ) > this.sketch.frequency( victim.hashCode() ) ) {
+					loser = victim;
+					this.window.remove( candidate );
+					this.probation.put( candidate, Boolean.TRUE );
+				} else {
+					loser = candidate;
+				}
+			}
+
+			if ( evictable.test( loser ) ) {
+				victims.add( loser );
+				onRemoval( loser );
+			} else {
+				// Can't evict it, give it a fresh position so the next look picks someone else
+				skipped.add( loser );
+				touch( loser );
+			}
+		}
+		return victims;
+	}
+
+	@Override
+	protected int onSize() {
+		return this.window.size() + this.probation.size() + this.protect.size();
+	}
+
+	/**
+	 * Move a key to the newest end of its segment, promoting it from probation to protected
+	 *
+	 * @param key The key
+	 */
+	private void touch( Key key ) {
+		if ( this.window.get( key ) != null || this.protect.get( key ) != null ) {
+			return;
+		}
+		if ( this.probation.remove( key ) != null ) {
+			this.protect.put( key, Boolean.TRUE );
+			// Demote the oldest protected key if the segment is over its share
+			if ( this.protect.size() > this.maxProtected ) {
+				Key demoted = firstKey( this.protect );
+				this.protect.remove( demoted );
+				this.probation.put( demoted, Boolean.TRUE );
+			}
+		}
+	}
+
+	/**
+	 * While the main space still has room, window overflow moves straight into probation without competing
+	 */
+	private void drainWindow() {
+		while ( this.window.size() > this.maxWindow && this.probation.size() + this.protect.size() < this.maxMain ) {
+			Key oldest = firstKey( this.window );
+			this.window.remove( oldest );
+			this.probation.put( oldest, Boolean.TRUE );
+		}
+	}
+
+	/**
+	 * Get the oldest key of a segment
+	 *
+	 * @param segment The segment
+	 *
+	 * @return The oldest key or null if the segment is empty
+	 */
+	private static Key firstKey( LinkedHashMap<Key, Boolean> segment ) {
+		Map.Entry<Key, Boolean> first = segment.firstEntry();
+		return first == null ? null : first.getKey();
+	}
+
+}
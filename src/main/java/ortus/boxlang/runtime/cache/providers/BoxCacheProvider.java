@@ -31,6 +31,7 @@ import ortus.boxlang.runtime.cache.BoxCacheEntry;
 import ortus.boxlang.runtime.cache.ICacheEntry;
 import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
 import ortus.boxlang.runtime.cache.store.IObjectStore;
+import ortus.boxlang.runtime.cache.util.SingleFlight;
 import ortus.boxlang.runtime.config.segments.CacheConfig;
 import ortus.boxlang.runtime.dynamic.Attempt;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -78,7 +79,8 @@ import ortus.boxlang.runtime.types.util.BLCollector;
  * Thread Safety:
  * </p>
  * This implementation is thread-safe and uses synchronization where necessary, particularly
- * in the configure(), reap(), and getOrSet() methods to ensure data consistency.
+ * in the configure() and reap() methods to ensure data consistency. Concurrent getOrSet() misses
+ * on the same key share a single call to the value provider through a {@link SingleFlight}.
  *
  * <p>
  * Usage Example:
@@ -144,6 +146,11 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	private int					maxObjects;
 
+	/**
+	 * Coalesces concurrent getOrSet() misses on the same key
+	 */
+	private final SingleFlight	singleFlight	= new SingleFlight();
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Constructor
@@ -327,10 +334,10 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		// Start a timer
 		long	start		= System.currentTimeMillis();
 
-		// Now do expiration checks
+		// Now do expiration checks, stores that track expirations only hand us the entries that are due
 		Instant	rightNow	= Instant.now();
 		this.objectStore
-		    .getKeysStream()
+		    .getExpirationCandidates( rightNow )
 		    // Map to the ICacheEntry
 		    .map( this.objectStore::getQuiet )
 		    // Filter out nulls
@@ -828,20 +835,16 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		Duration	dTimeout			= toDuration( timeout, this.defaultTimeout );
 		Duration	dlastAccessTimeout	= toDuration( lastAccessTimeout, this.defaultLastAccessTimeout );
 
-		// Get the object
-		var			lockKey				= this.getName().getNameNoCase() + "-" + key;
-		// Double lock or produce
-		synchronized ( lockKey.intern() ) {
-			return this.get( key )
-			    .orElseGet( () -> {
-				    // Get the value from the passed in lambda
-				    Object value = provider.get();
-				    // Set it in the cache
-				    this.set( key, value, dTimeout, dlastAccessTimeout, metadata );
-				    // Return it
-				    return value;
-			    } );
-		}
+		// Concurrent misses on the same key share a single production
+		return this.singleFlight.execute( Key.of( key ), () -> this.get( key )
+		    .orElseGet( () -> {
+			    // Get the value from the passed in lambda
+			    Object value = provider.get();
+			    // Set it in the cache
+			    this.set( key, value, dTimeout, dlastAccessTimeout, metadata );
+			    // Return it
+			    return value;
+		    } ) );
 	}
 
 	/**
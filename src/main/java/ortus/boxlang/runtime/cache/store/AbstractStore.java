@@ -31,7 +31,7 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 public abstract class AbstractStore implements IObjectStore {
 
 	private static final String	POLICIES_PACKAGE	= "ortus.boxlang.runtime.cache.policies";
-	private static final String	VALID_POLICIES		= "LRU|MRU|LFU|MFU|FIFO|LIFO|Random";
+	private static final String	VALID_POLICIES		= "LRU|MRU|LFU|MFU|FIFO|LIFO|Random|WTinyLFU";
 
 	/**
 	 * The cache provider associated with this store
@@ -87,6 +87,7 @@ public abstract class AbstractStore implements IObjectStore {
 	 * - FIFO: First In First Out
 	 * - LIFO: Last In First Out
 	 * - Random: Randomly evict objects
+	 * - WTinyLFU: Window TinyLFU, only admit new objects that are more popular than the ones they replace
 	 *
 	 * You can also register your own policy by implementing the ICachePolicy interface.
 	 */
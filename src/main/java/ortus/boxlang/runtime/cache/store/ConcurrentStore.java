@@ -17,30 +17,58 @@
  */
 package ortus.boxlang.runtime.cache.store;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.cache.ICacheEntry;
 import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
+import ortus.boxlang.runtime.cache.policies.IEvictionIndex;
 import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.cache.util.TimerWheel;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.util.BooleanRef;
 
 /**
  * This object store keeps all objects in heap using Concurrent classes.
  * Naturally the store is ordered by {@code created} timestamp and can be used for concurrent access.
+ * <p>
+ * If the eviction policy provides an {@link IEvictionIndex}, the store keeps it updated on every set, hit and removal,
+ * so evictions only touch the entries they remove. Otherwise the pool is sorted with the policy comparator.
+ * <p>
+ * Sets and removals update the eviction index and the expiration schedule inside the pool's compute of their key, so
+ * a set racing a clear of the same key can't leave a live entry that is neither indexed nor scheduled.
  */
 public class ConcurrentStore extends AbstractStore {
 
 	/**
 	 * The pool that holds the objects
 	 */
-	private ConcurrentHashMap<Key, ICacheEntry> pool;
+	private ConcurrentHashMap<Key, ICacheEntry>	pool;
+
+	/**
+	 * The eviction order, or null if the policy doesn't provide one
+	 */
+	private IEvictionIndex						evictionIndex;
+
+	/**
+	 * The expiration schedule of the entries that can expire
+	 */
+	private TimerWheel							expirations;
+
+	/**
+	 * Whether last access timeouts expire entries
+	 */
+	private boolean								useLastAccessTimeouts;
 
 	/**
 	 * Constructor
@@ -69,7 +97,10 @@ public class ConcurrentStore extends AbstractStore {
 
 		// ConcurrentHashMap constructor: initialCapacity, loadFactor, concurrencyLevel
 		// Using default load factor (0.75) and calculated initial capacity
-		this.pool = new ConcurrentHashMap<>( initialCapacity );
+		this.pool					= new ConcurrentHashMap<>( initialCapacity );
+		this.evictionIndex			= getPolicy().newEvictionIndex( maxObjects );
+		this.expirations			= new TimerWheel( System.currentTimeMillis() );
+		this.useLastAccessTimeouts	= BooleanCaster.cast( config.getOrDefault( Key.useLastAccessTimeouts, true ) );
 
 		return this;
 	}
@@ -95,7 +126,7 @@ public class ConcurrentStore extends AbstractStore {
 	 * object saving. This method is called when the cache provider is stopped.
 	 */
 	public void shutdown() {
-		getPool().clear();
+		clearAll();
 	}
 
 	/**
@@ -119,6 +150,12 @@ public class ConcurrentStore extends AbstractStore {
 		if ( evictCount == 0 ) {
 			return;
 		}
+
+		if ( this.evictionIndex != null ) {
+			evictFromIndex( evictCount );
+			return;
+		}
+
 		getPool().entrySet()
 		    // Stream it
 		    .parallelStream()
@@ -130,11 +167,56 @@ public class ConcurrentStore extends AbstractStore {
 		    .limit( evictCount )
 		    // Evict it & Log Stats
 		    .forEach( entry -> {
-			    getPool().remove( entry.getKey() );
-			    getProvider().getStats().recordEviction();
+			    if ( removeEntry( entry.getKey(), this.expirations::cancel ) ) {
+				    getProvider().getStats().recordEviction();
+			    }
 		    } );
 	}
 
+	/**
+	 * Evict using the eviction index, which hands out the victims in order without looking at the rest of the pool
+	 *
+	 * @param evictCount The number of objects to evict
+	 */
+	private void evictFromIndex( int evictCount ) {
+		List<Key>	stale	= new ArrayList<>();
+		List<Key>	victims	= this.evictionIndex.selectVictims( evictCount, key -> {
+								ICacheEntry entry = getPool().get( key );
+								if ( entry == null ) {
+									stale.add( key );
+									return false;
+								}
+								// Exclude eternal objects from eviction
+								return !entry.isEternal();
+							} );
+
+		for ( Key key : victims ) {
+			// The index already forgot the victims
+			if ( removeEntry( key, this.expirations::cancel ) ) {
+				getProvider().getStats().recordEviction();
+			}
+		}
+
+		// Keys that left the pool while their removal was being recorded, forget them unless they were set again since
+		for ( Key key : stale ) {
+			getPool().compute( key, ( k, entry ) -> {
+				if ( entry == null ) {
+					this.evictionIndex.recordRemoval( k );
+				}
+				return entry;
+			} );
+		}
+	}
+
+	/**
+	 * Get the eviction index of the store
+	 *
+	 * @return The eviction index, or null if the policy doesn't provide one
+	 */
+	public IEvictionIndex getEvictionIndex() {
+		return this.evictionIndex;
+	}
+
 	/**
 	 * Get the size of the store, not the size in bytes but the number of objects in the store
 	 */
@@ -146,7 +228,8 @@ public class ConcurrentStore extends AbstractStore {
 	 * Clear all the elements in the store
 	 */
 	public void clearAll() {
-		getPool().clear();
+		// Key by key, so the entries set while we clear keep their index and schedule
+		getPool().keySet().forEach( this::clear );
 	}
 
 	/**
@@ -156,7 +239,13 @@ public class ConcurrentStore extends AbstractStore {
 	 * @param filter The filter that determines which keys to clear
 	 */
 	public boolean clearAll( ICacheKeyFilter filter ) {
-		return getPool().keySet().removeIf( filter );
+		BooleanRef cleared = BooleanRef.of( false );
+		getPool().keySet().forEach( key -> {
+			if ( filter.test( key ) && clear( key ) ) {
+				cleared.set( true );
+			}
+		} );
+		return cleared.get();
 	}
 
 	/**
@@ -167,7 +256,7 @@ public class ConcurrentStore extends AbstractStore {
 	 * @return True if the object was cleared, false otherwise (if the object was not found in the store)
 	 */
 	public boolean clear( Key key ) {
-		return getPool().remove( key ) != null;
+		return removeEntry( key, this::recordRemoval );
 	}
 
 	/**
@@ -225,6 +314,33 @@ public class ConcurrentStore extends AbstractStore {
 		return getPool().keySet().stream().filter( filter );
 	}
 
+	/**
+	 * Get the keys that are due for expiration according to the expiration schedule.
+	 * Entries whose deadline moved because they were accessed are rescheduled instead.
+	 *
+	 * @param now The time of the reap
+	 *
+	 * @return A stream of keys that have expired
+	 */
+	@Override
+	public Stream<Key> getExpirationCandidates( Instant now ) {
+		long		nowMillis	= now.toEpochMilli();
+		List<Key>	candidates	= new ArrayList<>();
+		for ( Key key : this.expirations.advance( nowMillis ) ) {
+			ICacheEntry entry = getPool().get( key );
+			if ( entry == null || entry.isEternal() ) {
+				continue;
+			}
+			// Keep it scheduled until it is actually cleared, so a touch right before the reap can't lose it
+			long deadline = expiresAt( entry );
+			this.expirations.schedule( key, deadline );
+			if ( deadline < nowMillis ) {
+				candidates.add( key );
+			}
+		}
+		return candidates.stream();
+	}
+
 	/**
 	 * Check if an object is in the store
 	 *
@@ -283,6 +399,9 @@ public class ConcurrentStore extends AbstractStore {
 			results
 			    .incrementHits()
 			    .touchLastAccessed();
+			if ( this.evictionIndex != null ) {
+				this.evictionIndex.recordAccess( key );
+			}
 			// Is resetTimeoutOnAccess enabled? If so, jump up the creation time to increase the timeout
 			if ( BooleanCaster.cast( this.config.get( Key.resetTimeoutOnAccess ) ) ) {
 				results.resetCreated();
@@ -374,7 +493,17 @@ public class ConcurrentStore extends AbstractStore {
 	 * @param entry The cache entry to store
 	 */
 	public void set( Key key, ICacheEntry entry ) {
-		getPool().put( key, entry );
+		getPool().compute( key, ( k, previous ) -> {
+			if ( this.evictionIndex != null ) {
+				this.evictionIndex.recordSet( k );
+			}
+			if ( entry.isEternal() ) {
+				this.expirations.cancel( k );
+			} else {
+				this.expirations.schedule( k, expiresAt( entry ) );
+			}
+			return entry;
+		} );
 	}
 
 	/**
@@ -386,4 +515,56 @@ public class ConcurrentStore extends AbstractStore {
 		entries.forEach( ( key, value ) -> set( key, ( ICacheEntry ) value ) );
 	}
 
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Remove an entry from the pool, running the bookkeeping of the removal atomically with it
+	 *
+	 * @param key      The key to remove
+	 * @param onRemove The bookkeeping to run if the key was in the pool
+	 *
+	 * @return True if the key was in the pool
+	 */
+	private boolean removeEntry( Key key, Consumer<Key> onRemove ) {
+		BooleanRef removed = BooleanRef.of( false );
+		getPool().computeIfPresent( key, ( k, entry ) -> {
+			onRemove.accept( k );
+			removed.set( true );
+			return null;
+		} );
+		return removed.get();
+	}
+
+	/**
+	 * Forget a key that left the pool
+	 *
+	 * @param key The key removed
+	 */
+	private void recordRemoval( Key key ) {
+		if ( this.evictionIndex != null ) {
+			this.evictionIndex.recordRemoval( key );
+		}
+		this.expirations.cancel( key );
+	}
+
+	/**
+	 * Calculate the time an entry expires at, as long as it isn't accessed again.
+	 * Accesses only ever push this further, so the schedule never needs to be updated on a hit.
+	 *
+	 * @param entry The entry
+	 *
+	 * @return The expiration time in milliseconds
+	 */
+	private long expiresAt( ICacheEntry entry ) {
+		long deadline = entry.created().toEpochMilli() + entry.timeout() * 1000;
+		if ( this.useLastAccessTimeouts && entry.lastAccessTimeout() > 0 ) {
+			deadline = Math.min( deadline, entry.lastAccessed().toEpochMilli() + entry.lastAccessTimeout() * 1000 );
+		}
+		return deadline;
+	}
+
 }
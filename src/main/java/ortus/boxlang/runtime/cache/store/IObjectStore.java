@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.runtime.cache.store;
 
+import java.time.Instant;
 import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.cache.ICacheEntry;
@@ -158,6 +159,19 @@ public interface IObjectStore {
 	 */
 	public Stream<Key> getKeysStream( ICacheKeyFilter filter );
 
+	/**
+	 * Get the keys the reaper should look at for expiration. Stores that track when their entries expire can return
+	 * only the entries that are due, the rest return all of their keys. The reaper verifies every candidate, so
+	 * returning extra keys is safe.
+	 *
+	 * @param now The time of the reap
+	 *
+	 * @return A stream of keys that may have expired
+	 */
+	default Stream<Key> getExpirationCandidates( Instant now ) {
+		return getKeysStream();
+	}
+
 	/**
 	 * Check if an object is in the store
 	 *
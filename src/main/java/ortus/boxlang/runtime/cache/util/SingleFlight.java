@@ -0,0 +1,114 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same work.
+ * <p>
+ * The first caller for a key becomes the leader and runs the work, every caller arriving with the same key while it
+ * runs waits for the leader and gets its result instead of running the work again. Each key has its own in-flight
+ * future, so unrelated keys never wait on each other, and waiting parks the thread instead of holding a monitor, which
+ * keeps virtual threads off their carrier.
+ * <p>
+ * If the leader fails, the waiting callers don't inherit its exception. They try again and one of them becomes the new
+ * leader, which matches what they would have done had they arrived a moment later. A leader calling back into the same
+ * key runs the work directly instead of waiting on itself.
+ */
+public class SingleFlight {
+
+	/**
+	 * An execution in progress
+	 *
+	 * @param leader The thread running the work
+	 * @param result The result of the work
+	 */
+	private record Flight( Thread leader, CompletableFuture<Object> result ) {
+	}
+
+	/**
+	 * The executions in progress by key
+	 */
+	private final ConcurrentHashMap<Object, Flight> flights = new ConcurrentHashMap<>();
+
+	/**
+	 * Run the work, or wait for the execution in progress for the same key and share its result.
+	 *
+	 * @param <T>  The result type
+	 * @param key  The key that identifies the work
+	 * @param work The work to run
+	 *
+	 * @return The result of the work
+	 */
+	@SuppressWarnings( "unchecked" )
+	public <T> T execute( Object key, Supplier<T> work ) {
+		while ( true ) {
+			Flight	mine		= new Flight( Thread.currentThread(), new CompletableFuture<>() );
+			Flight	existing	= this.flights.putIfAbsent( key, mine );
+
+			if ( existing == null ) {
+				return lead( key, mine, work );
+			}
+			// Re-entrant call from the leader, waiting would deadlock
+			if ( existing.leader() == Thread.currentThread() ) {
+				return work.get();
+			}
+			try {
+				return ( T ) existing.result().join();
+			} catch ( CompletionException e ) {
+				// The leader failed, try again
+			}
+		}
+	}
+
+	/**
+	 * Get the number of executions in progress
+	 *
+	 * @return The number of keys currently being executed
+	 */
+	public int size() {
+		return this.flights.size();
+	}
+
+	/**
+	 * Run the work as the leader of a flight and hand the outcome to the waiting callers
+	 *
+	 * @param key    The key of the flight
+	 * @param flight The flight
+	 * @param work   The work
+	 *
+	 * @return The result of the work
+	 */
+	private <T> T lead( Object key, Flight flight, Supplier<T> work ) {
+		try {
+			T result = work.get();
+			flight.result().complete( result );
+			return result;
+		} catch ( Throwable e ) {
+			flight.result().completeExceptionally( e );
+			throw e;
+		} finally {
+			this.flights.remove( key, flight );
+		}
+	}
+
+}
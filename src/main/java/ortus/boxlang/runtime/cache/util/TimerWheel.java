@@ -0,0 +1,290 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * A hierarchical timing wheel of cache keys ordered by the time they are due to expire.
+ * <p>
+ * The wheel has {@link #LEVELS} levels of {@link #SLOTS} slots each. A slot of the first level spans one tick of
+ * {@link #TICK_MILLIS}, and every level above spans {@link #SLOTS} times more time per slot, so four levels cover
+ * roughly six months with one second precision. Keys further away than that wait in the last level and are looked at
+ * again when their slot comes around.
+ * <p>
+ * Scheduling and cancelling are O(1). {@link #advance(long)} only visits the slots the clock moved through since the
+ * last call: keys in a lower level slot are due, keys in a higher level slot move down to a finer level. So the cost of
+ * finding expired keys follows the number of keys about to expire, not the number of keys in the cache.
+ */
+public class TimerWheel {
+
+	/**
+	 * The precision of the wheel
+	 */
+	public static final long			TICK_MILLIS	= 1000;
+
+	/**
+	 * The number of slots per level, a power of two
+	 */
+	private static final int			SLOTS		= 64;
+
+	/**
+	 * The number of bits to shift a tick by to get the slot of the next level
+	 */
+	private static final int			SLOT_BITS	= 6;
+
+	/**
+	 * The number of levels
+	 */
+	private static final int			LEVELS		= 4;
+
+	/**
+	 * The furthest tick the last level can tell apart
+	 */
+	private static final long			MAX_DELTA	= ( 1L << ( SLOT_BITS * LEVELS ) ) - 1;
+
+	/**
+	 * A scheduled key, linked into the slot it lives in
+	 */
+	private static final class Node {
+
+		Key		key;
+		long	deadline;
+		Node	previous;
+		Node	next;
+
+		Node( Key key ) {
+			this.key		= key;
+			this.previous	= this;
+			this.next		= this;
+		}
+	}
+
+	/**
+	 * The slot heads, one sentinel per slot per level
+	 */
+	private final Node[]				slots		= new Node[ SLOTS * LEVELS ];
+
+	/**
+	 * The node of every scheduled key
+	 */
+	private final Map<Key, Node>		nodes		= new HashMap<>();
+
+	/**
+	 * Guards the slots and the nodes
+	 */
+	private final ReentrantLock			lock		= new ReentrantLock();
+
+	/**
+	 * The tick the wheel was last advanced to
+	 */
+	private long						currentTick;
+
+	/**
+	 * Constructor
+	 *
+	 * @param nowMillis The current time in milliseconds
+	 */
+	public TimerWheel( long nowMillis ) {
+		for ( int i = 0; i < this.slots.length; i++ ) {
+			this.slots[ i ] = new Node( null );
+		}
+		this.currentTick = nowMillis / TICK_MILLIS;
+	}
+
+	/**
+	 * Schedule a key, replacing its previous deadline if it was already scheduled
+	 *
+	 * @param key            The key
+	 * @param deadlineMillis The time in milliseconds the key expires at
+	 */
+	public void schedule( Key key, long deadlineMillis ) {
+		this.lock.lock();
+		try {
+			Node node = this.nodes.get( key );
+			if ( node == null ) {
+				node = new Node( key );
+				this.nodes.put( key, node );
+			} else {
+				unlink( node );
+			}
+			node.deadline = deadlineMillis;
+			link( node );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Stop tracking a key
+	 *
+	 * @param key The key
+	 */
+	public void cancel( Key key ) {
+		this.lock.lock();
+		try {
+			Node node = this.nodes.remove( key );
+			if ( node != null ) {
+				unlink( node );
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Stop tracking all keys
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			for ( Node head : this.slots ) {
+				head.previous	= head;
+				head.next		= head;
+			}
+			this.nodes.clear();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Move the wheel forward and take out the keys whose deadline has passed.
+	 *
+	 * @param nowMillis The current time in milliseconds
+	 *
+	 * @return The keys that are due, which are no longer tracked by the wheel
+	 */
+	public List<Key> advance( long nowMillis ) {
+		List<Key> due = new ArrayList<>();
+		this.lock.lock();
+		try {
+			long nowTick = nowMillis / TICK_MILLIS;
+			if ( nowTick <= this.currentTick ) {
+				return due;
+			}
+
+			// Take out every slot the clock moved through, on every level
+			Node pending = new Node( null );
+			for ( int level = 0; level < LEVELS; level++ ) {
+				int		shift		= SLOT_BITS * level;
+				long	fromSlot	= ( this.currentTick >> shift ) + 1;
+				long	toSlot		= nowTick >> shift;
+				if ( toSlot < fromSlot ) {
+					break;
+				}
+				long count = Math.min( toSlot - fromSlot + 1, SLOTS );
+				for ( long slot = fromSlot; slot < fromSlot + count; slot++ ) {
+					moveAll( this.slots[ level * SLOTS + ( int ) ( slot & ( SLOTS - 1 ) ) ], pending );
+				}
+			}
+			this.currentTick = nowTick;
+
+			// The due ones leave the wheel, the rest cascade into a finer slot
+			Node node = pending.next;
+			while ( node != pending ) {
+				Node next = node.next;
+				if ( node.deadline <= nowMillis ) {
+					this.nodes.remove( node.key );
+					due.add( node.key );
+				} else {
+					link( node );
+				}
+				node = next;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		return due;
+	}
+
+	/**
+	 * Get the number of scheduled keys
+	 *
+	 * @return The number of keys in the wheel
+	 */
+	public int size() {
+		this.lock.lock();
+		try {
+			return this.nodes.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Link a node into the slot for its deadline
+	 *
+	 * @param node The node
+	 */
+	private void link( Node node ) {
+		// Anything already due fires on the next tick
+		long	target	= Math.max( node.deadline / TICK_MILLIS, this.currentTick + 1 );
+		long	delta	= Math.min( target - this.currentTick, MAX_DELTA );
+		target = this.currentTick + delta;
+
+		int level = 0;
+		while ( level < LEVELS - 1 && delta >= ( 1L << ( SLOT_BITS * ( level + 1 ) ) ) ) {
+			level++;
+		}
+		Node head = this.slots[ level * SLOTS + ( int ) ( ( target >> ( SLOT_BITS * level ) ) & ( SLOTS - 1 ) ) ];
+		node.previous		= head.previous;
+		node.next			= head;
+		head.previous.next	= node;
+		head.previous		= node;
+	}
+
+	/**
+	 * Take a node out of its slot
+	 *
+	 * @param node The node
+	 */
+	private static void unlink( Node node ) {
+		node.previous.next	= node.next;
+		node.next.previous	= node.previous;
+		node.previous		= node;
+		node.next			= node;
+	}
+
+	/**
+	 * Move all the nodes of a slot to another list
+	 *
+	 * @param from The slot head to empty
+	 * @param to   The head of the list to append to
+	 */
+	private static void moveAll( Node from, Node to ) {
+		if ( from.next == from ) {
+			return;
+		}
+		Node first = from.next;
+		Node last = from.previous;
+		first.previous		= to.previous;
+		to.previous.next	= first;
+		last.next			= to;
+		to.previous			= last;
+		from.previous		= from;
+		from.next			= from;
+	}
+
+}
@@ -416,7 +416,7 @@ public class BoxRepl {
 
 			// Execute the code
 			Object		result				= scriptRunnable.invoke( scriptingContext );
-			boolean		hadBufferContent	= scriptingContext.getBuffer().length() > 0;
+			boolean		hadBufferContent	= scriptingContext.getOutputBuffer().length() > 0;
 
 			// Flush any buffered output
 			scriptingContext.flushBuffer( false );
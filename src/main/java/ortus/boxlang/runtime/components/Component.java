@@ -26,6 +26,7 @@ import ortus.boxlang.runtime.services.FunctionService;
 import ortus.boxlang.runtime.services.InterceptorService;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.OutputBuffer;
 
 /**
  * Base class for all Components. Components are invoked by the runtime from a template or script.
@@ -231,7 +232,7 @@ public abstract class Component {
 	 * @return A BodyResult object which describes the result of the body processing
 	 */
 	public BodyResult processBody( IBoxContext context, ComponentBody body ) {
-		return processBody( context, body, null );
+		return processBody( context, body, ( OutputBuffer ) null );
 	}
 
 	/**
@@ -244,6 +245,19 @@ public abstract class Component {
 	 * @return A BodyResult object which describes the result of the body processing
 	 */
 	public BodyResult processBody( IBoxContext context, ComponentBody body, StringBuffer buffer ) {
+		return processBody( context, body, buffer == null ? null : OutputBuffer.wrap( buffer ) );
+	}
+
+	/**
+	 * Process the body of the component while capturing the output into a provided buffer.
+	 *
+	 * @param context The context in which the body is being processed
+	 * @param body    The body to process
+	 * @param buffer  The buffer to capture the output into
+	 *
+	 * @return A BodyResult object which describes the result of the body processing
+	 */
+	public BodyResult processBody( IBoxContext context, ComponentBody body, OutputBuffer buffer ) {
 		String		bufferResult	= null;
 		BodyResult	returnValue		= DEFAULT_RETURN;
 		if ( body != null ) {
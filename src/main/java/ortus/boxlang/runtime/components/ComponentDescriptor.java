@@ -26,6 +26,7 @@ import ortus.boxlang.runtime.components.Component.BodyResult;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.loader.RegistryIndex;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.InterceptorService;
 import ortus.boxlang.runtime.types.IStruct;
@@ -65,9 +66,23 @@ public class ComponentDescriptor {
 	public boolean					autoEvaluateBodyExpressions;
 
 	/**
-	 * component class
+	 * component class, lazily loaded when the descriptor comes from the registry index
+	 *
+	 * @deprecated Since 1.13.0 Use {@link #getComponentClass()} instead. This is null until the component is first used
+	 *             when the descriptor comes from the registry index.
+	 */
+	@Deprecated
+	public volatile Class<?>		componentClass;
+
+	/**
+	 * component class name, used to load the class on first use
+	 */
+	private String					componentClassName;
+
+	/**
+	 * The class loader to load the component class with
 	 */
-	public Class<?>					componentClass;
+	private ClassLoader				classLoader;
 
 	/**
 	 * Module name, or null if core
@@ -132,6 +147,8 @@ public class ComponentDescriptor {
 	    boolean autoEvaluateBodyExpressions ) {
 		this.name							= name;
 		this.componentClass					= componentClass;
+		this.componentClassName				= componentClass.getName();
+		this.classLoader					= componentClass.getClassLoader();
 		this.module							= module;
 		this.componentInstance				= componentInstance;
 		this.allowsBody						= allowsBody;
@@ -140,6 +157,63 @@ public class ComponentDescriptor {
 		this.autoEvaluateBodyExpressions	= autoEvaluateBodyExpressions;
 	}
 
+	/**
+	 * Constructor for a component whose class is loaded on first use, such as the ones from the {@link RegistryIndex}
+	 *
+	 * @param name                        The name of the component
+	 * @param componentClassName          The class name of the component
+	 * @param classLoader                 The class loader to load the component class with
+	 * @param module                      The module name, or null if core
+	 * @param allowsBody                  Whether the component allows a body
+	 * @param requiresBody                Whether the component requires a body
+	 * @param ignoreEnableOutputOnly      Whether to ignore setting enableOutputOnly
+	 * @param autoEvaluateBodyExpressions Automatically evaluate interpolated expressions in component body
+	 */
+	public ComponentDescriptor(
+	    Key name,
+	    String componentClassName,
+	    ClassLoader classLoader,
+	    String module,
+	    Boolean allowsBody,
+	    Boolean requiresBody,
+	    boolean ignoreEnableOutputOnly,
+	    boolean autoEvaluateBodyExpressions ) {
+		this.name							= name;
+		this.componentClassName				= componentClassName;
+		this.classLoader					= classLoader;
+		this.module							= module;
+		this.allowsBody						= allowsBody;
+		this.requiresBody					= requiresBody;
+		this.ignoreEnableOutputOnly			= ignoreEnableOutputOnly;
+		this.autoEvaluateBodyExpressions	= autoEvaluateBodyExpressions;
+	}
+
+	/**
+	 * Get the component class and lazily load it if needed
+	 *
+	 * @return The component class
+	 */
+	public Class<?> getComponentClass() {
+		if ( this.componentClass == null ) {
+			synchronized ( this ) {
+				// Double check inside lock
+				if ( this.componentClass == null ) {
+					this.componentClass = RegistryIndex.loadClass( this.componentClassName, this.classLoader );
+				}
+			}
+		}
+		return this.componentClass;
+	}
+
+	/**
+	 * Get the component class name without loading the class
+	 *
+	 * @return The fully qualified component class name
+	 */
+	public String getComponentClassName() {
+		return this.componentClassName;
+	}
+
 	/**
 	 * Descriptor belongs to a modules or not
 	 *
@@ -192,7 +266,7 @@ public class ComponentDescriptor {
 				// Double check inside lock
 				if ( this.componentInstance == null ) {
 
-					this.componentInstance = ( ( Component ) DynamicObject.of( this.componentClass )
+					this.componentInstance = ( ( Component ) DynamicObject.of( getComponentClass() )
 					    .invokeConstructor( ( IBoxContext ) null, new Object[] {} )
 					    .getTargetInstance() )
 					    .setName( name )
@@ -106,7 +106,7 @@ public class StoredProc extends Component {
 		executionState.put( Key.queryParams, params );
 		executionState.put( Key.procResult, procResults );
 
-		BodyResult bodyResult = processBody( context, body, null );
+		BodyResult bodyResult = processBody( context, body );
 
 		// If there was a return statement inside our body, we early exit now
 		if ( bodyResult.isEarlyExit() ) {
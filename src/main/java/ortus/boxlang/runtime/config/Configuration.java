@@ -46,6 +46,7 @@ import ortus.boxlang.runtime.config.segments.LoggingConfig;
 import ortus.boxlang.runtime.config.segments.ModuleConfig;
 import ortus.boxlang.runtime.config.segments.SchedulerConfig;
 import ortus.boxlang.runtime.config.segments.SecurityConfig;
+import ortus.boxlang.runtime.config.segments.WarmupConfig;
 import ortus.boxlang.runtime.config.segments.WatcherConfig;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -116,6 +117,14 @@ public class Configuration implements IConfigSegment {
 	public String																classGenerationDirectory		= System.getProperty( "java.io.tmpdir" )
 	    + "boxlang";
 
+	/**
+	 * An optional packed class archive built by {@code BXCompiler --archive}.
+	 * Classes found in the archive are memory mapped and loaded from it instead of
+	 * being compiled or read from the {@code classGenerationDirectory}.
+	 * Empty by default
+	 */
+	public String																classArchive					= "";
+
 	/**
 	 * This setting if enabled will remove all the class files in the
 	 * {@code classGenerationDirectory} on startup
@@ -366,6 +375,11 @@ public class Configuration implements IConfigSegment {
 	 */
 	public WatcherConfig														watcher							= new WatcherConfig();
 
+	/**
+	 * The startup warmup compilation configuration
+	 */
+	public WarmupConfig															warmup							= new WarmupConfig();
+
 	/**
 	 * The security configuration
 	 */
@@ -418,7 +432,7 @@ public class Configuration implements IConfigSegment {
 	public Configuration process( IStruct config ) {
 
 		// Store original config
-		this.originalConfig.addAll( config.getWrapped() );
+		this.originalConfig.addAll( config.getWrappedReadOnly() );
 
 		// Debug Mode || Debbuging Enabled (cfconfig)
 		if ( config.containsKey( Key.debugMode ) ) {
@@ -458,6 +472,11 @@ public class Configuration implements IConfigSegment {
 			this.classGenerationDirectory = config.getAsString( Key.classGenerationDirectory );
 		}
 
+		// Class Archive
+		if ( config.containsKey( Key.classArchive ) ) {
+			this.classArchive = config.getAsString( Key.classArchive );
+		}
+
 		// Compiler
 		if ( config.containsKey( Key.compiler ) ) {
 			this.compiler = config.getAsString( Key.compiler );
@@ -805,6 +824,11 @@ public class Configuration implements IConfigSegment {
 			watcher.process( StructCaster.cast( config.get( Key.watcher ) ) );
 		}
 
+		// Process our warmup configuration
+		if ( config.containsKey( Key.warmup ) ) {
+			warmup.process( StructCaster.cast( config.get( Key.warmup ) ) );
+		}
+
 		// Process our logging configuration
 		if ( config.containsKey( Key.logging ) ) {
 			logging.process( StructCaster.cast( config.get( Key.logging ) ) );
@@ -1157,6 +1181,7 @@ public class Configuration implements IConfigSegment {
 		return Struct.ofNonConcurrent(
 		    Key.applicationTimeout, this.applicationTimeout,
 		    Key.caches, cachesCopy,
+		    Key.classArchive, this.classArchive,
 		    Key.classGenerationDirectory, this.classGenerationDirectory,
 		    Key.clearClassFilesOnStartup, this.clearClassFilesOnStartup,
 		    Key.customComponentsDirectory, Array.copyFromList( this.customComponentsDirectory ),
@@ -1188,6 +1213,7 @@ public class Configuration implements IConfigSegment {
 		    Key.security, this.security.asStruct(),
 		    Key.scheduler, this.scheduler.asStruct(),
 		    Key.watcher, this.watcher.asStruct(),
+		    Key.warmup, this.warmup.asStruct(),
 		    Key.timezone, this.timezone,
 		    Key.trustedCache, this.trustedCache,
 		    Key.enableNestedTransactions, this.enableNestedTransactions,
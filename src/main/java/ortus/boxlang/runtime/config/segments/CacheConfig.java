@@ -62,7 +62,7 @@ public class CacheConfig {
 	    // How many to evict at a time once a policy is triggered
 	    "evictCount", 1,
 	    // The eviction policy to use: Least Recently Used
-	    // Other policies are: LRU, LFU, FIFO, LIFO, RANDOM
+	    // Other policies are: LRU, LFU, FIFO, LIFO, RANDOM, WTinyLFU
 	    "evictionPolicy", "LRU",
 	    // The free memory percentage threshold to trigger eviction
 	    // 0 = disabled, 1-100 = percentage of available free memory in heap
@@ -0,0 +1,123 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.config.segments;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ortus.boxlang.runtime.config.util.PropertyHelper;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Configuration segment for the {@code warmup} top-level key in {@code boxlang.json}.
+ * <p>
+ * When enabled, the runtime compiles every matching source file under the configured mappings, paths and modules
+ * during startup, so the first requests after a deploy don't have to wait on the compiler.
+ * </p>
+ */
+public class WarmupConfig implements IConfigSegment {
+
+	/**
+	 * Whether to compile the sources at startup. {@code false} by default.
+	 */
+	public Boolean		enabled		= false;
+
+	/**
+	 * The names of the mappings whose directories are compiled, e.g. {@code [ "/", "/models" ]}.
+	 * Files are compiled as if they were reached through the mapping.
+	 */
+	public List<String>	mappings	= new ArrayList<>();
+
+	/**
+	 * Extra directories to compile. A directory inside a registered mapping is compiled through that mapping.
+	 */
+	public List<String>	paths		= new ArrayList<>();
+
+	/**
+	 * Whether to also compile the sources of every loaded module.
+	 */
+	public Boolean		modules		= false;
+
+	/**
+	 * Glob patterns, relative to each directory, of the files to compile. Empty means every file. Only the files with a
+	 * valid class or template extension are compiled either way.
+	 */
+	public List<String>	includes	= new ArrayList<>();
+
+	/**
+	 * Glob patterns, relative to each directory, of the files to skip, e.g. {@code [ "tests/**" ]}.
+	 */
+	public List<String>	excludes	= new ArrayList<>();
+
+	/**
+	 * How many files to compile at once. 0 uses one thread per available processor.
+	 */
+	public Integer		maxThreads	= 0;
+
+	/**
+	 * Default constructor.
+	 */
+	public WarmupConfig() {
+	}
+
+	/**
+	 * Process the configuration struct, overriding defaults with any values present.
+	 *
+	 * @param config the configuration struct
+	 *
+	 * @return this config segment
+	 */
+	@Override
+	public IConfigSegment process( IStruct config ) {
+		this.enabled	= PropertyHelper.processBoolean( config, Key.enabled, this.enabled );
+		this.modules	= PropertyHelper.processBoolean( config, Key.modules, this.modules );
+		this.maxThreads	= PropertyHelper.processInteger( config, Key.maxThreads, this.maxThreads );
+		PropertyHelper.processStringOrArrayToList( config, Key.mappings, this.mappings );
+		PropertyHelper.processStringOrArrayToList( config, Key.paths, this.paths );
+		// Patterns replace the previous ones instead of adding to them, so an override can narrow them down
+		if ( config.containsKey( Key.includes ) ) {
+			this.includes.clear();
+			PropertyHelper.processStringOrArrayToList( config, Key.includes, this.includes );
+		}
+		if ( config.containsKey( Key.excludes ) ) {
+			this.excludes.clear();
+			PropertyHelper.processStringOrArrayToList( config, Key.excludes, this.excludes );
+		}
+		return this;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public IStruct asStruct() {
+		return Struct.ofNonConcurrent(
+		    Key.enabled, this.enabled,
+		    Key.mappings, Array.fromList( this.mappings ),
+		    Key.paths, Array.fromList( this.paths ),
+		    Key.modules, this.modules,
+		    Key.includes, Array.fromList( this.includes ),
+		    Key.excludes, Array.fromList( this.excludes ),
+		    Key.maxThreads, this.maxThreads
+		);
+	}
+
+}
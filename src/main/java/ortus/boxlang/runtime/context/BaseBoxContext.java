@@ -64,6 +64,7 @@ import ortus.boxlang.runtime.util.DataNavigator;
 import ortus.boxlang.runtime.util.DataNavigator.Navigator;
 import ortus.boxlang.runtime.util.FileSystemUtil;
 import ortus.boxlang.runtime.util.IBoxAttachable;
+import ortus.boxlang.runtime.util.OutputBuffer;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
 
 /**
@@ -121,7 +122,7 @@ public class BaseBoxContext implements IBoxContext {
 	/**
 	 * A buffer to write output to
 	 */
-	private ArrayDeque<StringBuffer>						buffers					= null;
+	private ArrayDeque<OutputBuffer>						buffers					= null;
 
 	/**
 	 * The function service we can use to retrieve BIFS and member methods
@@ -1185,7 +1186,28 @@ public class BaseBoxContext implements IBoxContext {
 		// Waiting on ESAPI implementation
 		// }
 
-		getBuffer().append( content );
+		OutputBuffer buffer = getOutputBuffer();
+		// Thread contexts may flush into us from other threads
+		synchronized ( buffer ) {
+			buffer.append( content );
+		}
+		return this;
+	}
+
+	/**
+	 * Move the content of a child context's buffer to the end of this context's buffer, leaving the child's buffer
+	 * empty. The chunks of the child's buffer are linked to ours, not copied.
+	 *
+	 * @param buffer The buffer to empty into this context
+	 *
+	 * @return This context
+	 */
+	@Override
+	public IBoxContext transferToBuffer( OutputBuffer buffer ) {
+		OutputBuffer thisBuffer = getOutputBuffer();
+		synchronized ( thisBuffer ) {
+			thisBuffer.transferFrom( buffer );
+		}
 		return this;
 	}
 
@@ -1228,19 +1250,17 @@ public class BaseBoxContext implements IBoxContext {
 		// If there are extra buffers registered, we ignore flush requests since someone
 		// out there is wanting to capture our buffer instead.
 		if ( hasParent() && this.buffers.size() == 1 ) {
-			StringBuffer thisBuffer = getBuffer();
+			OutputBuffer thisBuffer = getOutputBuffer();
 			synchronized ( thisBuffer ) {
-				getParent().writeToBuffer( thisBuffer.toString(), true );
-				thisBuffer.setLength( 0 );
+				getParent().transferToBuffer( thisBuffer );
 			}
 			if ( force ) {
 				getParent().flushBuffer( true );
 			}
 		} else if ( force && hasParent() ) {
-			for ( StringBuffer buf : this.buffers ) {
+			for ( OutputBuffer buf : _getOutputBuffers() ) {
 				synchronized ( buf ) {
-					getParent().writeToBuffer( buf.toString(), true );
-					buf.setLength( 0 );
+					getParent().transferToBuffer( buf );
 				}
 			}
 			getParent().flushBuffer( true );
@@ -1254,7 +1274,10 @@ public class BaseBoxContext implements IBoxContext {
 	 * @return This context
 	 */
 	public IBoxContext clearBuffer() {
-		getBuffer().setLength( 0 );
+		OutputBuffer buffer = getOutputBuffer();
+		synchronized ( buffer ) {
+			buffer.clear();
+		}
 		if ( hasParent() ) {
 			getParent().clearBuffer();
 		}
@@ -1264,25 +1287,61 @@ public class BaseBoxContext implements IBoxContext {
 	/**
 	 * Lazy create the buffers
 	 */
-	protected ArrayDeque<StringBuffer> _getBuffers() {
+	protected ArrayDeque<OutputBuffer> _getOutputBuffers() {
 		if ( this.buffers == null ) {
 			synchronized ( this ) {
 				if ( this.buffers == null ) {
 					this.buffers = new ArrayDeque<>();
-					this.buffers.push( new StringBuffer() );
+					this.buffers.push( new OutputBuffer() );
 				}
 			}
 		}
 		return this.buffers;
 	}
 
+	/**
+	 * Get the buffers as StringBuffers. Writing to the StringBuffers writes to the buffers, but pushing or popping
+	 * them on the returned stack doesn't change the buffers of this context.
+	 *
+	 * @return A copy of the stack of buffers
+	 *
+	 * @deprecated Use {@link #_getOutputBuffers()} instead. Every buffer switches to a StringBuffer when this is called.
+	 */
+	@Deprecated
+	protected ArrayDeque<StringBuffer> _getBuffers() {
+		ArrayDeque<StringBuffer> stringBuffers = new ArrayDeque<>();
+		for ( OutputBuffer buffer : _getOutputBuffers() ) {
+			synchronized ( buffer ) {
+				stringBuffers.addLast( buffer.toStringBuffer() );
+			}
+		}
+		return stringBuffers;
+	}
+
 	/**
 	 * Get the buffer
 	 *
 	 * @return The buffer
+	 *
+	 * @deprecated Use {@link #getOutputBuffer()} instead
 	 */
+	@Deprecated
+	@Override
 	public StringBuffer getBuffer() {
-		return _getBuffers().peek();
+		OutputBuffer buffer = getOutputBuffer();
+		synchronized ( buffer ) {
+			return buffer.toStringBuffer();
+		}
+	}
+
+	/**
+	 * Get the output buffer
+	 *
+	 * @return The buffer
+	 */
+	@Override
+	public OutputBuffer getOutputBuffer() {
+		return _getOutputBuffers().peek();
 	}
 
 	/**
@@ -1293,8 +1352,22 @@ public class BaseBoxContext implements IBoxContext {
 	 *
 	 * @return This context
 	 */
+	@Override
 	public IBoxContext pushBuffer( StringBuffer buffer ) {
-		_getBuffers().push( buffer );
+		return pushBuffer( OutputBuffer.wrap( buffer ) );
+	}
+
+	/**
+	 * Push an output buffer onto the stack. This is mostly so components can capture any
+	 * output generated in their body
+	 *
+	 * @param buffer The buffer to push
+	 *
+	 * @return This context
+	 */
+	@Override
+	public IBoxContext pushBuffer( OutputBuffer buffer ) {
+		_getOutputBuffers().push( buffer );
 		return this;
 	}
 
@@ -1304,7 +1377,7 @@ public class BaseBoxContext implements IBoxContext {
 	 * @return This context
 	 */
 	public IBoxContext popBuffer() {
-		_getBuffers().pop();
+		_getOutputBuffers().pop();
 		return this;
 	}
 
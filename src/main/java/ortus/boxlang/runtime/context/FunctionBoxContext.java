@@ -28,12 +28,14 @@ import ortus.boxlang.runtime.runnables.BoxClassSupport;
 import ortus.boxlang.runtime.runnables.BoxInterface;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.BaseScope;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.LocalScope;
 import ortus.boxlang.runtime.scopes.StaticScope;
 import ortus.boxlang.runtime.scopes.ThisScope;
 import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Closure;
 import ortus.boxlang.runtime.types.Function;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
@@ -117,7 +119,7 @@ public class FunctionBoxContext extends BaseBoxContext {
 	 *
 	 */
 	public FunctionBoxContext( IBoxContext parent, Function function, Key functionCalledName ) {
-		this( parent, function, functionCalledName, new ArgumentsScope() );
+		this( parent, function, functionCalledName, new ArgumentsScope( function.getArguments().length ) );
 	}
 
 	/**
@@ -175,7 +177,7 @@ public class FunctionBoxContext extends BaseBoxContext {
 			throw new BoxRuntimeException( "function cannot be null for FunctionBoxContext" );
 		}
 		this.localScope			= new LocalScope();
-		this.argumentsScope		= new ArgumentsScope();
+		this.argumentsScope		= new ArgumentsScope( function.getArguments().length );
 		this.function			= function;
 		this.functionCalledName	= functionCalledName;
 
@@ -215,7 +217,7 @@ public class FunctionBoxContext extends BaseBoxContext {
 			throw new BoxRuntimeException( "function cannot be null for FunctionBoxContext" );
 		}
 		this.localScope			= new LocalScope();
-		this.argumentsScope		= new ArgumentsScope();
+		this.argumentsScope		= new ArgumentsScope( function.getArguments().length );
 		this.function			= function;
 		this.functionCalledName	= functionCalledName;
 		setThisClass( BoxClassSupport.resolveClassForUDF( thisClass, function ) );
@@ -289,6 +291,34 @@ public class FunctionBoxContext extends BaseBoxContext {
 		return function;
 	}
 
+	/**
+	 * Search for a variable the compiler has proven to be declared in this function, either as an argument
+	 * or with the {@code var} keyword. The local and arguments scopes are probed directly, skipping the scope
+	 * name checks that {@link #scopeFindNearby(Key, IScope, boolean, boolean)} performs first. If the variable
+	 * is not there (yet), we fall back to the regular nearby lookup so the semantics are exactly the same.
+	 * <p>
+	 * The compiler never uses this for keys which are scope names, since those must be resolved as scopes.
+	 *
+	 * @param key          The key to search for
+	 * @param defaultScope The default scope to use if the key is not found
+	 * @param forAssign    Whether the search is for an assignment
+	 *
+	 * @return The search result
+	 */
+	public ScopeSearchResult scopeFindLocal( Key key, IScope defaultScope, boolean forAssign ) {
+		Object result = localScope.getRaw( key );
+		if ( isDefined( result, forAssign ) ) {
+			return new ScopeSearchResult( localScope, Struct.unWrapNull( result ), key );
+		}
+
+		result = argumentsScope.getRaw( key );
+		if ( isDefined( result, forAssign ) ) {
+			return new ScopeSearchResult( argumentsScope, Struct.unWrapNull( result ), key );
+		}
+
+		return scopeFindNearby( key, defaultScope, false, forAssign );
+	}
+
 	/**
 	 * Search for a variable in "nearby" scopes
 	 *
@@ -868,6 +898,43 @@ public class FunctionBoxContext extends BaseBoxContext {
 		return argumentsScope;
 	}
 
+	/**
+	 * Upgrade the local and arguments scopes of this function invocation to concurrent maps
+	 * so they can be safely shared with other threads.
+	 *
+	 * @return This context
+	 */
+	public FunctionBoxContext escapeScopes() {
+		if ( this.localScope instanceof BaseScope scope ) {
+			scope.escape();
+		}
+		if ( this.argumentsScope != null ) {
+			this.argumentsScope.escape();
+		}
+		return this;
+	}
+
+	/**
+	 * Escape the function scopes of every function invocation reachable from the given context, either
+	 * through its parents or through the declaring context of closures. Call this whenever the context is
+	 * about to be made visible to another thread, like a closure being created or a thread context being
+	 * spun up, so the other thread doesn't have to escape the scopes on first use.
+	 *
+	 * @param context The context about to be shared
+	 */
+	public static void escapeScopes( IBoxContext context ) {
+		IBoxContext current = context;
+		while ( current != null ) {
+			if ( current instanceof FunctionBoxContext fbc ) {
+				fbc.escapeScopes();
+				if ( fbc.getFunction() instanceof Closure closure ) {
+					escapeScopes( closure.getDeclaringContext() );
+				}
+			}
+			current = current.getParent();
+		}
+	}
+
 	/**
 	 * Climb the parents until we reach one that is not a function call in the same class.
 	 * 
@@ -43,6 +43,7 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.ScopeNotFoundException;
 import ortus.boxlang.runtime.util.DataNavigator.Navigator;
 import ortus.boxlang.runtime.util.IBoxAttachable;
+import ortus.boxlang.runtime.util.OutputBuffer;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
 
 /**
@@ -629,12 +630,40 @@ public interface IBoxContext extends IBoxAttachable, Serializable {
 	public IBoxContext clearBuffer();
 
 	/**
-	 * Get the buffer
+	 * Move the content of a child context's buffer to the end of this context's buffer, leaving the child's buffer
+	 * empty. Contexts that keep their own buffer link its chunks instead of copying the text.
+	 *
+	 * @param buffer The buffer to empty into this context
+	 *
+	 * @return This context
+	 */
+	public default IBoxContext transferToBuffer( OutputBuffer buffer ) {
+		writeToBuffer( buffer.toString(), true );
+		buffer.clear();
+		return this;
+	}
+
+	/**
+	 * Get the buffer. Writes to the returned StringBuffer are part of the output, like before.
 	 *
 	 * @return The buffer
+	 *
+	 * @deprecated Use {@link #getOutputBuffer()} instead. To keep this contract, the current buffer switches to a
+	 *             StringBuffer the first time this is called, which stops its output from being moved to the parent
+	 *             context without copying.
 	 */
+	@Deprecated
 	public StringBuffer getBuffer();
 
+	/**
+	 * Get the output buffer
+	 *
+	 * @return The buffer
+	 */
+	public default OutputBuffer getOutputBuffer() {
+		return OutputBuffer.wrap( getBuffer() );
+	}
+
 	/**
 	 * Push a buffer onto the stack. This is mostly so components can capture any
 	 * output generated in their body
@@ -645,6 +674,18 @@ public interface IBoxContext extends IBoxAttachable, Serializable {
 	 */
 	public IBoxContext pushBuffer( StringBuffer buffer );
 
+	/**
+	 * Push an output buffer onto the stack. This is mostly so components can capture any
+	 * output generated in their body
+	 *
+	 * @param buffer The buffer to push
+	 *
+	 * @return This context
+	 */
+	public default IBoxContext pushBuffer( OutputBuffer buffer ) {
+		return pushBuffer( buffer.toStringBuffer() );
+	}
+
 	/**
 	 * Pop a buffer from the stack
 	 *
@@ -25,6 +25,7 @@ import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.UDF;
+import ortus.boxlang.runtime.util.OutputBuffer;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
 
 /**
@@ -122,16 +123,34 @@ public abstract class ParentPassthroughBoxContext extends BaseBoxContext {
 	}
 
 	@Override
+	public IBoxContext transferToBuffer( OutputBuffer buffer ) {
+		getParent().transferToBuffer( buffer );
+		return this;
+	}
+
+	@Override
+	@Deprecated
 	public StringBuffer getBuffer() {
 		return getParent().getBuffer();
 	}
 
+	@Override
+	public OutputBuffer getOutputBuffer() {
+		return getParent().getOutputBuffer();
+	}
+
 	@Override
 	public IBoxContext pushBuffer( StringBuffer buffer ) {
 		getParent().pushBuffer( buffer );
 		return this;
 	}
 
+	@Override
+	public IBoxContext pushBuffer( OutputBuffer buffer ) {
+		getParent().pushBuffer( buffer );
+		return this;
+	}
+
 	@Override
 	public IBoxContext popBuffer() {
 		getParent().popBuffer();
@@ -17,6 +17,8 @@
  */
 package ortus.boxlang.runtime.context;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.net.URI;
 import java.util.UUID;
 
@@ -30,7 +32,9 @@ import ortus.boxlang.runtime.scopes.VariablesScope;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.UDF;
+import ortus.boxlang.runtime.types.exceptions.BoxIOException;
 import ortus.boxlang.runtime.types.exceptions.ScopeNotFoundException;
+import ortus.boxlang.runtime.util.OutputBuffer;
 
 /**
  * This context represents the context of a scripting execution in BoxLang
@@ -339,7 +343,7 @@ public class ScriptingRequestBoxContext extends RequestBoxContext {
 	 */
 	@Override
 	public IBoxContext flushBuffer( boolean force ) {
-		var buffers = super._getBuffers();
+		var buffers = super._getOutputBuffers();
 
 		if ( !canOutput() && !force ) {
 			return this;
@@ -349,40 +353,51 @@ public class ScriptingRequestBoxContext extends RequestBoxContext {
 		// If there are extra buffers registered, we ignore flush requests since someone
 		// out there is wanting to capture our buffer instead.
 		if ( hasParent() && buffers.size() == 1 ) {
-			StringBuffer buffer = getBuffer();
+			OutputBuffer buffer = getOutputBuffer();
+			// Nobody needs the text, stream the chunks straight to the console
+			if ( !hasState ) {
+				synchronized ( buffer ) {
+					writeOut( buffer );
+					buffer.clear();
+				}
+				return this;
+			}
 			synchronized ( buffer ) {
 				output = buffer.toString();
 				clearBuffer();
 			}
 
-			if ( hasState ) {
-				// Announce it
-				IStruct eventData = Struct.ofNonConcurrent(
-				    Key.context, this,
-				    Key.output, output
-				);
-				runtime.getInterceptorService().announce( BoxEvent.ON_REQUEST_FLUSH_BUFFER, eventData );
-				output = eventData.getAsString( Key.output );
-			}
+			// Announce it
+			IStruct eventData = Struct.ofNonConcurrent(
+			    Key.context, this,
+			    Key.output, output
+			);
+			runtime.getInterceptorService().announce( BoxEvent.ON_REQUEST_FLUSH_BUFFER, eventData );
+			output = eventData.getAsString( Key.output );
 
 			// If a scripting context is our top-level context, we flush to the console.
 			getOut().print( output );
 		} else if ( force ) {
-			for ( StringBuffer buf : buffers ) {
+			for ( OutputBuffer buf : buffers ) {
+				if ( !hasState ) {
+					synchronized ( buf ) {
+						writeOut( buf );
+						buf.clear();
+					}
+					continue;
+				}
 				synchronized ( buf ) {
 					output = buf.toString();
-					buf.setLength( 0 );
+					buf.clear();
 				}
 
-				if ( hasState ) {
-					// Announce it
-					IStruct eventData = Struct.of(
-					    Key.context, this,
-					    Key.output, output
-					);
-					runtime.getInterceptorService().announce( BoxEvent.ON_REQUEST_FLUSH_BUFFER, eventData );
-					output = eventData.getAsString( Key.output );
-				}
+				// Announce it
+				IStruct eventData = Struct.of(
+				    Key.context, this,
+				    Key.output, output
+				);
+				runtime.getInterceptorService().announce( BoxEvent.ON_REQUEST_FLUSH_BUFFER, eventData );
+				output = eventData.getAsString( Key.output );
 
 				getOut().print( output );
 			}
@@ -390,4 +405,18 @@ public class ScriptingRequestBoxContext extends RequestBoxContext {
 		return this;
 	}
 
+	/**
+	 * Encode a buffer to the output stream
+	 *
+	 * @param buffer The buffer to write
+	 */
+	private void writeOut( OutputBuffer buffer ) {
+		PrintStream out = getOut();
+		try {
+			buffer.writeTo( out, out.charset() );
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		}
+	}
+
 }
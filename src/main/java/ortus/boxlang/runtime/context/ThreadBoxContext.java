@@ -17,7 +17,11 @@
  */
 package ortus.boxlang.runtime.context;
 
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
 import ortus.boxlang.runtime.jdbc.ConnectionManager;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
@@ -67,6 +71,8 @@ public class ThreadBoxContext extends BaseBoxContext implements IJDBCCapableCont
 	 */
 	public ThreadBoxContext( IBoxContext parent ) {
 		super( parent );
+		// Any function scopes visible through our parents are now shared with another thread
+		FunctionBoxContext.escapeScopes( parent );
 		registerShutdownListener( ( context ) -> this.doShutdown() );
 	}
 
@@ -119,6 +125,50 @@ public class ThreadBoxContext extends BaseBoxContext implements IJDBCCapableCont
 		}
 	}
 
+	/**
+	 * Prepare a context before its callbacks are dispatched to parallel workers with {@link #runInContext(IBoxContext, boolean, java.util.function.Function)}.
+	 * This is called from the thread that owns the context so any thread confined function scopes visible to the
+	 * callbacks are upgraded once, before the workers race to do it. When parallel is false, this is a no-op.
+	 *
+	 * @param parent   The parent context the workers will use
+	 * @param parallel Whether the callbacks will run in parallel
+	 */
+	public static void prepareForParallel( IBoxContext parent, Boolean parallel ) {
+		if ( Boolean.TRUE.equals( parallel ) ) {
+			FunctionBoxContext.escapeScopes( parent );
+		}
+	}
+
+	/**
+	 * Run a piece of work for every index of <code>[0, size)</code> in parallel, split in contiguous chunks. Each chunk
+	 * runs in one ThreadBoxContext which is reused for all of its indexes, instead of setting one up and tearing it down
+	 * for every index like {@link #runInContext(IBoxContext, boolean, java.util.function.Function)} does. Indexes within
+	 * a chunk run in order, but chunks run in any order. The chunks run in the pool of the calling thread, like a
+	 * parallel stream, or one after the other when a {@link ParallelExecutor} runs the work inline, see
+	 * {@link ParallelExecutor#parallel(java.util.stream.BaseStream)}.
+	 *
+	 * @param parent The parent context to use for the ThreadBoxContexts
+	 * @param size   The number of indexes
+	 * @param chunks How many chunks to split the indexes in, capped to the number of indexes
+	 * @param work   The work to run for each index, with the context of its chunk
+	 */
+	public static void runInContextChunked( IBoxContext parent, int size, int chunks, ObjIntConsumer<IBoxContext> work ) {
+		if ( size <= 0 ) {
+			return;
+		}
+		int count = Math.max( 1, Math.min( chunks, size ) );
+		ParallelExecutor.parallel( IntStream.range( 0, count ) ).forEach( chunk -> {
+			int	from	= ( int ) ( ( long ) size * chunk / count );
+			int	to		= ( int ) ( ( long ) size * ( chunk + 1 ) / count );
+			runInContext( parent, true, ctx -> {
+				for ( int idx = from; idx < to; idx++ ) {
+					work.accept( ctx, idx );
+				}
+				return null;
+			} );
+		} );
+	}
+
 	/**
 	 * Run a consumer with a given context. We will create a new ThreadBoxContext
 	 * and set it as the current context, cleaning up any JDBC connections when done.
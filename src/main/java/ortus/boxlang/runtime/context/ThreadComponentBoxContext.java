@@ -99,8 +99,11 @@ public class ThreadComponentBoxContext extends BaseBoxContext implements IJDBCCa
 		this.threadManager		= threadManager;
 		this.threadName			= threadName;
 		// Connection manager is lazy-initialized
-		this.localScope			= new LocalScope();
+		// The thread's local scope is created here but used by the thread itself, so it can't be thread confined
+		this.localScope			= new LocalScope().escape();
 		this.attributesScope	= new AttributesScope( attributes );
+		// Any function scopes visible through our parents are now shared with the thread
+		FunctionBoxContext.escapeScopes( parent );
 
 		this.variablesScope		= parent.getScopeNearby( VariablesScope.name );
 		registerShutdownListener( ( context ) -> this.doShutdown() );
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.XML;
 import ortus.boxlang.runtime.types.exceptions.BoxCastException;
@@ -85,7 +86,7 @@ public class CollectionCaster implements IBoxCaster {
 		}
 
 		if ( object instanceof IStruct str ) {
-			return str.keySet()
+			return str.keySetReadOnly()
 			    .stream()
 			    .map( k -> k.getName() )
 			    .collect( Collectors.toList() );
@@ -95,6 +96,11 @@ public class CollectionCaster implements IBoxCaster {
 			return map.keySet();
 		}
 
+		// Loops only read the array, don't make it copy a list it shares with copy-on-write copies
+		if ( object instanceof Array array ) {
+			return array.toListReadOnly();
+		}
+
 		if ( object instanceof Collection col ) {
 			return col;
 		}
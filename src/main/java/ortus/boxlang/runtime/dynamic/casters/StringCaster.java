@@ -41,6 +41,7 @@ import ortus.boxlang.runtime.types.XML;
 import ortus.boxlang.runtime.types.exceptions.BoxCastException;
 import ortus.boxlang.runtime.types.util.TypeUtil;
 import ortus.boxlang.runtime.util.FileSystemUtil;
+import ortus.boxlang.runtime.util.OutputBuffer;
 
 /**
  * I handle casting anything to a string
@@ -232,6 +233,9 @@ public class StringCaster implements IBoxCaster {
 		if ( object instanceof StringBuffer sb ) {
 			return sb.toString();
 		}
+		if ( object instanceof OutputBuffer ob ) {
+			return ob.toString();
+		}
 		if ( object instanceof byte[] b ) {
 			if ( charset != null ) {
 				return new String( b, charset );
@@ -302,6 +302,7 @@ public class DynamicInteropService {
 	 */
 	public static void clearMethodHandleCache() {
 		methodHandleCache.clear();
+		InteropCallSite.invalidateAll();
 	}
 
 	/**
@@ -552,6 +553,33 @@ public class DynamicInteropService {
 	    String methodName,
 	    Boolean safe,
 	    Object... arguments ) {
+		return invoke( context, dynamicObject, targetClass, targetInstance, methodName, safe, arguments, null );
+	}
+
+	/**
+	 * Invoke can be used to invoke public methods on instances, or static methods on classes/interfaces.
+	 * This version resolves the method through the inline cache of a compiled call site when one is available.
+	 *
+	 * @param context        The context to use for the method invocation
+	 * @param dynamicObject  The dynamic object the invocation came from, if any
+	 * @param targetClass    The Class that you want to invoke a method on
+	 * @param targetInstance The instance to call the method on, or null if it's static
+	 * @param methodName     The name of the method to invoke
+	 * @param safe           Whether the method should throw an error or return null if it doesn't exist
+	 * @param arguments      The arguments to pass to the method
+	 * @param callSite       The inline cache of the call site, or null
+	 *
+	 * @return The result of the method invocation
+	 */
+	public static Object invoke(
+	    IBoxContext context,
+	    DynamicObject dynamicObject,
+	    Class<?> targetClass,
+	    Object targetInstance,
+	    String methodName,
+	    Boolean safe,
+	    Object[] arguments,
+	    InteropCallSite callSite ) {
 		// Verify method name
 		if ( methodName == null || methodName.isEmpty() ) {
 			throw new BoxRuntimeException( "Method name cannot be null or empty." );
@@ -575,6 +603,7 @@ public class DynamicInteropService {
 			    methodName,
 			    argumentClasses,
 			    castedArgumentValues,
+			    callSite,
 			    arguments
 			);
 			// May have been populated by getMethodHandle
@@ -1259,13 +1288,58 @@ public class DynamicInteropService {
 	    Class<?>[] argumentsAsClasses,
 	    Object[] castedArgumentValues,
 	    Object... arguments ) {
+		return getMethodHandle( context, dynamicObject, targetClass, targetInstance, methodName, argumentsAsClasses, castedArgumentValues, null, arguments );
+	}
 
-		var				methodHandleCache	= findMethodHandleCache( targetClass );
+	/**
+	 * Gets the method handle for the given method name and arguments, from the call site inline cache or the method
+	 * handle cache if possible, or creates a new one if not found or throws an exception if the method signature doesn't exist
+	 *
+	 * @param context            The context to use for the method invocation
+	 * @param dynamicObject      The dynamic object to get the method handle for
+	 * @param targetClass        The class to get the method handle for
+	 * @param methodName         The name of the method to get the handle for
+	 * @param argumentsAsClasses The array of arguments as classes to map
+	 * @param callSite           The inline cache of the compiled call site, or null
+	 * @param arguments          The arguments to pass to the method
+	 *
+	 * @return The method handle representing the method signature
+	 *
+	 */
+	public static MethodRecord getMethodHandle(
+	    IBoxContext context,
+	    DynamicObject dynamicObject,
+	    Class<?> targetClass,
+	    Object targetInstance,
+	    String methodName,
+	    Class<?>[] argumentsAsClasses,
+	    Object[] castedArgumentValues,
+	    InteropCallSite callSite,
+	    Object... arguments ) {
+
+		// Monomorphic/polymorphic call site hit: no signature key to build or hash
+		MethodRecord methodRecord = ( callSite != null && handlesCacheEnabled ) ? callSite.lookup( methodName, targetClass, argumentsAsClasses ) : null;
+		if ( methodRecord != null ) {
+			coerceArguments(
+			    context,
+			    unBoxTypes( methodRecord.method().getParameterTypes() ),
+			    unBoxTypes( argumentsAsClasses ),
+			    castedArgumentValues,
+			    arguments,
+			    methodRecord.method().isVarArgs(),
+			    BooleanRef.of( true ),
+			    new AtomicInteger( 0 )
+			);
+			return methodRecord;
+		}
+
+		var		methodHandleCache	= findMethodHandleCache( targetClass );
 		// We use the method signature as the cache key
-		String			cacheKey			= targetClass.hashCode() + methodName + Arrays.hashCode( argumentsAsClasses );
+		String	cacheKey			= targetClass.hashCode() + methodName + Arrays.hashCode( argumentsAsClasses );
 
-		MethodRecord	methodRecord		= methodHandleCache.get( cacheKey );
-		boolean			fromCache			= true;
+		methodRecord = methodHandleCache.get( cacheKey );
+		boolean	fromCache	= true;
+		boolean	cachable	= methodRecord != null && handlesCacheEnabled;
 
 		// Double-checked locking with a striped monitor to minimise contention on the miss path.
 		// Spread hash: XOR upper 16 bits into lower 16 to improve distribution before masking.
@@ -1289,6 +1363,7 @@ public class DynamicInteropService {
 					if ( isCachable.get() ) {
 						methodHandleCache.put( cacheKey, methodRecord );
 					}
+					cachable = isCachable.get() && handlesCacheEnabled;
 				}
 			}
 		}
@@ -1306,6 +1381,10 @@ public class DynamicInteropService {
 			    new AtomicInteger( 0 )
 			);
 		}
+
+		if ( callSite != null && cachable ) {
+			callSite.record( methodName, targetClass, argumentsAsClasses, methodRecord );
+		}
 		return methodRecord;
 	}
 
@@ -2271,6 +2350,32 @@ public class DynamicInteropService {
 	    Key name,
 	    Object[] positionalArguments,
 	    Boolean safe ) {
+		return dereferenceAndInvoke( dynamicObject, targetClass, targetInstance, context, name, positionalArguments, safe, null );
+	}
+
+	/**
+	 * Dereference this object by a key and invoke the result as an invokable (UDF, java method)
+	 * Java methods are resolved through the inline cache of the compiled call site when one is available.
+	 *
+	 * @param targetClass         The class to dereference and look for the invocable on
+	 * @param targetInstance      The instance to dereference and look for the invocable on
+	 * @param context             The IBoxContext in which the function will be executed
+	 * @param name                The name of the key to dereference, which becomes the method name
+	 * @param positionalArguments The arguments to pass to the invokable
+	 * @param safe                If true, return null if the method is not found, otherwise throw an exception
+	 * @param callSite            The inline cache of the call site, or null
+	 *
+	 * @return The requested return value or null
+	 */
+	public static Object dereferenceAndInvoke(
+	    DynamicObject dynamicObject,
+	    Class<?> targetClass,
+	    Object targetInstance,
+	    IBoxContext context,
+	    Key name,
+	    Object[] positionalArguments,
+	    Boolean safe,
+	    InteropCallSite callSite ) {
 
 		// If the object is referencable, allow it to handle the dereference itself
 		if ( IReferenceable.class.isAssignableFrom( targetClass ) && targetInstance != null && targetInstance instanceof IReferenceable ref ) {
@@ -2300,7 +2405,7 @@ public class DynamicInteropService {
 		}
 
 		// Else let's do an invoke dynamic
-		return invoke( context, dynamicObject, targetClass, targetInstance, name.getName(), safe, positionalArguments );
+		return invoke( context, dynamicObject, targetClass, targetInstance, name.getName(), safe, positionalArguments, callSite );
 	}
 
 	/**
@@ -623,6 +623,21 @@ public class DynamicObject implements IReferenceable, Serializable {
 	 * @return The requested return value or null
 	 */
 	public Object dereferenceAndInvoke( IBoxContext context, Key name, Object[] positionalArguments, Boolean safe ) {
+		return dereferenceAndInvoke( context, name, positionalArguments, safe, null );
+	}
+
+	/**
+	 * Dereference this object by a key and invoke the result as an invokable (UDF, java method)
+	 * using the inline cache of a compiled call site to resolve Java methods.
+	 *
+	 * @param name                The name of the key to dereference, which becomes the method name
+	 * @param positionalArguments The arguments to pass to the invokable
+	 * @param safe                If true, return null if the method is not found, otherwise throw an exception
+	 * @param callSite            The inline cache of the call site, or null
+	 *
+	 * @return The requested return value or null
+	 */
+	public Object dereferenceAndInvoke( IBoxContext context, Key name, Object[] positionalArguments, Boolean safe, InteropCallSite callSite ) {
 		if ( name.equals( Key.init ) ) {
 			this.targetInstance = DynamicInteropService.invokeConstructor( context, this.targetClass, positionalArguments );
 			return this.targetInstance;
@@ -633,7 +648,8 @@ public class DynamicObject implements IReferenceable, Serializable {
 			return BoxClassSupport.dereferenceAndInvokeStatic( this, context, name, positionalArguments, safe );
 		}
 
-		return DynamicInteropService.dereferenceAndInvoke( this, this.targetClass, this.targetInstance, context, name, positionalArguments, safe );
+		return DynamicInteropService.dereferenceAndInvoke( this, this.targetClass, this.targetInstance, context, name, positionalArguments, safe,
+		    callSite );
 	}
 
 	/**
@@ -0,0 +1,208 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.interop;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A per call site inline cache for method invocations compiled by the ASM boxpiler.
+ * <p>
+ * Every {@code obj.method( args )} expression with positional arguments is compiled to an {@code invokedynamic}
+ * instruction bootstrapped by {@link #bootstrap(MethodHandles.Lookup, String, MethodType)}, which binds a new instance
+ * of this class to the call site. The invocation itself follows the exact same path as
+ * {@link ortus.boxlang.runtime.dynamic.Referencer#getAndInvoke(IBoxContext, Object, Key, Object[], Boolean)}, but when
+ * it ends up calling a Java method, the resolved {@link MethodRecord} is remembered here keyed on the method name, the
+ * receiver class and the argument classes. The name is part of the key because a call site with a computed name, like
+ * {@code obj[ name ]( args )}, can invoke different methods with the same shapes. Subsequent calls with the same shapes skip building the signature key and looking it up
+ * in the global method handle cache.
+ * <p>
+ * The cache is polymorphic up to {@link #MAX_ENTRIES} shapes. Beyond that the call site is considered megamorphic and
+ * always uses the regular discovery path. Clearing the method handle caches invalidates every call site.
+ */
+public final class InteropCallSite {
+
+	/**
+	 * The maximum amount of name/receiver/argument shapes we remember per call site
+	 */
+	public static final int				MAX_ENTRIES	= 4;
+
+	/**
+	 * Bumped every time the method handle caches are cleared, which invalidates all call sites
+	 */
+	private static volatile int			generation	= 0;
+
+	/**
+	 * The handle to {@link #invoke(IBoxContext, Object, Key, Object[], Boolean)} which all call sites bind to
+	 */
+	private static final MethodHandle	INVOKE;
+
+	static {
+		try {
+			INVOKE = MethodHandles.lookup().findVirtual(
+			    InteropCallSite.class,
+			    "invoke",
+			    MethodType.methodType( Object.class, IBoxContext.class, Object.class, Key.class, Object[].class, Boolean.class )
+			);
+		} catch ( NoSuchMethodException | IllegalAccessException e ) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	/**
+	 * A cached shape
+	 *
+	 * @param methodName      The invoked method name
+	 * @param targetClass     The receiver class
+	 * @param argumentClasses The argument classes
+	 * @param methodRecord    The resolved method
+	 */
+	private record Entry( String methodName, Class<?> targetClass, Class<?>[] argumentClasses, MethodRecord methodRecord ) {
+	}
+
+	/**
+	 * The cached shapes, replaced as a whole on every change so readers never need to lock
+	 */
+	private volatile Entry[]	entries				= new Entry[ 0 ];
+
+	/**
+	 * The cache generation our entries belong to
+	 */
+	private volatile int		entriesGeneration	= generation;
+
+	/**
+	 * Too many shapes seen, stop caching
+	 */
+	private volatile boolean	megamorphic			= false;
+
+	/**
+	 * Bootstrap method for the {@code invokedynamic} instructions emitted by the ASM boxpiler
+	 *
+	 * @param lookup The caller lookup
+	 * @param name   The call site name
+	 * @param type   The call site type
+	 *
+	 * @return A constant call site bound to a new inline cache
+	 */
+	public static CallSite bootstrap( MethodHandles.Lookup lookup, String name, MethodType type ) {
+		return new ConstantCallSite( INVOKE.bindTo( new InteropCallSite() ).asType( type ) );
+	}
+
+	/**
+	 * Invalidate the inline caches of all call sites
+	 */
+	public static synchronized void invalidateAll() {
+		generation++;
+	}
+
+	/**
+	 * Dereference the object by a key and invoke the result, remembering any Java method resolved along the way.
+	 *
+	 * @param context             The context we're executing inside of
+	 * @param object              The object to dereference
+	 * @param name                The name of the method to invoke
+	 * @param positionalArguments The arguments to pass to the method
+	 * @param safe                Whether to return null instead of throwing if the object is null or the method is not found
+	 *
+	 * @return The value returned by the invocation
+	 */
+	public Object invoke( IBoxContext context, Object object, Key name, Object[] positionalArguments, Boolean safe ) {
+		if ( object == null ) {
+			if ( safe ) {
+				return null;
+			} else {
+				throw new BoxRuntimeException( "Cannot invoke method [" + name.getName() + "()] on a null object" );
+			}
+		}
+		if ( object instanceof DynamicObject dob ) {
+			return dob.dereferenceAndInvoke( context, name, positionalArguments, safe, this );
+		}
+		return DynamicInteropService.dereferenceAndInvoke( null, object.getClass(), object, context, name, positionalArguments, safe, this );
+	}
+
+	/**
+	 * Find a cached method for the incoming name and shape
+	 *
+	 * @param methodName      The invoked method name
+	 * @param targetClass     The receiver class
+	 * @param argumentClasses The argument classes
+	 *
+	 * @return The cached method record, or null if we haven't seen this name and shape
+	 */
+	public MethodRecord lookup( String methodName, Class<?> targetClass, Class<?>[] argumentClasses ) {
+		if ( this.entriesGeneration != generation ) {
+			return null;
+		}
+		for ( Entry entry : this.entries ) {
+			if ( entry.targetClass() == targetClass
+			    && entry.methodName().equals( methodName )
+			    && Arrays.equals( entry.argumentClasses(), argumentClasses ) ) {
+				return entry.methodRecord();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Remember the method resolved for a name and shape
+	 *
+	 * @param methodName      The invoked method name
+	 * @param targetClass     The receiver class
+	 * @param argumentClasses The argument classes
+	 * @param methodRecord    The resolved method record
+	 */
+	public synchronized void record( String methodName, Class<?> targetClass, Class<?>[] argumentClasses, MethodRecord methodRecord ) {
+		if ( this.megamorphic ) {
+			return;
+		}
+		int		currentGeneration	= generation;
+		Entry[]	current				= this.entriesGeneration == currentGeneration ? this.entries : new Entry[ 0 ];
+		if ( current.length >= MAX_ENTRIES ) {
+			this.megamorphic	= true;
+			this.entries		= new Entry[ 0 ];
+			return;
+		}
+		Entry[] updated = Arrays.copyOf( current, current.length + 1 );
+		updated[ current.length ]	= new Entry( methodName, targetClass, argumentClasses, methodRecord );
+		this.entries				= updated;
+		this.entriesGeneration		= currentGeneration;
+	}
+
+	/**
+	 * @return The amount of shapes currently cached in this call site
+	 */
+	public int size() {
+		return this.entriesGeneration == generation ? this.entries.length : 0;
+	}
+
+	/**
+	 * @return True if this call site has seen too many shapes to cache
+	 */
+	public boolean isMegamorphic() {
+		return this.megamorphic;
+	}
+
+}
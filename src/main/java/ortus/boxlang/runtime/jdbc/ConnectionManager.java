@@ -319,6 +319,22 @@ public class ConnectionManager {
 		return getBoxConnection( datasource, username, password );
 	}
 
+	/**
+	 * Check if a connection is the one of the active transaction, which means the transaction will release it.
+	 *
+	 * @param connection The connection to check
+	 *
+	 * @return True if we're in a transaction and the connection is the transactional connection
+	 */
+	public boolean isTransactionalConnection( BoxConnection connection ) {
+		if ( connection == null || !isInTransaction() ) {
+			return false;
+		}
+		ITransaction transaction = getTransaction();
+		// Only ask for the transactional connection if it's on the same datasource, so we don't open one
+		return connection.getDataSource().equals( transaction.getDataSource() ) && transaction.getBoxConnection() == connection;
+	}
+
 	/**
 	 * Release a JDBC Connection back to the pool. Will not release transactional connections.
 	 *
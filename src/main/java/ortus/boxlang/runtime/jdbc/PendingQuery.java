@@ -23,7 +23,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -31,6 +33,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.cache.providers.ICacheProvider;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.IJDBCCapableContext;
 import ortus.boxlang.runtime.dynamic.Attempt;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
@@ -94,6 +97,13 @@ public class PendingQuery {
 	 */
 	private List<String>						SQLWithParamTokens	= new ArrayList<>();
 
+	/**
+	 * The named parameters in the order they appear in the SQL, empty for positional parameters.
+	 * <p>
+	 * This is used to bind the other parameter sets of a batch in the same order.
+	 */
+	private List<Key>							parameterNames		= new ArrayList<>();
+
 	/**
 	 * SQL string broken up into segments so we can build a fully
 	 */
@@ -374,6 +384,7 @@ public class PendingQuery {
 																	QueryParameter newParam = QueryParameter
 																	    .fromAny( namedParameters.get( finalParamName ) );
 																	foundNamedParams.add( finalParamName );
+																	parameterNames.add( finalParamName );
 																	// List params add ?, ?, ? etc. to the SQL string
 																	if ( newParam.isListParam() ) {
 																		List<Object> values = ( List<Object> ) newParam.getValue();
@@ -596,6 +607,17 @@ public class PendingQuery {
 			if ( logger.isDebugEnabled() ) {
 				logger.debug( "Query is NOT present, continuing to execute query: {}", this.cacheKey );
 			}
+
+			// Only the execution that wins the miss needs a connection, the others wait for its results
+			return executeCached( () -> {
+				BoxConnection connection = connectionManager.getBoxConnection( this.queryOptions );
+				this.datasource = connection.getDataSource();
+				try {
+					return executeStatement( connection, context );
+				} finally {
+					connectionManager.releaseConnection( connection );
+				}
+			} );
 		}
 
 		BoxConnection connection = connectionManager.getBoxConnection( this.queryOptions );
@@ -626,23 +648,7 @@ public class PendingQuery {
 	public @NonNull ExecutedQuery execute( BoxConnection connection, IBoxContext context ) {
 		this.datasource = connection.getDataSource();
 		if ( isCacheable() ) {
-			// we use separate get() and set() calls over a .getOrSet() so we can run
-			// `.setIsCached()` on discovered/cached results.
-			Attempt<Object> cachedQuery = this.cacheProvider.get( this.cacheKey );
-			if ( cachedQuery.isPresent() ) {
-				return respondWithCachedQuery( ( ExecutedQuery ) cachedQuery.get() );
-			}
-
-			ExecutedQuery executedQuery = executeStatement( connection, context );
-
-			// Now cache the results
-			this.cacheProvider.set(
-			    this.cacheKey,
-			    executedQuery,
-			    this.queryOptions.cacheTimeout,
-			    this.queryOptions.cacheLastAccessTimeout
-			);
-			return executedQuery;
+			return executeCached( () -> executeStatement( connection, context ) );
 		}
 
 		// Not cacheable, just execute
@@ -672,6 +678,241 @@ public class PendingQuery {
 		return execute( BoxConnection.of( connection, null ), context );
 	}
 
+	/**
+	 * Executes the PendingQuery using the provided ConnectionManager and returns a
+	 * {@link QueryCursor} that reads the rows as they are iterated, instead of
+	 * reading the whole result set into a {@link Query}.
+	 * <p>
+	 * The cursor keeps the connection and the statement until it is exhausted or
+	 * closed. Cursors are never cached, since caching would need all the rows.
+	 *
+	 * @param connectionManager The ConnectionManager instance to use for getting
+	 *                          connections from the current context.
+	 * @param context           The context that initiated this query, used for type casting
+	 *
+	 * @throws DatabaseException If a {@link SQLException} occurs, wraps it in a
+	 *                           DatabaseException and throws.
+	 *
+	 * @return A cursor over the rows of the first result set
+	 *
+	 * @see QueryCursor
+	 */
+	public @NonNull QueryCursor executeCursor( ConnectionManager connectionManager, IBoxContext context ) {
+		BoxConnection connection = connectionManager.getBoxConnection( this.queryOptions );
+		this.datasource = connection.getDataSource();
+		BoxStatement statement = null;
+		try {
+			String			sqlStatement		= getExecutableSQL( connection );
+			final String	finalSQLStatement	= sqlStatement;
+			statement = this.parameters.isEmpty()
+			    ? connection.createStatement()
+			    : connection.prepareStatement( finalSQLStatement, Statement.NO_GENERATED_KEYS );
+
+			applyParameters( statement, context );
+			applyStatementOptions( statement );
+
+			interceptorService.announce(
+			    BoxEvent.PRE_QUERY_EXECUTE,
+			    () -> Struct.ofNonConcurrent(
+			        Key.sql, finalSQLStatement,
+			        Key.bindings, getParameterValues(),
+			        Key.pendingQuery, this
+			    )
+			);
+
+			boolean hasResults = statement instanceof PreparedStatement preparedStatement
+			    ? preparedStatement.execute()
+			    : statement.execute( sqlStatement );
+			// Skip any update counts in front of the first result set
+			while ( !hasResults && statement.getUpdateCount() != -1 ) {
+				hasResults = statement.getMoreResults();
+			}
+			QueryCursor cursor = new QueryCursor(
+			    connectionManager.isTransactionalConnection( connection ),
+			    connection,
+			    statement,
+			    hasResults ? statement.getResultSet() : null
+			);
+			// Don't let an abandoned cursor pin its connection past the context that owns the connection. The context keeps
+			// one registry of its open cursors, which they leave when closed, so closed cursors aren't kept around.
+			if ( !cursor.isClosed() ) {
+				IBoxContext owner = context.getParentOfType( IJDBCCapableContext.class ) instanceof IBoxContext jdbcContext ? jdbcContext : context;
+				cursor.trackIn( owner.computeAttachmentIfAbsent( Key.openQueryCursors, key -> {
+					Set<QueryCursor> openCursors = ConcurrentHashMap.newKeySet();
+					owner.registerShutdownListener( ctx -> List.copyOf( openCursors ).forEach( QueryCursor::close ) );
+					return openCursors;
+				} ) );
+			}
+			return cursor;
+		} catch ( SQLException e ) {
+			closeQuietly( statement );
+			connectionManager.releaseConnection( connection );
+			throw toDatabaseException( e );
+		} catch ( RuntimeException e ) {
+			closeQuietly( statement );
+			connectionManager.releaseConnection( connection );
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes the PendingQuery once for every set of parameters, sending them to
+	 * the database in JDBC batches of the `batchSize` query option.
+	 * <p>
+	 * The SQL is parsed once, from the parameters this PendingQuery was created
+	 * with, so every set must bind the same positional or named parameters. List
+	 * parameters aren't supported since they change the SQL.
+	 * <p>
+	 * If the query is not running inside a transaction, each batch runs in its own
+	 * transaction and is committed before the next one is sent, so a failing batch
+	 * is rolled back while the batches before it stay committed. Inside a
+	 * transaction, the batches join it and the transaction decides.
+	 *
+	 * @param connectionManager The ConnectionManager instance to use for getting
+	 *                          connections from the current context.
+	 * @param context           The context that initiated this query, used for type casting
+	 * @param parameterSets     The parameter sets, each an array of positional or a struct of named parameters
+	 *
+	 * @throws DatabaseException If a {@link SQLException} occurs, wraps it in a
+	 *                           DatabaseException and throws.
+	 *
+	 * @return An ExecutedQuery with no rows, whose metadata holds the update count of every parameter set
+	 */
+	public @NonNull ExecutedQuery executeBatch( ConnectionManager connectionManager, IBoxContext context, List<?> parameterSets ) {
+		List<List<QueryParameter>> boundSets = new ArrayList<>( parameterSets.size() );
+		for ( Object parameterSet : parameterSets ) {
+			boundSets.add( bindParameterSet( parameterSet ) );
+		}
+
+		DataSource	batchDatasource		= connectionManager.getDataSource( this.queryOptions );
+		int			batchSize			= this.queryOptions.batchSize;
+		Array		updateCounts		= new Array();
+		int			totalUpdateCount	= 0;
+		long		startTick			= System.currentTimeMillis();
+		this.datasource = batchDatasource;
+
+		for ( int from = 0; from < boundSets.size(); from += batchSize ) {
+			List<List<QueryParameter>>	batch		= boundSets.subList( from, Math.min( from + batchSize, boundSets.size() ) );
+			// Each batch commits on its own, unless we are already in a transaction
+			ITransaction				transaction	= connectionManager.isInTransaction() ? null : connectionManager.beginTransaction( batchDatasource );
+			BoxConnection				connection	= null;
+			try {
+				if ( transaction != null ) {
+					transaction.begin();
+					connection = transaction.getBoxConnection();
+				} else {
+					connection = connectionManager.getBoxConnection( this.queryOptions );
+				}
+				for ( int count : executeBatchStatement( connection, context, batch ) ) {
+					updateCounts.add( count );
+					if ( count > 0 ) {
+						totalUpdateCount += count;
+					}
+				}
+				if ( transaction != null ) {
+					transaction.commit();
+				}
+			} catch ( RuntimeException e ) {
+				if ( transaction != null ) {
+					try {
+						transaction.rollback();
+					} catch ( RuntimeException rollbackError ) {
+						e.addSuppressed( rollbackError );
+					}
+				}
+				throw e;
+			} finally {
+				if ( transaction != null ) {
+					// Ends the transaction and releases its connection
+					connectionManager.endTransaction();
+				} else {
+					connectionManager.releaseConnection( connection );
+				}
+			}
+		}
+
+		Query results = new Query();
+		results.setMetadata( Struct.ofNonConcurrent(
+		    Key.cached, false,
+		    Key.cacheKey, getCacheKey(),
+		    Key.sql, getSQLWithParamValues(),
+		    Key.sqlParameters, Array.fromList( getParameterValues() ),
+		    Key.executionTime, System.currentTimeMillis() - startTick,
+		    Key.recordCount, totalUpdateCount,
+		    Key.updateCount, totalUpdateCount,
+		    Key.updateCounts, updateCounts
+		) );
+		return new ExecutedQuery( results, null );
+	}
+
+	/**
+	 * Send one batch of parameter sets to the database with a single prepared statement.
+	 *
+	 * @param connection The connection to use
+	 * @param context    The context that initiated this query, used for type casting
+	 * @param batch      The parameter sets of the batch
+	 *
+	 * @return The update count of each parameter set, as reported by the driver
+	 */
+	private int[] executeBatchStatement( BoxConnection connection, IBoxContext context, List<List<QueryParameter>> batch ) {
+		final String finalSQLStatement = getExecutableSQL( connection );
+		try ( BoxPreparedStatement statement = connection.prepareStatement( finalSQLStatement ) ) {
+			applyStatementOptions( statement );
+			for ( List<QueryParameter> parameters : batch ) {
+				applyParameters( statement, parameters, context );
+				statement.addBatch();
+			}
+
+			interceptorService.announce(
+			    BoxEvent.PRE_QUERY_EXECUTE,
+			    () -> Struct.ofNonConcurrent(
+			        Key.sql, finalSQLStatement,
+			        Key.bindings, getParameterValues(),
+			        Key.pendingQuery, this
+			    )
+			);
+
+			return statement.executeBatch();
+		} catch ( SQLException e ) {
+			throw toDatabaseException( e );
+		}
+	}
+
+	/**
+	 * Bind one parameter set of a batch in the order of the placeholders of the parsed SQL.
+	 *
+	 * @param parameterSet An array of positional parameters, or a struct of named parameters
+	 *
+	 * @return The parameters
+	 */
+	private List<QueryParameter> bindParameterSet( Object parameterSet ) {
+		List<QueryParameter> params = new ArrayList<>( this.parameters.size() );
+		if ( this.parameterNames.isEmpty() ) {
+			Array values = ArrayCaster.cast( parameterSet );
+			if ( values.size() != this.parameters.size() ) {
+				throw new DatabaseException( "Each parameter set of a batch must have [" + this.parameters.size()
+				    + "] positional parameters, received [" + values.size() + "]." );
+			}
+			for ( Object value : values ) {
+				params.add( QueryParameter.fromAny( value ) );
+			}
+		} else {
+			IStruct values = StructCaster.cast( parameterSet );
+			for ( Key name : this.parameterNames ) {
+				if ( !values.containsKey( name ) ) {
+					throw new DatabaseException( "Named parameter [:" + name.getName() + "] not provided to query." );
+				}
+				params.add( QueryParameter.fromAny( values.get( name ) ) );
+			}
+		}
+		for ( QueryParameter param : params ) {
+			if ( param.isListParam() ) {
+				throw new DatabaseException( "List parameters are not supported in batch queries, every parameter set must produce the same SQL." );
+			}
+		}
+		return params;
+	}
+
 	/**
 	 * Generate and execute a JDBC statement using the provided connection.
 	 * <p>
@@ -698,21 +939,8 @@ public class PendingQuery {
 				}
 			}
 
-			String sqlStatement = this.sql;
-			// QoQ connections don't have a datasource, so skip this check
-			if ( connection.getDataSource() != null
-			    && connection.getDataSource().getConfiguration().getDriver().hasFeature( JDBCDriverFeature.TRIM_TRAILING_SEMICOLONS ) ) {
-				var trimmed = sqlStatement.trim();
-				// This can be defeated if there is a comment after the semicolon.
-				if ( trimmed.endsWith( ";" ) ) {
-					var lowered = trimmed.toLowerCase();
-					// Exclude if "begin" and "end" appear anywhere in the SQL
-					if ( ! ( lowered.contains( "begin" ) && lowered.contains( "end" ) ) ) {
-						sqlStatement = trimmed.substring( 0, trimmed.length() - 1 );
-					}
-				}
-			}
-			final String finalSQLStatement = sqlStatement;
+			String			sqlStatement		= getExecutableSQL( connection );
+			final String	finalSQLStatement	= sqlStatement;
 			try (
 			    // If we have no parameters, we can use a Statement, otherwise we use a PreparedStatement
 			    BoxStatement statement = this.parameters.isEmpty()
@@ -755,20 +983,40 @@ public class PendingQuery {
 				);
 			}
 		} catch ( SQLException e ) {
-			String detail = "";
-			if ( e.getCause() != null ) {
-				detail = e.getCause().getMessage();
-			}
-			throw new DatabaseException(
-			    e.getMessage(),
-			    detail,
-			    String.valueOf( e.getErrorCode() ),
-			    e.getSQLState(),
-			    originalSql,
-			    null, // queryError
-			    ListUtil.asString( Array.fromList( this.getParameterValues() ), "," ), // where
-			    e );
+			throw toDatabaseException( e );
+		}
+	}
+
+	/**
+	 * Get the query from the cache, or run it and cache the results.
+	 * <p>
+	 * Concurrent misses on the same cache key are coalesced by the cache provider's {@code getOrSet()}, so only one of
+	 * them runs the statement and the rest get its results as a cached query.
+	 *
+	 * @param statement Runs the statement when the query is not cached
+	 *
+	 * @return The executed or cached query
+	 */
+	private ExecutedQuery executeCached( Supplier<ExecutedQuery> statement ) {
+		// Only set if our own statement ran, the others got the results from the cache
+		boolean[]	executed	= new boolean[ 1 ];
+		Object		result		= this.cacheProvider.getOrSet(
+		    this.cacheKey,
+		    () -> {
+			    executed[ 0 ] = true;
+			    ExecutedQuery executedQuery = statement.get();
+			    // Cached results are shared and mostly read from now on, large ones are stored column by column
+			    executedQuery.getResults().compact();
+			    return executedQuery;
+		    },
+		    this.queryOptions.cacheTimeout,
+		    this.queryOptions.cacheLastAccessTimeout
+		);
+
+		if ( executed[ 0 ] ) {
+			return ( ExecutedQuery ) result;
 		}
+		return respondWithCachedQuery( ( ExecutedQuery ) result );
 	}
 
 	/**
@@ -811,32 +1059,53 @@ public class PendingQuery {
 	 * @throws SQLException
 	 */
 	private void applyParameters( BoxStatement statement, IBoxContext context ) throws SQLException {
-		if ( this.parameters.isEmpty() ) {
+		applyParameters( statement, this.parameters, context );
+	}
+
+	/**
+	 * Apply a set of parameters to the provided statement. The first set applied also
+	 * finalizes the effective SQL string, later sets of a batch only bind their values.
+	 *
+	 * @param statement  The Statement instance to apply the parameters to.
+	 * @param parameters The parameters, in the order of the placeholders
+	 * @param context    The context that initiated this query, used for type casting
+	 *
+	 * @throws SQLException
+	 */
+	private void applyParameters( BoxStatement statement, List<QueryParameter> parameters, IBoxContext context ) throws SQLException {
+		if ( parameters.isEmpty() ) {
 			return;
 		}
 
 		if ( statement instanceof PreparedStatement preparedStatement ) {
+			boolean			buildSQL			= !SQLWithParamTokens.isEmpty();
 			StringBuilder	SQLWithParamValues	= new StringBuilder();
 			// The param index starts from 1
 			int				parameterIndex		= 1;
 			int				SQLParamIndex		= 0;
-			for ( QueryParameter param : this.parameters ) {
-				SQLWithParamValues.append( SQLWithParamTokens.get( SQLParamIndex ) );
+			for ( QueryParameter param : parameters ) {
+				if ( buildSQL ) {
+					SQLWithParamValues.append( SQLWithParamTokens.get( SQLParamIndex ) );
+				}
 				Integer scaleOrLength = param.getScaleOrLength();
 				if ( param.isListParam() ) {
 					Array list = ( Array ) param.getValue();
 					// Empty list - bind NULL to match CFML behavior (matches no rows in IN clause)
 					if ( list.isEmpty() ) {
-						SQLWithParamValues.append( "NULL" );
+						if ( buildSQL ) {
+							SQLWithParamValues.append( "NULL" );
+						}
 						preparedStatement.setNull( parameterIndex, mapParamTypeToSQLType( param.getType(), null ) );
 						parameterIndex++;
 					} else {
 						var i = 1;
 						for ( Object value : list ) {
 							Object casted = transformValueForSQL( param.getType(), value, context, statement.getConnection() );
-							emitValueToSQL( SQLWithParamValues, casted, param.getType() );
-							if ( i < list.size() ) {
-								SQLWithParamValues.append( ", " );
+							if ( buildSQL ) {
+								emitValueToSQL( SQLWithParamValues, casted, param.getType() );
+								if ( i < list.size() ) {
+									SQLWithParamValues.append( ", " );
+								}
 							}
 							if ( scaleOrLength == null ) {
 								preparedStatement.setObject( parameterIndex, casted, mapParamTypeToSQLType( param.getType(), casted ) );
@@ -850,7 +1119,9 @@ public class PendingQuery {
 					}
 				} else {
 					Object value = transformValueForSQL( param.getType(), param.getValue(), context, statement.getConnection() );
-					emitValueToSQL( SQLWithParamValues, value, param.getType() );
+					if ( buildSQL ) {
+						emitValueToSQL( SQLWithParamValues, value, param.getType() );
+					}
 
 					if ( scaleOrLength == null ) {
 						preparedStatement.setObject( parameterIndex, value, mapParamTypeToSQLType( param.getType(), value ) );
@@ -862,9 +1133,11 @@ public class PendingQuery {
 				}
 				SQLParamIndex++;
 			}
-			SQLWithParamValues.append( SQLWithParamTokens.get( SQLParamIndex ) );
-			this.SQLWithParamValues = SQLWithParamValues.toString();
-			SQLWithParamTokens.clear();
+			if ( buildSQL ) {
+				SQLWithParamValues.append( SQLWithParamTokens.get( SQLParamIndex ) );
+				this.SQLWithParamValues = SQLWithParamValues.toString();
+				SQLWithParamTokens.clear();
+			}
 		}
 	}
 
@@ -921,6 +1194,70 @@ public class PendingQuery {
 		}
 	}
 
+	/**
+	 * Wrap a SQLException raised while executing this query with the query details.
+	 *
+	 * @param e The SQLException
+	 *
+	 * @return The DatabaseException to throw
+	 */
+	private DatabaseException toDatabaseException( SQLException e ) {
+		String detail = "";
+		if ( e.getCause() != null ) {
+			detail = e.getCause().getMessage();
+		}
+		return new DatabaseException(
+		    e.getMessage(),
+		    detail,
+		    String.valueOf( e.getErrorCode() ),
+		    e.getSQLState(),
+		    originalSql,
+		    null, // queryError
+		    ListUtil.asString( Array.fromList( this.getParameterValues() ), "," ), // where
+		    e );
+	}
+
+	/**
+	 * Get the SQL to hand to the driver, without the trailing semicolon if the driver can't take it.
+	 *
+	 * @param connection The connection the SQL will run on
+	 *
+	 * @return The SQL to execute
+	 */
+	private String getExecutableSQL( BoxConnection connection ) {
+		String sqlStatement = this.sql;
+		// QoQ connections don't have a datasource, so skip this check
+		if ( connection.getDataSource() != null
+		    && connection.getDataSource().getConfiguration().getDriver().hasFeature( JDBCDriverFeature.TRIM_TRAILING_SEMICOLONS ) ) {
+			var trimmed = sqlStatement.trim();
+			// This can be defeated if there is a comment after the semicolon.
+			if ( trimmed.endsWith( ";" ) ) {
+				var lowered = trimmed.toLowerCase();
+				// Exclude if "begin" and "end" appear anywhere in the SQL
+				if ( ! ( lowered.contains( "begin" ) && lowered.contains( "end" ) ) ) {
+					sqlStatement = trimmed.substring( 0, trimmed.length() - 1 );
+				}
+			}
+		}
+		return sqlStatement;
+	}
+
+	/**
+	 * Close a statement that failed to execute, keeping the original error
+	 *
+	 * @param statement The statement, may be null
+	 */
+	private void closeQuietly( Statement statement ) {
+		if ( statement == null ) {
+			return;
+		}
+		try {
+			statement.close();
+		} catch ( SQLException e ) {
+			logger.debug( "Error closing statement: {}", e.getMessage() );
+		}
+	}
+
 	/**
 	 * Apply query options to the provided {@link Statement} instance.
 	 * <p>
@@ -0,0 +1,468 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.jdbc.drivers.IJDBCDriver;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxIOException;
+import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
+
+/**
+ * A forward-only cursor over the rows of an executed query, returned by <code>queryExecute()</code> when the
+ * <code>returnType</code> is <code>cursor</code>.
+ * <p>
+ * Rows are read from the JDBC result set as they are iterated, in batches of the <code>fetchSize</code> option if the
+ * driver honors it, so memory stays flat no matter how many rows the query returns. Each row is converted the same way
+ * {@link ortus.boxlang.runtime.types.Query#fromResultSet(BoxStatement, ResultSet)} converts it, and comes back as a
+ * struct of column name to value.
+ * <p>
+ * The cursor holds on to its connection until the last row is read or {@link #close()} is called, so always exhaust or
+ * close it. Cursors still open when the context that created them shuts down are closed then. The {@link #writeCSV(Writer)} and {@link #writeJSON(Writer)} exports read the rows straight into the writer
+ * and close the cursor when done.
+ */
+public class QueryCursor implements Iterator<IStruct>, AutoCloseable {
+
+	/**
+	 * Whether the connection belongs to the transaction the query ran in, in which case the transaction releases it
+	 */
+	private final boolean			transactional;
+
+	/**
+	 * The connection the query runs on
+	 */
+	private final BoxConnection		connection;
+
+	/**
+	 * The statement that produced the results
+	 */
+	private final BoxStatement		statement;
+
+	/**
+	 * The results, null if the query returned none
+	 */
+	private ResultSet				resultSet;
+
+	/**
+	 * The driver that converts the values
+	 */
+	private final IJDBCDriver		driver;
+
+	/**
+	 * The column names, in order
+	 */
+	private final Key[]				columnNames;
+
+	/**
+	 * The type of each column
+	 */
+	private final QueryColumnType[]	columnTypes;
+
+	/**
+	 * The SQL type of each column
+	 */
+	private final int[]				columnSQLTypes;
+
+	/**
+	 * The position in the result set of each column, duplicate labels only keep the first one
+	 */
+	private final int[]				columnMap;
+
+	/**
+	 * Whether the result set is positioned on a row that hasn't been returned yet
+	 */
+	private boolean					pending		= false;
+
+	/**
+	 * The number of rows returned so far
+	 */
+	private long					rowCount	= 0;
+
+	/**
+	 * Whether the resources have been released
+	 */
+	private boolean					closed		= false;
+
+	/**
+	 * The open cursors of the context that owns the connection, which this cursor leaves when closed
+	 */
+	private Set<QueryCursor>		openCursors;
+
+	/**
+	 * Constructor
+	 *
+	 * @param transactional     Whether the connection belongs to the transaction the query ran in
+	 * @param connection        The connection the query ran on
+	 * @param statement         The executed statement
+	 * @param resultSet         The results, or null if the query returned no result set
+	 *
+	 * @throws SQLException If the result set metadata can't be read
+	 */
+	QueryCursor( boolean transactional, BoxConnection connection, BoxStatement statement, ResultSet resultSet ) throws SQLException {
+		this.transactional		= transactional;
+		this.connection			= connection;
+		this.statement			= statement;
+		this.resultSet			= resultSet;
+		this.driver				= connection.getDataSource().getConfiguration().getDriver();
+
+		Map<Key, Integer>	positions	= new LinkedHashMap<>();
+		List<Integer>		sqlTypes	= new ArrayList<>();
+		if ( resultSet != null ) {
+			ResultSetMetaData	metaData		= resultSet.getMetaData();
+			int					emptyCounter	= 0;
+			for ( int i = 1; i <= metaData.getColumnCount(); i++ ) {
+				String label = metaData.getColumnLabel( i );
+				if ( label.isBlank() ) {
+					label = "column_" + ( emptyCounter++ );
+				}
+				if ( positions.putIfAbsent( Key.of( label ), i ) == null ) {
+					sqlTypes.add( metaData.getColumnType( i ) );
+				}
+			}
+		}
+
+		this.columnNames	= positions.keySet().toArray( new Key[ 0 ] );
+		this.columnMap		= positions.values().stream().mapToInt( Integer::intValue ).toArray();
+		this.columnSQLTypes	= sqlTypes.stream().mapToInt( Integer::intValue ).toArray();
+		this.columnTypes	= new QueryColumnType[ this.columnNames.length ];
+		for ( int i = 0; i < this.columnTypes.length; i++ ) {
+			this.columnTypes[ i ] = this.driver.mapSQLTypeToQueryColumnType( this.columnSQLTypes[ i ] );
+		}
+
+		if ( resultSet == null ) {
+			close();
+		}
+	}
+
+	/**
+	 * Get the column names
+	 *
+	 * @return The column names, in order
+	 */
+	public Key[] getColumnNames() {
+		return this.columnNames.clone();
+	}
+
+	/**
+	 * Get the column types
+	 *
+	 * @return The type of each column, in order
+	 */
+	public QueryColumnType[] getColumnTypes() {
+		return this.columnTypes.clone();
+	}
+
+	/**
+	 * Get the number of rows returned so far
+	 *
+	 * @return The row count
+	 */
+	public long getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * Add this cursor to the open cursors of a context, which closes them when it shuts down. The cursor leaves the set
+	 * when it's closed.
+	 *
+	 * @param openCursors The open cursors of the context
+	 */
+	synchronized void trackIn( Set<QueryCursor> openCursors ) {
+		if ( this.closed ) {
+			return;
+		}
+		this.openCursors = openCursors;
+		openCursors.add( this );
+	}
+
+	/**
+	 * Whether the cursor has been closed, either explicitly or by reading the last row
+	 *
+	 * @return True if closed
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Whether there is another row. Reading past the last row closes the cursor.
+	 *
+	 * @return True if {@link #next()} will return a row
+	 */
+	@Override
+	public boolean hasNext() {
+		if ( this.pending ) {
+			return true;
+		}
+		if ( isClosed() ) {
+			return false;
+		}
+		try {
+			this.pending = this.resultSet.next();
+		} catch ( SQLException e ) {
+			close();
+			throw new DatabaseException( e );
+		}
+		if ( !this.pending ) {
+			close();
+		}
+		return this.pending;
+	}
+
+	/**
+	 * Read the next row
+	 *
+	 * @return The row, as a struct of column name to value
+	 */
+	@Override
+	public IStruct next() {
+		Object[]	values	= nextRow();
+		IStruct		row		= new Struct( IStruct.TYPES.LINKED, false );
+		for ( int i = 0; i < values.length; i++ ) {
+			row.put( this.columnNames[ i ], values[ i ] );
+		}
+		return row;
+	}
+
+	/**
+	 * Read the next row as an array, in the order of {@link #getColumnNames()}
+	 *
+	 * @return The values of the row
+	 */
+	public Object[] nextRow() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException( "The query cursor has no more rows" );
+		}
+		this.pending = false;
+		Object[] values = new Object[ this.columnMap.length ];
+		try {
+			for ( int i = 0; i < values.length; i++ ) {
+				values[ i ] = this.driver.transformValue( this.columnSQLTypes[ i ], this.resultSet.getObject( this.columnMap[ i ] ), this.statement );
+			}
+		} catch ( SQLException e ) {
+			close();
+			throw new DatabaseException( e );
+		}
+		this.rowCount++;
+		return values;
+	}
+
+	/**
+	 * Get a sequential stream of the remaining rows. Closing the stream closes the cursor.
+	 *
+	 * @return The stream of rows
+	 */
+	public Stream<IStruct> stream() {
+		return StreamSupport.stream( Spliterators.spliteratorUnknownSize( this, Spliterator.ORDERED | Spliterator.NONNULL ), false )
+		    .onClose( this::close );
+	}
+
+	/**
+	 * Write the remaining rows as CSV, with a header line of column names, and close the cursor.
+	 * <p>
+	 * Values containing a comma, a double quote or a line break are quoted, nulls are written as empty values.
+	 *
+	 * @param writer The writer to write to, it is not closed
+	 *
+	 * @return The number of rows written
+	 */
+	public long writeCSV( Writer writer ) {
+		long written = 0;
+		try {
+			for ( int i = 0; i < this.columnNames.length; i++ ) {
+				if ( i > 0 ) {
+					writer.write( ',' );
+				}
+				writer.write( escapeCSV( this.columnNames[ i ].getName() ) );
+			}
+			writer.write( "\r\n" );
+			while ( hasNext() ) {
+				Object[] values = nextRow();
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( i > 0 ) {
+						writer.write( ',' );
+					}
+					writer.write( escapeCSV( toCSVString( values[ i ] ) ) );
+				}
+				writer.write( "\r\n" );
+				written++;
+			}
+			writer.flush();
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		} finally {
+			close();
+		}
+		return written;
+	}
+
+	/**
+	 * Write the remaining rows as CSV to a file and close the cursor.
+	 *
+	 * @param path The path of the file, it is created or truncated
+	 *
+	 * @return The number of rows written
+	 */
+	public long writeCSV( String path ) {
+		try ( Writer writer = Files.newBufferedWriter( Path.of( path ), StandardCharsets.UTF_8 ) ) {
+			return writeCSV( writer );
+		} catch ( IOException e ) {
+			close();
+			throw new BoxIOException( e );
+		}
+	}
+
+	/**
+	 * Write the remaining rows as a JSON array of objects and close the cursor.
+	 *
+	 * @param writer The writer to write to, it is not closed
+	 *
+	 * @return The number of rows written
+	 */
+	public long writeJSON( Writer writer ) {
+		long start = this.rowCount;
+		try {
+			JSONUtil.writeJSON( this, writer, false );
+			writer.flush();
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		} finally {
+			close();
+		}
+		return this.rowCount - start;
+	}
+
+	/**
+	 * Write the remaining rows as a JSON array of objects to a file and close the cursor.
+	 *
+	 * @param path The path of the file, it is created or truncated
+	 *
+	 * @return The number of rows written
+	 */
+	public long writeJSON( String path ) {
+		try ( Writer writer = Files.newBufferedWriter( Path.of( path ), StandardCharsets.UTF_8 ) ) {
+			return writeJSON( writer );
+		} catch ( IOException e ) {
+			close();
+			throw new BoxIOException( e );
+		}
+	}
+
+	/**
+	 * Close the result set and the statement and release the connection, unless it belongs to a transaction. Safe to call
+	 * more than once, from any thread.
+	 */
+	@Override
+	public synchronized void close() {
+		if ( this.closed ) {
+			return;
+		}
+		this.closed		= true;
+		this.pending	= false;
+		try {
+			if ( this.resultSet != null ) {
+				this.resultSet.close();
+			}
+			if ( !this.statement.isClosed() ) {
+				this.statement.close();
+			}
+		} catch ( SQLException e ) {
+			throw new DatabaseException( e );
+		} finally {
+			if ( this.openCursors != null ) {
+				this.openCursors.remove( this );
+			}
+			releaseConnection();
+		}
+	}
+
+	/**
+	 * Return the connection to the pool. This is decided by where the connection came from when the cursor was opened,
+	 * not by whether a transaction happens to be active when the cursor is closed.
+	 */
+	private void releaseConnection() {
+		if ( this.transactional ) {
+			return;
+		}
+		try {
+			if ( !this.connection.isClosed() ) {
+				this.connection.close();
+			}
+		} catch ( SQLException e ) {
+			throw new DatabaseException( "Error releasing connection: " + e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Turn a value into the text of a CSV field
+	 *
+	 * @param value The value
+	 *
+	 * @return The text, empty for null
+	 */
+	private static String toCSVString( Object value ) {
+		if ( value == null ) {
+			return "";
+		}
+		CastAttempt<String> attempt = StringCaster.attempt( value );
+		return attempt.wasSuccessful() ? attempt.get() : value.toString();
+	}
+
+	/**
+	 * Quote a CSV field if it needs to be
+	 *
+	 * @param value The text of the field
+	 *
+	 * @return The field as it goes in the file
+	 */
+	private static String escapeCSV( String value ) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c == ',' || c == '"' || c == '\n' || c == '\r' ) {
+				return '"' + value.replace( "\"", "\"\"" ) + '"';
+			}
+		}
+		return value;
+	}
+
+}
@@ -22,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.CacheService;
@@ -35,7 +36,8 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
  * The following options are supported:
  * <ul>
  * <li><code>datasource</code> - The name of the datasource to use. If not provided, the default datasource will be used.
- * <li><code>returnType</code> - The type to return the query results as. Can be <code>query</code>, <code>array</code>, or <code>struct</code>.
+ * <li><code>returnType</code> - The type to return the query results as. Can be <code>query</code>, <code>array</code>, <code>struct</code>, or
+ * <code>cursor</code> to iterate the rows as they are fetched with a {@link QueryCursor}.
  * <li><code>result</code> - The name of the variable to store the query results in.
  * <li><code>columnKey</code> - The name of the column to use as the key in the result struct when <code>returnType</code> is <code>struct</code>.
  * This is only used, but <strong>required</strong>, when <code>returnType</code> is <code>struct</code>.
@@ -44,6 +46,8 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
  * <li><code>timeout</code> - The number of seconds to wait for the query to execute before timing out.
  * <li><code>maxRows</code> - The maximum number of rows to return from the query.
  * <li><code>dbtype</code> - The type of query. "query" or "hql"
+ * <li><code>batch</code> - Whether the params are an array of parameter sets to execute in JDBC batches.
+ * <li><code>batchSize</code> - The number of parameter sets per batch, defaults to 1000.
  * </ul>
  */
 public class QueryOptions {
@@ -54,6 +58,11 @@ public class QueryOptions {
 	 * --------------------------------------------------------------------------
 	 */
 
+	/**
+	 * The number of parameter sets sent per JDBC batch when none is given
+	 */
+	public static final int			DEFAULT_BATCH_SIZE	= 1000;
+
 	/**
 	 * The query options struct
 	 */
@@ -70,7 +79,7 @@ public class QueryOptions {
 	public final @Nullable String	resultVariableName;
 
 	/**
-	 * The return type of the query. Available options are "query", "array", or "struct".
+	 * The return type of the query. Available options are "query", "array", "struct", or "cursor".
 	 */
 	private String					returnType;
 
@@ -112,6 +121,17 @@ public class QueryOptions {
 	 */
 	public final Integer			fetchSize;
 
+	/**
+	 * Whether the params are a list of parameter sets, each executed with the same statement in JDBC batches.
+	 */
+	public final Boolean			batch;
+
+	/**
+	 * The number of parameter sets sent to the database in one batch round trip, and committed together when the query
+	 * isn't already running in a transaction.
+	 */
+	public final Integer			batchSize;
+
 	/**
 	 * Whether or not the query results should be cached.
 	 */
@@ -178,6 +198,13 @@ public class QueryOptions {
 		this.datasource				= options.get( Key.datasource );
 		this.fetchSize				= ( Integer ) options.getOrDefault( Key.fetchSize, 0 );
 
+		// Batch options
+		this.batch					= BooleanCaster.attempt( options.get( Key.batch ) ).getOrDefault( false );
+		this.batchSize				= IntegerCaster.attempt( options.get( Key.batchSize ) ).getOrDefault( DEFAULT_BATCH_SIZE );
+		if ( this.batchSize < 1 ) {
+			throw new BoxRuntimeException( "The `batchSize` option must be greater than zero." );
+		}
+
 		// Caching options
 		this.cache					= BooleanCaster.attempt( options.get( Key.cache ) ).getOrDefault( false );
 		this.cacheKey				= options.getAsString( Key.cacheKey );
@@ -246,6 +273,15 @@ public class QueryOptions {
 		return this.username != null && !this.username.isEmpty();
 	}
 
+	/**
+	 * Whether the rows should be streamed through a {@link QueryCursor} instead of read into a query.
+	 *
+	 * @return True if the `returnType` is `cursor`
+	 */
+	public boolean wantsCursor() {
+		return "cursor".equals( this.returnType );
+	}
+
 	public boolean isQoQ() {
 		return this.dbtype != null && this.dbtype.equalsIgnoreCase( "query" );
 	}
@@ -267,7 +303,7 @@ public class QueryOptions {
 		String				returnTypeString	= returnTypeAsString.getOrDefault( "query" );
 
 		switch ( returnTypeString ) {
-			case "query", "array" -> this.returnType = returnTypeString;
+			case "query", "array", "cursor" -> this.returnType = returnTypeString;
 			case "struct" -> {
 				this.columnKey = options.getAsString( Key.columnKey );
 				if ( this.columnKey == null ) {
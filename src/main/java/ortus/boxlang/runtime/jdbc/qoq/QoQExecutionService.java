@@ -17,6 +17,7 @@ package ortus.boxlang.runtime.jdbc.qoq;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,7 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpressionCompiler.Evaluator;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.QueryColumnType;
@@ -59,7 +61,25 @@ public class QoQExecutionService {
 	/**
 	 * The transaction service used to track subtransactions
 	 */
-	private static final FRTransService frTransService = FRTransService.getInstance( true );
+	private static final FRTransService						frTransService	= FRTransService.getInstance( true );
+
+	/**
+	 * The most SQL statements whose plans we keep
+	 */
+	private static final int								MAX_PLANS		= 1000;
+
+	/**
+	 * The parsed statements by SQL text, least recently used first. The AST holds no state of an execution, so it can be
+	 * shared by any number of executions at once.
+	 */
+	private static final Map<String, SQLSelectStatement>	plans			= Collections.synchronizedMap(
+	    new LinkedHashMap<String, SQLSelectStatement>( 16, 0.75f, true ) {
+
+		    @Override
+		    protected boolean removeEldestEntry( Map.Entry<String, SQLSelectStatement> eldest ) {
+			    return size() > MAX_PLANS;
+		    }
+	    } );
 
 	/**
 	 * Parse a SQL string into an AST
@@ -93,6 +113,29 @@ public class QoQExecutionService {
 		return ( SQLNode ) result.getRoot();
 	}
 
+	/**
+	 * Get the parsed select statement for a SQL string, parsing it only the first time it is seen
+	 * 
+	 * @param sql the SQL string
+	 * 
+	 * @return the select statement
+	 */
+	public static SQLSelectStatement getSelectStatement( String sql ) {
+		SQLSelectStatement select = plans.get( sql );
+		if ( select == null ) {
+			select = ( SQLSelectStatement ) parseSQL( sql );
+			plans.put( sql, select );
+		}
+		return select;
+	}
+
+	/**
+	 * Clear the parsed statements
+	 */
+	public static void clearPlans() {
+		plans.clear();
+	}
+
 	/**
 	 * Execute a QoQ statement
 	 * 
@@ -232,7 +275,8 @@ public class QoQExecutionService {
 
 		// If we have a where clause, add it as a filter to the stream
 		if ( where != null ) {
-			intersections = intersections.filter( intersection -> ( Boolean ) where.evaluate( QoQExec, intersection ) );
+			Evaluator whereEvaluator = QoQExpressionCompiler.compile( where, QoQExec );
+			intersections = intersections.filter( intersection -> ( Boolean ) whereEvaluator.evaluate( intersection ) );
 		}
 
 		// Enforce top/limit for this select. This would be a "top N" clause in the select or a "limit N" clause BEFORE the order by, which
@@ -243,15 +287,18 @@ public class QoQExecutionService {
 		if ( select.hasAggregateResult() || select.getGroupBys() != null ) {
 			target = executeAggregateSelect( QoQExec, target, intersections );
 		} else {
-			final Query finalTarget = target;
+			final Query	finalTarget		= target;
+			Evaluator[]	columnValues	= resultColumns.values()
+			    .stream()
+			    .map( column -> QoQExpressionCompiler.compile( column.resultColumn.getExpression(), QoQExec ) )
+			    .toArray( Evaluator[]::new );
 			// No partitioning, just create the final result set
 			intersections.forEach( intersection -> {
 				// System.out.println( Arrays.toString( intersection ) );
-				Object[]	values	= new Object[ resultColumns.size() ];
-				int			colPos	= 0;
+				Object[] values = new Object[ columnValues.length ];
 				// Build up row data as native array
-				for ( Key key : resultColumns.keySet() ) {
-					values[ colPos++ ] = resultColumns.get( key ).resultColumn.getExpression().evaluate( QoQExec, intersection );
+				for ( int colPos = 0; colPos < columnValues.length; colPos++ ) {
+					values[ colPos ] = columnValues[ colPos ].evaluate( intersection );
 				}
 				finalTarget.addRow( values );
 			} );
@@ -0,0 +1,169 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLColumn;
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLExpression;
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLParenthesis;
+import ortus.boxlang.compiler.ast.sql.select.expression.literal.SQLBooleanLiteral;
+import ortus.boxlang.compiler.ast.sql.select.expression.literal.SQLNullLiteral;
+import ortus.boxlang.compiler.ast.sql.select.expression.literal.SQLNumberLiteral;
+import ortus.boxlang.compiler.ast.sql.select.expression.literal.SQLStringLiteral;
+import ortus.boxlang.compiler.ast.sql.select.expression.operation.SQLBinaryOperation;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * I turn the expressions of a QoQ statement into evaluators for one execution.
+ * <p>
+ * Walking the AST for every row resolves the same things over and over: where a column lives, which type a comparison
+ * uses, which operator a node is. The evaluators resolve all of that once per execution and capture it, so evaluating a
+ * row is just the column reads and the comparisons. Columns, literals, comparisons, AND and OR are compiled. Anything
+ * else is evaluated through its AST node, and its compiled parents still benefit.
+ */
+public class QoQExpressionCompiler {
+
+	/**
+	 * An expression bound to an execution
+	 */
+	@FunctionalInterface
+	public interface Evaluator {
+
+		/**
+		 * Evaluate the expression
+		 *
+		 * @param intersection The row numbers of each table
+		 *
+		 * @return The value of the expression
+		 */
+		Object evaluate( int[] intersection );
+	}
+
+	/**
+	 * Compile an expression for an execution
+	 *
+	 * @param expression The expression, may be null
+	 * @param QoQExec    The execution
+	 *
+	 * @return The evaluator, or null if the expression was null
+	 */
+	public static Evaluator compile( SQLExpression expression, QoQSelectExecution QoQExec ) {
+		if ( expression == null ) {
+			return null;
+		}
+		try {
+			return doCompile( expression, QoQExec );
+		} catch ( BoxRuntimeException e ) {
+			// Unknown columns only error when a row is evaluated, keep it that way
+			return intersection -> expression.evaluate( QoQExec, intersection );
+		}
+	}
+
+	/**
+	 * Compile an expression
+	 *
+	 * @param expression The expression
+	 * @param QoQExec    The execution
+	 *
+	 * @return The evaluator
+	 */
+	private static Evaluator doCompile( SQLExpression expression, QoQSelectExecution QoQExec ) {
+		if ( expression instanceof SQLParenthesis parenthesis ) {
+			return doCompile( parenthesis.getExpression(), QoQExec );
+		}
+		if ( expression instanceof SQLColumn column ) {
+			return QoQExec.getColumnBinding( column )::get;
+		}
+		if ( expression instanceof SQLStringLiteral || expression instanceof SQLNumberLiteral || expression instanceof SQLBooleanLiteral
+		    || expression instanceof SQLNullLiteral ) {
+			Object value = expression.evaluate( QoQExec, null );
+			return intersection -> value;
+		}
+		if ( expression instanceof SQLBinaryOperation operation ) {
+			Evaluator compiled = compileBinary( operation, QoQExec );
+			if ( compiled != null ) {
+				return compiled;
+			}
+		}
+		return intersection -> expression.evaluate( QoQExec, intersection );
+	}
+
+	/**
+	 * Compile the binary operations that compare or combine booleans, the same way {@link SQLBinaryOperation} evaluates them
+	 *
+	 * @param operation The operation
+	 * @param QoQExec   The execution
+	 *
+	 * @return The evaluator, or null if the operator isn't compiled
+	 */
+	private static Evaluator compileBinary( SQLBinaryOperation operation, QoQSelectExecution QoQExec ) {
+		switch ( operation.getOperator() ) {
+			case AND : {
+				Evaluator	left	= doCompile( operation.getLeft(), QoQExec );
+				Evaluator	right	= doCompile( operation.getRight(), QoQExec );
+				// Short circuit, don't eval right if left is false
+				return intersection -> ( Boolean ) left.evaluate( intersection ) ? ( Boolean ) right.evaluate( intersection ) : Boolean.FALSE;
+			}
+			case OR : {
+				Evaluator	left	= doCompile( operation.getLeft(), QoQExec );
+				Evaluator	right	= doCompile( operation.getRight(), QoQExec );
+				return intersection -> ( Boolean ) left.evaluate( intersection ) || ( Boolean ) right.evaluate( intersection );
+			}
+			case EQUAL :
+			case NOTEQUAL :
+			case GREATERTHAN :
+			case GREATERTHANOREQUAL :
+			case LESSTHAN :
+			case LESSTHANOREQUAL :
+				break;
+			default :
+				return null;
+		}
+
+		// Comparisons use the type of the left operand
+		QueryColumnType	type	= operation.getLeft().getType( QoQExec );
+		Evaluator		left	= doCompile( operation.getLeft(), QoQExec );
+		Evaluator		right	= doCompile( operation.getRight(), QoQExec );
+		return switch ( operation.getOperator() ) {
+			case EQUAL -> intersection -> compare( type, left, right, intersection ) == 0;
+			case NOTEQUAL -> intersection -> compare( type, left, right, intersection ) != 0;
+			case GREATERTHAN -> intersection -> compare( type, left, right, intersection ) == 1;
+			case GREATERTHANOREQUAL -> intersection -> {
+				int result = compare( type, left, right, intersection );
+				return result == 1 || result == 0;
+			};
+			case LESSTHAN -> intersection -> compare( type, left, right, intersection ) == -1;
+			default -> intersection -> {
+				int result = compare( type, left, right, intersection );
+				return result == -1 || result == 0;
+			};
+		};
+	}
+
+	/**
+	 * Compare the operands of a comparison
+	 *
+	 * @param type         The type to compare as
+	 * @param left         The left operand
+	 * @param right        The right operand
+	 * @param intersection The row numbers of each table
+	 *
+	 * @return The result of {@link QoQCompare#invoke(QueryColumnType, Object, Object)}
+	 */
+	private static int compare( QueryColumnType type, Evaluator left, Evaluator right, int[] intersection ) {
+		return QoQCompare.invoke( type, left.evaluate( intersection ), right.evaluate( intersection ) );
+	}
+
+}
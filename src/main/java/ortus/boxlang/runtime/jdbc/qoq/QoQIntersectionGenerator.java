@@ -14,6 +14,7 @@
  */
 package ortus.boxlang.runtime.jdbc.qoq;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -27,7 +28,7 @@ import java.util.stream.Stream;
 import ortus.boxlang.compiler.ast.sql.select.SQLJoin;
 import ortus.boxlang.compiler.ast.sql.select.SQLJoinType;
 import ortus.boxlang.compiler.ast.sql.select.SQLTable;
-import ortus.boxlang.compiler.ast.sql.select.expression.SQLExpression;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExpressionCompiler.Evaluator;
 import ortus.boxlang.runtime.types.Query;
 
 /**
@@ -54,9 +55,15 @@ public class QoQIntersectionGenerator {
 			for ( SQLJoin thisJoin : QoQExec.getSelect().getJoins() ) {
 				var	joinType	= thisJoin.getType();
 				var	joinTable	= tableLookup.get( thisJoin.getTable() );
-				var	joinOn		= thisJoin.getOn();
+				var	joinOn		= QoQExpressionCompiler.compile( thisJoin.getOn(), QoQExec );
+				// Equality conditions let us look up the matching rows instead of trying every combination
+				var	equiJoin	= QoQJoinPlanner.plan( QoQExec, thisJoin, thisJoin.getTable().getIndex() );
 
-				if ( joinType.equals( SQLJoinType.CROSS ) || joinType.equals( SQLJoinType.INNER ) ) {
+				if ( equiJoin != null ) {
+					theStream			= handleHashJoin( theStream, joinType, joinTable, joinOn, equiJoin, QoQExec );
+					// Every row on both sides is visited once, instead of every combination
+					totalCombinations	+= joinTable.size();
+				} else if ( joinType.equals( SQLJoinType.CROSS ) || joinType.equals( SQLJoinType.INNER ) ) {
 					theStream			= handleCrossOrInnerJoin( theStream, joinTable, joinOn, QoQExec );
 					totalCombinations	*= joinTable.size();
 				} else if ( joinType.equals( SQLJoinType.LEFT ) ) {
@@ -80,6 +87,120 @@ public class QoQIntersectionGenerator {
 		return theStream;
 	}
 
+	/**
+	 * Handle any JOIN through its equality conditions. Only the pairs of rows with equal join columns are considered,
+	 * and the ON clause is still evaluated on them, so the results are the same as the nested loop joins below.
+	 *
+	 * @param theStream The current stream of intersections
+	 * @param joinType  The type of join
+	 * @param joinTable The table to join
+	 * @param joinOn    The ON clause
+	 * @param equiJoin  The equalities of the join
+	 * @param QoQExec   The current QoQ execution
+	 *
+	 * @return The new stream of intersections
+	 */
+	private static Stream<int[]> handleHashJoin( Stream<int[]> theStream, SQLJoinType joinType, Query joinTable, Evaluator joinOn,
+	    QoQJoinPlanner.EquiJoin equiJoin, QoQSelectExecution QoQExec ) {
+		if ( joinType.equals( SQLJoinType.CROSS ) || joinType.equals( SQLJoinType.INNER ) ) {
+			Map<Object, List<Integer>> rightRows = equiJoin.bucketInner( QoQExec, joinTable );
+			return theStream.flatMap( i -> hashMatches( i, rightRows, joinOn, equiJoin, QoQExec ).stream() );
+		}
+		if ( joinType.equals( SQLJoinType.LEFT ) ) {
+			Map<Object, List<Integer>> rightRows = equiJoin.bucketInner( QoQExec, joinTable );
+			return theStream.flatMap( i -> leftOrUnmatched( i, hashMatches( i, rightRows, joinOn, equiJoin, QoQExec ) ).stream() );
+		}
+
+		List<int[]>					leftRows		= theStream.collect( Collectors.toList() );
+		Map<Object, List<int[]>>	leftBuckets		= equiJoin.bucketOuter( QoQExec, leftRows );
+		Stream<int[]>				rightJoinStream	= IntStream.rangeClosed( 1, joinTable.size() ).boxed().flatMap( j -> {
+														List<int[]>	candidates	= leftBuckets.getOrDefault( equiJoin.innerKey( QoQExec, j ),
+														    Collections.emptyList() );
+														List<int[]>	matches		= new ArrayList<>();
+														for ( int[] i : candidates ) {
+															int[] joint = append( i, j );
+															if ( joinOn == null || ( Boolean ) joinOn.evaluate( joint ) ) {
+																matches.add( joint );
+															}
+														}
+														if ( matches.isEmpty() ) {
+															// 0 indicates no match in the left tables
+															int[] rightOnlyIntersection = new int[ equiJoin.tableIndex() + 1 ];
+															rightOnlyIntersection[ equiJoin.tableIndex() ] = j;
+															return Stream.of( rightOnlyIntersection );
+														}
+														return matches.stream();
+													} );
+		if ( joinType.equals( SQLJoinType.RIGHT ) ) {
+			return rightJoinStream;
+		}
+
+		// FULL OUTER JOIN: combine the LEFT JOIN and RIGHT JOIN results and remove duplicates
+		Map<Object, List<Integer>>	rightRows		= equiJoin.bucketInner( QoQExec, joinTable );
+		Stream<int[]>				leftJoinStream	= leftRows.stream()
+		    .flatMap( i -> leftOrUnmatched( i, hashMatches( i, rightRows, joinOn, equiJoin, QoQExec ) ).stream() );
+		Set<List<Integer>>			seen			= Collections.synchronizedSet( new HashSet<>() );
+		return Stream.concat( leftJoinStream, rightJoinStream )
+		    .filter( arr -> seen.add( Arrays.stream( arr ).boxed().collect( Collectors.toList() ) ) );
+	}
+
+	/**
+	 * Find the rows of the joined table matching an intersection
+	 *
+	 * @param i         The intersection of the tables already joined
+	 * @param rightRows The rows of the joined table by key
+	 * @param joinOn    The ON clause
+	 * @param equiJoin  The equalities of the join
+	 * @param QoQExec   The current QoQ execution
+	 *
+	 * @return The joined intersections, in the order of the joined table
+	 */
+	private static List<int[]> hashMatches( int[] i, Map<Object, List<Integer>> rightRows, Evaluator joinOn, QoQJoinPlanner.EquiJoin equiJoin,
+	    QoQSelectExecution QoQExec ) {
+		List<Integer> candidates = rightRows.get( equiJoin.outerKey( QoQExec, i ) );
+		if ( candidates == null ) {
+			return Collections.emptyList();
+		}
+		List<int[]> matches = new ArrayList<>( candidates.size() );
+		for ( int j : candidates ) {
+			int[] joint = append( i, j );
+			if ( joinOn == null || ( Boolean ) joinOn.evaluate( joint ) ) {
+				matches.add( joint );
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Keep an intersection without a match, as a LEFT JOIN does
+	 *
+	 * @param i       The intersection of the tables already joined
+	 * @param matches The joined intersections
+	 *
+	 * @return The matches, or the intersection with no row of the joined table
+	 */
+	private static List<int[]> leftOrUnmatched( int[] i, List<int[]> matches ) {
+		if ( matches.isEmpty() ) {
+			// 0 indicates no match in the right table
+			return List.of( append( i, 0 ) );
+		}
+		return matches;
+	}
+
+	/**
+	 * Add a row of the joined table to an intersection
+	 *
+	 * @param i The intersection
+	 * @param j The row of the joined table
+	 *
+	 * @return The new intersection
+	 */
+	private static int[] append( int[] i, int j ) {
+		int[] newIntersection = Arrays.copyOf( i, i.length + 1 );
+		newIntersection[ i.length ] = j;
+		return newIntersection;
+	}
+
 	/**
 	 * Handle CROSS and INNER JOINs
 	 * 
@@ -90,14 +211,14 @@ public class QoQIntersectionGenerator {
 	 * 
 	 * @return The new stream of intersections
 	 */
-	private static Stream<int[]> handleCrossOrInnerJoin( Stream<int[]> theStream, Query joinTable, SQLExpression joinOn, QoQSelectExecution QoQExec ) {
+	private static Stream<int[]> handleCrossOrInnerJoin( Stream<int[]> theStream, Query joinTable, Evaluator joinOn, QoQSelectExecution QoQExec ) {
 		theStream = theStream.flatMap( i -> IntStream.rangeClosed( 1, joinTable.size() ).mapToObj( j -> {
 			int[] newIntersection = Arrays.copyOf( i, i.length + 1 );
 			newIntersection[ i.length ] = j;
 			return newIntersection;
 		} ) );
 		if ( joinOn != null ) {
-			theStream = theStream.filter( i -> ( Boolean ) joinOn.evaluate( QoQExec, i ) );
+			theStream = theStream.filter( i -> ( Boolean ) joinOn.evaluate( i ) );
 		}
 		return theStream;
 	}
@@ -112,13 +233,13 @@ public class QoQIntersectionGenerator {
 	 * 
 	 * @return The new stream of intersections
 	 */
-	private static Stream<int[]> handleLeftJoin( Stream<int[]> theStream, Query joinTable, SQLExpression joinOn, QoQSelectExecution QoQExec ) {
+	private static Stream<int[]> handleLeftJoin( Stream<int[]> theStream, Query joinTable, Evaluator joinOn, QoQSelectExecution QoQExec ) {
 		return theStream.flatMap( i -> {
 			Stream<int[]>	newStream		= IntStream.rangeClosed( 1, joinTable.size() ).mapToObj( j -> {
 												int[] newIntersection = Arrays.copyOf( i, i.length + 1 );
 												newIntersection[ i.length ] = j;
 												return newIntersection;
-											} ).filter( j -> ( Boolean ) joinOn.evaluate( QoQExec, j ) );
+											} ).filter( j -> ( Boolean ) joinOn.evaluate( j ) );
 			List<int[]>		newStreamList	= newStream.collect( Collectors.toList() );
 			if ( newStreamList.isEmpty() ) {
 				int[] leftOnlyIntersection = Arrays.copyOf( i, i.length + 1 );
@@ -139,7 +260,7 @@ public class QoQIntersectionGenerator {
 	 * 
 	 * @return The new stream of intersections
 	 */
-	private static Stream<int[]> handleRightJoin( Stream<int[]> theStream, Query joinTable, SQLExpression joinOn, QoQSelectExecution QoQExec ) {
+	private static Stream<int[]> handleRightJoin( Stream<int[]> theStream, Query joinTable, Evaluator joinOn, QoQSelectExecution QoQExec ) {
 		List<int[]>		leftRows	= theStream.collect( Collectors.toList() ); // Collect the left rows to avoid reusing the stream
 		Stream<int[]>	rightStream	= IntStream.rangeClosed( 1, joinTable.size() ).mapToObj( j -> new int[] { j } );
 		return rightStream.flatMap( j -> {
@@ -147,7 +268,7 @@ public class QoQIntersectionGenerator {
 												int[] newIntersection = Arrays.copyOf( i, i.length + 1 );
 												newIntersection[ i.length ] = j[ 0 ];
 												return newIntersection;
-											} ).filter( joint -> ( Boolean ) joinOn.evaluate( QoQExec, joint ) );
+											} ).filter( joint -> ( Boolean ) joinOn.evaluate( joint ) );
 			List<int[]>		newStreamList	= newStream.collect( Collectors.toList() );
 			if ( newStreamList.isEmpty() ) {
 				int[] rightOnlyIntersection = new int[ leftRows.get( 0 ).length + 1 ];
@@ -171,7 +292,7 @@ public class QoQIntersectionGenerator {
 	 * 
 	 * @return The new stream of intersections
 	 */
-	private static Stream<int[]> handleFullOuterJoin( Stream<int[]> theStream, Query joinTable, SQLExpression joinOn, QoQSelectExecution QoQExec ) {
+	private static Stream<int[]> handleFullOuterJoin( Stream<int[]> theStream, Query joinTable, Evaluator joinOn, QoQSelectExecution QoQExec ) {
 		List<int[]>			leftRows		= theStream.collect( Collectors.toList() ); // Collect the left rows to avoid reusing the stream
 		Stream<int[]>		rightStream		= IntStream.rangeClosed( 1, joinTable.size() ).mapToObj( j -> new int[] { j } );
 
@@ -186,7 +307,7 @@ public class QoQIntersectionGenerator {
 																																							newIntersection[ i.length ] = j;
 																																							return newIntersection;
 																																						} )
-												    .filter( j -> joinOn == null || ( Boolean ) joinOn.evaluate( QoQExec, j ) );
+												    .filter( j -> joinOn == null || ( Boolean ) joinOn.evaluate( j ) );
 												List<int[]>		newStreamList	= newStream.collect( Collectors.toList() );
 												if ( newStreamList.isEmpty() ) {
 													int[] leftOnlyIntersection = Arrays.copyOf( i, i.length + 1 );
@@ -207,7 +328,7 @@ public class QoQIntersectionGenerator {
 																																							newIntersection[ i.length ] = j[ 0 ];
 																																							return newIntersection;
 																																						} )
-												    .filter( joint -> joinOn == null || ( Boolean ) joinOn.evaluate( QoQExec, joint ) );
+												    .filter( joint -> joinOn == null || ( Boolean ) joinOn.evaluate( joint ) );
 												List<int[]>		newStreamList	= newStream.collect( Collectors.toList() );
 												if ( newStreamList.isEmpty() ) {
 													int[] rightOnlyIntersection = new int[ leftRows.get( 0 ).length + 1 ];
@@ -0,0 +1,257 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.runtime.jdbc.qoq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ortus.boxlang.compiler.ast.sql.select.SQLJoin;
+import ortus.boxlang.compiler.ast.sql.select.SQLJoinType;
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLColumn;
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLExpression;
+import ortus.boxlang.compiler.ast.sql.select.expression.SQLParenthesis;
+import ortus.boxlang.compiler.ast.sql.select.expression.operation.SQLBinaryOperation;
+import ortus.boxlang.compiler.ast.sql.select.expression.operation.SQLBinaryOperator;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * I plan how a join in a QoQ statement is executed.
+ * <p>
+ * If the join condition contains column equalities ANDed together, where one side belongs to the joined table and the
+ * other to a table already in the intersection, the join can run as a hash join: the rows of one side are bucketed by
+ * the values of their join columns, and the other side only looks at the rows in its bucket instead of the whole table.
+ * For INNER and CROSS joins, equalities in the WHERE clause are used the same way, since the WHERE clause drops the
+ * rows that don't match anyway.
+ * <p>
+ * The bucket keys are normalized so that values {@link QoQCompare} considers equal always land in the same bucket. The
+ * full join condition is still evaluated for every pair in a bucket, so the results are exactly those of the nested
+ * loop. Columns whose values can't be normalized, like dates or mixed data, keep using the nested loop.
+ */
+public class QoQJoinPlanner {
+
+	/**
+	 * Marks a value whose equality we can't reproduce in a hash key
+	 */
+	private static final Object UNSUPPORTED = new Object();
+
+	/**
+	 * The equalities a join can be hashed on
+	 *
+	 * @param tableIndex   The index of the joined table in the intersections
+	 * @param outerColumns The columns of the tables already in the intersection
+	 * @param innerColumns The matching columns of the joined table
+	 * @param types        The type each equality is compared as
+	 */
+	public record EquiJoin( int tableIndex, List<SQLColumn> outerColumns, List<SQLColumn> innerColumns, List<QueryColumnType> types ) {
+
+		/**
+		 * Get the key of an intersection of the tables already joined
+		 *
+		 * @param QoQExec      The current QoQ execution
+		 * @param intersection The intersection
+		 *
+		 * @return The bucket key
+		 */
+		public Object outerKey( QoQSelectExecution QoQExec, int[] intersection ) {
+			return key( QoQExec, this.outerColumns, intersection );
+		}
+
+		/**
+		 * Get the key of a row of the joined table
+		 *
+		 * @param QoQExec The current QoQ execution
+		 * @param row     The 1-based row number
+		 *
+		 * @return The bucket key
+		 */
+		public Object innerKey( QoQSelectExecution QoQExec, int row ) {
+			int[] intersection = new int[ this.tableIndex + 1 ];
+			intersection[ this.tableIndex ] = row;
+			return key( QoQExec, this.innerColumns, intersection );
+		}
+
+		/**
+		 * Bucket the rows of the joined table by their key
+		 *
+		 * @param QoQExec   The current QoQ execution
+		 * @param joinTable The joined table
+		 *
+		 * @return The row numbers of each key, in ascending order
+		 */
+		public Map<Object, List<Integer>> bucketInner( QoQSelectExecution QoQExec, Query joinTable ) {
+			Map<Object, List<Integer>> buckets = new HashMap<>();
+			for ( int row = 1; row <= joinTable.size(); row++ ) {
+				buckets.computeIfAbsent( innerKey( QoQExec, row ), k -> new ArrayList<>() ).add( row );
+			}
+			return buckets;
+		}
+
+		/**
+		 * Bucket the intersections of the tables already joined by their key
+		 *
+		 * @param QoQExec       The current QoQ execution
+		 * @param intersections The intersections
+		 *
+		 * @return The intersections of each key, in their original order
+		 */
+		public Map<Object, List<int[]>> bucketOuter( QoQSelectExecution QoQExec, List<int[]> intersections ) {
+			Map<Object, List<int[]>> buckets = new HashMap<>();
+			for ( int[] intersection : intersections ) {
+				buckets.computeIfAbsent( outerKey( QoQExec, intersection ), k -> new ArrayList<>() ).add( intersection );
+			}
+			return buckets;
+		}
+
+		private Object key( QoQSelectExecution QoQExec, List<SQLColumn> columns, int[] intersection ) {
+			if ( columns.size() == 1 ) {
+				return normalize( this.types.get( 0 ), columns.get( 0 ).evaluate( QoQExec, intersection ) );
+			}
+			Object[] values = new Object[ columns.size() ];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[ i ] = normalize( this.types.get( i ), columns.get( i ).evaluate( QoQExec, intersection ) );
+			}
+			return Arrays.asList( values );
+		}
+	}
+
+	/**
+	 * Plan a join
+	 *
+	 * @param QoQExec    The current QoQ execution
+	 * @param join       The join
+	 * @param tableIndex The index of the joined table in the intersections
+	 *
+	 * @return The equalities to hash the join on, or null if it has to run as a nested loop
+	 */
+	public static EquiJoin plan( QoQSelectExecution QoQExec, SQLJoin join, int tableIndex ) {
+		List<SQLExpression> conjuncts = new ArrayList<>();
+		collectConjuncts( join.getOn(), conjuncts );
+		if ( join.getType().equals( SQLJoinType.INNER ) || join.getType().equals( SQLJoinType.CROSS ) ) {
+			collectConjuncts( QoQExec.getSelect().getWhere(), conjuncts );
+		}
+
+		List<SQLColumn>			outerColumns	= new ArrayList<>();
+		List<SQLColumn>			innerColumns	= new ArrayList<>();
+		List<QueryColumnType>	types			= new ArrayList<>();
+		for ( SQLExpression conjunct : conjuncts ) {
+			if ( ! ( conjunct instanceof SQLBinaryOperation equality ) || equality.getOperator() != SQLBinaryOperator.EQUAL
+			    || ! ( equality.getLeft() instanceof SQLColumn left ) || ! ( equality.getRight() instanceof SQLColumn right ) ) {
+				continue;
+			}
+			int	leftIndex;
+			int	rightIndex;
+			try {
+				leftIndex	= left.getTableIndex( QoQExec );
+				rightIndex	= right.getTableIndex( QoQExec );
+			} catch ( BoxRuntimeException e ) {
+				// Not a column of our tables, the evaluation will report it
+				continue;
+			}
+			boolean	joinsLeft	= leftIndex == tableIndex && rightIndex < tableIndex;
+			boolean	joinsRight	= rightIndex == tableIndex && leftIndex < tableIndex;
+			// QoQCompare uses the type of the left operand
+			QueryColumnType type = left.getType( QoQExec );
+			if ( ! ( joinsLeft || joinsRight ) || !canNormalize( QoQExec, left, type ) || !canNormalize( QoQExec, right, type ) ) {
+				continue;
+			}
+			outerColumns.add( joinsLeft ? right : left );
+			innerColumns.add( joinsLeft ? left : right );
+			types.add( type );
+		}
+
+		if ( types.isEmpty() ) {
+			return null;
+		}
+		return new EquiJoin( tableIndex, outerColumns, innerColumns, types );
+	}
+
+	/**
+	 * Split an expression on its top level ANDs
+	 *
+	 * @param expression The expression
+	 * @param conjuncts  The list to add the parts to
+	 */
+	private static void collectConjuncts( SQLExpression expression, List<SQLExpression> conjuncts ) {
+		if ( expression instanceof SQLParenthesis parenthesis ) {
+			collectConjuncts( parenthesis.getExpression(), conjuncts );
+		} else if ( expression instanceof SQLBinaryOperation operation && operation.getOperator() == SQLBinaryOperator.AND ) {
+			collectConjuncts( operation.getLeft(), conjuncts );
+			collectConjuncts( operation.getRight(), conjuncts );
+		} else if ( expression != null ) {
+			conjuncts.add( expression );
+		}
+	}
+
+	/**
+	 * Check every value of a column can be turned into a hash key
+	 *
+	 * @param QoQExec The current QoQ execution
+	 * @param column  The column
+	 * @param type    The type the values are compared as
+	 *
+	 * @return true if all the values can be normalized
+	 */
+	private static boolean canNormalize( QoQSelectExecution QoQExec, SQLColumn column, QueryColumnType type ) {
+		int		tableIndex		= column.getTableIndex( QoQExec );
+		Query	table			= QoQExec.getTableLookup().values().stream().skip( tableIndex ).findFirst().orElseThrow();
+		int[]	intersection	= new int[ tableIndex + 1 ];
+		for ( int row = 1; row <= table.size(); row++ ) {
+			intersection[ tableIndex ] = row;
+			if ( normalize( type, column.evaluate( QoQExec, intersection ) ) == UNSUPPORTED ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Turn a value into a key that is equal for all the values {@link QoQCompare} finds equal
+	 *
+	 * @param type  The type the value is compared as
+	 * @param value The value
+	 *
+	 * @return The key, or {@link #UNSUPPORTED}
+	 */
+	private static Object normalize( QueryColumnType type, Object value ) {
+		// QoQCompare finds two nulls equal
+		if ( value == null ) {
+			return null;
+		}
+		if ( type == QueryColumnType.VARCHAR || type == QueryColumnType.CHAR ) {
+			// Same folding as String.compareToIgnoreCase()
+			return value.toString()
+			    .codePoints()
+			    .map( c -> Character.toLowerCase( Character.toUpperCase( c ) ) )
+			    .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+			    .toString();
+		}
+		if ( type == QueryColumnType.BIGINT || type == QueryColumnType.DECIMAL || type == QueryColumnType.DOUBLE || type == QueryColumnType.INTEGER ) {
+			return value instanceof Number number ? Double.valueOf( number.doubleValue() ) : UNSUPPORTED;
+		}
+		if ( type == QueryColumnType.BIT || type == QueryColumnType.BOOLEAN ) {
+			if ( value instanceof Boolean bool ) {
+				return bool;
+			}
+			return value instanceof Number number ? Boolean.valueOf( number.intValue() == 1 ) : UNSUPPORTED;
+		}
+		return UNSUPPORTED;
+	}
+
+}
@@ -211,8 +211,8 @@ public class QoQPreparedStatement extends QoQStatement implements java.sql.Prepa
 
 	@Override
 	public boolean execute() throws SQLException {
-		// parse the SQL string into an AST object
-		SQLSelectStatement select = ( SQLSelectStatement ) QoQExecutionService.parseSQL( sql );
+		// parse the SQL string into an AST object, or reuse the one from a previous execution
+		SQLSelectStatement select = QoQExecutionService.getSelectStatement( sql );
 
 		// execute the query
 		result = QoQExecutionService.executeSelectStatement( context, select, this );
@@ -50,6 +50,11 @@ public class QoQSelectExecution {
 
 	private Map<SQLSelectStatement, Query>	independentSubQueries	= new ConcurrentHashMap<SQLSelectStatement, Query>();
 
+	/**
+	 * Where the columns of this execution find their values, the AST nodes are shared between executions
+	 */
+	private Map<SQLColumn, SQLColumn.Binding>	columnBindings			= new ConcurrentHashMap<SQLColumn, SQLColumn.Binding>();
+
 	/**
 	 * Constructor
 	 * 
@@ -272,6 +277,21 @@ public class QoQSelectExecution {
 		QoQStmtExec.setAdditionalColumns( additionalColumns );
 	}
 
+	/**
+	 * Get where a column finds its values in this execution
+	 * 
+	 * @param column The column
+	 * 
+	 * @return The binding of the column
+	 */
+	public SQLColumn.Binding getColumnBinding( SQLColumn column ) {
+		SQLColumn.Binding binding = columnBindings.get( column );
+		if ( binding == null ) {
+			binding = columnBindings.computeIfAbsent( column, c -> c.bind( this ) );
+		}
+		return binding;
+	}
+
 	/**
 	 * Indepenant sub queries are not based on the context of the outer query and can be cached here.
 	 * 
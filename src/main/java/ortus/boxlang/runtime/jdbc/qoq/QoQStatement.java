@@ -178,8 +178,8 @@ public class QoQStatement implements java.sql.Statement {
 	}
 
 	public boolean execute( String sql, int autoGeneratedKeys ) throws SQLException {
-		// parse the SQL string into an AST object
-		SQLSelectStatement select = ( SQLSelectStatement ) QoQExecutionService.parseSQL( sql );
+		// parse the SQL string into an AST object, or reuse the one from a previous execution
+		SQLSelectStatement select = QoQExecutionService.getSelectStatement( sql );
 
 		// execute the query
 		result = QoQExecutionService.executeSelectStatement( context, select, this );
@@ -24,6 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.objectweb.asm.ClassReader;
@@ -40,9 +41,11 @@ import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.objectweb.asm.tree.MethodNode;
 
+import ortus.boxlang.compiler.ClassArchive;
 import ortus.boxlang.compiler.ClassInfo;
 import ortus.boxlang.compiler.IBoxpiler;
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.interop.InteropCallSite;
 import ortus.boxlang.runtime.interop.MethodRecord;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -144,6 +147,11 @@ public class DiskClassLoader extends URLClassLoader {
 	 */
 	private final ConcurrentHashMap<String, MethodRecord>						methodHandleCache	= new ConcurrentHashMap<>( 32 );
 
+	/**
+	 * The classes whose main class was defined from the class archive, so their inner classes come from it too
+	 */
+	private final Set<String>													archivedClasses		= ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Constructs a new DiskClassLoader with the specified configuration.
 	 *
@@ -246,7 +254,26 @@ public class DiskClassLoader extends URLClassLoader {
 	 */
 	public Class<?> defineClass( String name, byte[] bytes ) {
 		// Define it
-		Class<?> clazz = defineClass( name, bytes, 0, bytes.length );
+		return initializeClass( name, defineClass( name, bytes, 0, bytes.length ) );
+	}
+
+	/**
+	 * Side-load in a class straight from a buffer, such as a slice of the memory mapped class archive
+	 *
+	 * @param name  The fully qualified name of the class
+	 * @param bytes The bytecode of the class. It is not consumed.
+	 */
+	public Class<?> defineClass( String name, ByteBuffer bytes ) {
+		return initializeClass( name, defineClass( name, bytes.duplicate(), ( java.security.ProtectionDomain ) null ) );
+	}
+
+	/**
+	 * Initialize a class that was just defined and cache it
+	 *
+	 * @param name  The fully qualified name of the class
+	 * @param clazz The class
+	 */
+	private Class<?> initializeClass( String name, Class<?> clazz ) {
 		// Force the class to initialize here, so we can catch initialization errors in our ClassInfo
 		try {
 			Class.forName( name, true, this );
@@ -310,6 +337,13 @@ public class DiskClassLoader extends URLClassLoader {
 		boolean			isBaseClass		= name.equals( baseName );
 		ClassInfo		classInfo		= boxPiler.getClassPool( classPoolName ).get( baseName );
 		ObjectRef<Long>	lastModifiedRef	= ObjectRef.of( 0L );
+
+		// Sources packed into the class archive are defined straight from it
+		Class<?>		archived		= findArchivedClass( name, baseName, isBaseClass, classInfo );
+		if ( archived != null ) {
+			return archived;
+		}
+
 		// Do we need to compile the class?
 		// Pre-compiled source files will follow this path, but will be discovered as already compiled when we try to parse them
 		if ( needsCompile( classInfo, diskPath, name, baseName, lastModifiedRef ) ) {
@@ -339,6 +373,59 @@ public class DiskClassLoader extends URLClassLoader {
 		return defineClass( name, bytes );
 	}
 
+	/**
+	 * Defines a class from the boxpiler's class archive, if the archive has a fresh copy of it.
+	 *
+	 * <p>
+	 * A main class is fresh when its source has the same contents as when the archive was built, or always when the
+	 * trusted cache is on. Inner classes are taken from the archive only when their main class was.
+	 * When the archive was built with the source at another location, the paths in the main class' static initializer are
+	 * patched the same way as for pre-compiled files. Otherwise the class is defined from the mapped bytes without copying them.
+	 * </p>
+	 *
+	 * @param name        The fully qualified name of the class
+	 * @param baseName    The name of its main class
+	 * @param isBaseClass Whether the class is the main class
+	 * @param classInfo   The class info of the main class, may be null
+	 *
+	 * @return The class, or null if it has to be loaded the regular way
+	 */
+	private Class<?> findArchivedClass( String name, String baseName, boolean isBaseClass, ClassInfo classInfo ) {
+		ClassArchive archive = boxPiler.getClassArchive();
+		if ( archive == null ) {
+			return null;
+		}
+		ClassArchive.Entry entry = archive.get( baseName );
+		if ( entry == null ) {
+			return null;
+		}
+		ByteBuffer bytes = entry.classBytes( name );
+		if ( bytes == null ) {
+			return null;
+		}
+
+		if ( !isBaseClass ) {
+			return archivedClasses.contains( baseName ) ? defineClass( name, bytes ) : null;
+		}
+
+		if ( classInfo == null || classInfo.resolvedFilePath() == null ) {
+			return null;
+		}
+		if ( !BoxRuntime.getInstance().getConfiguration().trustedCache
+		    && !entry.matchesSource( classInfo.resolvedFilePath().absolutePath() ) ) {
+			return null;
+		}
+
+		archivedClasses.add( baseName );
+		if ( entry.isLocatedAt( classInfo.resolvedFilePath() ) ) {
+			return defineClass( name, bytes );
+		}
+		byte[] classBytes = new byte[ bytes.remaining() ];
+		bytes.get( classBytes );
+		String internalName = name.replace( '.', '/' );
+		return defineClass( name, renameClassAndReferences( classBytes, internalName, internalName, classInfo, true, ObjectRef.of( "" ) ) );
+	}
+
 	/**
 	 * Validates that the bytecode version of the class is compatible with the current runtime.
 	 * 
@@ -886,6 +973,7 @@ public class DiskClassLoader extends URLClassLoader {
 			loadedClasses.clear();
 		}
 		methodHandleCache.clear();
+		InteropCallSite.invalidateAll();
 	}
 
 	/**
@@ -40,6 +40,7 @@ import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.bifs.global.type.NullValue;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
+import ortus.boxlang.runtime.interop.InteropCallSite;
 import ortus.boxlang.runtime.interop.MethodRecord;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
@@ -360,6 +361,7 @@ public class DynamicClassLoader extends URLClassLoader {
 	public void clearCache() {
 		this.loadedClasses.clear();
 		this.methodHandleCache.clear();
+		InteropCallSite.invalidateAll();
 	}
 
 	/**
@@ -0,0 +1,459 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.loader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Strings;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.bifs.BoxMember;
+import ortus.boxlang.runtime.components.BoxComponent;
+import ortus.boxlang.runtime.components.Component;
+import ortus.boxlang.runtime.types.BoxLangType;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A precomputed index of the core BIFs, member functions and components, generated at build time by the
+ * {@code generateRegistryIndex} Gradle task, which runs {@link #main(String[])}.
+ * <p>
+ * Without it, the function and component services discover every class through the {@link ServiceLoader} and reflect over
+ * their annotations on every start. With it, they register descriptors straight from the index and each class is only
+ * loaded when it's first invoked.
+ * <p>
+ * The index is a tab separated text resource:
+ *
+ * <pre>
+ * version   1
+ * bif       className   simpleName   globalName,globalName
+ * member    name        type         customType   objectArgument
+ * component className   name         alias        allowsBody   requiresBody   ignoreEnableOutputOnly   autoEvaluateBodyExpressions
+ * </pre>
+ *
+ * Member lines belong to the {@code bif} line before them.
+ */
+public class RegistryIndex {
+
+	/**
+	 * The classpath location of the index
+	 */
+	public static final String		RESOURCE		= "META-INF/boxlang/registry.index";
+
+	/**
+	 * The version of the index format
+	 */
+	public static final int			FORMAT_VERSION	= 1;
+
+	/**
+	 * The indexed BIFs
+	 */
+	private final List<BIFEntry>		bifs;
+
+	/**
+	 * The indexed components
+	 */
+	private final List<ComponentEntry>	components;
+
+	/**
+	 * A member function of a BIF
+	 *
+	 * @param name           The member name
+	 * @param type           The type the member is attached to
+	 * @param customType     The class name of the custom type, for the CUSTOM types
+	 * @param objectArgument The argument the object is passed as, or empty for the first one
+	 */
+	public record MemberEntry( String name, BoxLangType type, String customType, String objectArgument ) {
+	}
+
+	/**
+	 * A BIF
+	 *
+	 * @param className   The fully qualified class name
+	 * @param simpleName  The simple class name, which is the descriptor name
+	 * @param globalNames The names the BIF is registered as a global function under, empty if it's only a member
+	 * @param members     The member functions of the BIF
+	 */
+	public record BIFEntry( String className, String simpleName, List<String> globalNames, List<MemberEntry> members ) {
+	}
+
+	/**
+	 * A component
+	 *
+	 * @param className                   The fully qualified class name
+	 * @param name                        The component name
+	 * @param alias                       The component alias, or empty
+	 * @param allowsBody                  Whether the component allows a body
+	 * @param requiresBody                Whether the component requires a body
+	 * @param ignoreEnableOutputOnly      Whether to ignore setting enableOutputOnly
+	 * @param autoEvaluateBodyExpressions Automatically evaluate interpolated expressions in component body
+	 */
+	public record ComponentEntry(
+	    String className,
+	    String name,
+	    String alias,
+	    boolean allowsBody,
+	    boolean requiresBody,
+	    boolean ignoreEnableOutputOnly,
+	    boolean autoEvaluateBodyExpressions ) {
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param bifs       The indexed BIFs
+	 * @param components The indexed components
+	 */
+	public RegistryIndex( List<BIFEntry> bifs, List<ComponentEntry> components ) {
+		this.bifs		= bifs;
+		this.components	= components;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Describing
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Describe a BIF class from its {@link BoxBIF} and {@link BoxMember} annotations
+	 *
+	 * @param BIFClass The BIF class
+	 *
+	 * @return The entry
+	 */
+	public static BIFEntry describeBIF( Class<?> BIFClass ) {
+		String			className	= BIFClass.getSimpleName();
+
+		// Register BIF with default name or alias
+		List<String>	globalNames	= new ArrayList<>();
+		for ( BoxBIF bif : BIFClass.getAnnotationsByType( BoxBIF.class ) ) {
+			globalNames.add( bif.alias().equals( "" ) ? className : bif.alias() );
+		}
+
+		List<MemberEntry> members = new ArrayList<>();
+		for ( BoxMember member : BIFClass.getAnnotationsByType( BoxMember.class ) ) {
+			// Default member name for class ArrayFoo with BoxType of Array is just foo()
+			String memberName = member.name().equals( "" )
+			    ? Strings.CS.replace( className.toLowerCase(), member.type().name().toLowerCase(), "" )
+			    : member.name();
+			members.add( new MemberEntry( memberName, member.type(), member.customType().getName(), member.objectArgument() ) );
+		}
+
+		return new BIFEntry( BIFClass.getName(), className, globalNames, members );
+	}
+
+	/**
+	 * Describe a component class from its {@link BoxComponent} annotations. A class can declare more than one.
+	 *
+	 * @param componentClass The component class
+	 *
+	 * @return The entries
+	 */
+	public static List<ComponentEntry> describeComponent( Class<?> componentClass ) {
+		List<ComponentEntry> entries = new ArrayList<>();
+		for ( BoxComponent annotation : componentClass.getAnnotationsByType( BoxComponent.class ) ) {
+			entries.add( new ComponentEntry(
+			    componentClass.getName(),
+			    // Use the annotation name or the class name
+			    annotation.name().length() > 0 ? annotation.name() : componentClass.getSimpleName(),
+			    annotation.alias(),
+			    annotation.allowsBody(),
+			    annotation.requiresBody(),
+			    annotation.ignoreEnableOutputOnly(),
+			    annotation.autoEvaluateBodyExpressions()
+			) );
+		}
+		return entries;
+	}
+
+	/**
+	 * Build the index from the BIF and component service providers visible to a class loader
+	 *
+	 * @param classLoader The class loader
+	 *
+	 * @return The index
+	 */
+	public static RegistryIndex build( ClassLoader classLoader ) {
+		return build(
+		    ServiceLoader.load( BIF.class, classLoader ).stream().map( ServiceLoader.Provider::type ),
+		    ServiceLoader.load( Component.class, classLoader ).stream().map( ServiceLoader.Provider::type )
+		);
+	}
+
+	/**
+	 * Build the index from BIF and component classes. Classes without any registration annotation are left out.
+	 *
+	 * @param BIFClasses       The BIF classes
+	 * @param componentClasses The component classes
+	 *
+	 * @return The index
+	 */
+	public static RegistryIndex build( Stream<? extends Class<?>> BIFClasses, Stream<? extends Class<?>> componentClasses ) {
+		List<BIFEntry> bifs = BIFClasses
+		    .map( RegistryIndex::describeBIF )
+		    .filter( entry -> !entry.globalNames().isEmpty() || !entry.members().isEmpty() )
+		    .sorted( Comparator.comparing( BIFEntry::className ) )
+		    .toList();
+		List<ComponentEntry> components = componentClasses
+		    .flatMap( componentClass -> describeComponent( componentClass ).stream() )
+		    .sorted( Comparator.comparing( ComponentEntry::className ).thenComparing( ComponentEntry::name ) )
+		    .toList();
+		return new RegistryIndex( bifs, components );
+	}
+
+	/**
+	 * Build the index from the concrete BIF and component classes found in a compiled classes directory. This is what
+	 * the build uses, as it runs before the service provider files exist.
+	 *
+	 * @param classesDirectory The root of the compiled classes
+	 * @param classLoader      A class loader that can load the classes
+	 *
+	 * @return The index
+	 *
+	 * @throws IOException If the directory can't be walked
+	 */
+	public static RegistryIndex scan( Path classesDirectory, ClassLoader classLoader ) throws IOException {
+		List<Class<?>> classes;
+		try ( Stream<Path> files = Files.walk( classesDirectory ) ) {
+			classes = files
+			    .filter( file -> file.toString().endsWith( ".class" ) && !file.getFileName().toString().contains( "$" ) )
+			    .map( file -> {
+				    String relative = classesDirectory.relativize( file ).toString();
+				    return relative.substring( 0, relative.length() - ".class".length() ).replace( file.getFileSystem().getSeparator(), "." );
+			    } )
+			    .map( className -> {
+				    try {
+					    return Class.forName( className, false, classLoader );
+				    } catch ( ClassNotFoundException | LinkageError e ) {
+					    // Classes depending on optional libraries that aren't around can't be BIFs or components of ours
+					    return null;
+				    }
+			    } )
+			    .filter( clazz -> clazz != null && !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) )
+			    .collect( Collectors.toList() );
+		}
+		return build(
+		    classes.stream().filter( BIF.class::isAssignableFrom ),
+		    classes.stream().filter( Component.class::isAssignableFrom )
+		);
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Reading and Writing
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Load the index from the classpath
+	 *
+	 * @param classLoader The class loader to find the index with
+	 *
+	 * @return The index, or null if there is none or it was written in another format version
+	 */
+	public static RegistryIndex load( ClassLoader classLoader ) {
+		try ( InputStream stream = classLoader.getResourceAsStream( RESOURCE ) ) {
+			if ( stream == null ) {
+				return null;
+			}
+			return read( new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) ) );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Unable to read the registry index", e );
+		}
+	}
+
+	/**
+	 * Read an index
+	 *
+	 * @param reader The reader to read the index from
+	 *
+	 * @return The index, or null if it was written in another format version
+	 *
+	 * @throws IOException If the index can't be read
+	 */
+	public static RegistryIndex read( BufferedReader reader ) throws IOException {
+		List<BIFEntry>			bifs		= new ArrayList<>();
+		List<ComponentEntry>	components	= new ArrayList<>();
+		BIFEntry				currentBIF	= null;
+		boolean					versioned	= false;
+		String					line;
+
+		while ( ( line = reader.readLine() ) != null ) {
+			if ( line.isEmpty() || line.startsWith( "#" ) ) {
+				continue;
+			}
+			String[] fields = line.split( "\t", -1 );
+			switch ( fields[ 0 ] ) {
+				case "version" -> {
+					if ( Integer.parseInt( fields[ 1 ] ) != FORMAT_VERSION ) {
+						return null;
+					}
+					versioned = true;
+				}
+				case "bif" -> {
+					currentBIF = new BIFEntry(
+					    fields[ 1 ],
+					    fields[ 2 ],
+					    fields[ 3 ].isEmpty() ? List.of() : List.of( fields[ 3 ].split( "," ) ),
+					    new ArrayList<>()
+					);
+					bifs.add( currentBIF );
+				}
+				case "member" -> {
+					if ( currentBIF == null ) {
+						throw new IOException( "Member [" + fields[ 1 ] + "] found before any BIF in the registry index" );
+					}
+					currentBIF.members().add( new MemberEntry( fields[ 1 ], BoxLangType.valueOf( fields[ 2 ] ), fields[ 3 ], fields[ 4 ] ) );
+				}
+				case "component" -> components.add( new ComponentEntry(
+				    fields[ 1 ],
+				    fields[ 2 ],
+				    fields[ 3 ],
+				    Boolean.parseBoolean( fields[ 4 ] ),
+				    Boolean.parseBoolean( fields[ 5 ] ),
+				    Boolean.parseBoolean( fields[ 6 ] ),
+				    Boolean.parseBoolean( fields[ 7 ] )
+				) );
+				default -> throw new IOException( "Unknown registry index line [" + line + "]" );
+			}
+		}
+
+		return versioned ? new RegistryIndex( bifs, components ) : null;
+	}
+
+	/**
+	 * Write the index
+	 *
+	 * @param file The file to write
+	 *
+	 * @throws IOException If the file can't be written
+	 */
+	public void write( Path file ) throws IOException {
+		if ( file.getParent() != null ) {
+			Files.createDirectories( file.getParent() );
+		}
+		try ( BufferedWriter writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) ) {
+			writer.write( "# BoxLang registry index, generated at build time. Do not edit." );
+			writer.newLine();
+			writeLine( writer, "version", String.valueOf( FORMAT_VERSION ) );
+			for ( BIFEntry bif : bifs ) {
+				writeLine( writer, "bif", bif.className(), bif.simpleName(), String.join( ",", bif.globalNames() ) );
+				for ( MemberEntry member : bif.members() ) {
+					writeLine( writer, "member", member.name(), member.type().name(), member.customType(), member.objectArgument() );
+				}
+			}
+			for ( ComponentEntry component : components ) {
+				writeLine(
+				    writer,
+				    "component",
+				    component.className(),
+				    component.name(),
+				    component.alias(),
+				    String.valueOf( component.allowsBody() ),
+				    String.valueOf( component.requiresBody() ),
+				    String.valueOf( component.ignoreEnableOutputOnly() ),
+				    String.valueOf( component.autoEvaluateBodyExpressions() )
+				);
+			}
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Getters
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get the indexed BIFs
+	 *
+	 * @return The BIFs
+	 */
+	public List<BIFEntry> getBIFs() {
+		return bifs;
+	}
+
+	/**
+	 * Get the indexed components
+	 *
+	 * @return The components
+	 */
+	public List<ComponentEntry> getComponents() {
+		return components;
+	}
+
+	/**
+	 * Resolve a class named in the index without initializing it
+	 *
+	 * @param className   The class name
+	 * @param classLoader The class loader to load it with
+	 *
+	 * @return The class
+	 *
+	 * @throws BoxRuntimeException If the class can't be found
+	 */
+	public static Class<?> loadClass( String className, ClassLoader classLoader ) {
+		if ( Object.class.getName().equals( className ) ) {
+			return Object.class;
+		}
+		try {
+			return Class.forName( className, false, classLoader );
+		} catch ( ClassNotFoundException e ) {
+			throw new BoxRuntimeException( "Class [" + className + "] from the registry index cannot be found", e );
+		}
+	}
+
+	/**
+	 * Write a tab separated line
+	 */
+	private static void writeLine( BufferedWriter writer, String... fields ) throws IOException {
+		writer.write( String.join( "\t", fields ) );
+		writer.newLine();
+	}
+
+	/**
+	 * Generate the index from a compiled classes directory. Used by the {@code generateRegistryIndex} Gradle task.
+	 *
+	 * @param args The classes directory and the path of the index file to write
+	 */
+	public static void main( String[] args ) throws IOException {
+		if ( args.length != 2 ) {
+			System.err.println( "Usage: RegistryIndex <classes directory> <output file>" );
+			System.exit( 1 );
+		}
+		RegistryIndex index = scan( Path.of( args[ 0 ] ), RegistryIndex.class.getClassLoader() );
+		index.write( Path.of( args[ 1 ] ) );
+		System.out.println( "Wrote " + index.getBIFs().size() + " BIFs and " + index.getComponents().size() + " components to " + args[ 1 ] );
+	}
+
+}
@@ -82,6 +82,7 @@ import ortus.boxlang.runtime.types.util.StructUtil;
 import ortus.boxlang.runtime.util.DataNavigator;
 import ortus.boxlang.runtime.util.EncryptionUtil;
 import ortus.boxlang.runtime.util.Mapping;
+import ortus.boxlang.runtime.util.OutputBuffer;
 import ortus.boxlang.runtime.util.RegexBuilder;
 import ortus.boxlang.runtime.util.ResolvedFilePath;
 
@@ -959,7 +960,7 @@ public class ModuleRecord {
 			    return oComponentProxy.processBody(
 			        ( IBoxContext ) args.get( Key.context ),
 			        ( ComponentBody ) args.get( Key.body ),
-			        buffer instanceof StringBuffer ? ( StringBuffer ) buffer : context.getBuffer() );
+			        buffer instanceof StringBuffer stringBuffer ? OutputBuffer.wrap( stringBuffer ) : context.getOutputBuffer() );
 		    },
 		    new Argument[] {
 		        new Argument( true, "any", Key.context ),
@@ -1172,10 +1172,9 @@ public class BoxHttpClient {
 		 */
 		public BoxHttpRequest asJSON() {
 			this.transformer = ( result ) -> {
-				Object	fileContent		= result.get( Key.fileContent );
+				Object fileContent = result.get( Key.fileContent );
 				// Convert the filecontent from JSON to BoxLang native
-				Object	inflatedJSON	= JSONUtil.fromJSON( fileContent );
-				return JSONUtil.mapToBLTypes( inflatedJSON, true );
+				return JSONUtil.fromJSONToBLTypes( fileContent, true );
 			};
 			return this;
 		}
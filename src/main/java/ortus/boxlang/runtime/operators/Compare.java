@@ -118,6 +118,11 @@ public class Compare implements IOperator {
 	 */
 	@SuppressWarnings( "unchecked" )
 	public static Integer invoke( Object left, Object right, boolean caseSensitive, boolean fail, Locale locale ) {
+		// Integral numbers (loop counters, indexes, etc) are by far the most common comparison, skip all casting for them
+		if ( isIntegral( left ) && isIntegral( right ) ) {
+			return Long.compare( ( ( Number ) left ).longValue(), ( ( Number ) right ).longValue() );
+		}
+
 		// Two nulls are equal
 		if ( left == null && right == null ) {
 			return 0;
@@ -264,6 +269,17 @@ public class Compare implements IOperator {
 		return null;
 	}
 
+	/**
+	 * Is the value an integer or long, which can be compared without any casting
+	 *
+	 * @param value The value to check
+	 *
+	 * @return True if integral
+	 */
+	private static boolean isIntegral( Object value ) {
+		return value instanceof Integer || value instanceof Long;
+	}
+
 	/**
 	 * Converts a compare result to an integer. This allows sort callbacks to return any numeric value.
 	 * 
@@ -72,6 +72,13 @@ public class Minus implements IOperator {
 				return ll - ( long ) ri;
 			}
 		}
+		if ( left instanceof Long ll && right instanceof Long rl ) {
+			long result = ll - rl;
+			// Overflow guard (same check as Math.subtractExact()), on overflow we fall through to the generic path
+			if ( ( ( ll ^ rl ) & ( ll ^ result ) ) >= 0 ) {
+				return result;
+			}
+		}
 
 		boolean	leftIsBD	= false;
 		boolean	rightIsBD	= false;
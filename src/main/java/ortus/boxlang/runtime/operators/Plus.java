@@ -72,6 +72,13 @@ public class Plus implements IOperator {
 				return ll + ri;
 			}
 		}
+		if ( left instanceof Long ll && right instanceof Long rl ) {
+			long result = ll + rl;
+			// Overflow guard (same check as Math.addExact()), on overflow we fall through to the generic path
+			if ( ( ( ll ^ result ) & ( rl ^ result ) ) >= 0 ) {
+				return result;
+			}
+		}
 
 		boolean	leftIsBD	= false;
 		boolean	rightIsBD	= false;
@@ -20,9 +20,13 @@ package ortus.boxlang.runtime.scopes;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.util.ThreadConfinedMap;
 
 /**
  * Arguments scope implementation in BoxLang
+ * <p>
+ * The arguments scope is confined to the thread that created it and only upgrades to a
+ * concurrent map once it escapes to another thread. See {@link ThreadConfinedMap}.
  */
 public class ArgumentsScope extends BaseScope {
 
@@ -41,7 +45,16 @@ public class ArgumentsScope extends BaseScope {
 	 */
 
 	public ArgumentsScope() {
-		super( ArgumentsScope.name, Struct.TYPES.LINKED );
+		this( 8 );
+	}
+
+	/**
+	 * Create a new arguments scope sized for the expected amount of arguments
+	 *
+	 * @param expectedSize The amount of arguments we expect to store
+	 */
+	public ArgumentsScope( int expectedSize ) {
+		super( ArgumentsScope.name, new ThreadConfinedMap( true, expectedSize ), Struct.TYPES.LINKED );
 	}
 
 	/**
@@ -50,7 +63,7 @@ public class ArgumentsScope extends BaseScope {
 	 * @param attributes The attributes to add to the scope
 	 */
 	public ArgumentsScope( IStruct attributes ) {
-		super( ArgumentsScope.name, Struct.TYPES.LINKED );
+		this( attributes.size() );
 		putAll( attributes );
 	}
 
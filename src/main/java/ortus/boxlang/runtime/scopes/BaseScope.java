@@ -18,6 +18,7 @@
 package ortus.boxlang.runtime.scopes;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import ortus.boxlang.runtime.context.IBoxContext;
@@ -26,6 +27,7 @@ import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.meta.BoxMeta;
 import ortus.boxlang.runtime.types.meta.ScopeMeta;
+import ortus.boxlang.runtime.types.util.ThreadConfinedMap;
 
 /**
  * Base scope implementation. Extends HashMap for now. May want to switch to composition over inheritance, but this
@@ -80,6 +82,19 @@ public class BaseScope extends Struct implements IScope {
 		this.scopeName = scopeName;
 	}
 
+	/**
+	 * Constructor
+	 *
+	 * @param scopeName The name of the scope
+	 * @param map       The map to wrap
+	 * @param type      The Struct type of the scope
+	 */
+	public BaseScope( Key scopeName, Map<Key, Object> map, Struct.TYPES type ) {
+		// setup props
+		super( map, type );
+		this.scopeName = scopeName;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Methods
@@ -144,6 +159,29 @@ public class BaseScope extends Struct implements IScope {
 		return lockName;
 	}
 
+	/**
+	 * If this scope is backed by a {@link ThreadConfinedMap}, upgrade it to a concurrent map so it can be
+	 * safely shared with other threads. Any thread can call this, but it's cheapest from the thread that created the
+	 * scope.
+	 *
+	 * @return This scope
+	 */
+	public BaseScope escape() {
+		if ( this.wrapped instanceof ThreadConfinedMap confinedMap ) {
+			confinedMap.escape();
+		}
+		return this;
+	}
+
+	/**
+	 * Verify if this scope is still confined to the thread that created it
+	 *
+	 * @return True if the scope is backed by a thread confined map that has not escaped yet
+	 */
+	public boolean isThreadConfined() {
+		return this.wrapped instanceof ThreadConfinedMap confinedMap && !confinedMap.isEscaped();
+	}
+
 	/**
 	 * Assign a value to a key in this scope, setting it as final
 	 *
@@ -136,6 +136,8 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		autoCreate							= Key.of( "autoCreate" );
 	public static final Key		base64_or_object					= Key.of( "base64_or_object" );
 	public static final Key		baseTag								= Key.of( "baseTag" );
+	public static final Key		batch								= Key.of( "batch" );
+	public static final Key		batchSize							= Key.of( "batchSize" );
 	public static final Key		beforeAnyTask						= Key.of( "beforeAnyTask" );
 	public static final Key		bif									= Key.of( "bif" );
 	public static final Key		bigdecimal							= Key.of( "bigdecimal" );
@@ -194,6 +196,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		chunk								= Key.of( "chunk" );
 	public static final Key		chunkCount							= Key.of( "chunkCount" );
 	public static final Key		chunkNumber							= Key.of( "chunkNumber" );
+	public static final Key		classArchive						= Key.of( "classArchive" );
 	public static final Key		classGenerationDirectory			= Key.of( "classGenerationDirectory" );
 	public static final Key		classLoader							= Key.of( "classloader" );
 	public static final Key		className							= Key.of( "className" );
@@ -223,6 +226,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		columnType							= Key.of( "columnType" );
 	public static final Key		columnTypeList						= Key.of( "columnTypeList" );
 	public static final Key		compiler							= Key.of( "compiler" );
+	public static final Key		compilerOptimizations				= Key.of( "compilerOptimizations" );
 	public static final Key		component							= Key.of( "component" );
 	public static final Key		componentPaths						= Key.of( "componentPaths" );
 	public static final Key		componentService					= Key.of( "componentService" );
@@ -687,6 +691,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		onShutdown							= Key.of( "onShutdown" );
 	public static final Key		onStartup							= Key.of( "onStartup" );
 	public static final Key		onUnload							= Key.of( "onUnload" );
+	public static final Key		openQueryCursors					= Key.of( "openQueryCursors" );
 	public static final Key		operation							= Key.of( "operation" );
 	public static final Key		options								= Key.of( "options" );
 	public static final Key		ordered								= Key.of( "ordered" );
@@ -761,6 +766,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		reg_expression						= Key.of( "reg_expression" );
 	public static final Key		regex								= Key.of( "regex" );
 	public static final Key		region								= Key.of( "region" );
+	public static final Key		registryIndex						= Key.of( "registryIndex" );
 	public static final Key		reloadOnChange						= Key.of( "reloadOnChange" );
 	public static final Key		remote_addr							= Key.of( "remote_addr" );
 	public static final Key		remote_host							= Key.of( "remote_host" );
@@ -792,6 +798,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		rootLevel							= Key.of( "rootLevel" );
 	public static final Key		row									= Key.of( "row" );
 	public static final Key		row_number							= Key.of( "row_number" );
+	public static final Key		rowCount							= Key.of( "rowCount" );
 	public static final Key		rowData								= Key.of( "rowData" );
 	public static final Key		rowID								= Key.of( "rowID" );
 	public static final Key		rowIDs								= Key.of( "rowIDs" );
@@ -1136,6 +1143,17 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		onDelete							= Key.of( "onDelete" );
 	public static final Key		onOverflow							= Key.of( "onOverflow" );
 
+	/**
+	 * --------------------------------------------------------------------------
+	 * Warmup Compilation Keys
+	 * --------------------------------------------------------------------------
+	 */
+	public static final Key		warmup								= Key.of( "warmup" );
+	public static final Key		includes							= Key.of( "includes" );
+	public static final Key		excludes							= Key.of( "excludes" );
+	public static final Key		failures							= Key.of( "failures" );
+	public static final Key		files								= Key.of( "files" );
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Private Properties
@@ -1163,6 +1181,13 @@ public class Key implements Comparable<Key>, Serializable {
 	 */
 	protected int				hashCode;
 
+	/**
+	 * Whether this key came from the {@link KeyTable}, meaning its {@code nameNoCase} is the canonical instance
+	 * and can be compared by reference against other interned keys. Never serialized, since deserialized keys
+	 * have their own String instances.
+	 */
+	protected transient boolean	interned							= false;
+
 	/**
 	 * Serialization version
 	 */
@@ -1204,6 +1229,21 @@ public class Key implements Comparable<Key>, Serializable {
 		}
 	}
 
+	/**
+	 * Constructor used by the {@link KeyTable} for interned keys
+	 *
+	 * @param name       The target key to use, which is the original case.
+	 * @param nameNoCase The canonical lower case name shared by all interned keys
+	 * @param interned   Whether the key is interned
+	 */
+	Key( String name, String nameNoCase, boolean interned ) {
+		this.name			= name;
+		this.originalValue	= name;
+		this.nameNoCase		= nameNoCase;
+		this.hashCode		= nameNoCase.hashCode();
+		this.interned		= interned;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Methods
@@ -1234,7 +1274,8 @@ public class Key implements Comparable<Key>, Serializable {
 	/**
 	 * Verifies equality with the following rules:
 	 * - Same object
-	 * - Same key hash
+	 * - Same canonical name reference (interned keys)
+	 * - Same key name (case-insensitive)
 	 *
 	 * @param obj The object to compare against.
 	 */
@@ -1251,6 +1292,10 @@ public class Key implements Comparable<Key>, Serializable {
 		}
 
 		if ( obj instanceof Key castedKey ) {
+			// Interned keys share the canonical name instance
+			if ( this.interned && castedKey.interned ) {
+				return this.nameNoCase == castedKey.nameNoCase;
+			}
 			// Same key name
 			return getNameNoCase().equals( castedKey.getNameNoCase() );
 		}
@@ -1292,7 +1337,9 @@ public class Key implements Comparable<Key>, Serializable {
 	}
 
 	/**
-	 * Static builder of a case-insensitive key using the incoming key name
+	 * Static builder of a case-insensitive key using the incoming key name.
+	 * Non-numeric names are interned in the global {@link KeyTable}, so repeated calls with the same
+	 * name return the same instance and skip the lower-casing and hashing.
 	 *
 	 * @param name The key name to use.
 	 *
@@ -1312,7 +1359,16 @@ public class Key implements Comparable<Key>, Serializable {
 
 			}
 		}
-		return new Key( name );
+		return KeyTable.intern( name );
+	}
+
+	/**
+	 * Verify if this key is interned in the global {@link KeyTable}
+	 *
+	 * @return True, if it's interned
+	 */
+	public boolean isInterned() {
+		return this.interned;
 	}
 
 	/**
@@ -0,0 +1,106 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.scopes;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The global canonical table of interned {@link Key} instances used by {@link Key#of(String)}.
+ * <p>
+ * Every interned key with the same case-insensitive name shares the exact same {@code nameNoCase}
+ * String instance, so equality between two interned keys is a single reference comparison and
+ * the lower-casing and hashing only happens once per distinct name.
+ * <p>
+ * The table is bounded so dynamic, unbounded key populations (uuids, user input, etc) can never
+ * grow it forever. Once the limit is reached, new names are no longer interned and {@link Key#of(String)}
+ * falls back to creating a plain key. Interned entries are never evicted, which is what guarantees the
+ * canonical name instances stay stable for the life of the JVM.
+ * <p>
+ * The limit can be tuned with the {@code boxlang.keyTable.maxSize} system property.
+ */
+public final class KeyTable {
+
+	/**
+	 * The maximum amount of keys we will intern
+	 */
+	public static final int									MAX_SIZE	= Integer.getInteger( "boxlang.keyTable.maxSize", 50_000 );
+
+	/**
+	 * The interned keys by their original (cased) name
+	 */
+	private static final ConcurrentHashMap<String, Key>		KEYS		= new ConcurrentHashMap<>( 4096 );
+
+	/**
+	 * The canonical lower case names shared by all interned keys
+	 */
+	private static final ConcurrentHashMap<String, String>	NAMES		= new ConcurrentHashMap<>( 4096 );
+
+	/**
+	 * Static class
+	 */
+	private KeyTable() {
+	}
+
+	/**
+	 * Get the canonical key for the incoming name, interning it if we still have room.
+	 *
+	 * @param name The key name in its original case
+	 *
+	 * @return The interned key, or a new non-interned key if the table is full
+	 */
+	public static Key intern( String name ) {
+		Key key = KEYS.get( name );
+		if ( key != null ) {
+			return key;
+		}
+
+		// Table is full, stop interning
+		if ( KEYS.size() >= MAX_SIZE ) {
+			return new Key( name );
+		}
+
+		String	nameNoCase	= name.toLowerCase();
+		String	canonical	= NAMES.putIfAbsent( nameNoCase, nameNoCase );
+		if ( canonical == null ) {
+			canonical = nameNoCase;
+		}
+
+		key = new Key( name, canonical, true );
+		Key existing = KEYS.putIfAbsent( name, key );
+		return existing == null ? key : existing;
+	}
+
+	/**
+	 * Verify if a name has already been interned with this exact case
+	 *
+	 * @param name The key name in its original case
+	 *
+	 * @return True if interned
+	 */
+	public static boolean contains( String name ) {
+		return KEYS.containsKey( name );
+	}
+
+	/**
+	 * @return The number of interned keys
+	 */
+	public static int size() {
+		return KEYS.size();
+	}
+
+}
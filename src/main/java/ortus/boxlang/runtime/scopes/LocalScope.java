@@ -17,8 +17,14 @@
  */
 package ortus.boxlang.runtime.scopes;
 
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.util.ThreadConfinedMap;
+
 /**
  * Local scope implementation in BoxLang
+ * <p>
+ * The local scope is confined to the thread that created it and only upgrades to a
+ * concurrent map once it escapes to another thread. See {@link ThreadConfinedMap}.
  */
 public class LocalScope extends BaseScope {
 
@@ -36,7 +42,7 @@ public class LocalScope extends BaseScope {
 	 */
 
 	public LocalScope() {
-		super( LocalScope.name );
+		super( LocalScope.name, new ThreadConfinedMap( false, 8 ), Struct.TYPES.DEFAULT );
 	}
 
 	/**
@@ -26,6 +26,7 @@ import javax.script.ScriptContext;
 
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.util.OutputBuffer;
 
 /**
  * This context represents the context of a JSR scripting execution
@@ -88,17 +89,16 @@ public class JSRScriptingRequestBoxContext extends ScriptingRequestBoxContext {
 		if ( !canOutput() && !force ) {
 			return this;
 		}
-		var		buffers	= super._getBuffers();
-		String	output;
-		for ( StringBuffer buf : buffers ) {
+		var buffers = super._getOutputBuffers();
+		for ( OutputBuffer buf : buffers ) {
+			// Write the chunks straight to the script writer, no need to build a String
 			synchronized ( buf ) {
-				output = buf.toString();
-				buf.setLength( 0 );
-			}
-			try {
-				JSRScriptingContext.getWriter().write( output );
-			} catch ( IOException e ) {
-				e.printStackTrace();
+				try {
+					buf.writeTo( JSRScriptingContext.getWriter() );
+				} catch ( IOException e ) {
+					e.printStackTrace();
+				}
+				buf.clear();
 			}
 		}
 		return this;
@@ -20,11 +20,11 @@ package ortus.boxlang.runtime.services;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.executors.BoxExecutor;
 import ortus.boxlang.runtime.async.executors.BoxScheduledExecutor;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
 import ortus.boxlang.runtime.config.segments.ExecutorConfig;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
@@ -102,12 +103,28 @@ public class AsyncService extends BaseService {
 	/**
 	 * Default max threads
 	 */
-	public static final int				DEFAULT_MAX_THREADS	= 10;
+	public static final int				DEFAULT_MAX_THREADS			= 10;
 
 	/**
 	 * Default timeout in seconds for shutdown and await termination
 	 */
-	public static final Long			DEFAULT_TIMEOUT		= 30L;
+	public static final Long			DEFAULT_TIMEOUT				= 30L;
+
+	/**
+	 * The most threads a shared parallel executor can have, larger maxThreads requests are capped to it
+	 */
+	public static final int				MAX_PARALLEL_THREADS		= Math.max( 64, Runtime.getRuntime().availableProcessors() * 4 );
+
+	/**
+	 * The most parallel operations that can run in the shared parallel executors at once, the rest run on their calling
+	 * thread
+	 */
+	public static final int				MAX_PARALLEL_OPERATIONS		= Math.max( 16, Runtime.getRuntime().availableProcessors() * 2 );
+
+	/**
+	 * The name prefix of the shared parallel executors
+	 */
+	public static final String			PARALLEL_EXECUTOR_PREFIX	= "boxlang-parallel-";
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -115,7 +132,12 @@ public class AsyncService extends BaseService {
 	 * --------------------------------------------------------------------------
 	 */
 
-	private Map<String, BoxExecutor>	executors			= new ConcurrentHashMap<>();
+	private Map<String, BoxExecutor>	executors					= new ConcurrentHashMap<>();
+
+	/**
+	 * The permits shared by the parallel executors, one per running parallel operation
+	 */
+	private final Semaphore				parallelLimiter				= new Semaphore( MAX_PARALLEL_OPERATIONS );
 
 	/**
 	 * Logger
@@ -586,22 +608,64 @@ public class AsyncService extends BaseService {
 	}
 
 	/**
-	 * Utility method to choose an executor for parallel processing
+	 * Get the shared executor for parallel collection operations with the given parallelism, creating it on first use.
+	 * There is one fork join pool per parallelism level, capped to {@link #MAX_PARALLEL_THREADS}, and one virtual thread
+	 * executor. They are registered like any other executor, so they show up in the executor stats, and they live until
+	 * the service shuts down.
+	 *
+	 * @param maxThreads The parallelism of the pool, ignored if virtual is requested
+	 * @param virtual    Whether to use virtual threads
+	 *
+	 * @return The shared executor
+	 */
+	public BoxExecutor getParallelExecutor( int maxThreads, boolean virtual ) {
+		int		parallelism	= virtual ? 0 : Math.min( Math.max( maxThreads, 1 ), MAX_PARALLEL_THREADS );
+		String	name		= PARALLEL_EXECUTOR_PREFIX + ( virtual ? "virtual" : parallelism );
+		return this.executors.compute( name, ( key, existing ) -> {
+			if ( existing != null && !existing.isShutdown() ) {
+				return existing;
+			}
+			ExecutorType	type	= virtual ? ExecutorType.VIRTUAL : ExecutorType.FORK_JOIN;
+			BoxExecutor		built	= buildExecutor( name, type, parallelism );
+			return new ParallelExecutor( built.executor(), name, type, parallelism, this.parallelLimiter );
+		} );
+	}
+
+	/**
+	 * Get the stats of the shared parallel executors: the global limit, how much of it is in use, and the stats of each
+	 * executor, including their queue depth.
+	 *
+	 * @return A struct of the parallel executor stats
+	 */
+	public IStruct getParallelExecutorStats() {
+		IStruct	pools		= new Struct( IStruct.TYPES.LINKED );
+		long	callerRuns	= 0;
+		for ( BoxExecutor executor : this.executors.values() ) {
+			if ( executor instanceof ParallelExecutor parallelExecutor ) {
+				pools.put( Key.of( executor.name() ), executor.getStats() );
+				callerRuns += parallelExecutor.getCallerRunsCount();
+			}
+		}
+		return Struct.linkedOf(
+		    "maxOperations", MAX_PARALLEL_OPERATIONS,
+		    "maxThreads", MAX_PARALLEL_THREADS,
+		    "runningOperations", MAX_PARALLEL_OPERATIONS - this.parallelLimiter.availablePermits(),
+		    "callerRuns", callerRuns,
+		    "executors", pools
+		);
+	}
+
+	/**
+	 * Utility method to choose an executor for parallel processing. The executor is one of the shared parallel
+	 * executors of the runtime, see {@link #getParallelExecutor(int, boolean)}.
 	 *
+	 * @param prefix     Not used anymore, the executors are shared by all the parallel operations
 	 * @param maxThreads The maximum number of threads to use ignored if virtual is
 	 *                   requested
 	 * @param virtual    Whether to use virtual threads
 	 */
 	public static BoxExecutor chooseParallelExecutor( String prefix, int maxThreads, boolean virtual ) {
-		if ( virtual ) {
-			return AsyncService.buildExecutor( prefix + UUID.randomUUID().toString(), AsyncService.ExecutorType.VIRTUAL,
-			    0 );
-		} else {
-			return AsyncService.buildExecutor(
-			    prefix + UUID.randomUUID().toString(),
-			    AsyncService.ExecutorType.FORK_JOIN,
-			    maxThreads );
-		}
+		return BoxRuntime.getInstance().getAsyncService().getParallelExecutor( maxThreads, virtual );
 	}
 
 }
@@ -25,9 +25,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 
 import ortus.boxlang.runtime.BoxRuntime;
-import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.components.ComponentDescriptor;
+import ortus.boxlang.runtime.loader.RegistryIndex;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
@@ -238,12 +238,20 @@ public class ComponentService extends BaseService {
 	 */
 
 	/**
-	 * This method loads all of the components into the service by scanning the
-	 * {@code ortus.boxlang.runtime.components.} package.
+	 * This method loads all of the components into the service. They come from the build time {@link RegistryIndex}
+	 * when there is one, so no component class is loaded until it's first used. Otherwise the
+	 * {@code ortus.boxlang.runtime.components.} package is scanned through the {@link ServiceLoader}.
 	 *
 	 * @throws IOException If there is an error loading the components
 	 */
 	public void loadComponentRegistry() throws IOException {
+		RegistryIndex index = runtime.getRegistryIndex();
+		if ( index != null ) {
+			ClassLoader classLoader = BoxRuntime.class.getClassLoader();
+			index.getComponents().forEach( entry -> registerComponentEntry( entry, null, null, null, classLoader ) );
+			return;
+		}
+
 		ServiceLoader
 		    .load( Component.class, BoxRuntime.class.getClassLoader() )
 		    .stream()
@@ -272,48 +280,57 @@ public class ComponentService extends BaseService {
 			throw new BoxRuntimeException( "Cannot register component because no component class or component was provided" );
 		}
 
-		// Component Properties
-		Key				customName					= Key.of( "" );
-		String			alias						= "";
-		boolean			allowsBody					= false;
-		boolean			requiresBody				= false;
-		boolean			ignoreEnableOutputOnly		= false;
-		boolean			autoEvaluateBodyExpressions	= false;
-		Key				className					= Key.of( componentClass.getSimpleName() );
-
-		// Parse the annotations
-		BoxComponent[]	commponentAnnotations		= componentClass.getAnnotationsByType( BoxComponent.class );
-
-		for ( BoxComponent annotation : commponentAnnotations ) {
-			customName					= annotation.name().length() > 0 ? Key.of( annotation.name() ) : className;
-			allowsBody					= annotation.allowsBody();
-			requiresBody				= annotation.requiresBody();
-			alias						= annotation.alias();
-			ignoreEnableOutputOnly		= annotation.ignoreEnableOutputOnly();
-			autoEvaluateBodyExpressions	= annotation.autoEvaluateBodyExpressions();
-
-			ComponentDescriptor descriptor = new ComponentDescriptor(
-			    // Use the annotation name or the class name
-			    customName,
-			    componentClass,
-			    module,
-			    null,
-			    component,
-			    allowsBody,
-			    requiresBody,
-			    ignoreEnableOutputOnly,
-			    autoEvaluateBodyExpressions
-			);
-
-			// Register normal first
-			registerComponent( descriptor, true );
-
-			// Do we have an alias?
-			if ( alias.length() > 0 ) {
-				registerComponent( descriptor, Key.of( alias ), true );
-			}
+		// Parse the annotations the same way the build time registry index does
+		for ( RegistryIndex.ComponentEntry entry : RegistryIndex.describeComponent( componentClass ) ) {
+			registerComponentEntry( entry, componentClass, component, module, componentClass.getClassLoader() );
 		}
+	}
 
+	/**
+	 * Registers a described component under its name and alias.
+	 *
+	 * @param entry          The component description
+	 * @param componentClass The component class, or null to load it on first use
+	 * @param component      The component instance, or null to create it on first use
+	 * @param module         The module the component belongs to, or null if core
+	 * @param classLoader    The class loader to load the component class with
+	 */
+	private void registerComponentEntry(
+	    RegistryIndex.ComponentEntry entry,
+	    Class<?> componentClass,
+	    Component component,
+	    String module,
+	    ClassLoader classLoader ) {
+		ComponentDescriptor descriptor = componentClass == null
+		    ? new ComponentDescriptor(
+		        Key.of( entry.name() ),
+		        entry.className(),
+		        classLoader,
+		        module,
+		        entry.allowsBody(),
+		        entry.requiresBody(),
+		        entry.ignoreEnableOutputOnly(),
+		        entry.autoEvaluateBodyExpressions()
+		    )
+		    : new ComponentDescriptor(
+		        Key.of( entry.name() ),
+		        componentClass,
+		        module,
+		        null,
+		        component,
+		        entry.allowsBody(),
+		        entry.requiresBody(),
+		        entry.ignoreEnableOutputOnly(),
+		        entry.autoEvaluateBodyExpressions()
+		    );
+
+		// Register normal first
+		registerComponent( descriptor, true );
+
+		// Do we have an alias?
+		if ( entry.alias().length() > 0 ) {
+			registerComponent( descriptor, Key.of( entry.alias() ), true );
+		}
 	}
 
 }
@@ -22,20 +22,19 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.apache.commons.lang3.Strings;
 import org.slf4j.Logger;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BIFDescriptor;
 import ortus.boxlang.runtime.bifs.BIFNamespace;
-import ortus.boxlang.runtime.bifs.BoxBIF;
-import ortus.boxlang.runtime.bifs.BoxMember;
 import ortus.boxlang.runtime.bifs.MemberDescriptor;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
 import ortus.boxlang.runtime.dynamic.casters.GenericCaster;
+import ortus.boxlang.runtime.loader.RegistryIndex;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.BoxLangType;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -63,6 +62,11 @@ public class FunctionService extends BaseService {
 	 */
 	private Map<Key, BIFDescriptor>							globalFunctions	= new ConcurrentHashMap<>();
 
+	/**
+	 * Bumped every time a global function is registered or unregistered, so compiled call sites know when to re-resolve their BIF
+	 */
+	private final AtomicInteger								bifVersion		= new AtomicInteger( 0 );
+
 	/**
 	 * The set of namespaced functions registered with the service
 	 */
@@ -202,6 +206,15 @@ public class FunctionService extends BaseService {
 		return this.globalFunctions.containsKey( name );
 	}
 
+	/**
+	 * Returns the version of the global function registrations, which changes every time a global function is registered or unregistered
+	 *
+	 * @return The registration version
+	 */
+	public int getGlobalFunctionsVersion() {
+		return this.bifVersion.get();
+	}
+
 	/**
 	 * Returns the global function with the given name
 	 *
@@ -317,6 +330,7 @@ public class FunctionService extends BaseService {
 			throw new BoxRuntimeException( "Global function " + name.getName() + " already exists" );
 		}
 		this.globalFunctions.put( name, descriptor );
+		this.bifVersion.incrementAndGet();
 	}
 
 	/**
@@ -338,6 +352,7 @@ public class FunctionService extends BaseService {
 	 */
 	public void unregisterGlobalFunction( Key name ) {
 		this.globalFunctions.remove( name );
+		this.bifVersion.incrementAndGet();
 	}
 
 	/**
@@ -376,12 +391,20 @@ public class FunctionService extends BaseService {
 	 */
 
 	/**
-	 * This method loads all of the global functions into the service by scanning the
-	 * {@code ortus.boxlang.runtime.bifs.global} package.
+	 * This method loads all of the global functions into the service. They come from the build time
+	 * {@link RegistryIndex} when there is one, so no BIF class is loaded until it's first invoked. Otherwise the
+	 * {@code ortus.boxlang.runtime.bifs.global} package is scanned through the {@link ServiceLoader}.
 	 *
 	 * @throws IOException If there is an error loading the global functions
 	 */
 	public void loadGlobalFunctions() throws IOException {
+		RegistryIndex index = runtime.getRegistryIndex();
+		if ( index != null ) {
+			ClassLoader classLoader = BoxRuntime.class.getClassLoader();
+			index.getBIFs().forEach( entry -> registerBIFEntry( entry, null, null, null, classLoader ) );
+			return;
+		}
+
 		ServiceLoader
 		    .load( BIF.class, BoxRuntime.class.getClassLoader() )
 		    .stream()
@@ -412,38 +435,34 @@ public class FunctionService extends BaseService {
 			throw new BoxRuntimeException( "Cannot register global function because no BIF class or function was provided" );
 		}
 
-		// We'll re-use this same BIFDescriptor for each annotation to ensure there's only ever one actual BIF instance.
-		String			className		= BIFClass.getSimpleName();
-		Key				classNameKey	= Key.of( className );
-		BIFDescriptor	descriptor		= new BIFDescriptor(
-		    classNameKey,
-		    BIFClass,
-		    module,
-		    null,
-		    true,
-		    function
-		);
+		// The annotations are read the same way the build time registry index reads them
+		registerBIFEntry( RegistryIndex.describeBIF( BIFClass ), BIFClass, function, module, BIFClass.getClassLoader() );
+	}
+
+	/**
+	 * Registers a described BIF as global functions and member methods.
+	 *
+	 * @param entry       The BIF description
+	 * @param BIFClass    The BIF class, or null to load it on first use
+	 * @param function    The BIF instance, or null to create it on first use
+	 * @param module      The module the BIF belongs to, or null if core
+	 * @param classLoader The class loader to load the BIF and custom member types with
+	 */
+	private void registerBIFEntry( RegistryIndex.BIFEntry entry, Class<?> BIFClass, BIF function, String module, ClassLoader classLoader ) {
+		// We'll re-use this same BIFDescriptor for each name to ensure there's only ever one actual BIF instance.
+		Key				classNameKey	= Key.of( entry.simpleName() );
+		BIFDescriptor	descriptor		= BIFClass == null
+		    ? new BIFDescriptor( classNameKey, entry.className(), classLoader, module, null, true )
+		    : new BIFDescriptor( classNameKey, BIFClass, module, null, true, function );
 
 		// Register BIF with default name or alias
-		BoxBIF[]		bifAnnotations	= BIFClass.getAnnotationsByType( BoxBIF.class );
-		for ( BoxBIF bif : bifAnnotations ) {
-			registerGlobalFunction( descriptor, bif.alias().equals( "" ) ? classNameKey : Key.of( bif.alias() ), true );
+		for ( String globalName : entry.globalNames() ) {
+			registerGlobalFunction( descriptor, globalName.equals( entry.simpleName() ) ? classNameKey : Key.of( globalName ), true );
 		}
 
 		// Register member methods
-		BoxMember[] boxMemberAnnotations = BIFClass.getAnnotationsByType( BoxMember.class );
-		for ( BoxMember member : boxMemberAnnotations ) {
-
-			// Discover the member method name
-			Key memberKey;
-			if ( member.name().equals( "" ) ) {
-				// Default member name for class ArrayFoo with BoxType of Array is just foo()
-				memberKey = Key.of(
-				    Strings.CS.replace( className.toLowerCase(), member.type().name().toLowerCase(), "" )
-				);
-			} else {
-				memberKey = Key.of( member.name() );
-			}
+		for ( RegistryIndex.MemberEntry member : entry.members() ) {
+			Key memberKey = Key.of( member.name() );
 
 			// Register the member method using the data and BIF Descriptor
 			registerMemberMethod(
@@ -451,14 +470,13 @@ public class FunctionService extends BaseService {
 			    new MemberDescriptor(
 			        memberKey,
 			        member.type(),
-			        member.customType(),
+			        RegistryIndex.loadClass( member.customType(), classLoader ),
 			        // Pass null if objectArgument is empty
 			        member.objectArgument().equals( "" ) ? null : Key.of( member.objectArgument() ),
 			        descriptor
 			    )
 			);
 		}
-
 	}
 
 	/**
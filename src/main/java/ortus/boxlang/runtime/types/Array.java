@@ -81,9 +81,22 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	 */
 
 	/**
-	 * This is the array we are wrapping and enhancing for BoxLang
+	 * This is the array we are wrapping and enhancing for BoxLang. It is only ever replaced when an array that shares
+	 * it with a copy-on-write copy is written to.
 	 */
-	protected final List<Object>						wrapped;
+	protected volatile List<Object>						wrapped;
+
+	/**
+	 * Whether the wrapped list is currently shared with copy-on-write copies. A shared list is never written to, the
+	 * first write takes a private copy of it instead.
+	 */
+	private transient volatile boolean					shared				= false;
+
+	/**
+	 * Whether the wrapped list was created by this array. Lists handed in by the caller can be modified behind our
+	 * back, so they are never shared.
+	 */
+	private transient boolean							ownsWrapped			= false;
 
 	/**
 	 * Whether this array is synchronized (thread-safe)
@@ -172,6 +185,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 		} else {
 			this.wrapped = new ArrayList<Object>( initialCapactity );
 		}
+		this.ownsWrapped = true;
 	}
 
 	/**
@@ -183,6 +197,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	public Array( Object[] arr ) {
 		this.isSynchronized	= true;
 		this.wrapped		= Collections.synchronizedList( new ArrayList<Object>( Arrays.asList( arr ) ) );
+		this.ownsWrapped	= true;
 	}
 
 	/**
@@ -196,6 +211,21 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 		this.wrapped		= ( List<Object> ) list;
 	}
 
+	/**
+	 * Constructor for copy-on-write copies, sharing the wrapped list of another array
+	 *
+	 * @param sharedList     The wrapped list of the array being copied
+	 * @param isSynchronized Whether the array being copied is synchronized
+	 * @param dimensions     The number of dimensions of the array being copied
+	 */
+	private Array( List<Object> sharedList, boolean isSynchronized, int dimensions ) {
+		this.isSynchronized	= isSynchronized;
+		this.wrapped		= sharedList;
+		this.dimensions		= dimensions;
+		this.ownsWrapped	= true;
+		this.shared			= true;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Static convenience methods
@@ -325,9 +355,12 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 		return wrapped.contains( o );
 	}
 
+	/**
+	 * The iterator can remove elements, so an array sharing its list takes a private copy first
+	 */
 	@Override
 	public Iterator<Object> iterator() {
-		return wrapped.iterator();
+		return writableWrapped().iterator();
 	}
 
 	@Override
@@ -341,7 +374,17 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	}
 
 	public List<Object> toList() {
-		return wrapped;
+		return writableWrapped();
+	}
+
+	/**
+	 * Get a read-only view of the wrapped list, for callers that only read it. Unlike {@link #toList()} and
+	 * {@link #iterator()}, an array sharing its list with copy-on-write copies doesn't have to copy it.
+	 *
+	 * @return An unmodifiable view of the wrapped list
+	 */
+	public List<Object> toListReadOnly() {
+		return Collections.unmodifiableList( wrapped );
 	}
 
 	/**
@@ -350,27 +393,30 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	 * @return
 	 */
 	public List<Object> asList() {
-		return wrapped;
+		return writableWrapped();
 	}
 
 	@Override
 	public boolean add( Object e ) {
-		synchronized ( wrapped ) {
-			return wrapped.add( notifyListeners( wrapped.size(), e, true ) );
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			return list.add( notifyListeners( list.size(), e, true ) );
 		}
 	}
 
 	@Override
 	public void add( int index, Object element ) {
-		synchronized ( wrapped ) {
-			wrapped.add( index, notifyListeners( index, element, true ) );
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			list.add( index, notifyListeners( index, element, true ) );
 		}
 	}
 
 	@Override
 	public boolean remove( Object o ) {
-		synchronized ( wrapped ) {
-			ListIterator<Object> iterator = wrapped.listIterator();
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			ListIterator<Object> iterator = list.listIterator();
 			while ( iterator.hasNext() ) {
 				Object element = iterator.next();
 				if ( element.equals( o ) ) {
@@ -389,34 +435,37 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 
 	@Override
 	public boolean addAll( Collection<? extends Object> c ) {
-
-		synchronized ( wrapped ) {
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
 			// TODO: deal with listeners
-			return wrapped.addAll( c );
+			return list.addAll( c );
 		}
 	}
 
 	@Override
 	public boolean addAll( int index, Collection<? extends Object> c ) {
-		synchronized ( wrapped ) {
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
 			// TODO: deal with listeners
-			return wrapped.addAll( index, c );
+			return list.addAll( index, c );
 		}
 	}
 
 	@Override
 	public boolean removeAll( Collection<?> c ) {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			return wrapped.removeAll( c );
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			return list.removeAll( c );
 		}
 	}
 
 	@Override
 	public boolean retainAll( Collection<?> c ) {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			return wrapped.retainAll( c );
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			return list.retainAll( c );
 		}
 	}
 
@@ -426,8 +475,9 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	@Override
 	public void clear() {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			wrapped.clear();
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			list.clear();
 		}
 	}
 
@@ -470,7 +520,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	 */
 	@Override
 	public Object set( int index, Object element ) {
-		return wrapped.set(
+		return writableWrapped().set(
 		    index,
 		    notifyListeners( index, element, false )
 		);
@@ -481,8 +531,9 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	 */
 	@Override
 	public Object remove( int index ) {
-		synchronized ( wrapped ) {
-			ListIterator<Object>	iterator	= wrapped.listIterator();
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
+			ListIterator<Object>	iterator	= list.listIterator();
 			int						i			= 0;
 			while ( iterator.hasNext() ) {
 				Object element = iterator.next();
@@ -512,23 +563,24 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 
 	@Override
 	public ListIterator<Object> listIterator() {
-		return wrapped.listIterator();
+		return writableWrapped().listIterator();
 	}
 
 	@Override
 	public ListIterator<Object> listIterator( int index ) {
-		return wrapped.listIterator( index );
+		return writableWrapped().listIterator( index );
 	}
 
 	@Override
 	public List<Object> subList( int fromIndex, int toIndex ) {
-		return wrapped.subList( fromIndex, toIndex );
+		return writableWrapped().subList( fromIndex, toIndex );
 	}
 
 	public int append( Object e ) {
-		synchronized ( wrapped ) {
+		List<Object> list = writableWrapped();
+		synchronized ( list ) {
 			add( e );
-			return wrapped.size();
+			return list.size();
 		}
 	}
 
@@ -540,7 +592,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	@SuppressWarnings( { "unchecked", "rawtypes" } )
 	@Override
 	public void sort( Comparator compareFunc ) {
-		wrapped.sort( compareFunc );
+		writableWrapped().sort( compareFunc );
 	}
 
 	/**
@@ -576,7 +628,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	 * Reverses the elements in the underlying list
 	 */
 	public Array reverse() {
-		Collections.reverse( this.wrapped );
+		Collections.reverse( writableWrapped() );
 		return this;
 	}
 
@@ -592,6 +644,10 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 	@Override
 	@BoxMemberExpose
 	public boolean equals( Object obj ) {
+		// Compare plain arrays list to list, going through their iterator would make a shared array copy its list
+		if ( obj != null && obj.getClass() == Array.class ) {
+			return wrapped.equals( ( ( Array ) obj ).wrapped );
+		}
 		return wrapped.equals( obj );
 	}
 
@@ -632,6 +688,66 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 		return wrapped.toString();
 	}
 
+	/**
+	 * --------------------------------------------------------------------------
+	 * Copy-on-write
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Whether this array can hand out copy-on-write copies via {@link #copyOnWrite()}. Only plain arrays that created
+	 * their own list qualify, subclasses such as the DelimitedArray keep extra data in their list.
+	 *
+	 * @return True if {@link #copyOnWrite()} can be used
+	 */
+	public boolean canCopyOnWrite() {
+		return this.ownsWrapped && getClass() == Array.class;
+	}
+
+	/**
+	 * Create a shallow copy of this array in constant time. The copy shares the wrapped list with this array until
+	 * either of them is written to, at which point the writer takes a private copy of the list. Nested values are
+	 * shared as-is, exactly like a shallow duplicate.
+	 * <p>
+	 * As with copying element by element, a write racing with the copy on another thread may or may not be seen by the
+	 * copy.
+	 *
+	 * @return A new array with the same elements
+	 *
+	 * @throws BoxRuntimeException If this array can't share its list, see {@link #canCopyOnWrite()}
+	 */
+	public Array copyOnWrite() {
+		if ( !canCopyOnWrite() ) {
+			throw new BoxRuntimeException( "An array of type [" + getClass().getSimpleName() + "] can't be copied on write" );
+		}
+		synchronized ( this ) {
+			this.shared = true;
+			return new Array( this.wrapped, this.isSynchronized, this.dimensions );
+		}
+	}
+
+	/**
+	 * Get the list to write to. If the wrapped list is shared with copy-on-write copies, this array swaps in a private
+	 * copy of it first.
+	 *
+	 * @return The wrapped list, owned by this array alone
+	 */
+	private List<Object> writableWrapped() {
+		if ( this.shared ) {
+			synchronized ( this ) {
+				if ( this.shared ) {
+					List<Object> list = this.wrapped;
+					synchronized ( list ) {
+						ArrayList<Object> copy = new ArrayList<>( list );
+						this.wrapped = this.isSynchronized ? Collections.synchronizedList( copy ) : copy;
+					}
+					this.shared = false;
+				}
+			}
+		}
+		return this.wrapped;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * IType Interface Methods
@@ -762,7 +878,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 		if ( index < 1 || index > wrapped.size() ) {
 			throw new BoxRuntimeException( "Index [" + index + "] out of bounds for list with " + wrapped.size() + " elements." );
 		}
-		synchronized ( wrapped ) {
+		synchronized ( writableWrapped() ) {
 			remove( index - 1 );
 			notifyListeners( index - 1, null, false );
 		}
@@ -900,14 +1016,15 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable<A
 
 		Integer index = Array.validateAndGetIntForAssign( key, wrapped.size(), false );
 		if ( index > wrapped.size() ) {
-			synchronized ( wrapped ) {
+			List<Object> list = writableWrapped();
+			synchronized ( list ) {
 				// If the index is larger than the array, pad the array with nulls
-				for ( int i = wrapped.size(); i < index; i++ ) {
+				for ( int i = list.size(); i < index; i++ ) {
 					if ( dimensions > 1 ) {
 						// If this is a multi-dimensional array, seed empty nested arrays in place of nulls
-						wrapped.add( new Array( isSynchronized, dimensions - 1 ) );
+						list.add( new Array( isSynchronized, dimensions - 1 ) );
 					} else {
-						wrapped.add( null );
+						list.add( null );
 					}
 				}
 			}
@@ -59,6 +59,8 @@ public class Closure extends CompiledFunction {
 		Objects.requireNonNull( declaringContext, "A Closure's declaring context cannot be null." );
 		this.declaringContext	= declaringContext;
 		this.closureDefinition	= null;
+		// The closure can now be run from any thread, so the function scopes it can see must be shareable
+		FunctionBoxContext.escapeScopes( declaringContext );
 	}
 
 	/**
@@ -73,6 +75,8 @@ public class Closure extends CompiledFunction {
 		Objects.requireNonNull( declaringContext, "A Closure's declaring context cannot be null." );
 		this.declaringContext	= declaringContext;
 		this.closureDefinition	= originalClosure;
+		// The closure can now be run from any thread, so the function scopes it can see must be shareable
+		FunctionBoxContext.escapeScopes( declaringContext );
 	}
 
 	/**
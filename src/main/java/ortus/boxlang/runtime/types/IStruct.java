@@ -17,6 +17,8 @@
  */
 package ortus.boxlang.runtime.types;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -247,6 +249,26 @@ public interface IStruct extends Map<Key, Object>, IType, IReferenceable {
 	 */
 	public Map<? extends Object, Object> getWrapped();
 
+	/**
+	 * Get a read-only view of the wrapped map, for callers that only read it. Unlike {@link #getWrapped()}, a struct
+	 * sharing its map with copy-on-write copies doesn't have to copy it.
+	 *
+	 * @return An unmodifiable view of the wrapped map
+	 */
+	default Map<? extends Object, Object> getWrappedReadOnly() {
+		return Collections.unmodifiableMap( getWrapped() );
+	}
+
+	/**
+	 * Get a read-only view of the keys, for callers that only read them. Unlike {@link #keySet()}, a struct sharing its
+	 * map with copy-on-write copies doesn't have to copy it.
+	 *
+	 * @return An unmodifiable view of the keys
+	 */
+	default Set<Key> keySetReadOnly() {
+		return Collections.unmodifiableSet( keySet() );
+	}
+
 	/**
 	 * Get the type of struct
 	 *
@@ -269,6 +291,26 @@ public interface IStruct extends Map<Key, Object>, IType, IReferenceable {
 	 */
 	public Set<Entry<Key, Object>> entrySet();
 
+	/**
+	 * Returns an iterator over the mappings contained in this map, with null values unwrapped.
+	 * <p>
+	 * Unlike {@link #entrySet()}, implementations are free to iterate their storage directly instead of taking a
+	 * snapshot, so the iteration is only weakly consistent: it never throws because the struct changed, but it may or
+	 * may not see the changes made after it started. The entries are read-only. Use {@link #entrySet()} when the loop
+	 * needs to modify the struct through its entries, or needs a stable view.
+	 */
+	default Iterator<Entry<Key, Object>> entryIterator() {
+		return entrySet().iterator();
+	}
+
+	/**
+	 * Returns a sequential stream over the mappings contained in this map, with the same consistency as
+	 * {@link #entryIterator()}.
+	 */
+	default Stream<Entry<Key, Object>> entryStream() {
+		return entrySet().stream();
+	}
+
 	/**
 	 * Convenience method for getting cast as {@Link Key}
 	 * Does NOT perform BoxLang casting, only Java cast so the object needs to actually be castable
@@ -56,6 +56,7 @@ import ortus.boxlang.runtime.types.exceptions.DatabaseException;
 import ortus.boxlang.runtime.types.meta.BoxMeta;
 import ortus.boxlang.runtime.types.meta.QueryMeta;
 import ortus.boxlang.runtime.types.unmodifiable.UnmodifiableQuery;
+import ortus.boxlang.runtime.types.util.QueryColumnarData;
 import ortus.boxlang.runtime.util.DuplicationUtil;
 
 /**
@@ -100,6 +101,11 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public static boolean					queryNullToEmpty	= false;
 
+	/**
+	 * The fewest rows a query needs for {@link #compact()} to store it column by column
+	 */
+	public static final int					MIN_COLUMNAR_ROWS	= 500;
+
 	/**
 	 * -----------------------------------------------------------
 	 * Properties
@@ -111,6 +117,11 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	private volatile List<Object[]>			data;
 
+	/**
+	 * The rows stored column by column, see {@link #compact()}. While this is set, {@link #data} is empty.
+	 */
+	private volatile QueryColumnarData		columnar			= null;
+
 	/**
 	 * Size of the query, used for collection methods
 	 * This is an AtomicInteger so that it can be modified from multiple threads
@@ -363,6 +374,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return list of arrays of data
 	 */
 	public List<Object[]> getData() {
+		ensureRows();
 		truncateInternal();
 		return data;
 	}
@@ -373,7 +385,8 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @param data List of arrays representing the row data
 	 */
 	public void setData( List<Object[]> data ) {
-		this.data = data;
+		this.data		= data;
+		this.columnar	= null;
 		size.set( data.size() );
 		actualSize = data.size();
 	}
@@ -430,6 +443,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return this query
 	 */
 	public synchronized Query addColumn( Key name, QueryColumnType type, Object[] columnData, Integer SQLType ) {
+		ensureRows();
 		// check if column name already exists
 		int	index		= -1;
 		int	newColIndex	= getColumns().size();
@@ -516,8 +530,12 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return array of column data
 	 */
 	public Object[] getColumnData( Key name ) {
-		int			index		= getColumn( name ).getIndex();
-		Object[]	columnData	= new Object[ size.get() ];
+		int					index	= getColumn( name ).getIndex();
+		QueryColumnarData	store	= this.columnar;
+		if ( store != null ) {
+			return store.getColumn( index );
+		}
+		Object[] columnData = new Object[ size.get() ];
 		for ( int i = 0; i < size.get(); i++ ) {
 			columnData[ i ] = data.get( i )[ index ];
 		}
@@ -625,6 +643,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public Object[] getRow( int index ) {
 		validateRow( index );
+		ensureRows();
 		return data.get( index );
 	}
 
@@ -639,6 +658,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return this query
 	 */
 	public Query insertQueryAt( int position, Query target ) {
+		ensureRows();
 		// Validate that the incoming query has the same columns as this query
 		if ( !target.getColumns().keySet().equals( this.getColumns().keySet() ) ) {
 			throw new BoxRuntimeException( "Query columns do not match" );
@@ -698,6 +718,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	public Query swapRow( int sourceRow, int destinationRow ) {
 		validateRow( sourceRow );
 		validateRow( destinationRow );
+		ensureRows();
 		synchronized ( data ) {
 			Object[] temp = data.get( sourceRow );
 			data.set( sourceRow, data.get( destinationRow ) );
@@ -754,6 +775,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return the row number that was added (1-based)
 	 */
 	public int addRow( Object[] row ) {
+		ensureRows();
 		interceptorService.announce(
 		    BoxEvent.QUERY_ADD_ROW,
 		    () -> Struct.ofNonConcurrent(
@@ -798,6 +820,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @param name the name of the column to delete
 	 */
 	public void deleteColumn( Key name ) {
+		ensureRows();
 		truncateInternal();
 		QueryColumn	column	= getColumn( name );
 		int			index	= column.getIndex();
@@ -827,6 +850,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return this query
 	 */
 	public Query deleteRow( int index ) {
+		ensureRows();
 		synchronized ( data ) {
 			validateRow( index );
 			size.decrementAndGet();
@@ -898,9 +922,10 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public IStruct getRowAsStruct( int index ) {
 		validateRow( index );
-		IStruct		struct	= new Struct( IStruct.TYPES.LINKED );
-		Object[]	row		= data.get( index );
-		int			i		= 0;
+		IStruct				struct	= new Struct( IStruct.TYPES.LINKED );
+		QueryColumnarData	store	= this.columnar;
+		Object[]			row		= store != null ? store.getRow( index ) : data.get( index );
+		int					i		= 0;
 		for ( QueryColumn column : columns.values() ) {
 			struct.put( column.getName(), row[ i ] );
 			i++;
@@ -918,7 +943,22 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public Object getCell( Key columnName, int rowIndex ) {
 		validateRow( rowIndex );
-		int columnIndex = getColumn( columnName ).getIndex();
+		return getCell( rowIndex, getColumn( columnName ).getIndex() );
+	}
+
+	/**
+	 * Get data for a single cell by position, without validating the row. 0-based index!
+	 *
+	 * @param rowIndex    row index, starting at 0
+	 * @param columnIndex column index, starting at 0
+	 *
+	 * @return cell data
+	 */
+	public Object getCell( int rowIndex, int columnIndex ) {
+		QueryColumnarData store = this.columnar;
+		if ( store != null ) {
+			return store.get( rowIndex, columnIndex );
+		}
 		return data.get( rowIndex )[ columnIndex ];
 	}
 
@@ -933,6 +973,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public Query setCell( Key columnName, int rowIndex, Object value ) {
 		validateRow( rowIndex );
+		ensureRows();
 		int columnIndex = getColumn( columnName ).getIndex();
 		// TODO: validate column type
 		data.get( rowIndex )[ columnIndex ] = value;
@@ -1003,12 +1044,13 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @param compareFunc function to use for sorting
 	 */
 	public void sort( Comparator<IStruct> compareFunc ) {
+		ensureRows();
 		// data.sort( compareFunc );
 		Stream<IStruct> sorted = intStream()
 		    .mapToObj( index -> getRowAsStruct( index ) )
 		    .sorted( compareFunc );
 
-		data = sorted.map( row -> row.getWrapped().entrySet().stream().map( entry -> entry.getValue() ).toArray() )
+		data = sorted.map( row -> row.getWrappedReadOnly().entrySet().stream().map( entry -> entry.getValue() ).toArray() )
 		    .collect( Collectors.toList() );
 	}
 
@@ -1019,6 +1061,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	public void sortData( Comparator<? super Object[]> comparator ) {
 		Stream<Object[]> stream;
+		ensureRows();
 		truncateInternal();
 		if ( size() > 50 ) {
 			stream = getData().parallelStream();
@@ -1037,6 +1080,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 * @return this query
 	 */
 	public Query truncate( long rows ) {
+		ensureRows();
 		synchronized ( data ) {
 			truncateInternal();
 			rows = Math.max( 0, rows );
@@ -1049,6 +1093,77 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 		}
 	}
 
+	/**
+	 * Store the rows of this query column by column, which takes far less memory for large queries of numbers or
+	 * repeated strings, and makes reading a whole column cheaper. Every method keeps working the same way: reading cells,
+	 * rows as structs and columns works on the compact data, while anything that needs the row arrays, like
+	 * {@link #getData()}, {@link #getRow(int)} or changing the data, turns the query back into row arrays first.
+	 * <p>
+	 * Queries with fewer than {@link #MIN_COLUMNAR_ROWS} rows are left as they are. This is meant for queries that are
+	 * mostly read from here on, like cached query results, and should be called before the query is shared.
+	 *
+	 * @return this query
+	 */
+	public Query compact() {
+		synchronized ( this ) {
+			if ( this.columnar != null || size.get() < MIN_COLUMNAR_ROWS ) {
+				return this;
+			}
+			truncateInternal();
+			this.columnar	= QueryColumnarData.of( data, size.get(), columns.size() );
+			this.data		= new ArrayList<Object[]>();
+			actualSize		= 0;
+			return this;
+		}
+	}
+
+	/**
+	 * Check if the rows of this query are stored column by column
+	 *
+	 * @return true if the query was compacted and not turned back into rows since
+	 */
+	public boolean isColumnar() {
+		return this.columnar != null;
+	}
+
+	/**
+	 * Turn the query back into row arrays if it was compacted
+	 */
+	private void ensureRows() {
+		if ( this.columnar == null ) {
+			return;
+		}
+		synchronized ( this ) {
+			QueryColumnarData store = this.columnar;
+			if ( store == null ) {
+				return;
+			}
+			this.data		= store.toRows();
+			actualSize		= store.size();
+			// Readers check this last, so they either see the compact data or the rows
+			this.columnar	= null;
+		}
+	}
+
+	/**
+	 * Get the rows of this query for reading, without turning a compacted query back into row arrays. For a compacted
+	 * query the row arrays are copies, so this must only be used by methods that don't hand the rows out for writing.
+	 *
+	 * @return The rows, limited to the size of the query
+	 */
+	private List<Object[]> readRows() {
+		QueryColumnarData store = this.columnar;
+		if ( store == null ) {
+			return data.subList( 0, size.get() );
+		}
+		int				count	= Math.min( size.get(), store.size() );
+		List<Object[]>	rows	= new ArrayList<Object[]>( count );
+		for ( int i = 0; i < count; i++ ) {
+			rows.add( store.getRow( i ) );
+		}
+		return rows;
+	}
+
 	private void truncateInternal() {
 		// loop and remove all rows over the count
 		while ( data.size() > size.get() ) {
@@ -1079,7 +1194,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	@Override
 	public boolean contains( Object o ) {
-		return data.contains( o );
+		return readRows().contains( o );
 	}
 
 	@Override
@@ -1106,7 +1221,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	@Override
 	public Object[] toArray() {
 		// return data as an array, but limit this to size.get
-		return data.subList( 0, size.get() ).toArray();
+		return readRows().toArray();
 	}
 
 	/**
@@ -1120,7 +1235,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	@Override
 	public <T> T[] toArray( T[] a ) {
 		// same as toArray
-		return data.subList( 0, size.get() ).toArray( a );
+		return readRows().toArray( a );
 	}
 
 	/**
@@ -1159,6 +1274,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	@Override
 	public boolean remove( Object o ) {
+		ensureRows();
 		synchronized ( data ) {
 			size.decrementAndGet();
 			var result = data.remove( o );
@@ -1176,7 +1292,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	@Override
 	public boolean containsAll( Collection<?> c ) {
-		return data.containsAll( c );
+		return readRows().containsAll( c );
 	}
 
 	/**
@@ -1203,6 +1319,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	@Override
 	public boolean removeAll( Collection<?> c ) {
+		ensureRows();
 		synchronized ( data ) {
 			truncateInternal();
 			boolean result = data.removeAll( c );
@@ -1221,6 +1338,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 	 */
 	@Override
 	public boolean retainAll( Collection<?> c ) {
+		ensureRows();
 		synchronized ( data ) {
 			truncateInternal();
 			boolean result = data.retainAll( c );
@@ -1232,6 +1350,7 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 
 	@Override
 	public void clear() {
+		ensureRows();
 		synchronized ( data ) {
 			size.set( 0 );
 			actualSize = 0;
@@ -1452,18 +1571,15 @@ public class Query implements IType, IReferenceable, Collection<IStruct>, Serial
 			return 0;
 		}
 		visited.add( this );
-		int	result	= 1;
-		int	row		= 1;
-		for ( Object value : data.toArray() ) {
-			if ( row > size.get() ) {
-				break;
-			}
-			if ( value instanceof IType ) {
-				result = 31 * result + ( ( IType ) value ).computeHashCode( visited );
-			} else {
-				result = 31 * result + ( value == null ? 0 : value.hashCode() );
+		int result = 1;
+		for ( Object[] row : readRows() ) {
+			for ( Object value : row ) {
+				if ( value instanceof IType ) {
+					result = 31 * result + ( ( IType ) value ).computeHashCode( visited );
+				} else {
+					result = 31 * result + ( value == null ? 0 : value.hashCode() );
+				}
 			}
-			row++;
 		}
 		return result;
 	}
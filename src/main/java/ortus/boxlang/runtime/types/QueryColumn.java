@@ -264,7 +264,7 @@ public class QueryColumn implements IReferenceable, Serializable {
 		if ( query.isEmpty() ) {
 			return "";
 		}
-		return this.query.getData().get( row )[ index ];
+		return this.query.getCell( row, index );
 	}
 
 	/**
@@ -20,6 +20,7 @@ package ortus.boxlang.runtime.types;
 import java.io.Serializable;
 import java.lang.ref.SoftReference;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,8 +36,11 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.bifs.MemberDescriptor;
@@ -128,9 +132,22 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	private static final long						serialVersionUID					= 1L;
 
 	/**
-	 * The wrapped map used in the implementation
+	 * The wrapped map used in the implementation. It is only ever replaced when a struct that shares it with a
+	 * copy-on-write copy is written to.
 	 */
-	protected final Map<Key, Object>				wrapped;
+	protected volatile Map<Key, Object>				wrapped;
+
+	/**
+	 * Whether the wrapped map is currently shared with copy-on-write copies. A shared map is never written to, the
+	 * first write takes a private copy of it instead.
+	 */
+	private transient volatile boolean				shared								= false;
+
+	/**
+	 * Whether the wrapped map was created by this struct. Maps handed in by the caller can be modified behind our back,
+	 * so they are never shared.
+	 */
+	private transient boolean						ownsWrapped							= false;
 
 	/**
 	 * Used to track change listeners. Intitialized on-demand
@@ -189,6 +206,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 							    : WeakHashMap.newWeakHashMap( INITIAL_CAPACITY );
 							default -> throw new BoxRuntimeException( "Invalid struct type [" + type.name() + "]" );
 						};
+		this.ownsWrapped	= true;
 	}
 
 	/**
@@ -214,8 +232,9 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 * @param comparator The comparator to use
 	 */
 	public Struct( Comparator<Key> comparator ) {
-		this.type		= TYPES.SORTED;
-		this.wrapped	= new ConcurrentSkipListMap<>( comparator );
+		this.type			= TYPES.SORTED;
+		this.wrapped		= new ConcurrentSkipListMap<>( comparator );
+		this.ownsWrapped	= true;
 	}
 
 	/**
@@ -448,7 +467,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 */
 	public boolean containsKey( Key key ) {
 		return isCaseSensitive()
-		    ? keySet().stream().anyMatch( match -> match.equalsWithCase( key ) )
+		    ? wrapped.keySet().stream().anyMatch( match -> match.equalsWithCase( key ) )
 		    : wrapped.containsKey( key );
 
 	}
@@ -505,7 +524,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 		if ( key instanceof Key keyKey ) {
 			return unWrapNullInternal(
 			    isCaseSensitive()
-			        ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyKey ) ).findFirst().orElse( Key.EMPTY ) )
+			        ? wrapped.get( wrapped.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyKey ) ).findFirst().orElse( Key.EMPTY ) )
 			        : wrapped.get( keyKey )
 			);
 		}
@@ -526,7 +545,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 		Key keyObj = Key.of( key );
 		return unWrapNullInternal(
 		    isCaseSensitive()
-		        ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyObj ) ).findFirst().orElse( Key.EMPTY ) )
+		        ? wrapped.get( wrapped.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyObj ) ).findFirst().orElse( Key.EMPTY ) )
 		        : wrapped.get( keyObj )
 		);
 	}
@@ -542,7 +561,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	public Object getOrDefault( Key key, Object defaultValue ) {
 		return isCaseSensitive()
 		    ? unWrapNullInternal(
-		        wrapped.getOrDefault( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ), defaultValue )
+		        wrapped.getOrDefault( wrapped.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ), defaultValue )
 		    )
 		    : unWrapNullInternal( wrapped.getOrDefault( key, defaultValue ) );
 
@@ -569,7 +588,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 */
 	public Object getRaw( Key key ) {
 		return isCaseSensitive()
-		    ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
+		    ? wrapped.get( wrapped.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
 		    : wrapped.get( key );
 
 	}
@@ -604,7 +623,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 		if ( value == null ) {
 			return null;
 		}
-		Object result = wrapped.put(
+		Object result = writableWrapped().put(
 		    isCaseSensitive() && ! ( key instanceof KeyCased ) ? new KeyCased( key.getName() ) : key,
 		    value
 		);
@@ -687,9 +706,10 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	public Object remove( Key key ) {
 		this.cachedHashCode = 0;
 		notifyListeners( key, null );
+		Map<Key, Object> map = writableWrapped();
 		return isCaseSensitive()
-		    ? wrapped.remove( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
-		    : wrapped.remove( key );
+		    ? map.remove( map.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
+		    : map.remove( key );
 	}
 
 	/**
@@ -726,19 +746,29 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 */
 	@Override
 	public void clear() {
+		Map<Key, Object> map = writableWrapped();
 		if ( listeners != null ) {
-			keySet().forEach( key -> notifyListeners( key, null ) );
+			map.keySet().forEach( key -> notifyListeners( key, null ) );
 		}
-		wrapped.clear();
+		map.clear();
 		this.cachedHashCode = 0;
 	}
 
 	/**
 	 * Returns a {@link Set} view of the keys contained in this map.
+	 * The view is live and can remove keys, so a struct sharing its map takes a private copy first.
 	 */
 	@Override
 	public Set<Key> keySet() {
-		return wrapped.keySet();
+		return writableWrapped().keySet();
+	}
+
+	/**
+	 * Returns a read-only view of the keys, which doesn't make a struct sharing its map take a private copy
+	 */
+	@Override
+	public Set<Key> keySetReadOnly() {
+		return Collections.unmodifiableSet( wrapped.keySet() );
 	}
 
 	/**
@@ -765,6 +795,58 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 		return new ListBackedSet<>( entries );
 	}
 
+	/**
+	 * Returns an iterator over the mappings contained in this map, with null values unwrapped.
+	 * <p>
+	 * Concurrent structs iterate the wrapped map directly, which is already weakly consistent, so there is no snapshot to
+	 * allocate. Other structs are backed by maps that fail fast when modified during iteration, they iterate a snapshot
+	 * like {@link #entrySet()}.
+	 */
+	@Override
+	public Iterator<Entry<Key, Object>> entryIterator() {
+		if ( ! ( wrapped instanceof ConcurrentMap ) ) {
+			return entrySet().iterator();
+		}
+		Iterator<Entry<Key, Object>> entries = wrapped.entrySet().iterator();
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return entries.hasNext();
+			}
+
+			@Override
+			public Entry<Key, Object> next() {
+				return unWrapEntry( entries.next() );
+			}
+		};
+	}
+
+	/**
+	 * Returns a sequential stream over the mappings contained in this map, with the same consistency as
+	 * {@link #entryIterator()}.
+	 */
+	@Override
+	public Stream<Entry<Key, Object>> entryStream() {
+		if ( ! ( wrapped instanceof ConcurrentMap ) ) {
+			return entrySet().stream();
+		}
+		return wrapped.entrySet().stream().map( this::unWrapEntry );
+	}
+
+	/**
+	 * Performs the action for each mapping of this map, with null values unwrapped. Concurrent structs don't take a
+	 * snapshot, see {@link #entryIterator()}.
+	 */
+	@Override
+	public void forEach( BiConsumer<? super Key, ? super Object> action ) {
+		if ( ! ( wrapped instanceof ConcurrentMap ) ) {
+			IStruct.super.forEach( action );
+			return;
+		}
+		wrapped.forEach( ( key, value ) -> action.accept( key, unWrapNullInternal( value ) ) );
+	}
+
 	/**
 	 * Verifies equality with the following rules:
 	 * - Same object
@@ -772,8 +854,12 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 */
 	@Override
 	public boolean equals( Object obj ) {
+		// Compare structs map to map, getWrapped() would make a shared struct copy its map
+		if ( obj instanceof Struct other ) {
+			return wrapped.equals( other.wrapped );
+		}
 		return obj instanceof IStruct struct
-		    ? wrapped.equals( struct.getWrapped() )
+		    ? wrapped.equals( struct.getWrappedReadOnly() )
 		    : wrapped.equals( obj );
 	}
 
@@ -1108,7 +1194,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 * @return An array list of all the keys in the struct
 	 */
 	public List<Key> getKeys() {
-		return keySet().stream().collect( java.util.stream.Collectors.toList() );
+		return wrapped.keySet().stream().collect( java.util.stream.Collectors.toList() );
 	}
 
 	/**
@@ -1117,7 +1203,7 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	 * @return An array list of all the keys in the struct
 	 */
 	public List<String> getKeysAsStrings() {
-		return keySet().stream().map( Key::getName ).collect( java.util.stream.Collectors.toList() );
+		return wrapped.keySet().stream().map( Key::getName ).collect( java.util.stream.Collectors.toList() );
 	}
 
 	/**
@@ -1149,10 +1235,125 @@ public class Struct implements IStruct, IListenable<IStruct>, Serializable {
 	}
 
 	/**
-	 * Get the wrapped map used in the implementation
+	 * Copy an entry of the wrapped map with its value unwrapped. The entries of the wrapped map are never handed out,
+	 * their <code>setValue()</code> would write through without notifying the listeners or resetting the hash code, and
+	 * to every copy sharing the map.
+	 *
+	 * @param entry The entry of the wrapped map
+	 *
+	 * @return A read-only entry with the unwrapped value
+	 */
+	private Entry<Key, Object> unWrapEntry( Entry<Key, Object> entry ) {
+		return new SimpleImmutableEntry<>( entry.getKey(), unWrapNullInternal( entry.getValue() ) );
+	}
+
+	/**
+	 * Get the wrapped map used in the implementation. Callers may modify the map, so a struct sharing its map takes a
+	 * private copy first.
 	 */
 	public Map<? extends Object, Object> getWrapped() {
-		return wrapped;
+		return writableWrapped();
+	}
+
+	/**
+	 * Get a read-only view of the wrapped map, which doesn't make a struct sharing its map take a private copy
+	 */
+	@Override
+	public Map<? extends Object, Object> getWrappedReadOnly() {
+		return Collections.unmodifiableMap( wrapped );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Copy-on-write
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Whether this struct can hand out copy-on-write copies via {@link #copyOnWrite()}. Only plain structs that
+	 * created their own map qualify: subclasses such as scopes override the mutators and weak structs can't be copied
+	 * without changing their semantics.
+	 *
+	 * @return True if {@link #copyOnWrite()} can be used
+	 */
+	public boolean canCopyOnWrite() {
+		return this.ownsWrapped && getClass() == Struct.class && this.type != TYPES.WEAK;
+	}
+
+	/**
+	 * Create a shallow copy of this struct in constant time. The copy shares the wrapped map with this struct until
+	 * either of them is written to, at which point the writer takes a private copy of the map. Nested values are shared
+	 * as-is, exactly like a shallow duplicate.
+	 * <p>
+	 * As with copying entry by entry, a write racing with the copy on another thread may or may not be seen by the
+	 * copy.
+	 *
+	 * @return A new struct with the same keys and values
+	 *
+	 * @throws BoxRuntimeException If this struct can't share its map, see {@link #canCopyOnWrite()}
+	 */
+	public Struct copyOnWrite() {
+		if ( !canCopyOnWrite() ) {
+			throw new BoxRuntimeException( "A struct of type [" + getClass().getSimpleName() + "/" + this.type.name() + "] can't be copied on write" );
+		}
+		synchronized ( this ) {
+			Struct copy = new Struct( this.wrapped, this.type );
+
+			copy.ownsWrapped		= true;
+			copy.shared				= true;
+			copy.cacheableHashCode	= this.cacheableHashCode;
+			this.shared				= true;
+			return copy;
+		}
+	}
+
+	/**
+	 * Get the map to write to. If the wrapped map is shared with copy-on-write copies, this struct swaps in a private
+	 * copy of it first.
+	 *
+	 * @return The wrapped map, owned by this struct alone
+	 */
+	private Map<Key, Object> writableWrapped() {
+		if ( this.shared ) {
+			synchronized ( this ) {
+				if ( this.shared ) {
+					this.wrapped	= copyWrapped( this.wrapped );
+					this.shared		= false;
+				}
+			}
+		}
+		return this.wrapped;
+	}
+
+	/**
+	 * Copy a wrapped map into a new map of the same kind
+	 *
+	 * @param map The map to copy
+	 *
+	 * @return The new map
+	 */
+	private static Map<Key, Object> copyWrapped( Map<Key, Object> map ) {
+		if ( map instanceof ConcurrentHashMap<Key, Object> concurrentMap ) {
+			return new ConcurrentHashMap<>( concurrentMap );
+		}
+		// The sorted copy constructors keep the comparator
+		if ( map instanceof ConcurrentSkipListMap<Key, Object> sortedMap ) {
+			return new ConcurrentSkipListMap<>( sortedMap );
+		}
+		if ( map instanceof TreeMap<Key, Object> sortedMap ) {
+			return new TreeMap<>( sortedMap );
+		}
+		// LinkedHashMap extends HashMap, so it has to be checked first
+		if ( map instanceof LinkedHashMap<Key, Object> linkedMap ) {
+			return new LinkedHashMap<>( linkedMap );
+		}
+		if ( map instanceof HashMap<Key, Object> hashMap ) {
+			return new HashMap<>( hashMap );
+		}
+		// The only other map a struct creates for itself is a synchronized linked map
+		synchronized ( map ) {
+			return Collections.synchronizedMap( new LinkedHashMap<>( map ) );
+		}
 	}
 
 	/**
@@ -538,7 +538,7 @@ public class StructMapWrapper implements IStruct, IListenable<IStruct>, Serializ
 	@Override
 	public boolean equals( Object obj ) {
 		return obj instanceof IStruct struct
-		    ? wrapped.equals( struct.getWrapped() )
+		    ? wrapped.equals( struct.getWrappedReadOnly() )
 		    : wrapped.equals( obj );
 	}
 
@@ -17,13 +17,23 @@
  */
 package ortus.boxlang.runtime.types.util;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamWriteConstraints;
 import com.fasterxml.jackson.jr.annotationsupport.JacksonAnnotationExtension;
 import com.fasterxml.jackson.jr.extension.javatime.JacksonJrJavaTimeExtension;
@@ -31,6 +41,7 @@ import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
 import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
 
+import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
 import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
 import ortus.boxlang.runtime.scopes.Key;
@@ -40,6 +51,7 @@ import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.QueryColumnType;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.OutputBuffer;
 import ortus.boxlang.runtime.util.conversion.BoxJsonProvider;
 
 /**
@@ -122,10 +134,11 @@ public class JSONUtil {
 	 * @return The parsed JSON in raw Java format
 	 */
 	public static Object fromJSON( Object json, boolean toBLTypes ) {
+		if ( toBLTypes ) {
+			return fromJSONToBLTypes( json, true );
+		}
 		try {
-			Object parsed = getJSONBuilder( false ).anyFrom( json );
-			// Now parse the JSON
-			return toBLTypes ? mapToBLTypes( parsed, true ) : parsed;
+			return getJSONBuilder( false ).anyFrom( json );
 		} catch ( Exception e ) {
 			throw new BoxRuntimeException( "Failed to parse JSON " + json.toString(), e );
 		}
@@ -191,6 +204,245 @@ public class JSONUtil {
 		}
 	}
 
+	/**
+	 * Parse JSON straight into BoxLang types in a single pass. Objects become linked {@link Struct}s, arrays become
+	 * {@link Array}s, integers become an Integer, Long or BigInteger depending on their size and decimals become a
+	 * BigDecimal. This is the same result as {@link #fromJSON(Object)} followed by {@link #mapToBLTypes(Object, Boolean)},
+	 * without building the intermediate Java maps and lists.
+	 * <p>
+	 * The supported source types are the same as {@link #fromJSON(Object)}, plus {@link java.nio.file.Path}. Streams,
+	 * readers and files are read as the parser goes, so a large document never has to be loaded as one String. The source
+	 * is closed once it has been read.
+	 *
+	 * @param json          The JSON to parse
+	 * @param strictMapping If false, objects with columns and data keys are turned into queries
+	 *
+	 * @return The parsed JSON in BoxLang types
+	 */
+	public static Object fromJSONToBLTypes( Object json, boolean strictMapping ) {
+		try ( JsonParser parser = createParser( json ) ) {
+			return parser.nextToken() == null ? null : readBLValue( parser, strictMapping );
+		} catch ( Exception e ) {
+			throw new BoxRuntimeException( "Failed to parse JSON " + json.toString(), e );
+		}
+	}
+
+	/**
+	 * Create a streaming parser over a JSON source, with the same features as our JSON builder
+	 *
+	 * @param json The JSON source
+	 *
+	 * @return The parser
+	 */
+	private static JsonParser createParser( Object json ) throws IOException {
+		JsonFactory factory = getJSONBuilder( false ).getStreamingFactory();
+		if ( json instanceof String string ) {
+			return factory.createParser( string );
+		}
+		if ( json instanceof Reader reader ) {
+			return factory.createParser( reader );
+		}
+		if ( json instanceof InputStream stream ) {
+			return factory.createParser( stream );
+		}
+		if ( json instanceof File file ) {
+			return factory.createParser( file );
+		}
+		if ( json instanceof Path path ) {
+			return factory.createParser( path.toFile() );
+		}
+		if ( json instanceof URL url ) {
+			return factory.createParser( url );
+		}
+		if ( json instanceof byte[] bytes ) {
+			return factory.createParser( bytes );
+		}
+		if ( json instanceof char[] chars ) {
+			return factory.createParser( chars );
+		}
+		throw new BoxRuntimeException( "Cannot read JSON from a [" + json.getClass().getName() + "]" );
+	}
+
+	/**
+	 * Read the value at the current token of the parser as a BoxLang type
+	 *
+	 * @param parser        The parser, positioned on the first token of the value
+	 * @param strictMapping If false, objects with columns and data keys are turned into queries
+	 *
+	 * @return The value
+	 */
+	private static Object readBLValue( JsonParser parser, boolean strictMapping ) throws IOException {
+		switch ( parser.currentToken() ) {
+			case START_OBJECT : {
+				IStruct	struct	= new Struct( IStruct.TYPES.LINKED );
+				String	name;
+				while ( ( name = parser.nextFieldName() ) != null ) {
+					parser.nextToken();
+					struct.put( Key.of( name ), readBLValue( parser, strictMapping ) );
+				}
+				// Check to see if this struct is really a query
+				if ( !strictMapping && ( struct.size() == 2 || struct.size() == 3 ) && struct.containsKey( Key.columns )
+				    && struct.containsKey( Key.data ) ) {
+					Query qry = toQuery( struct.get( Key.columns ), struct.get( Key.data ), struct.get( Key.rowCount ) );
+					if ( qry != null ) {
+						return qry;
+					}
+				}
+				return struct;
+			}
+			case START_ARRAY : {
+				Array array = new Array();
+				while ( parser.nextToken() != JsonToken.END_ARRAY ) {
+					array.add( readBLValue( parser, strictMapping ) );
+				}
+				return array;
+			}
+			case VALUE_STRING :
+				return parser.getText();
+			case VALUE_NUMBER_INT :
+				return parser.getNumberValue();
+			case VALUE_NUMBER_FLOAT :
+				return parser.getDecimalValue();
+			case VALUE_TRUE :
+				return Boolean.TRUE;
+			case VALUE_FALSE :
+				return Boolean.FALSE;
+			case VALUE_NULL :
+				return null;
+			case VALUE_EMBEDDED_OBJECT :
+				return parser.getEmbeddedObject();
+			default :
+				throw new BoxRuntimeException( "Unexpected JSON token [" + parser.currentToken() + "]" );
+		}
+	}
+
+	/**
+	 * Build a query out of the values of an object with columns and data keys, as serialized by serializeJSON. The data
+	 * is either an array of rows, or an object of column arrays along with a rowCount key.
+	 *
+	 * @param columns  The value of the columns key
+	 * @param data     The value of the data key
+	 * @param rowCount The value of the rowCount key, if any
+	 *
+	 * @return The query, or null if the values don't describe one
+	 */
+	private static Query toQuery( Object columns, Object data, Object rowCount ) {
+		if ( ! ( columns instanceof List<?> colList ) ) {
+			return null;
+		}
+
+		// Setup query with columns in place (default type to object)
+		Query		qry				= new Query();
+		List<Key>	validColumns	= new ArrayList<>();
+		colList.forEach( c -> {
+			Key thisCol = Key.of( c.toString() );
+			validColumns.add( thisCol );
+			qry.addColumn( thisCol, QueryColumnType.OBJECT );
+		} );
+
+		// If data is a list, check for array of arrays of data
+		if ( data instanceof List<?> listData ) {
+			for ( Object row : listData ) {
+				if ( ! ( row instanceof List<?> listRow ) || listRow.size() != colList.size() ) {
+					// give up on the query and continue as a normal map
+					return null;
+				}
+				qry.addRow( listRow.toArray() );
+			}
+			return qry;
+		}
+
+		// If data is a map with as many keys as columns and we found a rowCount key in the outer map.
+		if ( data instanceof Map<?, ?> mapData && mapData.size() == colList.size() && rowCount != null ) {
+			CastAttempt<Integer> rowCountAttempt = IntegerCaster.attempt( rowCount );
+			if ( !rowCountAttempt.wasSuccessful() ) {
+				return null;
+			}
+			int count = rowCountAttempt.get();
+			for ( Map.Entry<?, ?> col : mapData.entrySet() ) {
+				Key thisColKey = Key.of( col.getKey().toString() );
+				if ( !validColumns.contains( thisColKey ) || ! ( col.getValue() instanceof List<?> listData ) || listData.size() != count ) {
+					// give up on the query and continue as a normal map
+					return null;
+				}
+				qry.addColumn( thisColKey, QueryColumnType.OBJECT, listData.toArray() );
+			}
+			return qry;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Serialize a value as JSON straight into a writer. The JSON is written as it is generated, so large structs,
+	 * arrays, queries and query cursors never have to be turned into one String first. The writer is flushed but not
+	 * closed.
+	 *
+	 * @param value  The value to serialize
+	 * @param writer The writer to write to
+	 * @param pretty Whether to pretty print the JSON
+	 */
+	public static void writeJSON( Object value, Writer writer, boolean pretty ) {
+		try ( JsonGenerator generator = getJSONBuilder( false ).getStreamingFactory().createGenerator( writer ) ) {
+			writeJSON( value, generator, pretty );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error serializing to JSON", e );
+		}
+	}
+
+	/**
+	 * Serialize a value as UTF-8 encoded JSON straight into a stream. The JSON is written as it is generated, so large
+	 * structs, arrays, queries and query cursors never have to be turned into one String first. The stream is flushed
+	 * but not closed.
+	 *
+	 * @param value  The value to serialize
+	 * @param out    The stream to write to
+	 * @param pretty Whether to pretty print the JSON
+	 */
+	public static void writeJSON( Object value, OutputStream out, boolean pretty ) {
+		try ( JsonGenerator generator = getJSONBuilder( false ).getStreamingFactory().createGenerator( out, JsonEncoding.UTF8 ) ) {
+			writeJSON( value, generator, pretty );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Error serializing to JSON", e );
+		}
+	}
+
+	/**
+	 * Serialize a value as JSON into the output buffer of a context, without building a String first. Like a forced
+	 * {@link IBoxContext#writeToBuffer(Object, boolean)}, this writes even when output is disabled.
+	 * <p>
+	 * The JSON is generated in a buffer of its own, which is moved to the output buffer of the context once the
+	 * serialization succeeds, so a failure never leaves truncated JSON in the output.
+	 *
+	 * @param value   The value to serialize
+	 * @param context The context to write to
+	 * @param pretty  Whether to pretty print the JSON
+	 */
+	public static void writeJSON( Object value, IBoxContext context, boolean pretty ) {
+		OutputBuffer json = new OutputBuffer();
+		writeJSON( value, json.asWriter(), pretty );
+		OutputBuffer buffer = context.getOutputBuffer();
+		// Thread contexts may flush into the buffer from other threads
+		synchronized ( buffer ) {
+			buffer.transferFrom( json );
+		}
+	}
+
+	/**
+	 * Serialize a value with our JSON builder through a generator, leaving the target of the generator open
+	 *
+	 * @param value     The value to serialize
+	 * @param generator The generator
+	 * @param pretty    Whether to pretty print the JSON
+	 */
+	private static void writeJSON( Object value, JsonGenerator generator, boolean pretty ) throws IOException {
+		generator.disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+		if ( pretty ) {
+			generator.useDefaultPrettyPrinter();
+		}
+		getJSONBuilder( false ).write( value, generator );
+	}
+
 	/**
 	 * Maps a deserialized JSON result to BoxLang types.
 	 *
@@ -229,60 +481,11 @@ public class JSONUtil {
 					}
 				}
 
-				// If we found columns and data keys and columns is a list, let's proceed further
-				if ( columnKey != null && dataKey != null && castedmap.get( columnKey ) instanceof java.util.List colList ) {
-					// Setup query with columns in place (default type to object)
-					Query		qry				= new Query();
-					List<Key>	validColumns	= new ArrayList<>();
-					colList.forEach( c -> {
-						Key thisCol = Key.of( c.toString() );
-						validColumns.add( thisCol );
-						qry.addColumn( thisCol, QueryColumnType.OBJECT );
-					} );
-
-					// If data is a list, check for array of arrays of data
-					Boolean golden = true;
-					if ( map.get( dataKey ) instanceof java.util.List listData ) {
-						for ( Object row : listData ) {
-							if ( row instanceof java.util.List listRow && listRow.size() == colList.size() ) {
-								qry.addRow( listRow.toArray() );
-							} else {
-								// give up on the query and continue as a normal map
-								golden = false;
-								break;
-							}
-						}
-						if ( golden ) {
-							return qry;
-						}
-						// If data is a map with as many keys as column and we found a rowCount key in the outer map.
-					} else if ( map.get( dataKey ) instanceof java.util.Map tmp && tmp.keySet().size() == colList.size() && rowCountKey != null ) {
-						CastAttempt<Integer>	rowCountAttempt	= IntegerCaster.attempt( map.get( rowCountKey ) );
-						Map<Object, Object>		mapData			= ( Map<Object, Object> ) map.get( dataKey );
-						if ( rowCountAttempt.wasSuccessful() ) {
-							int rowCount = rowCountAttempt.get();
-							for ( var col : mapData.entrySet() ) {
-								Key thisColKey = Key.of( col.getKey().toString() );
-								if ( validColumns.contains( thisColKey ) ) {
-									if ( mapData.get( thisColKey.getName() ) instanceof List listData && listData.size() == rowCount ) {
-										qry.addColumn( thisColKey, QueryColumnType.OBJECT, listData.toArray() );
-
-									} else {
-										// give up on the query and continue as a normal map
-										golden = false;
-										break;
-									}
-								} else {
-									// give up on the query and continue as a normal map
-									golden = false;
-									break;
-								}
-							}
-							if ( golden ) {
-								return qry;
-							}
-						}
-
+				// If we found columns and data keys, see if they describe a query
+				if ( columnKey != null && dataKey != null ) {
+					Query qry = toQuery( castedmap.get( columnKey ), castedmap.get( dataKey ), rowCountKey == null ? null : castedmap.get( rowCountKey ) );
+					if ( qry != null ) {
+						return qry;
 					}
 				}
 			}
@@ -17,14 +17,17 @@
  */
 package ortus.boxlang.runtime.types.util;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -33,6 +36,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 import ortus.boxlang.runtime.async.executors.BoxExecutor;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -124,6 +128,11 @@ public class ListUtil {
 		    } );
 	}
 
+	/**
+	 * How many chunks each worker gets when a parallel operation is split in chunks
+	 */
+	private static final int PARALLEL_CHUNKS_PER_WORKER = 4;
+
 	/**
 	 * Turns a list into a string
 	 *
@@ -672,10 +681,25 @@ public class ListUtil {
 		Objects.requireNonNull( array, "Array cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
 
+		// Unordered parallel iterations run in chunks, each chunk reusing one thread context for all of its items
+		if ( parallel && !ordered ) {
+			ObjIntConsumer<IBoxContext> work;
+			if ( callback.requiresStrictArguments() ) {
+				work = ( ctx, idx ) -> ctx.invokeFunction( callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null } );
+			} else {
+				work = ( ctx, idx ) -> ctx.invokeFunction( callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } );
+			}
+			runChunked( callbackContext, array.size(), maxThreads, virtual, "ArrayEach_", work );
+			return;
+		}
+
 		IntConsumer consumer;
 		if ( callback.requiresStrictArguments() ) {
 			consumer = idx -> ThreadBoxContext.runInContext( callbackContext, parallel,
@@ -694,29 +718,16 @@ public class ListUtil {
 			// If maxThreads is null or 0, then use just the ForkJoinPool default
 			// parallelism level
 			if ( !virtual && maxThreads <= 0 ) {
-				if ( ordered ) {
-					arrayStream
-					    .parallel()
-					    .forEachOrdered( consumer );
-				} else {
-					arrayStream
-					    .parallel()
-					    .forEach( consumer );
-				}
+				arrayStream
+				    .parallel()
+				    .forEachOrdered( consumer );
 				return;
 			}
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "ArrayEach_", maxThreads, virtual );
 			executor.submitAndGet( () -> {
-				if ( ordered ) {
-					arrayStream
-					    .parallel()
-					    .forEachOrdered( consumer );
-				} else {
-					arrayStream
-					    .parallel()
-					    .forEach( consumer );
-				}
+				ParallelExecutor.parallel( arrayStream )
+				    .forEachOrdered( consumer );
 			} );
 			return;
 		}
@@ -788,6 +799,7 @@ public class ListUtil {
 		Objects.requireNonNull( array, "Array cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -818,8 +830,7 @@ public class ListUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "ArraySome_", maxThreads, virtual );
 			return ( Boolean ) executor.submitAndGet( () -> {
-				return arrayStream
-				    .parallel()
+				return ParallelExecutor.parallel( arrayStream )
 				    .anyMatch( test );
 			} );
 		}
@@ -879,6 +890,7 @@ public class ListUtil {
 		Objects.requireNonNull( array, "Array cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -910,8 +922,7 @@ public class ListUtil {
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "ArrayEvery_", maxThreads, virtual );
 
 			return ( Boolean ) executor.submitAndGet( () -> {
-				return arrayStream
-				    .parallel()
+				return ParallelExecutor.parallel( arrayStream )
 				    .allMatch( test );
 			} );
 		}
@@ -994,10 +1005,30 @@ public class ListUtil {
 		Objects.requireNonNull( array, "Array cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
 
+		// Parallel filters test the items in chunks, each chunk reusing one thread context for all of its items, and
+		// then keep the passing items in their original order
+		if ( parallel ) {
+			boolean[]					keep	= new boolean[ array.size() ];
+			ObjIntConsumer<IBoxContext>	work;
+			if ( callback.requiresStrictArguments() ) {
+				work = ( ctx, idx ) -> keep[ idx ] = BooleanCaster.cast( ctx.invokeFunction( callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null } ) ) == keepIfTrue;
+			} else {
+				work = ( ctx, idx ) -> keep[ idx ] = BooleanCaster.cast( ctx.invokeFunction( callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } ) ) == keepIfTrue;
+			}
+			runChunked( callbackContext, keep.length, maxThreads, virtual, "ArrayFilter_", work );
+			return IntStream.range( 0, keep.length )
+			    .filter( idx -> keep[ idx ] )
+			    .mapToObj( idx -> array.size() > idx ? array.getData( idx ) : null )
+			    .collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
+		}
+
 		// Build the test predicate based on the callback
 		// If the callback requires strict arguments, we only pass the item (Usually
 		// Java Predicates)
@@ -1026,24 +1057,6 @@ public class ListUtil {
 		    .filter( test )
 		    .mapToObj( ( idx ) -> array.size() > idx ? array.getData( idx ) : null );
 
-		if ( parallel ) {
-			// parallelism level
-			if ( !virtual && maxThreads <= 0 ) {
-				return arrayStream
-				    .parallel()
-				    .collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
-			}
-
-			BoxExecutor executor = AsyncService.chooseParallelExecutor( "ArrayFilter_", maxThreads, virtual );
-
-			return ( Array ) executor.submitAndGet( () -> {
-				return arrayStream
-				    .parallel()
-				    .collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
-			} );
-		}
-
-		// Non-parallel execution
 		return arrayStream.collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
 	}
 
@@ -1155,6 +1168,26 @@ public class ListUtil {
 	    boolean virtual ) {
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
+
+		// Parallel maps run the items in chunks, each chunk reusing one thread context for all of its items, and collect
+		// the results in their original order
+		if ( parallel ) {
+			Object[]					results	= new Object[ array.size() ];
+			ObjIntConsumer<IBoxContext>	work;
+			if ( callback.requiresStrictArguments() ) {
+				work = ( ctx, idx ) -> results[ idx ] = array.copyData( idx, ctx.invokeFunction(
+				    callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null } ) );
+			} else {
+				work = ( ctx, idx ) -> results[ idx ] = array.copyData( idx, ctx.invokeFunction(
+				    callback,
+				    new Object[] { array.size() > idx ? array.get( idx ) : null, idx + 1, array } ) );
+			}
+			runChunked( callbackContext, results.length, maxThreads, virtual, "ArrayMap_", work );
+			return Arrays.stream( results )
+			    .collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
+		}
 
 		// Build the mapper based on the callback
 		// If the callback requires strict arguments, we only pass the item (Usually
@@ -1215,8 +1248,7 @@ public class ListUtil {
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "ArrayMap_", maxThreads, virtual );
 
 			return ( Array ) executor.submitAndGet( () -> {
-				return arrayStream
-				    .parallel()
+				return ParallelExecutor.parallel( arrayStream )
 				    .collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
 			} );
 		}
@@ -1225,6 +1257,41 @@ public class ListUtil {
 		return arrayStream.collect( BLCollector.toArray( getReturnArrayClass( array.getClass() ) ) );
 	}
 
+	/**
+	 * Run a piece of work for every index of an array in parallel, split in chunks that each reuse one thread context.
+	 * The chunks run in the common ForkJoinPool, or in the shared parallel executor for the max threads or virtual
+	 * threads if requested.
+	 *
+	 * @param callbackContext The context the thread contexts descend from
+	 * @param size            The number of indexes
+	 * @param maxThreads      Optional max threads for parallel execution
+	 * @param virtual         Whether to use virtual threads for parallel execution
+	 * @param prefix          The prefix of the executor name
+	 * @param work            The work to run for each index
+	 */
+	private static void runChunked(
+	    IBoxContext callbackContext,
+	    int size,
+	    Integer maxThreads,
+	    boolean virtual,
+	    String prefix,
+	    ObjIntConsumer<IBoxContext> work ) {
+		int threads = maxThreads == null ? 0 : maxThreads;
+		// A few chunks per worker, so one slow chunk doesn't keep the other workers idle
+		int	workers	= !virtual && threads > 0 ? Math.min( threads, AsyncService.MAX_PARALLEL_THREADS ) : ForkJoinPool.getCommonPoolParallelism();
+		int	chunks	= workers * PARALLEL_CHUNKS_PER_WORKER;
+
+		// If maxThreads is null or 0, then use just the ForkJoinPool default
+		// parallelism level
+		if ( !virtual && threads <= 0 ) {
+			ThreadBoxContext.runInContextChunked( callbackContext, size, chunks, work );
+			return;
+		}
+
+		BoxExecutor executor = AsyncService.chooseParallelExecutor( prefix, threads, virtual );
+		executor.submitAndGet( () -> ThreadBoxContext.runInContextChunked( callbackContext, size, chunks, work ) );
+	}
+
 	/**
 	 * For higher order functions which return a new datastructure, this decides which type to return.
 	 * Map() and filter() for example, when called on an UnmodifiableArray should return a regular Array.
@@ -0,0 +1,332 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rows of a query stored column by column, as used by {@link ortus.boxlang.runtime.types.Query#compact()}.
+ * <p>
+ * Each column picks the most compact encoding its values allow:
+ * <ul>
+ * <li>Integers, longs and doubles go in a primitive array, with a bitmap marking the nulls</li>
+ * <li>Booleans go in two bitmaps</li>
+ * <li>Strings with few distinct values are dictionary encoded, each row keeps a one or two byte code</li>
+ * <li>Anything else is kept in a plain array</li>
+ * </ul>
+ * The encoding is chosen from the actual values and not the declared column type, so the values read back are always
+ * of the class they were stored as. The data is immutable, a query that needs to change its rows goes back to row arrays.
+ */
+public final class QueryColumnarData implements Serializable {
+
+	private static final long	serialVersionUID	= 1L;
+
+	/**
+	 * The most distinct strings a dictionary encoded column can have
+	 */
+	private static final int	MAX_DICTIONARY_SIZE	= 1 << 16;
+
+	/**
+	 * The values of one column
+	 */
+	private sealed interface Column extends Serializable
+	    permits IntColumn, LongColumn, DoubleColumn, BooleanColumn, ByteDictionaryColumn, ShortDictionaryColumn, ObjectColumn {
+
+		/**
+		 * Get a value
+		 *
+		 * @param row The row, 0-based
+		 *
+		 * @return The value
+		 */
+		Object get( int row );
+	}
+
+	private record IntColumn( int[] values, BitSet nulls ) implements Column {
+
+		public Object get( int row ) {
+			return nulls.get( row ) ? null : values[ row ];
+		}
+	}
+
+	private record LongColumn( long[] values, BitSet nulls ) implements Column {
+
+		public Object get( int row ) {
+			return nulls.get( row ) ? null : values[ row ];
+		}
+	}
+
+	private record DoubleColumn( double[] values, BitSet nulls ) implements Column {
+
+		public Object get( int row ) {
+			return nulls.get( row ) ? null : values[ row ];
+		}
+	}
+
+	private record BooleanColumn( BitSet values, BitSet nulls ) implements Column {
+
+		public Object get( int row ) {
+			return nulls.get( row ) ? null : values.get( row );
+		}
+	}
+
+	private record ByteDictionaryColumn( byte[] codes, Object[] dictionary ) implements Column {
+
+		public Object get( int row ) {
+			return dictionary[ codes[ row ] & 0xFF ];
+		}
+	}
+
+	private record ShortDictionaryColumn( short[] codes, Object[] dictionary ) implements Column {
+
+		public Object get( int row ) {
+			return dictionary[ codes[ row ] & 0xFFFF ];
+		}
+	}
+
+	private record ObjectColumn( Object[] values ) implements Column {
+
+		public Object get( int row ) {
+			return values[ row ];
+		}
+	}
+
+	/**
+	 * The number of rows
+	 */
+	private final int		size;
+
+	/**
+	 * The columns, in the order of the query columns
+	 */
+	private final Column[]	columns;
+
+	/**
+	 * Constructor
+	 *
+	 * @param size    The number of rows
+	 * @param columns The columns
+	 */
+	private QueryColumnarData( int size, Column[] columns ) {
+		this.size		= size;
+		this.columns	= columns;
+	}
+
+	/**
+	 * Encode rows column by column
+	 *
+	 * @param rows        The row arrays
+	 * @param size        The number of rows to encode
+	 * @param columnCount The number of columns
+	 *
+	 * @return The columnar data
+	 */
+	public static QueryColumnarData of( List<Object[]> rows, int size, int columnCount ) {
+		Column[] columns = new Column[ columnCount ];
+		for ( int col = 0; col < columnCount; col++ ) {
+			Object[] values = new Object[ size ];
+			for ( int row = 0; row < size; row++ ) {
+				Object[] rowData = rows.get( row );
+				values[ row ] = col < rowData.length ? rowData[ col ] : null;
+			}
+			columns[ col ] = encode( values );
+		}
+		return new QueryColumnarData( size, columns );
+	}
+
+	/**
+	 * Get the number of rows
+	 *
+	 * @return The number of rows
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get a cell
+	 *
+	 * @param row    The row, 0-based
+	 * @param column The column index
+	 *
+	 * @return The value
+	 */
+	public Object get( int row, int column ) {
+		if ( row < 0 || row >= this.size ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " is out of bounds for " + this.size + " rows" );
+		}
+		return this.columns[ column ].get( row );
+	}
+
+	/**
+	 * Get a copy of a row
+	 *
+	 * @param row The row, 0-based
+	 *
+	 * @return A new array with the values of the row
+	 */
+	public Object[] getRow( int row ) {
+		Object[] values = new Object[ this.columns.length ];
+		for ( int col = 0; col < values.length; col++ ) {
+			values[ col ] = get( row, col );
+		}
+		return values;
+	}
+
+	/**
+	 * Get a copy of a column
+	 *
+	 * @param column The column index
+	 *
+	 * @return A new array with the values of the column
+	 */
+	public Object[] getColumn( int column ) {
+		Column		source	= this.columns[ column ];
+		Object[]	values	= new Object[ this.size ];
+		for ( int row = 0; row < this.size; row++ ) {
+			values[ row ] = source.get( row );
+		}
+		return values;
+	}
+
+	/**
+	 * Decode all the rows
+	 *
+	 * @return A new list of row arrays
+	 */
+	public List<Object[]> toRows() {
+		List<Object[]> rows = new ArrayList<>( this.size );
+		for ( int row = 0; row < this.size; row++ ) {
+			rows.add( getRow( row ) );
+		}
+		return rows;
+	}
+
+	/**
+	 * Pick the encoding of a column from its values
+	 *
+	 * @param values The values of the column
+	 *
+	 * @return The encoded column
+	 */
+	private static Column encode( Object[] values ) {
+		Class<?> valueClass = null;
+		for ( Object value : values ) {
+			if ( value == null ) {
+				continue;
+			}
+			if ( valueClass == null ) {
+				valueClass = value.getClass();
+			} else if ( valueClass != value.getClass() ) {
+				return new ObjectColumn( values );
+			}
+		}
+
+		int		size	= values.length;
+		BitSet	nulls	= new BitSet( size );
+		for ( int row = 0; row < size; row++ ) {
+			if ( values[ row ] == null ) {
+				nulls.set( row );
+			}
+		}
+
+		if ( valueClass == Integer.class ) {
+			int[] encoded = new int[ size ];
+			for ( int row = 0; row < size; row++ ) {
+				encoded[ row ] = values[ row ] == null ? 0 : ( Integer ) values[ row ];
+			}
+			return new IntColumn( encoded, nulls );
+		}
+		if ( valueClass == Long.class ) {
+			long[] encoded = new long[ size ];
+			for ( int row = 0; row < size; row++ ) {
+				encoded[ row ] = values[ row ] == null ? 0 : ( Long ) values[ row ];
+			}
+			return new LongColumn( encoded, nulls );
+		}
+		if ( valueClass == Double.class ) {
+			double[] encoded = new double[ size ];
+			for ( int row = 0; row < size; row++ ) {
+				encoded[ row ] = values[ row ] == null ? 0 : ( Double ) values[ row ];
+			}
+			return new DoubleColumn( encoded, nulls );
+		}
+		if ( valueClass == Boolean.class ) {
+			BitSet encoded = new BitSet( size );
+			for ( int row = 0; row < size; row++ ) {
+				if ( Boolean.TRUE.equals( values[ row ] ) ) {
+					encoded.set( row );
+				}
+			}
+			return new BooleanColumn( encoded, nulls );
+		}
+		if ( valueClass == String.class ) {
+			Column dictionary = encodeDictionary( values );
+			if ( dictionary != null ) {
+				return dictionary;
+			}
+		}
+		return new ObjectColumn( values );
+	}
+
+	/**
+	 * Dictionary encode a column of strings, if it has few enough distinct values to be worth it
+	 *
+	 * @param values The values of the column
+	 *
+	 * @return The encoded column, or null if there are too many distinct values
+	 */
+	private static Column encodeDictionary( Object[] values ) {
+		// Every row would need its own entry anyway, plain references are cheaper
+		int						limit		= Math.min( MAX_DICTIONARY_SIZE, values.length / 2 );
+		Map<Object, Integer>	codes		= new HashMap<>();
+		int[]					rowCodes	= new int[ values.length ];
+		for ( int row = 0; row < values.length; row++ ) {
+			Integer code = codes.get( values[ row ] );
+			if ( code == null ) {
+				if ( codes.size() >= limit ) {
+					return null;
+				}
+				code = codes.size();
+				codes.put( values[ row ], code );
+			}
+			rowCodes[ row ] = code;
+		}
+
+		Object[] dictionary = new Object[ codes.size() ];
+		codes.forEach( ( value, code ) -> dictionary[ code ] = value );
+		if ( dictionary.length <= 256 ) {
+			byte[] encoded = new byte[ values.length ];
+			for ( int row = 0; row < values.length; row++ ) {
+				encoded[ row ] = ( byte ) rowCodes[ row ];
+			}
+			return new ByteDictionaryColumn( encoded, dictionary );
+		}
+		short[] encoded = new short[ values.length ];
+		for ( int row = 0; row < values.length; row++ ) {
+			encoded[ row ] = ( short ) rowCodes[ row ];
+		}
+		return new ShortDictionaryColumn( encoded, dictionary );
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.async.executors.BoxExecutor;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
@@ -101,6 +102,7 @@ public class QueryUtil {
 		Objects.requireNonNull( query, "Query cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -134,7 +136,7 @@ public class QueryUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "QueryFilter_", maxThreads, virtual );
 
-			return QueryCaster.cast( executor.submitAndGet( () -> queryStream.parallel().collect( BLCollector.toQuery( query ) ) ) );
+			return QueryCaster.cast( executor.submitAndGet( () -> ParallelExecutor.parallel( queryStream ).collect( BLCollector.toQuery( query ) ) ) );
 		}
 
 		// If parallel is false, just use the regular stream
@@ -187,6 +189,7 @@ public class QueryUtil {
 		Objects.requireNonNull( query, "Query cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -220,12 +223,10 @@ public class QueryUtil {
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "QueryEach_", maxThreads, virtual );
 			executor.submitAndGet( () -> {
 				if ( ordered ) {
-					queryStream
-					    .parallel()
+					ParallelExecutor.parallel( queryStream )
 					    .forEachOrdered( consumer );
 				} else {
-					queryStream
-					    .parallel()
+					ParallelExecutor.parallel( queryStream )
 					    .forEach( consumer );
 				}
 			} );
@@ -288,6 +289,7 @@ public class QueryUtil {
 		Objects.requireNonNull( query, "Query cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -322,10 +324,9 @@ public class QueryUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "QueryMap_", maxThreads, virtual );
 
-			// Otherwise, create a new ForkJoinPool with the specified number of threads
+			// Otherwise, run it in the shared pool for the specified number of threads
 			return QueryCaster.cast( executor.submitAndGet( () -> {
-				return queryStream
-				    .parallel()
+				return ParallelExecutor.parallel( queryStream )
 				    .collect( BLCollector.toQuery( query ) );
 			} ) );
 		}
@@ -379,6 +380,7 @@ public class QueryUtil {
 		Objects.requireNonNull( query, "Query cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -405,8 +407,7 @@ public class QueryUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "QueryEvery_", maxThreads, virtual );
 			return BooleanCaster.cast( executor.submitAndGet( () -> {
-				return queryStream
-				    .parallel()
+				return ParallelExecutor.parallel( queryStream )
 				    .allMatch( test );
 			} ) );
 		}
@@ -461,6 +462,7 @@ public class QueryUtil {
 		Objects.requireNonNull( query, "Query cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -487,8 +489,7 @@ public class QueryUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "QuerySome_", maxThreads, virtual );
 			return BooleanCaster.cast( executor.submitAndGet( () -> {
-				return queryStream
-				    .parallel()
+				return ParallelExecutor.parallel( queryStream )
 				    .anyMatch( test );
 			} ) );
 		}
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -37,6 +38,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import ortus.boxlang.runtime.async.executors.BoxExecutor;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
@@ -184,6 +186,7 @@ public class StructUtil {
 		Objects.requireNonNull( struct, "Struct cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -223,12 +226,12 @@ public class StructUtil {
 
 		BoxExecutor executor = AsyncService.chooseParallelExecutor( "StructEach_", maxThreads, virtual );
 
-		// Otherwise, create a new ForkJoinPool with the specified number of threads
+		// Otherwise, run it in the shared pool for the specified number of threads
 		executor.submitAndGet( () -> {
 			if ( ordered || struct.getType().equals( IStruct.TYPES.LINKED ) ) {
-				entryStream.parallel().forEachOrdered( consumer );
+				ParallelExecutor.parallel( entryStream ).forEachOrdered( consumer );
 			} else {
-				entryStream.parallel().forEach( consumer );
+				ParallelExecutor.parallel( entryStream ).forEach( consumer );
 			}
 		} );
 	}
@@ -280,6 +283,7 @@ public class StructUtil {
 		Objects.requireNonNull( struct, "Struct cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -311,8 +315,7 @@ public class StructUtil {
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "StructSome_", maxThreads, virtual );
 
 			return BooleanCaster.cast( executor.submitAndGet( () -> {
-				return entryStream
-				    .parallel()
+				return ParallelExecutor.parallel( entryStream )
 				    .anyMatch( test );
 			} ) );
 		}
@@ -367,6 +370,7 @@ public class StructUtil {
 		Objects.requireNonNull( struct, "Struct cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -393,11 +397,10 @@ public class StructUtil {
 				    .parallel()
 				    .allMatch( test );
 			}
-			// Otherwise, create a new ForkJoinPool with the specified number of threads
+			// Otherwise, run it in the shared pool for the specified number of threads
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "StructEvery_", maxThreads, virtual );
 			return BooleanCaster.cast( executor.submitAndGet( () -> {
-				return entryStream
-				    .parallel()
+				return ParallelExecutor.parallel( entryStream )
 				    .allMatch( test );
 			} ) );
 		}
@@ -452,6 +455,7 @@ public class StructUtil {
 		Objects.requireNonNull( struct, "Struct cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -484,10 +488,9 @@ public class StructUtil {
 
 			BoxExecutor executor = AsyncService.chooseParallelExecutor( "StructFilter_", maxThreads, virtual );
 
-			// Otherwise, create a new ForkJoinPool with the specified number of threads
+			// Otherwise, run it in the shared pool for the specified number of threads
 			return StructCaster.cast( executor.submitAndGet( () -> {
-				return entryStream
-				    .parallel()
+				return ParallelExecutor.parallel( entryStream )
 				    .collect( BLCollector.toStruct( struct.getType() ) );
 			} ) );
 		}
@@ -543,6 +546,7 @@ public class StructUtil {
 		Objects.requireNonNull( struct, "Struct cannot be null" );
 		Objects.requireNonNull( callback, "Callback cannot be null" );
 		Objects.requireNonNull( callbackContext, "Callback context cannot be null" );
+		ThreadBoxContext.prepareForParallel( callbackContext, parallel );
 		if ( maxThreads == null ) {
 			maxThreads = 0; // Default to 0 if not provided
 		}
@@ -594,12 +598,12 @@ public class StructUtil {
 
 		BoxExecutor executor = AsyncService.chooseParallelExecutor( "StructMap_", maxThreads, virtual );
 
-		// Otherwise, create a new ForkJoinPool with the specified number of threads
+		// Otherwise, run it in the shared pool for the specified number of threads
 		executor.submitAndGet( () -> {
 			if ( ordered || struct.getType().equals( IStruct.TYPES.LINKED ) ) {
-				entryStream.parallel().forEachOrdered( consumer );
+				ParallelExecutor.parallel( entryStream ).forEachOrdered( consumer );
 			} else {
-				entryStream.parallel().forEach( consumer );
+				ParallelExecutor.parallel( entryStream ).forEach( consumer );
 			}
 		} );
 
@@ -673,8 +677,7 @@ public class StructUtil {
 			}
 
 			return new Array(
-			    struct.entrySet()
-			        .stream()
+			    struct.entryStream()
 			        .sorted( getCommonEntryComparators( Locale.US ).get( typeKey ) )
 			        .map( k -> k.getKey().getName() )
 			        .toArray()
@@ -683,8 +686,7 @@ public class StructUtil {
 			Boolean	isDescending	= Key.of( sortOrder ).equals( Key.of( "desc" ) );
 			boolean	caseSensitive	= !sortType.toLowerCase().contains( "nocase" );
 			return new Array(
-			    struct.entrySet()
-			        .stream()
+			    struct.entryStream()
 			        // Convert the values now so that we don't have repeated getAtPath calls during sorting
 			        .map( entry -> new AbstractMap.SimpleEntry<>( entry.getKey(), StructUtil.getAtPath( StructCaster.cast( entry.getValue() ), path ) ) )
 			        .sorted(
@@ -716,7 +718,7 @@ public class StructUtil {
 	    IBoxContext callbackContext ) {
 
 		return new Array(
-		    struct.keySet()
+		    struct.keySetReadOnly()
 		        .stream()
 		        .map( k -> k.getName() )
 		        .sorted(
@@ -773,8 +775,7 @@ public class StructUtil {
 			// Use the toFlatMap approach for dot notation searches
 			IStruct flatMap = toFlatMap( struct );
 			results.addAll(
-			    flatMap.entrySet()
-			        .stream()
+			    flatMap.entryStream()
 			        .filter( entry -> entry.getKey().getName().toLowerCase().equals( searchKey ) )
 			        .map( entry -> {
 				        Struct returnStruct	= new Struct( Struct.TYPES.LINKED );
@@ -824,7 +825,9 @@ public class StructUtil {
 	 * @param results       the list to collect matching results
 	 */
 	private static void findKeyRecursive( IStruct rootStruct, IStruct currentStruct, String searchKey, String currentPath, ArrayList<IStruct> results ) {
-		for ( Map.Entry<Key, Object> entry : currentStruct.entrySet() ) {
+		Iterator<Map.Entry<Key, Object>> entries = currentStruct.entryIterator();
+		while ( entries.hasNext() ) {
+			Map.Entry<Key, Object> entry = entries.next();
 			String	keyName		= entry.getKey().getName();
 			String	fullPath	= currentPath.isEmpty() ? keyName : currentPath + "." + keyName;
 			Object	value		= entry.getValue();
@@ -861,8 +864,7 @@ public class StructUtil {
 		IStruct			flatMap			= toFlatMap( struct );
 
 		// First get regular struct matches (non-List values)
-		Stream<IStruct>	regularMatches	= flatMap.entrySet()
-		    .stream()
+		Stream<IStruct>	regularMatches	= flatMap.entryStream()
 		    .filter( entry -> ! ( entry.getValue() instanceof List ) && Compare.invoke( value, entry.getValue() ) == 0 )
 		    .map( entry -> extractValueResult( entry, flatMap, struct ) );
 
@@ -883,8 +885,7 @@ public class StructUtil {
 	 * @return a stream of structs containing matches found within arrays
 	 */
 	private static Stream<IStruct> extractValuesFromArrays( IStruct flatMap, IStruct originalStruct, Object value ) {
-		return flatMap.entrySet()
-		    .stream()
+		return flatMap.entryStream()
 		    .filter( entry -> entry.getValue() instanceof List )
 		    .flatMap( entry -> {
 			    List<?> list	= ( List<?> ) entry.getValue();
@@ -937,7 +938,7 @@ public class StructUtil {
 		    Key.owner,
 		    keyParts.length > 1
 		        ? unFlattenKeys(
-		            flatMap.entrySet().stream()
+		            flatMap.entryStream()
 		                .filter( mapEntry -> mapEntry.getKey().getName().contains( finalParent )
 		                ).map(
 		                    mapEntry -> new AbstractMap.SimpleEntry<Key, Object>(
@@ -984,7 +985,7 @@ public class StructUtil {
 	 * @return the recipient struct merged
 	 */
 	public static IStruct deepMerge( IStruct recipient, IStruct merge, boolean override ) {
-		merge.entrySet().forEach(
+		merge.entryStream().forEach(
 		    entry -> {
 			    if ( entry.getValue() instanceof IStruct mergeStruct && recipient.get( entry.getKey() ) instanceof IStruct recipStruct ) {
 				    StructUtil.deepMerge( recipStruct, mergeStruct, override );
@@ -1016,7 +1017,7 @@ public class StructUtil {
 	public static IStruct toFlatMap( IStruct struct ) {
 		return new Struct(
 		    struct.getType(),
-		    struct.entrySet().stream()
+		    struct.entryStream()
 		        .filter( entry -> entry.getValue() != null )
 		        .flatMap( StructUtil::flattenEntry )
 		        .collect( LinkedHashMap<Key, Object>::new, ( m, entry ) -> m.put( entry.getKey(), entry.getValue() ), LinkedHashMap::putAll )
@@ -1041,7 +1042,7 @@ public class StructUtil {
 
 		if ( entry.getValue() instanceof Map ) {
 			IStruct nested = StructCaster.cast( entry.getValue() );
-			return nested.entrySet().stream()
+			return nested.entryStream()
 			    .map( flattener )
 			    .flatMap( StructUtil::flattenEntry );
 		}
@@ -1191,8 +1192,7 @@ public class StructUtil {
 	 * @return The query string
 	 */
 	public static String toQueryString( IStruct struct, String delimiter ) {
-		return struct.entrySet()
-		    .stream()
+		return struct.entryStream()
 		    .map( entry -> EncryptionUtil.urlEncode( entry.getKey().getName().trim() ) + "=" + EncryptionUtil.urlEncode( entry.getValue().toString().trim() ) )
 		    .collect( Collectors.joining( delimiter ) );
 	}
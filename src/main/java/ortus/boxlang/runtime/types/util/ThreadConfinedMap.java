@@ -0,0 +1,349 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * A map that starts out as a plain, non-synchronized {@link HashMap} (or {@link LinkedHashMap} when ordered)
+ * owned by the thread that created it, and is upgraded to a concurrent implementation as soon as it is shared with
+ * another thread.
+ * <p>
+ * This backs the local and arguments scopes of function invocations, which in the vast majority of cases
+ * are only ever touched by the invoking thread. The runtime escapes them via {@link #escape()} at the points where it
+ * knows a scope is handed to other threads (closure creation, thread contexts, parallel callbacks, etc), but any code
+ * can share a scope, like storing <code>arguments</code> in the application scope or returning <code>local</code> into a
+ * cache, so the first other thread that touches the map escapes it too.
+ * <p>
+ * The owner never takes a lock. Instead it flags its writes, and a thread escaping the map first releases the owner
+ * and then waits for the write in flight to finish before copying the plain map. Once the owner sees it was released,
+ * its next operations wait for the copy and go to the concurrent map, so no write is lost. Writes made through the
+ * {@link #keySet()}, {@link #values()} and {@link #entrySet()} views aren't flagged, and reads never are since
+ * copying the map only reads it.
+ * <p>
+ * Once escaped, the map behaves exactly like the concurrent map a regular struct of the same type would use.
+ */
+public class ThreadConfinedMap implements Map<Key, Object>, Serializable {
+
+	/**
+	 * Serial version UID
+	 */
+	private static final long			serialVersionUID	= 1L;
+
+	/**
+	 * Whether to keep insertion order
+	 */
+	private final boolean				ordered;
+
+	/**
+	 * The thread that owns the map until it escapes. Null once an escape started.
+	 */
+	private transient volatile Thread	owner;
+
+	/**
+	 * How many writes the owner is in the middle of. Only the owner updates it.
+	 */
+	private transient volatile int		ownerWrites;
+
+	/**
+	 * Whether the concurrent map has been published
+	 */
+	private volatile boolean			escaped;
+
+	/**
+	 * The current backing map
+	 */
+	private volatile Map<Key, Object>	delegate;
+
+	/**
+	 * Constructor
+	 *
+	 * @param ordered      Whether to keep insertion order
+	 * @param expectedSize The amount of entries we expect, used to size the backing map
+	 */
+	public ThreadConfinedMap( boolean ordered, int expectedSize ) {
+		this.ordered	= ordered;
+		this.owner		= Thread.currentThread();
+		this.delegate	= ordered ? LinkedHashMap.newLinkedHashMap( expectedSize ) : HashMap.newHashMap( expectedSize );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Escape Handling
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get the map to read from. The owner reads the plain map without any coordination, any other thread escapes the map
+	 * first.
+	 *
+	 * @return The backing map
+	 */
+	private Map<Key, Object> map() {
+		if ( this.owner == Thread.currentThread() || this.escaped ) {
+			return this.delegate;
+		}
+		return escape();
+	}
+
+	/**
+	 * Run a write against the backing map. The owner flags the write so an escaping thread waits for it before copying
+	 * the plain map, any other thread escapes the map first.
+	 *
+	 * @param write The write to run
+	 *
+	 * @return The result of the write
+	 */
+	private <T> T write( Function<Map<Key, Object>, T> write ) {
+		Thread current = Thread.currentThread();
+		if ( this.owner == current ) {
+			this.ownerWrites++;
+			try {
+				// Check again now that the write is flagged, the escaping thread releases the owner before it checks the flag
+				if ( this.owner == current ) {
+					return write.apply( this.delegate );
+				}
+			} finally {
+				this.ownerWrites--;
+			}
+		}
+		return write.apply( this.escaped ? this.delegate : escape() );
+	}
+
+	/**
+	 * Upgrade this map to a concurrent implementation so it can be safely shared across threads. This can be called from
+	 * any thread, and is a no-op on an already escaped map. When it's called from another thread than the owner, it waits
+	 * for the write the owner may be in the middle of.
+	 *
+	 * @return The concurrent backing map
+	 */
+	public Map<Key, Object> escape() {
+		if ( this.escaped ) {
+			return this.delegate;
+		}
+		synchronized ( this ) {
+			if ( this.escaped ) {
+				return this.delegate;
+			}
+			Thread currentOwner = this.owner;
+			// Release the owner first, its next writes will wait for us on the lock
+			this.owner = null;
+			if ( currentOwner != Thread.currentThread() ) {
+				while ( this.ownerWrites > 0 ) {
+					Thread.onSpinWait();
+				}
+			}
+			this.delegate	= copyToConcurrent( this.delegate );
+			this.escaped	= true;
+			return this.delegate;
+		}
+	}
+
+	/**
+	 * Has this map escaped its owner thread?
+	 *
+	 * @return True if the map is now concurrent
+	 */
+	public boolean isEscaped() {
+		return this.escaped;
+	}
+
+	/**
+	 * Copy the plain map into its concurrent counterpart. The source must not be modified while we copy it.
+	 *
+	 * @param source The map to copy
+	 *
+	 * @return The concurrent map
+	 */
+	private Map<Key, Object> copyToConcurrent( Map<Key, Object> source ) {
+		return this.ordered
+		    ? Collections.synchronizedMap( new LinkedHashMap<>( source ) )
+		    : new ConcurrentHashMap<>( source );
+	}
+
+	/**
+	 * Deserialized maps are never thread confined
+	 */
+	private Object readResolve() {
+		this.owner		= null;
+		this.delegate	= copyToConcurrent( this.delegate );
+		this.escaped	= true;
+		return this;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Map Implementation
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public int size() {
+		return map().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map().isEmpty();
+	}
+
+	@Override
+	public boolean containsKey( Object key ) {
+		return map().containsKey( key );
+	}
+
+	@Override
+	public boolean containsValue( Object value ) {
+		return map().containsValue( value );
+	}
+
+	@Override
+	public Object get( Object key ) {
+		return map().get( key );
+	}
+
+	@Override
+	public Object getOrDefault( Object key, Object defaultValue ) {
+		return map().getOrDefault( key, defaultValue );
+	}
+
+	@Override
+	public Object put( Key key, Object value ) {
+		return write( map -> map.put( key, value ) );
+	}
+
+	@Override
+	public Object putIfAbsent( Key key, Object value ) {
+		return write( map -> map.putIfAbsent( key, value ) );
+	}
+
+	@Override
+	public Object remove( Object key ) {
+		return write( map -> map.remove( key ) );
+	}
+
+	@Override
+	public boolean remove( Object key, Object value ) {
+		return write( map -> map.remove( key, value ) );
+	}
+
+	@Override
+	public Object replace( Key key, Object value ) {
+		return write( map -> map.replace( key, value ) );
+	}
+
+	@Override
+	public boolean replace( Key key, Object oldValue, Object newValue ) {
+		return write( map -> map.replace( key, oldValue, newValue ) );
+	}
+
+	@Override
+	public void putAll( Map<? extends Key, ? extends Object> m ) {
+		write( map -> {
+			map.putAll( m );
+			return null;
+		} );
+	}
+
+	@Override
+	public void clear() {
+		write( map -> {
+			map.clear();
+			return null;
+		} );
+	}
+
+	@Override
+	public Object computeIfAbsent( Key key, Function<? super Key, ? extends Object> mappingFunction ) {
+		return write( map -> map.computeIfAbsent( key, mappingFunction ) );
+	}
+
+	@Override
+	public Object computeIfPresent( Key key, BiFunction<? super Key, ? super Object, ? extends Object> remappingFunction ) {
+		return write( map -> map.computeIfPresent( key, remappingFunction ) );
+	}
+
+	@Override
+	public Object compute( Key key, BiFunction<? super Key, ? super Object, ? extends Object> remappingFunction ) {
+		return write( map -> map.compute( key, remappingFunction ) );
+	}
+
+	@Override
+	public Object merge( Key key, Object value, BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction ) {
+		return write( map -> map.merge( key, value, remappingFunction ) );
+	}
+
+	@Override
+	public void forEach( BiConsumer<? super Key, ? super Object> action ) {
+		map().forEach( action );
+	}
+
+	@Override
+	public void replaceAll( BiFunction<? super Key, ? super Object, ? extends Object> function ) {
+		write( map -> {
+			map.replaceAll( function );
+			return null;
+		} );
+	}
+
+	@Override
+	public Set<Key> keySet() {
+		return map().keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return map().values();
+	}
+
+	@Override
+	public Set<Entry<Key, Object>> entrySet() {
+		return map().entrySet();
+	}
+
+	@Override
+	public boolean equals( Object obj ) {
+		if ( this == obj ) {
+			return true;
+		}
+		return map().equals( obj );
+	}
+
+	@Override
+	public int hashCode() {
+		return map().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return map().toString();
+	}
+
+}
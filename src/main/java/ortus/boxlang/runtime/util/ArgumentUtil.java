@@ -109,6 +109,43 @@ public class ArgumentUtil {
 		return scope;
 	}
 
+	/**
+	 * Bind positional arguments to the declared arguments without creating an arguments scope.
+	 * The rules are the same as {@link #createArgumentsScope(IBoxContext, Object[], Argument[], ArgumentsScope, Key, boolean)}, but the values are
+	 * returned in an array with one slot per declared argument, in declaration order. There can't be more positional arguments than declared ones.
+	 *
+	 * @param context             The context of the execution
+	 * @param positionalArguments The positional arguments
+	 * @param arguments           The declared arguments
+	 * @param functionName        The name of the function
+	 * @param enforceTypes        Whether to enforce argument types
+	 *
+	 * @return The bound argument values
+	 */
+	public static Object[] bindPositionalArguments( IBoxContext context, Object[] positionalArguments, Argument[] arguments, Key functionName,
+	    boolean enforceTypes ) {
+		if ( positionalArguments.length > arguments.length ) {
+			throw new BoxRuntimeException(
+			    "Function [" + functionName.getName() + "] accepts " + arguments.length + " arguments, but " + positionalArguments.length + " were passed" );
+		}
+		Object[] values = new Object[ arguments.length ];
+		for ( int i = 0; i < arguments.length; i++ ) {
+			Argument	argument	= arguments[ i ];
+			Object		value		= null;
+			if ( i < positionalArguments.length ) {
+				value = ensureArgumentType( context, argument.name(), positionalArguments[ i ], argument.typeKey(), functionName, enforceTypes );
+			} else if ( argument.required() && !argument.hasDefaultValue() ) {
+				throw new BoxRuntimeException(
+				    "Required argument [" + argument.name().getName() + "] is missing for function [" + functionName.getName() + "]" );
+			}
+			if ( value == null && argument.hasDefaultValue() ) {
+				value = ensureArgumentType( context, argument.name(), argument.getDefaultValue( context ), argument.typeKey(), functionName, enforceTypes );
+			}
+			values[ i ] = value;
+		}
+		return values;
+	}
+
 	/**
 	 * Create an arguments scope from the named arguments
 	 *
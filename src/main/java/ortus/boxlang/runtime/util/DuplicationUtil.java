@@ -19,7 +19,10 @@ package ortus.boxlang.runtime.util;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -199,6 +202,12 @@ public class DuplicationUtil {
 	 * @return A new Struct copy
 	 */
 	public static IStruct duplicateStruct( IStruct target, Boolean deep, IBoxContext context ) {
+		// Plain structs share their map until one side is written to. A deep copy can do the same when there is
+		// nothing nested to copy.
+		if ( target instanceof Struct struct && struct.canCopyOnWrite() && ( !deep || hasOnlyImmutableValues( struct ) ) ) {
+			return struct.copyOnWrite();
+		}
+
 		var		visited		= visitedObjects.get();
 		IStruct	newStruct	= new Struct( target.getType() );
 
@@ -296,6 +305,12 @@ public class DuplicationUtil {
 	 * @return A new Array copy
 	 */
 	public static Array duplicateArray( Array target, Boolean deep, IBoxContext context ) {
+		// Plain arrays share their list until one side is written to. A deep copy can do the same when there is
+		// nothing nested to copy.
+		if ( target.canCopyOnWrite() && ( !deep || hasOnlyImmutableValues( target ) ) ) {
+			return target.copyOnWrite();
+		}
+
 		var	visited		= visitedObjects.get();
 		var	newArray	= new Array();
 		visited.put( target, newArray );
@@ -311,6 +326,58 @@ public class DuplicationUtil {
 		}
 	}
 
+	/**
+	 * Check if every value of a struct is immutable, so a deep copy of the struct doesn't need to copy any of them
+	 *
+	 * @param target The struct to check
+	 *
+	 * @return True if all values are immutable
+	 */
+	private static boolean hasOnlyImmutableValues( Struct target ) {
+		Iterator<Entry<Key, Object>> entries = target.entryIterator();
+		while ( entries.hasNext() ) {
+			if ( !isImmutable( entries.next().getValue() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if every element of an array is immutable, so a deep copy of the array doesn't need to copy any of them
+	 *
+	 * @param target The array to check
+	 *
+	 * @return True if all elements are immutable
+	 */
+	private static boolean hasOnlyImmutableValues( Array target ) {
+		for ( int i = 0; i < target.size(); i++ ) {
+			if ( !isImmutable( target.get( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if a value is immutable, meaning {@link #duplicate(Object, Boolean, IBoxContext)} returns it as-is
+	 *
+	 * @param value The value to check
+	 *
+	 * @return True if the value is immutable
+	 */
+	private static boolean isImmutable( Object value ) {
+		return value == null
+		    || value instanceof String
+		    || value instanceof Key
+		    || value instanceof NullValue
+		    || value instanceof Function
+		    || value instanceof Enum<?>
+		    || value instanceof BigDecimal
+		    || value instanceof BigInteger
+		    || ClassUtils.isPrimitiveWrapper( value.getClass() );
+	}
+
 	/**
 	 * Duplicate a Query object
 	 *
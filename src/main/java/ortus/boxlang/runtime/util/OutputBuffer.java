@@ -0,0 +1,444 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * The output buffer of a context.
+ * <p>
+ * The text is kept in a chain of character chunks instead of one contiguous array, so it never has to be copied to
+ * grow, and moving the output of a context into its parent with {@link #transferFrom(OutputBuffer)} relinks the chunks
+ * instead of copying them. The text is only turned into a String, or encoded to bytes, when it reaches its final sink
+ * through {@link #toString()} or {@link #writeTo(Writer)}.
+ * <p>
+ * A buffer can also wrap a {@link StringBuffer}, for the components that capture the output of their body in one. All
+ * the writes then go straight to the StringBuffer. A buffer keeping its own chunks can be switched to a StringBuffer with
+ * {@link #toStringBuffer()}, for callers of the StringBuffer based context API.
+ * <p>
+ * This class is not thread safe, the contexts synchronize on the buffer when it may be shared between threads.
+ */
+public final class OutputBuffer implements CharSequence, Appendable {
+
+	/**
+	 * The size of the first chunk
+	 */
+	private static final int	MIN_CHUNK_SIZE	= 256;
+
+	/**
+	 * The size chunks stop doubling at
+	 */
+	private static final int	MAX_CHUNK_SIZE	= 16384;
+
+	/**
+	 * A link of the chain
+	 */
+	private static final class Chunk {
+
+		private final char[]	chars;
+		private int				length	= 0;
+		private Chunk			next	= null;
+
+		private Chunk( int size ) {
+			this.chars = new char[ size ];
+		}
+
+		private int remaining() {
+			return this.chars.length - this.length;
+		}
+	}
+
+	/**
+	 * The StringBuffer all the writes go to, if this buffer wraps one
+	 */
+	private StringBuffer		target;
+
+	/**
+	 * The first chunk, null while the buffer is empty
+	 */
+	private Chunk				head	= null;
+
+	/**
+	 * The chunk being written to
+	 */
+	private Chunk				tail	= null;
+
+	/**
+	 * The number of characters in the chunks
+	 */
+	private int					length	= 0;
+
+	/**
+	 * Constructor
+	 */
+	public OutputBuffer() {
+		this.target = null;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param target The StringBuffer to write to
+	 */
+	private OutputBuffer( StringBuffer target ) {
+		this.target = target;
+	}
+
+	/**
+	 * Wrap a StringBuffer, everything written to the returned buffer goes to it.
+	 *
+	 * @param target The StringBuffer
+	 *
+	 * @return A buffer writing to the StringBuffer
+	 */
+	public static OutputBuffer wrap( StringBuffer target ) {
+		return new OutputBuffer( target );
+	}
+
+	/**
+	 * Get the StringBuffer this buffer writes to
+	 *
+	 * @return The StringBuffer, or null if this buffer keeps its own chunks
+	 */
+	public StringBuffer getTarget() {
+		return this.target;
+	}
+
+	/**
+	 * Get a StringBuffer that stays in sync with this buffer. If this buffer keeps its own chunks, their content is
+	 * copied to a new StringBuffer once and every write from then on goes straight to it, like a wrapped buffer. Changes
+	 * made through the returned StringBuffer are seen by this buffer.
+	 *
+	 * @return The StringBuffer this buffer now writes to
+	 */
+	public StringBuffer toStringBuffer() {
+		if ( this.target != null ) {
+			return this.target;
+		}
+		StringBuffer stringBuffer = new StringBuffer( Math.max( 16, this.length ) );
+		for ( Chunk chunk = this.head; chunk != null; chunk = chunk.next ) {
+			stringBuffer.append( chunk.chars, 0, chunk.length );
+		}
+		this.head	= null;
+		this.tail	= null;
+		this.length	= 0;
+		this.target	= stringBuffer;
+		return stringBuffer;
+	}
+
+	@Override
+	public OutputBuffer append( CharSequence text ) {
+		if ( text == null ) {
+			return append( "null" );
+		}
+		return append( text, 0, text.length() );
+	}
+
+	@Override
+	public OutputBuffer append( CharSequence text, int start, int end ) {
+		if ( text == null ) {
+			return append( "null", start, end );
+		}
+		if ( this.target != null ) {
+			this.target.append( text, start, end );
+			return this;
+		}
+		while ( start < end ) {
+			Chunk	chunk	= writableChunk( end - start );
+			int		count	= Math.min( chunk.remaining(), end - start );
+			if ( text instanceof String string ) {
+				string.getChars( start, start + count, chunk.chars, chunk.length );
+			} else {
+				for ( int i = 0; i < count; i++ ) {
+					chunk.chars[ chunk.length + i ] = text.charAt( start + i );
+				}
+			}
+			chunk.length	+= count;
+			this.length		+= count;
+			start			+= count;
+		}
+		return this;
+	}
+
+	@Override
+	public OutputBuffer append( char c ) {
+		if ( this.target != null ) {
+			this.target.append( c );
+			return this;
+		}
+		Chunk chunk = writableChunk( 1 );
+		chunk.chars[ chunk.length++ ] = c;
+		this.length++;
+		return this;
+	}
+
+	/**
+	 * Append a range of a character array
+	 *
+	 * @param chars The characters
+	 * @param start The index of the first character to append
+	 * @param end   The index after the last character to append
+	 *
+	 * @return This buffer
+	 */
+	public OutputBuffer append( char[] chars, int start, int end ) {
+		if ( this.target != null ) {
+			this.target.append( chars, start, end - start );
+			return this;
+		}
+		while ( start < end ) {
+			Chunk	chunk	= writableChunk( end - start );
+			int		count	= Math.min( chunk.remaining(), end - start );
+			System.arraycopy( chars, start, chunk.chars, chunk.length, count );
+			chunk.length	+= count;
+			this.length		+= count;
+			start			+= count;
+		}
+		return this;
+	}
+
+	/**
+	 * Get a writer that appends to this buffer, for the writers of large content like JSON serialization. Closing the
+	 * writer does nothing.
+	 *
+	 * @return The writer
+	 */
+	public Writer asWriter() {
+		return new Writer() {
+
+			@Override
+			public void write( char[] chars, int offset, int length ) {
+				append( chars, offset, offset + length );
+			}
+
+			@Override
+			public void write( int c ) {
+				append( ( char ) c );
+			}
+
+			@Override
+			public void write( String text, int offset, int length ) {
+				append( text, offset, offset + length );
+			}
+
+			@Override
+			public void flush() {
+				// Nothing to flush, the writes go straight to the chunks
+			}
+
+			@Override
+			public void close() {
+				// The buffer outlives the writer
+			}
+		};
+	}
+
+	/**
+	 * Move the content of another buffer to the end of this one, leaving the other buffer empty. When neither buffer
+	 * wraps a StringBuffer, the chunks of the other buffer that are mostly full are linked to this one without copying
+	 * them. The small ones are copied into the tail instead, so many small transfers, like the output of short function
+	 * calls, don't leave a chain of mostly empty chunks.
+	 *
+	 * @param source The buffer to empty into this one
+	 *
+	 * @return This buffer
+	 */
+	public OutputBuffer transferFrom( OutputBuffer source ) {
+		if ( source == this || source.length() == 0 ) {
+			return this;
+		}
+		if ( source.target != null ) {
+			append( source.target );
+		} else if ( this.target != null ) {
+			for ( Chunk chunk = source.head; chunk != null; chunk = chunk.next ) {
+				this.target.append( chunk.chars, 0, chunk.length );
+			}
+		} else {
+			Chunk chunk = source.head;
+			while ( chunk != null ) {
+				Chunk next = chunk.next;
+				if ( isWorthLinking( chunk ) ) {
+					chunk.next = null;
+					if ( this.tail == null ) {
+						this.head = chunk;
+					} else {
+						this.tail.next = chunk;
+					}
+					this.tail	= chunk;
+					this.length	+= chunk.length;
+				} else {
+					append( chunk.chars, 0, chunk.length );
+				}
+				chunk = next;
+			}
+			// The source starts over, it must never write to the chunks it gave away
+			source.head		= null;
+			source.tail		= null;
+			source.length	= 0;
+			return this;
+		}
+		source.clear();
+		return this;
+	}
+
+	/**
+	 * Write the content of the buffer to a writer, chunk by chunk
+	 *
+	 * @param writer The writer
+	 *
+	 * @throws IOException If the writer fails
+	 */
+	public void writeTo( Writer writer ) throws IOException {
+		if ( this.target != null ) {
+			writer.append( this.target );
+			return;
+		}
+		for ( Chunk chunk = this.head; chunk != null; chunk = chunk.next ) {
+			writer.write( chunk.chars, 0, chunk.length );
+		}
+	}
+
+	/**
+	 * Encode the content of the buffer to a stream, without building a String first
+	 *
+	 * @param out     The stream
+	 * @param charset The charset to encode with
+	 *
+	 * @throws IOException If the stream fails
+	 */
+	public void writeTo( OutputStream out, Charset charset ) throws IOException {
+		Writer writer = new OutputStreamWriter( out, charset );
+		writeTo( writer );
+		// Push the encoded bytes out, but leave the stream open
+		writer.flush();
+	}
+
+	/**
+	 * Empty the buffer
+	 *
+	 * @return This buffer
+	 */
+	public OutputBuffer clear() {
+		if ( this.target != null ) {
+			this.target.setLength( 0 );
+			return this;
+		}
+		this.head	= null;
+		this.tail	= null;
+		this.length	= 0;
+		return this;
+	}
+
+	@Override
+	public int length() {
+		return this.target != null ? this.target.length() : this.length;
+	}
+
+	@Override
+	public char charAt( int index ) {
+		if ( this.target != null ) {
+			return this.target.charAt( index );
+		}
+		if ( index < 0 || index >= this.length ) {
+			throw new IndexOutOfBoundsException( "Index " + index + " is out of bounds for length " + this.length );
+		}
+		Chunk chunk = this.head;
+		while ( index >= chunk.length ) {
+			index	-= chunk.length;
+			chunk	= chunk.next;
+		}
+		return chunk.chars[ index ];
+	}
+
+	@Override
+	public CharSequence subSequence( int start, int end ) {
+		return toString().substring( start, end );
+	}
+
+	@Override
+	public String toString() {
+		if ( this.target != null ) {
+			return this.target.toString();
+		}
+		if ( this.head == this.tail ) {
+			return this.head == null ? "" : new String( this.head.chars, 0, this.head.length );
+		}
+		StringBuilder builder = new StringBuilder( this.length );
+		for ( Chunk chunk = this.head; chunk != null; chunk = chunk.next ) {
+			builder.append( chunk.chars, 0, chunk.length );
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Whether a chunk of another buffer should be linked to this one rather than copied into the tail. Only chunks holding
+	 * at least {@link #MIN_CHUNK_SIZE} characters and filled to at least half are linked, and only when they don't fit in
+	 * the room left in the tail.
+	 *
+	 * @param chunk The chunk of the other buffer
+	 *
+	 * @return Whether to link the chunk
+	 */
+	private boolean isWorthLinking( Chunk chunk ) {
+		if ( chunk.length < MIN_CHUNK_SIZE || chunk.length < chunk.remaining() ) {
+			return false;
+		}
+		return this.tail == null || chunk.length > this.tail.remaining();
+	}
+
+	/**
+	 * Count the chunks of the buffer
+	 *
+	 * @return The number of chunks, 0 if the buffer wraps a StringBuffer
+	 */
+	int chunkCount() {
+		int count = 0;
+		for ( Chunk chunk = this.head; chunk != null; chunk = chunk.next ) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Get a chunk with room to write to, linking a new one when the tail is full. Chunks double in size up to
+	 * {@link #MAX_CHUNK_SIZE}, and a larger write gets a chunk of its own size.
+	 *
+	 * @param needed The number of characters about to be written
+	 *
+	 * @return The tail chunk
+	 */
+	private Chunk writableChunk( int needed ) {
+		if ( this.tail != null && this.tail.remaining() > 0 ) {
+			return this.tail;
+		}
+		int		size	= Math.max( MIN_CHUNK_SIZE, Math.min( this.length, MAX_CHUNK_SIZE ) );
+		Chunk	chunk	= new Chunk( needed > MAX_CHUNK_SIZE ? needed : Math.max( size, Math.min( needed, MAX_CHUNK_SIZE ) ) );
+		if ( this.tail == null ) {
+			this.head = chunk;
+		} else {
+			this.tail.next = chunk;
+		}
+		this.tail = chunk;
+		return chunk;
+	}
+
+}
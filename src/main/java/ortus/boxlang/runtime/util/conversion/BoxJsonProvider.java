@@ -28,6 +28,7 @@ import com.fasterxml.jackson.jr.ob.impl.JSONReader;
 import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
 
 import ortus.boxlang.runtime.dynamic.casters.DateTimeCaster;
+import ortus.boxlang.runtime.jdbc.QueryCursor;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.DateTime;
@@ -47,6 +48,7 @@ import ortus.boxlang.runtime.util.conversion.serializers.DynamicObjectSerializer
 import ortus.boxlang.runtime.util.conversion.serializers.ExceptionSerializer;
 import ortus.boxlang.runtime.util.conversion.serializers.JavaArraySerializer;
 import ortus.boxlang.runtime.util.conversion.serializers.KeySerializer;
+import ortus.boxlang.runtime.util.conversion.serializers.QueryCursorSerializer;
 
 /**
  * This class provides a JSON provider for BoxLang using our lib: Jackson JR
@@ -71,6 +73,10 @@ public class BoxJsonProvider extends ReaderWriterProvider {
 			return new BoxQuerySerializer();
 		}
 
+		if ( QueryCursor.class.isAssignableFrom( type ) ) {
+			return new QueryCursorSerializer();
+		}
+
 		if ( List.class.isAssignableFrom( type ) ) {
 			return new BoxArraySerializer();
 		}
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.events.BoxEvent;
+import ortus.boxlang.runtime.events.InterceptorState;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
@@ -68,38 +69,11 @@ public class BoxQuerySerializer implements ValueWriter {
 				if ( queryFormat == null ) {
 					queryFormat = "row";
 				}
-				final Object valueToSerialize;
-
-				// "row" is the same as "false". Top level struct with columns (array of strings), data (array of arrays)
-				if ( queryFormat.equals( "row" ) || queryFormat.equals( "false" ) ) {
-					valueToSerialize = Struct.linkedOf(
-					    "columns", bxQuery.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-					    "data", bxQuery.getData()
-					);
-					runtime.announce( BoxEvent.ON_JSON_QUERY_SERIALIZE, () -> Struct.ofNonConcurrent( Key.data, valueToSerialize ) );
-					context.writeValue( valueToSerialize );
-					// "column" is the same as "true". Top level struct with rowcount, columns (array of strings), data (struct with column name as key and array of
-					// values as value)
-				} else if ( queryFormat.equals( "column" ) || queryFormat.equals( "true" ) ) {
-					var						data	= new Struct( IStruct.TYPES.LINKED );
-					Map<Key, QueryColumn>	cols	= bxQuery.getColumns();
-					for ( var col : cols.keySet() ) {
-						data.put( col, cols.get( col ).getColumnData() );
-					}
-					valueToSerialize = Struct.linkedOf(
-					    "rowCount", bxQuery.size(),
-					    "columns", bxQuery.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-					    "data", data
-					);
-					runtime.announce( BoxEvent.ON_JSON_QUERY_SERIALIZE, () -> Struct.ofNonConcurrent( Key.data, valueToSerialize ) );
-					context.writeValue( valueToSerialize );
-					// "struct" is what we get by default (array of structs)
-				} else if ( queryFormat.equals( "struct" ) ) {
-					valueToSerialize = bxQuery.toArrayOfStructs();
-					runtime.announce( BoxEvent.ON_JSON_QUERY_SERIALIZE, () -> Struct.ofNonConcurrent( Key.data, valueToSerialize ) );
-					context.writeValue( valueToSerialize );
+				// Listeners get the whole data to look at, so only build it if someone is listening
+				if ( hasSerializeListeners() ) {
+					writeMaterialized( context, bxQuery, queryFormat );
 				} else {
-					throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
+					writeStreamed( context, g, bxQuery, queryFormat );
 				}
 			} finally {
 				// Remove the query from the set of seen queries
@@ -108,6 +82,132 @@ public class BoxQuerySerializer implements ValueWriter {
 		}
 	}
 
+	/**
+	 * Whether anyone listens to the query serialization event
+	 *
+	 * @return True if the event has observers
+	 */
+	private static boolean hasSerializeListeners() {
+		InterceptorState state = runtime.getInterceptorService().getState( BoxEvent.ON_JSON_QUERY_SERIALIZE.key() );
+		return state != null && state.size() > 0;
+	}
+
+	/**
+	 * Build the value to serialize for the query format, announce it and write it
+	 *
+	 * @param context     The JSON writer
+	 * @param bxQuery     The query
+	 * @param queryFormat The query format
+	 */
+	private static void writeMaterialized( JSONWriter context, Query bxQuery, String queryFormat ) throws IOException {
+		final Object valueToSerialize;
+
+		// "row" is the same as "false". Top level struct with columns (array of strings), data (array of arrays)
+		if ( queryFormat.equals( "row" ) || queryFormat.equals( "false" ) ) {
+			valueToSerialize = Struct.linkedOf(
+			    "columns", bxQuery.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
+			    "data", bxQuery.getData()
+			);
+			// "column" is the same as "true". Top level struct with rowcount, columns (array of strings), data (struct with column name as key and array of
+			// values as value)
+		} else if ( queryFormat.equals( "column" ) || queryFormat.equals( "true" ) ) {
+			var						data	= new Struct( IStruct.TYPES.LINKED );
+			Map<Key, QueryColumn>	cols	= bxQuery.getColumns();
+			for ( var col : cols.keySet() ) {
+				data.put( col, cols.get( col ).getColumnData() );
+			}
+			valueToSerialize = Struct.linkedOf(
+			    "rowCount", bxQuery.size(),
+			    "columns", bxQuery.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
+			    "data", data
+			);
+			// "struct" is what we get by default (array of structs)
+		} else if ( queryFormat.equals( "struct" ) ) {
+			valueToSerialize = bxQuery.toArrayOfStructs();
+		} else {
+			throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
+		}
+		runtime.announce( BoxEvent.ON_JSON_QUERY_SERIALIZE, () -> Struct.ofNonConcurrent( Key.data, valueToSerialize ) );
+		context.writeValue( valueToSerialize );
+	}
+
+	/**
+	 * Write the query in the query format cell by cell, without building any copy of its data
+	 *
+	 * @param context     The JSON writer
+	 * @param g           The generator
+	 * @param bxQuery     The query
+	 * @param queryFormat The query format
+	 */
+	private static void writeStreamed( JSONWriter context, JsonGenerator g, Query bxQuery, String queryFormat ) throws IOException {
+		Key[]	columns		= bxQuery.getColumns().keySet().toArray( new Key[ 0 ] );
+		int[]	indexes		= new int[ columns.length ];
+		int		rowCount	= bxQuery.size();
+		for ( int i = 0; i < columns.length; i++ ) {
+			indexes[ i ] = bxQuery.getColumn( columns[ i ] ).getIndex();
+		}
+
+		if ( queryFormat.equals( "row" ) || queryFormat.equals( "false" ) ) {
+			g.writeStartObject();
+			writeColumnNames( g, columns );
+			g.writeFieldName( "data" );
+			g.writeStartArray();
+			for ( int row = 0; row < rowCount; row++ ) {
+				g.writeStartArray();
+				for ( int index : indexes ) {
+					context.writeValue( bxQuery.getCell( row, index ) );
+				}
+				g.writeEndArray();
+			}
+			g.writeEndArray();
+			g.writeEndObject();
+		} else if ( queryFormat.equals( "column" ) || queryFormat.equals( "true" ) ) {
+			g.writeStartObject();
+			g.writeNumberField( "rowCount", rowCount );
+			writeColumnNames( g, columns );
+			g.writeFieldName( "data" );
+			g.writeStartObject();
+			for ( int i = 0; i < columns.length; i++ ) {
+				g.writeFieldName( columns[ i ].getName() );
+				g.writeStartArray();
+				for ( int row = 0; row < rowCount; row++ ) {
+					context.writeValue( bxQuery.getCell( row, indexes[ i ] ) );
+				}
+				g.writeEndArray();
+			}
+			g.writeEndObject();
+			g.writeEndObject();
+		} else if ( queryFormat.equals( "struct" ) ) {
+			g.writeStartArray();
+			for ( int row = 0; row < rowCount; row++ ) {
+				g.writeStartObject();
+				for ( int i = 0; i < columns.length; i++ ) {
+					g.writeFieldName( columns[ i ].getName() );
+					context.writeValue( bxQuery.getCell( row, indexes[ i ] ) );
+				}
+				g.writeEndObject();
+			}
+			g.writeEndArray();
+		} else {
+			throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
+		}
+	}
+
+	/**
+	 * Write the columns field, an array of the column names
+	 *
+	 * @param g       The generator
+	 * @param columns The columns
+	 */
+	private static void writeColumnNames( JsonGenerator g, Key[] columns ) throws IOException {
+		g.writeFieldName( "columns" );
+		g.writeStartArray();
+		for ( Key column : columns ) {
+			g.writeString( column.getName() );
+		}
+		g.writeEndArray();
+	}
+
 	@Override
 	public Class<?> valueType() {
 		return Query.class;
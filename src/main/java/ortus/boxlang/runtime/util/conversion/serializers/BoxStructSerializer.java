@@ -19,12 +19,15 @@ package ortus.boxlang.runtime.util.conversion.serializers;
 
 import java.io.IOException;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
 
+import ortus.boxlang.runtime.types.IStruct;
+
 /**
  * This class provides JSON Serialization of a BoxLang Struct
  */
@@ -54,12 +57,16 @@ public class BoxStructSerializer implements ValueWriter {
 				// Write the struct's properties
 				g.writeStartObject();
 
-				// iterate over the entry set
-				for ( Object key : bxStruct.keySet() ) {
+				// iterate over the entries, structs don't need to snapshot them
+				Iterator<? extends Map.Entry<?, ?>> entries = bxStruct instanceof IStruct struct
+				    ? struct.entryIterator()
+				    : bxStruct.entrySet().iterator();
+				while ( entries.hasNext() ) {
+					Map.Entry<?, ?> entry = entries.next();
 					// Write the property name
-					g.writeFieldName( key.toString() );
+					g.writeFieldName( entry.getKey().toString() );
 					// Write the property value
-					context.writeValue( bxStruct.get( key ) );
+					context.writeValue( entry.getValue() );
 				}
 
 				g.writeEndObject();
@@ -0,0 +1,67 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util.conversion.serializers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+import ortus.boxlang.runtime.jdbc.QueryCursor;
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * This class provides JSON Serialization of a BoxLang query cursor.
+ * <p>
+ * The remaining rows are read from the cursor as they are written, as an array of structs, so the results never sit
+ * in memory all at once. A cursor only goes forward, so it is exhausted and closed once serialized.
+ */
+public class QueryCursorSerializer implements ValueWriter {
+
+	/**
+	 * Custom BoxLang Query Cursor Serializer
+	 */
+	@Override
+	public void writeValue( JSONWriter context, JsonGenerator g, Object value ) throws IOException {
+		QueryCursor	cursor	= ( QueryCursor ) value;
+		Key[]		columns	= cursor.getColumnNames();
+
+		try {
+			g.writeStartArray();
+			while ( cursor.hasNext() ) {
+				Object[] row = cursor.nextRow();
+				g.writeStartObject();
+				for ( int i = 0; i < columns.length; i++ ) {
+					g.writeFieldName( columns[ i ].getName() );
+					context.writeValue( row[ i ] );
+				}
+				g.writeEndObject();
+			}
+			g.writeEndArray();
+		} finally {
+			cursor.close();
+		}
+	}
+
+	@Override
+	public Class<?> valueType() {
+		return QueryCursor.class;
+	}
+
+}
@@ -0,0 +1,167 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.compiler.ast.expression.BoxArrayAccess;
+import ortus.boxlang.compiler.ast.expression.BoxBinaryOperation;
+import ortus.boxlang.compiler.ast.expression.BoxIntegerLiteral;
+import ortus.boxlang.compiler.ast.expression.BoxStringConcat;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
+import ortus.boxlang.compiler.ast.statement.BoxIfElse;
+import ortus.boxlang.compiler.ast.visitor.optimizer.ASTOptimizer;
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.compiler.parser.Parser;
+import ortus.boxlang.compiler.parser.ParsingResult;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * Verifies the AST optimization passes rewrite what they should, and that code produces the same results with and
+ * without them
+ */
+public class ASTOptimizerTest {
+
+	static BoxRuntime	instance;
+	static Key			result					= new Key( "result" );
+	static IStruct		allPasses				= Struct.of(
+	    "constantFolding", true,
+	    "stringConcatMerging", true,
+	    "deadBranchElimination", true,
+	    "constantKeys", true
+	);
+	static Object		originalOptimizations;
+
+	@BeforeAll
+	public static void setUp() {
+		instance				= BoxRuntime.getInstance( true );
+		originalOptimizations	= instance.getConfiguration().experimental.get( Key.compilerOptimizations );
+	}
+
+	@AfterAll
+	public static void teardown() {
+		if ( originalOptimizations == null ) {
+			instance.getConfiguration().experimental.remove( Key.compilerOptimizations );
+		} else {
+			instance.getConfiguration().experimental.put( Key.compilerOptimizations, originalOptimizations );
+		}
+	}
+
+	@DisplayName( "It folds integer arithmetic and boolean logic on literals" )
+	@Test
+	public void testConstantFolding() throws IOException {
+		BoxNode root = optimize( "result = ( 1 + 2 ) - 4 + x;" );
+		assertThat( root.getDescendantsOfType( BoxBinaryOperation.class ) ).hasSize( 1 );
+		assertThat( root.getDescendantsOfType( BoxIntegerLiteral.class ).get( 0 ).getValue() ).isEqualTo( "-1" );
+
+		// Folding a result that could overflow to a Long is left to the runtime
+		root = optimize( "result = 2147483600 + 100;" );
+		assertThat( root.getDescendantsOfType( BoxBinaryOperation.class ) ).hasSize( 1 );
+
+		assertSameResult( "x = 5; result = ( 1 + 2 ) - 4 + x;" );
+		assertSameResult( "result = 999999999 + 999999999;" );
+		assertSameResult( "result = 10 - 3 - 2;" );
+		assertSameResult( "result = !false && ( true || missingVariable );" );
+		assertSameResult( "result = false && missingVariable;" );
+	}
+
+	@DisplayName( "It merges the literal parts of string concatenations" )
+	@Test
+	public void testStringConcatMerging() throws IOException {
+		BoxNode root = optimize( "result = \"a\" & \"b\" & 1 & x & \"c\" & \"d\";" );
+		BoxStringConcat concat = root.getDescendantsOfType( BoxStringConcat.class ).get( 0 );
+		assertThat( concat.getValues() ).hasSize( 3 );
+		assertThat( ( ( BoxStringLiteral ) concat.getValues().get( 0 ) ).getValue() ).isEqualTo( "ab1" );
+		assertThat( ( ( BoxStringLiteral ) concat.getValues().get( 2 ) ).getValue() ).isEqualTo( "cd" );
+
+		root = optimize( "result = \"a\" & \"b\";" );
+		assertThat( root.getDescendantsOfType( BoxStringConcat.class ) ).isEmpty();
+
+		assertSameResult( "x = 'middle'; result = \"a\" & \"b\" & 1 & x & \"c\" & \"d\";" );
+		assertSameResult( "x = 'middle'; result = \"start #x# end\" & \"!\";" );
+		assertSameResult( "result = \"#1#\";" );
+		assertSameResult( "result = 1 & 2;" );
+	}
+
+	@DisplayName( "It removes branches that can never run" )
+	@Test
+	public void testDeadBranchElimination() throws IOException {
+		BoxNode root = optimize( "if ( !false || missingVariable ) { result = 1; } else { result = 2; }" );
+		assertThat( root.getDescendantsOfType( BoxIfElse.class ) ).isEmpty();
+
+		// Functions are declared whether the branch runs or not, so the branch stays
+		root = optimize( "if ( false ) { function deadBranchFunc() {} }" );
+		assertThat( root.getDescendantsOfType( BoxIfElse.class ) ).hasSize( 1 );
+
+		assertSameResult( "if ( true ) { result = 'then'; } else { result = 'else'; }" );
+		assertSameResult( "result = 'none'; if ( false ) { result = 'then'; }" );
+		assertSameResult( "if ( false ) { result = 1; } else if ( !false ) { result = 2; } else { result = 3; }" );
+		assertSameResult( "result = ( true ) ? 'yes' : 'no';" );
+		assertSameResult( "result = false ? missingVariable : 'no';" );
+	}
+
+	@DisplayName( "It turns constant keys into literals" )
+	@Test
+	public void testConstantKeys() throws IOException {
+		BoxNode root = optimize( "result = foo[ ( \"bar\" ) ];" );
+		assertThat( root.getDescendantsOfType( BoxArrayAccess.class ).get( 0 ).getAccess() ).isInstanceOf( BoxStringLiteral.class );
+
+		assertSameResult( "s = { \"a\" : 1, ( \"b\" ) : 2, c : 3 }; result = s[ \"a\" ] + s[ ( \"b\" ) ] + s[ \"#'c'#\" ];" );
+		assertSameResult( "s = [ a : 1, \"B\" : 2, ...{ c : 3 } ]; result = structKeyList( s );" );
+		assertSameResult( "a = [ 10, 20 ]; result = a[ ( 2 ) ];" );
+	}
+
+	/**
+	 * Parse a script and run every pass over it
+	 */
+	private BoxNode optimize( String source ) throws IOException {
+		ParsingResult parsed = new Parser().parse( source, BoxSourceType.BOXSCRIPT );
+		assertThat( parsed.isCorrect() ).isTrue();
+		return ASTOptimizer.optimize( parsed.getRoot(), allPasses );
+	}
+
+	/**
+	 * Run a script with and without the passes and check the result variable is the same value of the same type
+	 */
+	private void assertSameResult( String source ) {
+		Object	expected	= run( source, new Struct() );
+		// The trailing comment keeps the compiled class of the first run from being reused
+		Object	actual		= run( source + "\n// optimized", allPasses );
+		assertThat( actual ).isEqualTo( expected );
+		assertThat( actual.getClass() ).isEqualTo( expected.getClass() );
+	}
+
+	private Object run( String source, IStruct passes ) {
+		instance.getConfiguration().experimental.put( Key.compilerOptimizations, passes );
+		IBoxContext context = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		instance.executeSource( source, context );
+		return context.getScopeNearby( VariablesScope.name ).get( result );
+	}
+
+}
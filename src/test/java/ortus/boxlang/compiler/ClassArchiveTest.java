@@ -0,0 +1,215 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.compiler.asmboxpiler.ASMBoxpiler;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.loader.DiskClassLoader;
+import ortus.boxlang.runtime.runnables.BoxTemplate;
+import ortus.boxlang.runtime.runnables.IBoxRunnable;
+import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.runnables.RunnableLoader;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+public class ClassArchiveTest {
+
+	static BoxRuntime			instance;
+	static ClassArchive.Entry	entry;
+	static Key					result	= new Key( "result" );
+
+	@TempDir
+	static Path					appRoot;
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		instance = BoxRuntime.getInstance( true );
+		Files.writeString( appRoot.resolve( "archived.bxs" ), "x = [ 1, 2, 3 ].map( ( i ) => i * 2 );" );
+		// A source can only be compiled once per runtime, so the tests share the entry
+		entry = compileEntry( archivedPath() );
+	}
+
+	/**
+	 * Compile a source the way the compiler CLI does and wrap it in an archive entry
+	 */
+	private static ClassArchive.Entry compileEntry( ResolvedFilePath resolvedFilePath ) throws IOException {
+		List<byte[]>	bytesList	= new ArrayList<>( RunnableLoader.getInstance().getBoxpiler().compileTemplateBytes( resolvedFilePath ) );
+		String			fqn			= new String( bytesList.removeFirst() );
+		return ClassArchive.Entry.of( fqn, resolvedFilePath, bytesList, "{\"source\":\"archived.bxs\"}" );
+	}
+
+	private static ResolvedFilePath archivedPath() {
+		Path source = appRoot.resolve( "archived.bxs" );
+		return ResolvedFilePath.of( "/archiveTest", appRoot.toString(), "/archiveTest/archived.bxs", source );
+	}
+
+	@DisplayName( "It can write and memory map an archive" )
+	@Test
+	public void testRoundTrip() throws IOException {
+		Path file = appRoot.resolve( "roundtrip.bxca" );
+		ClassArchive.write( file, List.of( entry ) );
+
+		ClassArchive archive = ClassArchive.open( file );
+		assertThat( archive.size() ).isEqualTo( 1 );
+
+		ClassArchive.Entry read = archive.get( entry.fqn() );
+		assertThat( read ).isNotNull();
+		assertThat( read.mappingName() ).isEqualTo( "/archiveTest" );
+		assertThat( read.relativePath() ).isEqualTo( "/archiveTest/archived.bxs" );
+		assertThat( read.sourceMapJSON() ).isEqualTo( "{\"source\":\"archived.bxs\"}" );
+		assertThat( read.classes().keySet() ).containsExactlyElementsIn( entry.classes().keySet() ).inOrder();
+		// The main class comes first, followed by the lambda
+		assertThat( read.classes().size() ).isAtLeast( 2 );
+		for ( String name : entry.classes().keySet() ) {
+			ByteBuffer expected = entry.classBytes( name );
+			assertThat( read.classBytes( name ) ).isEqualTo( expected );
+		}
+		assertThat( read.classBytes( "does.not.Exist" ) ).isNull();
+	}
+
+	@DisplayName( "It checks the location an entry was compiled through" )
+	@Test
+	public void testIsLocatedAt() throws IOException {
+		assertThat( entry.isLocatedAt( archivedPath() ) ).isTrue();
+		assertThat( entry.isLocatedAt(
+		    ResolvedFilePath.of( "/elsewhere", appRoot.toString(), "/elsewhere/archived.bxs", appRoot.resolve( "archived.bxs" ) ) ) ).isFalse();
+	}
+
+	@DisplayName( "It checks the content hash whatever the modified date is" )
+	@Test
+	public void testMatchesSource() throws IOException {
+		Path				source	= appRoot.resolve( "hashed.bxs" );
+		ResolvedFilePath	path	= ResolvedFilePath.of( "/archiveTest", appRoot.toString(), "/archiveTest/hashed.bxs", source );
+		Files.writeString( source, "y = 'hashed';" );
+		ClassArchive.Entry hashed = compileEntry( path );
+
+		assertThat( hashed.matchesSource( source ) ).isTrue();
+
+		// Touched, but the same contents, as after a checkout or a copy
+		Files.setLastModifiedTime( source, FileTime.fromMillis( hashed.sourceLastModified() + 60_000 ) );
+		assertThat( hashed.matchesSource( source ) ).isTrue();
+
+		// Changed contents with the same date, as when an image or a zip pins every date
+		Files.writeString( source, "y = 'changed';" );
+		Files.setLastModifiedTime( source, FileTime.fromMillis( hashed.sourceLastModified() ) );
+		assertThat( hashed.matchesSource( source ) ).isFalse();
+	}
+
+	@DisplayName( "It loads the templates and classes of a packed archive through the disk class loader" )
+	@Test
+	public void testLoadsFromArchive() throws IOException {
+		Path	packed	= Files.createDirectories( appRoot.resolve( "packed" ) );
+		Path	moved	= Files.createDirectories( appRoot.resolve( "moved" ) );
+		Path	archive	= appRoot.resolve( "packed.bxca" );
+		for ( Path root : List.of( packed, moved ) ) {
+			Files.writeString( root.resolve( "page.bxs" ), "location = getCurrentTemplatePath(); result = [ 1, 2 ].map( ( i ) => i + 1 );" );
+			Files.writeString( root.resolve( "Packed.bx" ), "class { function doubled() { return [ 1, 2 ].map( ( i ) => i * 2 ); } }" );
+		}
+		List<String> errors = new ArrayList<>();
+		BXCompiler.compileArchive( packed, archive, "/packedTest", true, instance, errors, new AtomicInteger(), new AtomicInteger() );
+		assertThat( errors ).isEmpty();
+
+		String previous = instance.getConfiguration().classArchive;
+		instance.getConfiguration().classArchive = archive.toString();
+		try {
+			for ( Path root : List.of( packed, moved ) ) {
+				// The archive was packed from the first root, the second one has the same sources somewhere else
+				IBoxpiler			boxpiler	= archiveOnlyBoxpiler();
+				ResolvedFilePath	page		= ResolvedFilePath.of( "/packedTest", root.toString(), "/packedTest/page.bxs", root.resolve( "page.bxs" ) );
+				ResolvedFilePath	packedClass	= ResolvedFilePath.of( "/packedTest", root.toString(), "/packedTest/Packed.bx",
+				    root.resolve( "Packed.bx" ) );
+				assertThat( boxpiler.getClassArchive() ).isNotNull();
+
+				// The template runs, with its lambda, and reports where it is now
+				Class<IBoxRunnable>	pageClass	= boxpiler.compileTemplate( page );
+				IBoxContext			context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+				BoxTemplate			template	= ( BoxTemplate ) DynamicObject.of( pageClass ).invokeStatic( context, "getInstance" );
+				template.invoke( context );
+				IScope variables = context.getScopeNearby( VariablesScope.name );
+				assertThat( variables.getAsString( Key.of( "location" ) ) ).isEqualTo( root.resolve( "page.bxs" ).toString() );
+				assertThat( variables.getAsArray( result ) ).containsExactly( 2, 3 ).inOrder();
+				assertLoadedFromArchive( boxpiler, pageClass );
+
+				// The class and its inner classes
+				Class<IBoxRunnable> clazz = boxpiler.compileClass( packedClass );
+				assertThat( IClassRunnable.class.isAssignableFrom( clazz ) ).isTrue();
+				assertLoadedFromArchive( boxpiler, clazz );
+			}
+		} finally {
+			instance.getConfiguration().classArchive = previous;
+		}
+	}
+
+	/**
+	 * A fresh boxpiler, which opens the configured archive and fails the test if anything has to be compiled
+	 */
+	private static IBoxpiler archiveOnlyBoxpiler() {
+		return new ASMBoxpiler() {
+
+			@Override
+			public List<byte[]> compileClassInfo( String classPoolName, String FQN ) {
+				throw new AssertionError( FQN + " was compiled instead of loaded from the archive" );
+			}
+		};
+	}
+
+	/**
+	 * Load every class of an archive entry through the disk class loader of its main class
+	 */
+	private static void assertLoadedFromArchive( IBoxpiler boxpiler, Class<?> mainClass ) {
+		ClassArchive.Entry archived = boxpiler.getClassArchive().get( mainClass.getName() );
+		assertThat( archived ).isNotNull();
+		assertThat( archived.classes().size() ).isAtLeast( 2 );
+		assertThat( mainClass.getClassLoader() ).isInstanceOf( DiskClassLoader.class );
+		for ( String name : archived.classes().keySet() ) {
+			try {
+				assertThat( mainClass.getClassLoader().loadClass( name ).getClassLoader() ).isSameInstanceAs( mainClass.getClassLoader() );
+			} catch ( ClassNotFoundException e ) {
+				throw new AssertionError( name + " isn't in the archive", e );
+			}
+		}
+	}
+
+	@DisplayName( "It rejects files that aren't class archives" )
+	@Test
+	public void testRejectsBadMagic() throws IOException {
+		Path file = appRoot.resolve( "bogus.bxca" );
+		Files.write( file, new byte[ 64 ] );
+		assertThrows( IOException.class, () -> ClassArchive.open( file ) );
+	}
+
+}
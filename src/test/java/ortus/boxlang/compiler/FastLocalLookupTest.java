@@ -0,0 +1,141 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+
+/**
+ * Verifies the compiled local/arguments lookups behave exactly like the regular nearby scope search
+ */
+public class FastLocalLookupTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result		= new Key( "result" );
+	static Key			fastLookups	= Key.of( "fastLocalLookups" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+		instance.getConfiguration().experimental.put( fastLookups, true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+		instance.getConfiguration().experimental.remove( fastLookups );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It resolves arguments and var declared locals" )
+	@Test
+	public void testArgumentsAndLocals() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				function fastLookupSum( numeric a, numeric b ) {
+					var total = 0;
+					for ( var i = 1; i <= b; i++ ) {
+						total = total + a;
+					}
+					a = total;
+					return a;
+				}
+				result = fastLookupSum( 2, 5 );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsNumber( result ).intValue() ).isEqualTo( 10 );
+	}
+
+	@DisplayName( "It falls back to the variables scope until the local is declared" )
+	@Test
+	public void testFallbackBeforeDeclaration() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				fastLookupName = "variables";
+				function fastLookupFallback() {
+					var before = fastLookupName;
+					var fastLookupName = "local";
+					return before & "-" & fastLookupName;
+				}
+				result = fastLookupFallback();
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsString( result ) ).isEqualTo( "variables-local" );
+		assertThat( variables.getAsString( Key.of( "fastLookupName" ) ) ).isEqualTo( "variables" );
+	}
+
+	@DisplayName( "It still sees nested contexts and closures" )
+	@Test
+	public void testNestedContexts() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				function fastLookupNested( string prefix ) {
+					var message = "";
+					try {
+						throw( "boom" );
+					} catch ( any e ) {
+						message = prefix & e.message;
+					}
+					var suffixes = [ "!", "?" ];
+					return suffixes.map( ( suffix ) => message & suffix );
+				}
+				result = fastLookupNested( "error: " );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsArray( result ) ).containsExactly( "error: boom!", "error: boom?" ).inOrder();
+	}
+
+	@DisplayName( "It treats null locals like the regular lookup" )
+	@Test
+	public void testNullLocals() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				function fastLookupNull( value ) {
+					var copy = value;
+					return isNull( copy ) ? "null" : copy;
+				}
+				result = fastLookupNull();
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsString( result ) ).isEqualTo( "null" );
+	}
+
+}
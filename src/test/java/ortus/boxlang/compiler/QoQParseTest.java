@@ -17,18 +17,27 @@ package ortus.boxlang.compiler;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import ortus.boxlang.compiler.ast.sql.select.SQLSelect;
+import ortus.boxlang.compiler.ast.sql.select.SQLTable;
 import ortus.boxlang.compiler.parser.BoxSourceType;
 import ortus.boxlang.compiler.parser.ParsingResult;
 import ortus.boxlang.compiler.parser.SQLParser;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.jdbc.qoq.QoQExecutionService;
+import ortus.boxlang.runtime.jdbc.qoq.QoQIntersectionGenerator;
+import ortus.boxlang.runtime.jdbc.qoq.QoQSelectExecution;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
@@ -789,4 +798,116 @@ public class QoQParseTest {
 		assertEquals( 1, query.size() );
 	}
 
+	@Test
+	public void testEquiJoinsMatchNestedLoop() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    people = queryNew( "id,name,active", "integer,varchar,bit" )
+		    for( i = 1; i <= 300; i++ ) {
+		    	queryAddRow( people, { id : i, name : "Name" & i, active : i mod 2 } )
+		    }
+		    orders = queryNew( "personId,owner,total", "double,varchar,integer" )
+		    for( i = 1; i <= 400; i++ ) {
+		    	personId = ( i mod 350 ) + 1
+		    	queryAddRow( orders, { personId : personId, owner : "NAME" & personId, total : i } )
+		    }
+
+		    results = {}
+		    for( joinType in [ "inner", "left", "right", "full" ] ) {
+		    	// The expressions on the second query keep it off the hash join
+		    	hashed = queryExecute( "
+		    		select p.id, p.name, o.total
+		    		from people p
+		    		#joinType# join orders o on p.id = o.personId and p.name = o.owner and p.active = 1
+		    		order by p.id, o.total
+		    	", [], { dbType : "query" } )
+		    	looped = queryExecute( "
+		    		select p.id, p.name, o.total
+		    		from people p
+		    		#joinType# join orders o on p.id + 0 = o.personId and upper( p.name ) = upper( o.owner ) and p.active = 1
+		    		order by p.id, o.total
+		    	", [], { dbType : "query" } )
+		    	results[ joinType ] = [ hashed.recordCount, looped.recordCount, serializeJSON( hashed ) == serializeJSON( looped ) ]
+		    }
+
+		    commaJoin = queryExecute( "
+		    	select p.id, o.total
+		    	from people p, orders o
+		    	where p.id = o.personId and o.total > 100
+		    ", [], { dbType : "query" } )
+		    """,
+		    context, BoxSourceType.BOXSCRIPT );
+		// @formatter:on
+		IStruct results = variables.getAsStruct( Key.of( "results" ) );
+		for ( String joinType : new String[] { "inner", "left", "right", "full" } ) {
+			ortus.boxlang.runtime.types.Array comparison = results.getAsArray( Key.of( joinType ) );
+			assertThat( comparison.get( 0 ) ).isEqualTo( comparison.get( 1 ) );
+			assertThat( comparison.get( 2 ) ).isEqualTo( true );
+		}
+		// Odd people match case insensitively across numeric types, people 2 to 51 have two orders
+		assertThat( results.getAsArray( Key.of( "inner" ) ).get( 0 ) ).isEqualTo( 175 );
+		// Orders 101 to 400 belong to people 102 to 350, 1 and 2 to 51
+		assertEquals( 250, variables.getAsQuery( Key.of( "commaJoin" ) ).size() );
+	}
+
+	@Test
+	public void testCachedPlanRebindsColumns() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    totals = []
+		    for( i = 1; i <= 3; i++ ) {
+		    	// Same SQL, but the columns of the source query move around and change type
+		    	if( i mod 2 ) {
+		    		q = queryNew( "name,amount", "varchar,integer", [ [ "a", 1 ], [ "b", 2 ], [ "c", i * 10 ] ] )
+		    	} else {
+		    		q = queryNew( "amount,flag,name", "double,bit,varchar", [ [ 10, 1, "x" ], [ 20, 0, "y" ] ] )
+		    	}
+		    	result = queryExecute( "
+		    		select name, amount
+		    		from q
+		    		where amount >= :min and name <> 'b'
+		    		order by amount desc
+		    	", { min : 1 }, { dbType : "query" } )
+		    	totals.append( result.recordCount & ":" & result.name[ 1 ] & ":" & arraySum( queryColumnData( result, "amount" ) ) )
+		    }
+		    """,
+		    context, BoxSourceType.BOXSCRIPT );
+		// @formatter:on
+		ortus.boxlang.runtime.types.Array totals = variables.getAsArray( Key.of( "totals" ) );
+		assertThat( totals.get( 0 ) ).isEqualTo( "2:c:11" );
+		assertThat( totals.get( 1 ) ).isEqualTo( "2:y:30" );
+		assertThat( totals.get( 2 ) ).isEqualTo( "2:c:31" );
+	}
+
+	@Test
+	public void testHashJoinsRunInParallel() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    people = queryNew( "id,name", "integer,varchar" )
+		    for( i = 1; i <= 10; i++ ) {
+		    	queryAddRow( people, { id : i, name : "Name" & i } )
+		    }
+		    orders = queryNew( "personId,total", "integer,integer" )
+		    for( i = 1; i <= 200; i++ ) {
+		    	queryAddRow( orders, { personId : ( i mod 20 ) + 1, total : i } )
+		    }
+		    """,
+		    context, BoxSourceType.BOXSCRIPT );
+		// @formatter:on
+		SQLSelect				select		= QoQExecutionService.getSelectStatement( "select p.id, o.total from people p inner join orders o on p.id = o.personId" )
+		    .getSelect();
+		Map<SQLTable, Query>	tableLookup	= new LinkedHashMap<>();
+		tableLookup.put( select.getTable(), variables.getAsQuery( Key.of( "people" ) ) );
+		tableLookup.put( select.getJoins().get( 0 ).getTable(), variables.getAsQuery( Key.of( "orders" ) ) );
+
+		// The first table alone is too small to go parallel, the joined rows are not
+		Stream<int[]> intersections = QoQIntersectionGenerator.createIntersectionStream( QoQSelectExecution.of( select, tableLookup ) );
+		assertThat( intersections.isParallel() ).isTrue();
+		// People 1 to 10 have 10 orders each
+		assertEquals( 100, intersections.count() );
+	}
+
 }
@@ -0,0 +1,113 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package ortus.boxlang.compiler;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.compiler.WarmupCompiler.WarmupResult;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.WarmupConfig;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.runnables.RunnableLoader;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+public class WarmupCompilerTest {
+
+	static BoxRuntime	instance;
+	static Key			result	= new Key( "result" );
+
+	@TempDir
+	static Path			appRoot;
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		instance = BoxRuntime.getInstance( true );
+		Files.writeString( appRoot.resolve( "WarmupGreeting.bx" ), "class { function hello() { return 'hi'; } }" );
+		Files.writeString( appRoot.resolve( "page.bxs" ), "x = 1 + 1;" );
+		Files.writeString( appRoot.resolve( "broken.bxs" ), "x = ;" );
+		Files.writeString( appRoot.resolve( "notes.txt" ), "not source" );
+		Files.createDirectories( appRoot.resolve( "skip" ) );
+		Files.writeString( appRoot.resolve( "skip/ignored.bxs" ), "y = 2;" );
+		instance.getConfiguration().registerMapping( "/warmupTest", appRoot.toString() );
+	}
+
+	@AfterAll
+	public static void teardown() {
+		instance.getConfiguration().unregisterMapping( "/warmupTest" );
+	}
+
+	@DisplayName( "It finds the sources of a mapping through the mapping, honoring the globs" )
+	@Test
+	public void testFindFiles() {
+		WarmupConfig config = new WarmupConfig();
+		config.mappings.add( "/warmupTest" );
+		config.excludes.add( "skip/**" );
+
+		var files = new WarmupCompiler( instance, config ).findFiles();
+		assertThat( files.stream().map( file -> file.absolutePath().getFileName().toString() ).toList() )
+		    .containsExactly( "WarmupGreeting.bx", "page.bxs", "broken.bxs" );
+		ResolvedFilePath page = files.stream().filter( file -> file.absolutePath().endsWith( "page.bxs" ) ).findFirst().get();
+		assertThat( page.mappingName() ).isEqualTo( "/warmupTest/" );
+		assertThat( page.relativePath() ).isEqualTo( Path.of( "/warmupTest/page.bxs" ).toString() );
+
+		config.includes.add( "*.bx" );
+		files = new WarmupCompiler( instance, config ).findFiles();
+		assertThat( files ).hasSize( 1 );
+
+		// The globs can only narrow down the compilable files
+		config.includes.clear();
+		config.includes.add( "*" );
+		files = new WarmupCompiler( instance, config ).findFiles();
+		assertThat( files.stream().map( file -> file.absolutePath().getFileName().toString() ).toList() )
+		    .containsExactly( "WarmupGreeting.bx", "page.bxs", "broken.bxs" );
+	}
+
+	@DisplayName( "It compiles the sources in parallel and reports timings and failures" )
+	@Test
+	public void testRun() {
+		WarmupConfig config = new WarmupConfig();
+		config.mappings.add( "/warmupTest" );
+		config.excludes.add( "skip/**" );
+		config.maxThreads = 2;
+
+		WarmupResult warmup = new WarmupCompiler( instance, config ).run();
+		assertThat( warmup.files() ).hasSize( 3 );
+		assertThat( warmup.compiled() ).hasSize( 2 );
+		assertThat( warmup.failed() ).hasSize( 1 );
+		assertThat( warmup.failed().get( 0 ).path().getFileName().toString() ).isEqualTo( "broken.bxs" );
+		assertThat( warmup.asStruct().getAsInteger( Key.failures ) ).isEqualTo( 1 );
+		assertThat( instance.getAsyncService().hasExecutor( WarmupCompiler.EXECUTOR_NAME ) ).isFalse();
+
+		// The compiled classes are waiting in the mapping's class pool for the first request
+		assertThat( RunnableLoader.getInstance().getBoxpiler().getClassPool( appRoot.toString() ) ).isNotEmpty();
+		IBoxContext context = new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		instance.executeSource( "result = new warmupTest.WarmupGreeting().hello();", context );
+		assertThat( context.getScopeNearby( VariablesScope.name ).get( result ) ).isEqualTo( "hi" );
+	}
+
+}
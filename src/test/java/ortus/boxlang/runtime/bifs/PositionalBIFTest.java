@@ -0,0 +1,132 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+public class PositionalBIFTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	private BIFDescriptor bif( String name ) {
+		return instance.getFunctionService().getGlobalFunction( Key.of( name ) );
+	}
+
+	@DisplayName( "Hot BIFs support the positional invocation" )
+	@Test
+	public void testSupportsPositionalInvocation() {
+		assertThat( bif( "len" ).supportsPositionalInvocation() ).isTrue();
+		assertThat( bif( "left" ).supportsPositionalInvocation() ).isTrue();
+		assertThat( bif( "structKeyExists" ).supportsPositionalInvocation() ).isTrue();
+		assertThat( bif( "arrayAppend" ).supportsPositionalInvocation() ).isTrue();
+		assertThat( bif( "isNull" ).supportsPositionalInvocation() ).isTrue();
+		assertThat( bif( "ucase" ).supportsPositionalInvocation() ).isFalse();
+	}
+
+	@DisplayName( "The positional invocation matches the arguments scope invocation" )
+	@Test
+	public void testSameResults() {
+		Object[][] calls = {
+		    { "len", new Object[] { "BoxLang" } },
+		    { "len", new Object[] { Array.of( 1, 2, 3 ) } },
+		    { "stringLen", new Object[] { "Box" } },
+		    { "left", new Object[] { "BoxLang", 3 } },
+		    { "left", new Object[] { "BoxLang", "-4" } },
+		    { "structKeyExists", new Object[] { Struct.of( "a", 1 ), "a" } },
+		    { "structKeyExists", new Object[] { Struct.of( "a", 1 ), "b" } },
+		    { "isNull", new Object[] { null } },
+		    { "isNull", new Object[] { "" } }
+		};
+		for ( Object[] call : calls ) {
+			Key			name		= Key.of( ( String ) call[ 0 ] );
+			Object[]	arguments	= ( Object[] ) call[ 1 ];
+			assertThat( bif( name.getName() ).invoke( context, arguments, false, name ) )
+			    .isEqualTo( bif( name.getName() ).invokeWithArgumentsScope( context, arguments, false, name ) );
+		}
+	}
+
+	@DisplayName( "It applies defaults and enforces the declared arguments" )
+	@Test
+	public void testBinding() {
+		Key		arrayAppend	= Key.of( "arrayAppend" );
+		Array	array		= Array.of( 1 );
+		bif( "arrayAppend" ).invoke( context, new Object[] { array, Array.of( 2, 3 ) }, false, arrayAppend );
+		assertThat( array.size() ).isEqualTo( 2 );
+		bif( "arrayAppend" ).invoke( context, new Object[] { array, Array.of( 4, 5 ), "true" }, false, arrayAppend );
+		assertThat( array.size() ).isEqualTo( 4 );
+
+		assertThrows( BoxRuntimeException.class, () -> bif( "left" ).invoke( context, new Object[] { "BoxLang" }, false, Key.of( "left" ) ) );
+		assertThrows( BoxRuntimeException.class,
+		    () -> bif( "left" ).invoke( context, new Object[] { "BoxLang", "notANumber" }, false, Key.of( "left" ) ) );
+	}
+
+	@DisplayName( "Compiled BIF calls bind to the BIF" )
+	@Test
+	public void testCompiledCalls() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				data = { name : "BoxLang" };
+				items = [];
+				for ( i = 1; i <= 3; i++ ) {
+					arrayAppend( items, left( data.name, i ) );
+				}
+				result = [
+					len( items ),
+					structKeyExists( data, "name" ),
+					isNull( data.missing ),
+					arrayLen( items ),
+					items.toList()
+				];
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsArray( result ) ).containsExactly( 3, true, true, 3, "B,Bo,Box" ).inOrder();
+	}
+
+}
@@ -305,4 +305,25 @@ public class ArrayFilterTest {
 		assertThat( res.get( 0 ) ).isEqualTo( "blue" );
 		assertThat( res.get( 1 ) ).isEqualTo( "green" );
 	}
+	@DisplayName( "It keeps the order when filtering a large array in parallel chunks" )
+	@Test
+	public void testParallelFilterLargeArray() {
+		instance.executeSource(
+		    """
+		              nums = [];
+		              for ( i = 1; i <= 10000; i++ ) {
+		                nums.append( i );
+		              }
+
+		              result = nums.filter( ( item ) => item % 3 == 0, true );
+		    """,
+		    context );
+
+		Array res = ( Array ) variables.get( result );
+		assertThat( res.size() ).isEqualTo( 3333 );
+		for ( int i = 0; i < res.size(); i++ ) {
+			assertThat( ( ( Number ) res.get( i ) ).intValue() ).isEqualTo( ( i + 1 ) * 3 );
+		}
+	}
+
 }
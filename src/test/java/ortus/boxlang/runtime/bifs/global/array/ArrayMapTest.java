@@ -252,4 +252,25 @@ public class ArrayMapTest {
 		assertThat( res.get( 2 ) ).isEqualTo( 3 );
 	}
 
+	@DisplayName( "It keeps the order when mapping a large array in parallel chunks" )
+	@Test
+	public void testParallelMappingLargeArray() {
+		instance.executeSource(
+		    """
+		              nums = [];
+		              for ( i = 1; i <= 10000; i++ ) {
+		                nums.append( i );
+		              }
+
+		              result = ArrayMap( nums, ( item ) => item * 2, true, 4 );
+		    """,
+		    context );
+
+		Array res = ( Array ) variables.get( result );
+		assertThat( res.size() ).isEqualTo( 10000 );
+		for ( int i = 0; i < res.size(); i++ ) {
+			assertThat( ( ( Number ) res.get( i ) ).intValue() ).isEqualTo( ( i + 1 ) * 2 );
+		}
+	}
+
 }
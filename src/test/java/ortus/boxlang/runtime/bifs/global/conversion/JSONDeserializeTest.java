@@ -20,6 +20,12 @@ package ortus.boxlang.runtime.bifs.global.conversion;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +44,7 @@ import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.QueryColumnType;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.util.JSONUtil;
 
 public class JSONDeserializeTest {
 
@@ -344,4 +351,48 @@ public class JSONDeserializeTest {
 		assertThat( result ).isInstanceOf( Array.class );
 	}
 
+	@DisplayName( "It keeps the JSON numeric types when deserializing" )
+	@Test
+	public void testNumericTypes() {
+		instance.executeSource(
+		    """
+		    result = JSONDeserialize( '{ "int" : 1, "long" : 9999999999, "big" : 99999999999999999999, "float" : 41.1 }' )
+		    """,
+		    context );
+
+		IStruct struct = variables.getAsStruct( result );
+		assertThat( struct.get( "int" ) ).isInstanceOf( Integer.class );
+		assertThat( struct.get( "long" ) ).isInstanceOf( Long.class );
+		assertThat( struct.get( "big" ) ).isInstanceOf( BigInteger.class );
+		assertThat( struct.get( "float" ) ).isEqualTo( new BigDecimal( "41.1" ) );
+	}
+
+	@DisplayName( "It can deserialize a nested query serialized as columns" )
+	@Test
+	public void testCanDeserializeNestedQuery() {
+		instance.executeSource(
+		    """
+		    result = JSONDeserialize( '{ "users" : { "columns" : [ "id", "name" ], "data" : { "id" : [ 1, 2 ], "name" : [ "Luis", "Brad" ] }, "rowCount" : 2 } }', false )
+		    """,
+		    context );
+
+		IStruct	struct	= variables.getAsStruct( result );
+		Query	users	= ( Query ) struct.get( "users" );
+		assertThat( users.size() ).isEqualTo( 2 );
+		assertThat( users.getRowAsStruct( 1 ).get( "name" ) ).isEqualTo( "Brad" );
+	}
+
+	@DisplayName( "It can deserialize straight from a stream" )
+	@Test
+	public void testCanDeserializeFromStream() {
+		InputStream	stream	= new ByteArrayInputStream( "[ { \"one\" : [ 1, 2 ] }, \"two\" ]".getBytes( StandardCharsets.UTF_8 ) );
+		Object		parsed	= JSONUtil.fromJSONToBLTypes( stream, true );
+
+		assertThat( parsed ).isInstanceOf( Array.class );
+		Array array = ( Array ) parsed;
+		assertThat( array.get( 0 ) ).isInstanceOf( Struct.class );
+		assertThat( ( ( IStruct ) array.get( 0 ) ).get( "one" ) ).isInstanceOf( Array.class );
+		assertThat( array.get( 1 ) ).isEqualTo( "two" );
+	}
+
 }
@@ -18,6 +18,11 @@
 package ortus.boxlang.runtime.bifs.global.conversion;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +35,11 @@ import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.util.JSONUtil;
+import ortus.boxlang.runtime.util.conversion.serializers.BoxQuerySerializer;
 
 public class JSONSerializeTest {
 
@@ -714,4 +724,66 @@ public class JSONSerializeTest {
 		assertThat( variables.getAsString( result ) ).contains( "1970-01-01T00:00:00Z" );
 	}
 
+	@DisplayName( "It can serialize a query straight to a writer in every format" )
+	@Test
+	public void testCanWriteQueryToWriter() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				qry = queryNew( "col1,col2", "numeric,varchar", [ [ 1, "brad" ], [ 2, "wood" ] ] );
+				row = JSONSerialize( qry, "row" );
+				column = JSONSerialize( qry, "column" );
+				struct = JSONSerialize( qry, "struct" );
+			""",
+		    context );
+		// @formatter:on
+
+		Query qry = ( Query ) variables.get( Key.of( "qry" ) );
+		for ( String format : new String[] { "row", "column", "struct" } ) {
+			StringWriter writer = new StringWriter();
+			BoxQuerySerializer.currentQueryFormat.set( format );
+			try {
+				JSONUtil.writeJSON( Struct.of( "qry", qry ), writer, false );
+			} finally {
+				BoxQuerySerializer.currentQueryFormat.remove();
+			}
+			assertThat( writer.toString() ).isEqualTo( "{\"qry\":" + variables.getAsString( Key.of( format ) ) + "}" );
+		}
+	}
+
+	@DisplayName( "It can serialize straight to the output buffer of a context" )
+	@Test
+	public void testCanWriteToContextBuffer() {
+		context.clearBuffer();
+		JSONUtil.writeJSON( Array.of( 1, "two", Struct.of( "three", 3 ) ), context, false );
+
+		assertThat( context.getBuffer().toString() ).isEqualTo( "[1,\"two\",{\"three\":3}]" );
+	}
+
+	@DisplayName( "It leaves the output buffer untouched when the serialization fails" )
+	@Test
+	public void testFailedWriteToContextBuffer() {
+		context.clearBuffer();
+		context.writeToBuffer( "before", true );
+		// Long enough for the generator to flush what it has written before the failure
+		List<Object> failing = new AbstractList<>() {
+
+			@Override
+			public Object get( int index ) {
+				if ( index == 9999 ) {
+					throw new IllegalStateException( "Cannot serialize this" );
+				}
+				return "element " + index;
+			}
+
+			@Override
+			public int size() {
+				return 10000;
+			}
+		};
+
+		assertThrows( RuntimeException.class, () -> JSONUtil.writeJSON( failing, context, false ) );
+		assertThat( context.getBuffer().toString() ).isEqualTo( "before" );
+	}
+
 }
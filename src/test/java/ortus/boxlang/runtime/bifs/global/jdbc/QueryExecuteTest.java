@@ -26,8 +26,10 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.StringWriter;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -36,12 +38,14 @@ import org.junit.jupiter.api.condition.EnabledIf;
 
 import ortus.boxlang.runtime.dynamic.casters.StructCaster;
 import ortus.boxlang.runtime.jdbc.ExecutedQuery;
+import ortus.boxlang.runtime.jdbc.QueryCursor;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.DatabaseException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
 import ortus.boxlang.runtime.util.conversion.ObjectMarshaller;
 import tools.JDBCTestUtils;
 
@@ -759,6 +763,157 @@ public class QueryExecuteTest extends BaseJDBCTest {
 		assertThat( firstRow.get( Key.of( "role" ) ) ).isEqualTo( "CEO" );
 	}
 
+	@DisplayName( "It can stream the rows through a cursor" )
+	@Test
+	public void testCursorReturnType() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    cursor = queryExecute( "SELECT id, name FROM developers WHERE id < ? ORDER BY id", [ 100 ], { returnType : "cursor", fetchSize : 2 } );
+		    names = [];
+		    while( cursor.hasNext() ) {
+		        names.append( cursor.next().name );
+		    }
+		    result = cursor.isClosed();
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.get( Key.of( "cursor" ) ) ).isInstanceOf( QueryCursor.class );
+		assertThat( variables.getAsArray( Key.of( "names" ) ) ).containsExactly( "Luis Majano", "Eric Peterson", "Michael Born" ).inOrder();
+		assertThat( variables.get( result ) ).isEqualTo( true );
+		assertThat( ( ( QueryCursor ) variables.get( Key.of( "cursor" ) ) ).getRowCount() ).isEqualTo( 3 );
+	}
+
+	@DisplayName( "It can write a cursor as CSV and JSON without reading it into a query" )
+	@Test
+	public void testCursorWriters() {
+		QueryCursor		csvCursor	= ( QueryCursor ) instance.executeStatement(
+		    "queryExecute( \"SELECT id, name FROM developers WHERE id IN ( 1, 9001 ) ORDER BY id\", [], { returnType : \"cursor\" } )",
+		    context );
+		StringWriter	csv			= new StringWriter();
+		assertThat( csvCursor.writeCSV( csv ) ).isEqualTo( 2 );
+		assertThat( csvCursor.isClosed() ).isTrue();
+		assertThat( csv.toString() ).isEqualTo( "ID,NAME\r\n1,Luis Majano\r\n9001,Bob O'Reily\r\n" );
+
+		QueryCursor		jsonCursor	= ( QueryCursor ) instance.executeStatement(
+		    "queryExecute( \"SELECT id, name FROM developers WHERE id = 42\", [], { returnType : \"cursor\" } )",
+		    context );
+		StringWriter	json		= new StringWriter();
+		assertThat( jsonCursor.writeJSON( json ) ).isEqualTo( 1 );
+		Array			rows		= ( Array ) JSONUtil.fromJSON( json.toString(), true );
+		assertThat( rows.size() ).isEqualTo( 1 );
+		assertThat( ( ( IStruct ) rows.get( 0 ) ).get( Key.id ) ).isEqualTo( 42 );
+		assertThat( ( ( IStruct ) rows.get( 0 ) ).get( Key._NAME ) ).isEqualTo( "Eric Peterson" );
+	}
+
+	@DisplayName( "It releases the connection of a cursor closed inside a transaction it wasn't opened in" )
+	@Test
+	public void testCursorClosedInTransaction() {
+		int active = datasource.getHikariDataSource().getHikariPoolMXBean().getActiveConnections();
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    cursor = queryExecute( "SELECT id FROM developers", [], { returnType : "cursor" } );
+		    transaction {
+		        cursor.close();
+		    }
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( ( ( QueryCursor ) variables.get( Key.of( "cursor" ) ) ).isClosed() ).isTrue();
+		assertThat( datasource.getHikariDataSource().getHikariPoolMXBean().getActiveConnections() ).isEqualTo( active );
+	}
+
+	@DisplayName( "It forgets cursors once they are closed" )
+	@Test
+	public void testClosedCursorsLeaveRegistry() {
+		QueryCursor	first	= ( QueryCursor ) instance.executeStatement(
+		    "queryExecute( \"SELECT id FROM developers\", [], { returnType : \"cursor\" } )",
+		    context );
+		QueryCursor	second	= ( QueryCursor ) instance.executeStatement(
+		    "queryExecute( \"SELECT id FROM developers\", [], { returnType : \"cursor\" } )",
+		    context );
+		Set<QueryCursor> openCursors = context.getAttachment( Key.openQueryCursors );
+		assertThat( openCursors ).containsExactly( first, second );
+
+		first.close();
+		assertThat( openCursors ).containsExactly( second );
+		while ( second.hasNext() ) {
+			second.next();
+		}
+		assertThat( second.isClosed() ).isTrue();
+		assertThat( openCursors ).isEmpty();
+	}
+
+	@DisplayName( "It closes abandoned cursors when their context shuts down" )
+	@Test
+	public void testCursorClosedOnShutdown() {
+		int			active	= datasource.getHikariDataSource().getHikariPoolMXBean().getActiveConnections();
+		QueryCursor	cursor	= ( QueryCursor ) instance.executeStatement(
+		    "queryExecute( \"SELECT id FROM developers\", [], { returnType : \"cursor\" } )",
+		    context );
+		assertThat( cursor.isClosed() ).isFalse();
+		assertThat( datasource.getHikariDataSource().getHikariPoolMXBean().getActiveConnections() ).isEqualTo( active + 1 );
+
+		context.shutdown();
+		assertThat( cursor.isClosed() ).isTrue();
+		assertThat( datasource.getHikariDataSource().getHikariPoolMXBean().getActiveConnections() ).isEqualTo( active );
+	}
+
+	@DisplayName( "It can execute positional and named parameter sets as a batch" )
+	@Test
+	public void testBatchExecute() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    queryExecute(
+		        "INSERT INTO developers ( id, name, role ) VALUES ( ?, ?, ? )",
+		        [ [ 500, "Batch One", "QA" ], [ 501, "Batch Two", "QA" ], [ 502, "Batch Three", "QA" ] ],
+		        { batch : true, batchSize : 2, result : "batchResult" }
+		    );
+		    queryExecute(
+		        "INSERT INTO developers ( id, name, role ) VALUES ( :id, :name, 'QA' )",
+		        [ { id : 503, name : "Batch Four" }, { id : 504, name : "Batch Five" } ],
+		        { batch : true }
+		    );
+		    result = queryExecute( "SELECT id, name FROM developers WHERE id >= 500 ORDER BY id" );
+		    """,
+		    context );
+		// @formatter:on
+		Query query = variables.getAsQuery( result );
+		assertThat( query.size() ).isEqualTo( 5 );
+		assertThat( query.getRowAsStruct( 2 ).get( Key._NAME ) ).isEqualTo( "Batch Three" );
+		assertThat( query.getRowAsStruct( 4 ).get( Key._NAME ) ).isEqualTo( "Batch Five" );
+
+		IStruct batchResult = variables.getAsStruct( Key.of( "batchResult" ) );
+		assertThat( batchResult.get( Key.updateCount ) ).isEqualTo( 3 );
+		assertThat( batchResult.getAsArray( Key.updateCounts ) ).containsExactly( 1, 1, 1 );
+	}
+
+	@DisplayName( "It commits each batch on its own and rolls back the failing one" )
+	@Test
+	public void testBatchRollsBackFailingBatch() {
+		// @formatter:off
+		assertThrows( DatabaseException.class, () -> instance.executeSource(
+		    """
+		    queryExecute(
+		        "INSERT INTO developers ( id, name, role ) VALUES ( ?, ?, 'QA' )",
+		        [ [ 600, "Kept" ], [ 601, "Kept" ], [ 602, "Rolled Back" ], [ "not a number", "Fails" ] ],
+		        { batch : true, batchSize : 2 }
+		    );
+		    """,
+		    context ) );
+		instance.executeSource(
+		    """
+		    result = queryExecute( "SELECT id FROM developers WHERE id >= 600 ORDER BY id" );
+		    """,
+		    context );
+		// @formatter:on
+		Query query = variables.getAsQuery( result );
+		assertThat( query.size() ).isEqualTo( 2 );
+		assertThat( query.getRowAsStruct( 1 ).get( Key.id ) ).isEqualTo( 601 );
+	}
+
 	@DisplayName( "It uses a different connection manager for each thread" )
 	@Test
 	public void testDifferentConnectionManagerPerThread() {
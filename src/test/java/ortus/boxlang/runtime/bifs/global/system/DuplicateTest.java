@@ -167,6 +167,42 @@ public class DuplicateTest {
 		assertEquals( StructCaster.cast( result.getAsArray( Key.of( "c" ) ).get( 0 ) ).containsKey( "e" ), false );
 	}
 
+	@DisplayName( "It tests shallow and deep duplicates stay independent of the original when they share its data" )
+	@Test
+	public void testDuplicateSharedUntilWritten() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				ref = { a : 1, names : [ "luis", "brad" ], nested : { b : 2 } };
+				shallow = duplicate( ref, false );
+				deep = duplicate( ref );
+				leaf = duplicate( ref.names );
+				shallow.a = 10;
+				deep.names.append( "jon" );
+				ref.nested.c = 3;
+				ref.names[ 1 ] = "esme";
+				leaf.append( "gavin" );
+			""",
+		    context
+		);
+		// @formatter:on
+		IStruct	ref		= StructCaster.cast( variables.get( refKey ) );
+		IStruct	shallow	= StructCaster.cast( variables.get( Key.of( "shallow" ) ) );
+		IStruct	deep	= StructCaster.cast( variables.get( Key.of( "deep" ) ) );
+		Array	leaf	= ArrayCaster.cast( variables.get( Key.of( "leaf" ) ) );
+		assertEquals( 1, ref.getAsInteger( Key.of( "a" ) ) );
+		assertEquals( 10, shallow.getAsInteger( Key.of( "a" ) ) );
+		// shallow copies share nested values
+		assertTrue( shallow.getAsStruct( Key.of( "nested" ) ).containsKey( "c" ) );
+		assertEquals( false, deep.getAsStruct( Key.of( "nested" ) ).containsKey( "c" ) );
+		assertEquals( 2, ref.getAsArray( Key.of( "names" ) ).size() );
+		assertEquals( "esme", ref.getAsArray( Key.of( "names" ) ).getAt( 1 ) );
+		assertEquals( 3, deep.getAsArray( Key.of( "names" ) ).size() );
+		assertEquals( "luis", deep.getAsArray( Key.of( "names" ) ).getAt( 1 ) );
+		assertEquals( 3, leaf.size() );
+		assertEquals( "luis", leaf.getAt( 1 ) );
+	}
+
 	@DisplayName( "It tests the BIF Duplicate can duplicate a struct containing a closure" )
 	@Test
 	public void testDuplicateStructWithClosure() {
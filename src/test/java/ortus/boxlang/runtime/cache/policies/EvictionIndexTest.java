@@ -0,0 +1,151 @@
+package ortus.boxlang.runtime.cache.policies;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+public class EvictionIndexTest {
+
+	private static final Key	a	= Key.of( "a" );
+	private static final Key	b	= Key.of( "b" );
+	private static final Key	c	= Key.of( "c" );
+
+	private static void fill( IEvictionIndex index, Key... keys ) {
+		for ( Key key : keys ) {
+			index.recordSet( key );
+		}
+	}
+
+	@Test
+	@DisplayName( "LRU index evicts the least recently accessed keys" )
+	void testLRU() {
+		IEvictionIndex index = new LRU().newEvictionIndex( 10 );
+		fill( index, a, b, c );
+		index.recordAccess( a );
+
+		assertThat( index.selectVictims( 2, key -> true ) ).containsExactly( b, c ).inOrder();
+		assertThat( index.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName( "MRU index evicts the most recently accessed keys" )
+	void testMRU() {
+		IEvictionIndex index = new MRU().newEvictionIndex( 10 );
+		fill( index, a, b, c );
+		index.recordAccess( a );
+
+		assertThat( index.selectVictims( 1, key -> true ) ).containsExactly( a );
+	}
+
+	@Test
+	@DisplayName( "FIFO and LIFO indexes ignore accesses" )
+	void testInsertionOrder() {
+		IEvictionIndex fifo = new FIFO().newEvictionIndex( 10 );
+		fill( fifo, a, b, c );
+		fifo.recordAccess( a );
+		assertThat( fifo.selectVictims( 1, key -> true ) ).containsExactly( a );
+
+		IEvictionIndex lifo = new LIFO().newEvictionIndex( 10 );
+		fill( lifo, a, b, c );
+		lifo.recordAccess( c );
+		assertThat( lifo.selectVictims( 1, key -> true ) ).containsExactly( c );
+	}
+
+	@Test
+	@DisplayName( "LFU and MFU indexes evict by hit count" )
+	void testFrequency() {
+		IEvictionIndex lfu = new LFU().newEvictionIndex( 10 );
+		fill( lfu, a, b, c );
+		lfu.recordAccess( a );
+		lfu.recordAccess( a );
+		lfu.recordAccess( c );
+		assertThat( lfu.selectVictims( 2, key -> true ) ).containsExactly( b, c ).inOrder();
+
+		IEvictionIndex mfu = new MFU().newEvictionIndex( 10 );
+		fill( mfu, a, b, c );
+		mfu.recordAccess( a );
+		mfu.recordAccess( a );
+		mfu.recordAccess( c );
+		assertThat( mfu.selectVictims( 2, key -> true ) ).containsExactly( a, c ).inOrder();
+	}
+
+	@Test
+	@DisplayName( "Random index evicts distinct keys" )
+	void testRandom() {
+		IEvictionIndex index = new Random().newEvictionIndex( 10 );
+		fill( index, a, b, c );
+		index.recordRemoval( b );
+
+		List<Key> victims = index.selectVictims( 5, key -> true );
+		assertThat( victims ).containsExactly( a, c );
+		assertThat( index.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "Indexes skip keys that can't be evicted" )
+	void testSkipsEternalKeys() {
+		for ( ICachePolicy policy : List.of( new LRU(), new LFU(), new Random(), new WTinyLFU() ) ) {
+			IEvictionIndex index = policy.newEvictionIndex( 10 );
+			fill( index, a, b, c );
+
+			assertThat( index.selectVictims( 3, key -> !key.equals( b ) ) ).containsExactly( a, c );
+			assertThat( index.size() ).isEqualTo( 1 );
+			assertThat( index.selectVictims( 1, key -> false ) ).isEmpty();
+		}
+	}
+
+	@Test
+	@DisplayName( "Custom comparator policies have no index" )
+	void testCustomPolicy() {
+		ICachePolicy policy = () -> ( left, right ) -> 0;
+		assertThat( policy.newEvictionIndex( 10 ) ).isNull();
+	}
+
+	@Test
+	@DisplayName( "WTinyLFU keeps popular keys through a scan" )
+	void testWTinyLFUScanResistance() {
+		int				capacity	= 100;
+		IEvictionIndex	index		= new WTinyLFU().newEvictionIndex( capacity );
+		Key				hot			= Key.of( "hot" );
+		index.recordSet( hot );
+		for ( int i = 1; i < capacity; i++ ) {
+			index.recordSet( Key.of( "key" + i ) );
+		}
+		for ( int i = 0; i < 5; i++ ) {
+			index.recordAccess( hot );
+		}
+
+		// A long run of one hit wonders, evicting one entry per insert like the store does
+		for ( int i = 0; i < 1000; i++ ) {
+			index.recordSet( Key.of( "scan" + i ) );
+			assertThat( index.selectVictims( 1, key -> true ) ).doesNotContain( hot );
+		}
+		assertThat( index.size() ).isEqualTo( capacity );
+	}
+
+	@Test
+	@DisplayName( "WTinyLFU admits window keys more popular than the main space victim" )
+	void testWTinyLFUAdmission() {
+		int				capacity	= 100;
+		IEvictionIndex	index		= new WTinyLFU().newEvictionIndex( capacity );
+		for ( int i = 0; i < capacity; i++ ) {
+			index.recordSet( Key.of( "key" + i ) );
+		}
+		Key popular = Key.of( "popular" );
+		index.recordSet( popular );
+		index.recordAccess( popular );
+		index.recordAccess( popular );
+		index.recordSet( Key.of( "other" ) );
+
+		List<Key> victims = index.selectVictims( 2, key -> true );
+		assertThat( victims ).doesNotContain( popular );
+		assertThat( victims ).hasSize( 2 );
+		assertThat( ( ( WTinyLFUEvictionIndex ) index ).frequency( popular ) ).isAtLeast( 3 );
+	}
+
+}
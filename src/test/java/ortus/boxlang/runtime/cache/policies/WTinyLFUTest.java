@@ -0,0 +1,37 @@
+package ortus.boxlang.runtime.cache.policies;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import ortus.boxlang.runtime.cache.ICacheEntry;
+import ortus.boxlang.runtime.scopes.Key;
+
+public class WTinyLFUTest extends BasePolicyTest {
+
+	@Test
+	@DisplayName( "WTinyLFU Cache Policy: Comparator Test" )
+	void testComparator() {
+		Instant			now		= Instant.now();
+		ICacheEntry	entry1	= createMockEntry();
+		Mockito.when( entry1.hits() ).thenReturn( 5l );
+		Mockito.when( entry1.lastAccessed() ).thenReturn( now );
+		ICacheEntry entry2 = createMockEntry();
+		Mockito.when( entry2.hits() ).thenReturn( 5l );
+		Mockito.when( entry2.lastAccessed() ).thenReturn( now.minusSeconds( 10 ) );
+		ICacheEntry entry3 = createMockEntry();
+		Mockito.when( entry3.hits() ).thenReturn( 1l );
+		Mockito.when( entry3.lastAccessed() ).thenReturn( now );
+
+		cache.put( Key.of( "entry1" ), entry1 );
+		cache.put( Key.of( "entry2" ), entry2 );
+		cache.put( Key.of( "entry3" ), entry3 );
+
+		WTinyLFU policy = new WTinyLFU();
+
+		// Least hits first, then the oldest access
+		assertEntries( policy, entry3, entry2, entry1 );
+	}
+}
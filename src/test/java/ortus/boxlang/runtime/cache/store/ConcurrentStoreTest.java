@@ -17,7 +17,16 @@
  */
 package ortus.boxlang.runtime.cache.store;
 
+import static com.google.common.truth.Truth.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
 
 class ConcurrentStoreTest extends BaseStoreTest {
 
@@ -28,4 +37,41 @@ class ConcurrentStoreTest extends BaseStoreTest {
 		store			= new ConcurrentStore().init( mockProvider, mockConfig.properties );
 	}
 
+	@Test
+	@DisplayName( "ConcurrentStore: Only hands out the entries due for expiration" )
+	public void testExpirationCandidates() {
+		store.set( Key.of( "short" ), newTestEntry( "short", 60, 0, "value" ) );
+		store.set( Key.of( "idle" ), newTestEntry( "idle", 3600, 30, "value" ) );
+		store.set( Key.of( "long" ), newTestEntry( "long", 3600, 0, "value" ) );
+		store.set( Key.of( "eternal" ), newTestEntry( "eternal", 0, 0, "value" ) );
+
+		assertThat( store.getExpirationCandidates( Instant.now() ).toList() ).isEmpty();
+		assertThat( store.getExpirationCandidates( Instant.now().plusSeconds( 120 ) ).toList() )
+		    .containsExactly( Key.of( "short" ), Key.of( "idle" ) );
+
+		// Until they are cleared they are still tracked
+		store.clear( Key.of( "short" ) );
+		assertThat( store.getExpirationCandidates( Instant.now().plusSeconds( 180 ) ).toList() )
+		    .containsExactly( Key.of( "idle" ) );
+		assertThat( store.getExpirationCandidates( Instant.now().plusSeconds( 7200 ) ).toList() )
+		    .containsExactly( Key.of( "idle" ), Key.of( "long" ) );
+	}
+
+	@Test
+	@DisplayName( "ConcurrentStore: Keeps the eviction index in step with the pool when sets race clears" )
+	public void testSetRacingClear() {
+		ConcurrentStore	concurrentStore	= ( ConcurrentStore ) new ConcurrentStore().init( mockProvider, mockConfig.properties );
+		Key				key				= Key.of( "raced" );
+		assertThat( concurrentStore.getEvictionIndex() ).isNotNull();
+
+		for ( int i = 0; i < 2_000; i++ ) {
+			CompletableFuture<Void> setter = CompletableFuture
+			    .runAsync( () -> concurrentStore.set( key, newTestEntry( "raced", 60, 0, "value" ) ) );
+			concurrentStore.clear( key );
+			setter.join();
+			assertThat( concurrentStore.getEvictionIndex().size() ).isEqualTo( concurrentStore.getSize() );
+			concurrentStore.clear( key );
+		}
+	}
+
 }
@@ -0,0 +1,109 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+public class SingleFlightTest {
+
+	@Test
+	@DisplayName( "Concurrent calls on the same key share one execution" )
+	void testCoalesces() throws Exception {
+		SingleFlight			singleFlight	= new SingleFlight();
+		AtomicInteger			executions		= new AtomicInteger();
+		CountDownLatch			started			= new CountDownLatch( 1 );
+		CountDownLatch			release			= new CountDownLatch( 1 );
+		List<Future<String>>	results			= new ArrayList<>();
+
+		try ( ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor() ) {
+			results.add( executor.submit( () -> singleFlight.execute( "key", () -> {
+				executions.incrementAndGet();
+				started.countDown();
+				await( release );
+				return "value";
+			} ) ) );
+			started.await( 5, TimeUnit.SECONDS );
+			for ( int i = 0; i < 20; i++ ) {
+				results.add( executor.submit( () -> singleFlight.execute( "key", () -> {
+					executions.incrementAndGet();
+					return "other";
+				} ) ) );
+			}
+			// Let the followers reach the flight before the leader finishes
+			Thread.sleep( 100 );
+			release.countDown();
+			for ( Future<String> result : results ) {
+				assertThat( result.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "value" );
+			}
+		}
+
+		assertThat( executions.get() ).isEqualTo( 1 );
+		assertThat( singleFlight.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "Different keys don't wait on each other" )
+	void testIndependentKeys() {
+		SingleFlight	singleFlight	= new SingleFlight();
+		Object			result			= singleFlight.execute( "outer", () -> singleFlight.execute( "inner", () -> "inner" ) + "-outer" );
+		assertThat( result ).isEqualTo( "inner-outer" );
+	}
+
+	@Test
+	@DisplayName( "A leader can call back into its own key" )
+	void testReentrant() {
+		SingleFlight	singleFlight	= new SingleFlight();
+		Object			result			= singleFlight.execute( "key", () -> singleFlight.execute( "key", () -> "inner" ) + "-outer" );
+		assertThat( result ).isEqualTo( "inner-outer" );
+	}
+
+	@Test
+	@DisplayName( "Failures are not cached" )
+	void testFailures() {
+		SingleFlight singleFlight = new SingleFlight();
+		assertThrows( BoxRuntimeException.class, () -> singleFlight.execute( "key", () -> {
+			throw new BoxRuntimeException( "boom" );
+		} ) );
+		assertThat( singleFlight.size() ).isEqualTo( 0 );
+		assertThat( singleFlight.execute( "key", () -> "value" ) ).isEqualTo( "value" );
+	}
+
+	private static void await( CountDownLatch latch ) {
+		try {
+			latch.await( 5, TimeUnit.SECONDS );
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
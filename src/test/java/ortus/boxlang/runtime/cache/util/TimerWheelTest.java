@@ -0,0 +1,103 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
+
+public class TimerWheelTest {
+
+	static final long	NOW	= 1_700_000_000_000L;
+	static final Key	a	= Key.of( "a" );
+	static final Key	b	= Key.of( "b" );
+	static final Key	c	= Key.of( "c" );
+
+	@Test
+	@DisplayName( "It only hands out the keys that are due" )
+	void testAdvance() {
+		TimerWheel wheel = new TimerWheel( NOW );
+		wheel.schedule( a, NOW + 2_000 );
+		wheel.schedule( b, NOW + 90_000 );
+		wheel.schedule( c, NOW + 10 * 24 * 60 * 60 * 1000L );
+
+		assertThat( wheel.advance( NOW + 1_000 ) ).isEmpty();
+		assertThat( wheel.advance( NOW + 2_000 ) ).containsExactly( a );
+		assertThat( wheel.advance( NOW + 89_000 ) ).isEmpty();
+		assertThat( wheel.advance( NOW + 95_000 ) ).containsExactly( b );
+		assertThat( wheel.size() ).isEqualTo( 1 );
+		assertThat( wheel.advance( NOW + 11 * 24 * 60 * 60 * 1000L ) ).containsExactly( c );
+		assertThat( wheel.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "It reschedules and cancels keys" )
+	void testRescheduleAndCancel() {
+		TimerWheel wheel = new TimerWheel( NOW );
+		wheel.schedule( a, NOW + 1_000 );
+		wheel.schedule( a, NOW + 5_000 );
+		wheel.schedule( b, NOW + 1_000 );
+		wheel.cancel( b );
+		// Already due keys fire on the next tick
+		wheel.schedule( c, NOW - 5_000 );
+
+		assertThat( wheel.advance( NOW + 1_000 ) ).containsExactly( c );
+		assertThat( wheel.advance( NOW + 5_000 ) ).containsExactly( a );
+		assertThat( wheel.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "It never hands out keys early or leaves due keys behind" )
+	void testRandomSchedule() {
+		Random			random		= new Random( 42 );
+		TimerWheel		wheel		= new TimerWheel( NOW );
+		Map<Key, Long>	deadlines	= new HashMap<>();
+		for ( int i = 0; i < 10_000; i++ ) {
+			Key		key			= Key.of( "key" + i );
+			long	deadline	= NOW + ( long ) Math.pow( 10, random.nextDouble() * 9 );
+			wheel.schedule( key, deadline );
+			deadlines.put( key, deadline );
+		}
+
+		long time = NOW;
+		while ( !deadlines.isEmpty() ) {
+			time += random.nextInt( 500_000 );
+			for ( Key key : wheel.advance( time ) ) {
+				assertThat( deadlines.remove( key ) ).isAtMost( time );
+			}
+			List<Long> overdue = new ArrayList<>();
+			for ( long deadline : deadlines.values() ) {
+				if ( deadline <= time ) {
+					overdue.add( deadline );
+				}
+			}
+			assertThat( overdue ).isEmpty();
+		}
+		assertThat( wheel.size() ).isEqualTo( 0 );
+	}
+
+}
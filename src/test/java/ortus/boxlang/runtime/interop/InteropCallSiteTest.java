@@ -0,0 +1,143 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.interop;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+
+public class InteropCallSiteTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It caches the resolved method per receiver and argument shape" )
+	@Test
+	public void testCachesShapes() {
+		InteropCallSite	callSite	= new InteropCallSite();
+		Key				size		= Key.of( "size" );
+
+		assertThat( callSite.invoke( context, new ArrayList<>( List.of( 1, 2 ) ), size, new Object[] {}, false ) ).isEqualTo( 2 );
+		assertThat( callSite.size() ).isEqualTo( 1 );
+		assertThat( callSite.invoke( context, new ArrayList<>( List.of( 1, 2, 3 ) ), size, new Object[] {}, false ) ).isEqualTo( 3 );
+		assertThat( callSite.size() ).isEqualTo( 1 );
+
+		// A new receiver class is a new shape
+		assertThat( callSite.invoke( context, new LinkedList<>( List.of( 1 ) ), size, new Object[] {}, false ) ).isEqualTo( 1 );
+		assertThat( callSite.size() ).isEqualTo( 2 );
+
+		// Clearing the method handle cache invalidates every call site
+		DynamicInteropService.clearMethodHandleCache();
+		assertThat( callSite.size() ).isEqualTo( 0 );
+		assertThat( callSite.invoke( context, new LinkedList<>( List.of( 1, 2 ) ), size, new Object[] {}, false ) ).isEqualTo( 2 );
+	}
+
+	@DisplayName( "It stops caching when the call site is megamorphic" )
+	@Test
+	public void testMegamorphic() {
+		InteropCallSite callSite = new InteropCallSite();
+		for ( int i = 0; i <= InteropCallSite.MAX_ENTRIES; i++ ) {
+			callSite.record( "length", String.class, new Class<?>[ i ], null );
+		}
+		assertThat( callSite.isMegamorphic() ).isTrue();
+		assertThat( callSite.size() ).isEqualTo( 0 );
+		assertThat( callSite.lookup( "length", String.class, new Class<?>[ 0 ] ) ).isNull();
+	}
+
+	@DisplayName( "It keeps methods with the same shape apart by name" )
+	@Test
+	public void testSameShapeDifferentNames() {
+		InteropCallSite		callSite	= new InteropCallSite();
+		ArrayList<Object>	list		= new ArrayList<>( List.of( 1, 2 ) );
+
+		assertThat( callSite.invoke( context, list, Key.of( "size" ), new Object[] {}, false ) ).isEqualTo( 2 );
+		assertThat( callSite.invoke( context, list, Key.of( "isEmpty" ), new Object[] {}, false ) ).isEqualTo( false );
+		assertThat( callSite.invoke( context, list, Key.of( "size" ), new Object[] {}, false ) ).isEqualTo( 2 );
+		assertThat( callSite.size() ).isEqualTo( 2 );
+	}
+
+	@DisplayName( "Compiled calls with a computed name invoke the named method" )
+	@Test
+	public void testCompiledComputedNames() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				import java.time.LocalDate;
+				date = LocalDate.of( 2024, 3, 15 );
+				parts = [];
+				for ( name in [ "getYear", "getMonthValue", "getDayOfMonth" ] ) {
+					parts.append( date[ name ]() );
+				}
+				result = parts.toList( "-" );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsString( result ) ).isEqualTo( "2024-3-15" );
+	}
+
+	@DisplayName( "Compiled Java method calls go through the call site" )
+	@Test
+	public void testCompiledInvocations() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				import java.time.LocalDate;
+				start = LocalDate.of( 2024, 1, 31 );
+				dates = [];
+				for ( i = 1; i <= 3; i++ ) {
+					dates.append( start.plusDays( i ).toString() );
+				}
+				sb = createObject( "java", "java.lang.StringBuilder" ).init();
+				for ( part in [ "a", 1, "b" ] ) {
+					sb.append( part );
+				}
+				result = dates.toList() & "|" & sb.toString();
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsString( result ) ).isEqualTo( "2024-02-01,2024-02-02,2024-02-03|a1b" );
+	}
+
+}
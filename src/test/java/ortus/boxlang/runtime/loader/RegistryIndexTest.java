@@ -0,0 +1,134 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.loader;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BIFDescriptor;
+import ortus.boxlang.runtime.bifs.global.array.ArrayAppend;
+import ortus.boxlang.runtime.bifs.global.type.Len;
+import ortus.boxlang.runtime.components.system.Dump;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.BoxLangType;
+
+public class RegistryIndexTest {
+
+	static BoxRuntime		runtime;
+	static RegistryIndex	scanned;
+
+	@TempDir
+	static Path				tempDir;
+
+	@BeforeAll
+	public static void setUp() throws IOException, URISyntaxException {
+		runtime = BoxRuntime.getInstance( true );
+		// Scan the main classes the same way the build does
+		Path classesDirectory = Path.of( BIF.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+		scanned = RegistryIndex.scan( classesDirectory, RegistryIndex.class.getClassLoader() );
+	}
+
+	@DisplayName( "It describes global names and members from the BIF annotations" )
+	@Test
+	public void testDescribeBIF() {
+		RegistryIndex.BIFEntry entry = RegistryIndex.describeBIF( Len.class );
+		assertThat( entry.className() ).isEqualTo( Len.class.getName() );
+		assertThat( entry.globalNames() ).containsExactly( "Len", "StructCount", "ArrayLen", "StringLen", "QueryRecordCount" );
+		assertThat( entry.members() ).contains( new RegistryIndex.MemberEntry( "count", BoxLangType.STRUCT, Object.class.getName(), "" ) );
+		assertThat( entry.members() ).contains( new RegistryIndex.MemberEntry( "len", BoxLangType.CUSTOM, java.util.Set.class.getName(), "" ) );
+
+		RegistryIndex.BIFEntry append = RegistryIndex.describeBIF( ArrayAppend.class );
+		assertThat( append.members() ).containsExactly( new RegistryIndex.MemberEntry( "append", BoxLangType.ARRAY, Object.class.getName(), "" ) );
+	}
+
+	@DisplayName( "It finds every registered BIF and component when scanning the classes" )
+	@Test
+	public void testScanMatchesRegistrations() {
+		assertThat( scanned.getBIFs().size() ).isGreaterThan( 100 );
+		for ( RegistryIndex.BIFEntry entry : scanned.getBIFs() ) {
+			for ( String name : entry.globalNames() ) {
+				assertThat( runtime.getFunctionService().hasGlobalFunction( name ) ).isTrue();
+			}
+		}
+		for ( RegistryIndex.ComponentEntry entry : scanned.getComponents() ) {
+			assertThat( runtime.getComponentService().hasComponent( Key.of( entry.name() ) ) ).isTrue();
+		}
+		assertThat( scanned.getComponents().stream().map( RegistryIndex.ComponentEntry::className ).toList() ).contains( Dump.class.getName() );
+	}
+
+	@DisplayName( "It can write and read back an index" )
+	@Test
+	public void testRoundTrip() throws IOException {
+		Path file = tempDir.resolve( "META-INF/boxlang/registry.index" );
+		scanned.write( file );
+
+		RegistryIndex read;
+		try ( BufferedReader reader = Files.newBufferedReader( file ) ) {
+			read = RegistryIndex.read( reader );
+		}
+		assertThat( read ).isNotNull();
+		assertThat( read.getBIFs() ).isEqualTo( scanned.getBIFs() );
+		assertThat( read.getComponents() ).isEqualTo( scanned.getComponents() );
+	}
+
+	@DisplayName( "It ignores an index written in another format version" )
+	@Test
+	public void testIgnoresOtherVersions() throws IOException {
+		String index = "version\t" + ( RegistryIndex.FORMAT_VERSION + 1 ) + "\nbif\tfoo.Bar\tBar\tBar\n";
+		assertThat( RegistryIndex.read( new BufferedReader( new StringReader( index ) ) ) ).isNull();
+		assertThat( RegistryIndex.read( new BufferedReader( new StringReader( "bif\tfoo.Bar\tBar\tBar\n" ) ) ) ).isNull();
+	}
+
+	@DisplayName( "It only loads the BIF class of an indexed descriptor when it's first used" )
+	@Test
+	public void testLazyDescriptor() {
+		BIFDescriptor descriptor = new BIFDescriptor(
+		    Key.of( "ArrayAppend" ),
+		    ArrayAppend.class.getName(),
+		    RegistryIndex.class.getClassLoader(),
+		    null,
+		    null,
+		    true
+		);
+		assertThat( descriptor.getBIFClassName() ).isEqualTo( ArrayAppend.class.getName() );
+
+		IBoxContext	context	= new ScriptingRequestBoxContext( runtime.getRuntimeContext() );
+		Array		array	= Array.of( 1, 2 );
+		descriptor.invoke( context, new Object[] { array, 3 }, false, Key.of( "ArrayAppend" ) );
+		assertThat( descriptor.getBIFClass() ).isEqualTo( ArrayAppend.class );
+		assertThat( array.size() ).isEqualTo( 3 );
+		assertThat( array.get( 2 ) ).isEqualTo( 3 );
+	}
+
+}
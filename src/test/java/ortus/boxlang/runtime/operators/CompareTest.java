@@ -64,6 +64,15 @@ public class CompareTest {
 		assertThat( Compare.invoke( 2.8, 0.6 ) ).isEqualTo( 1 );
 	}
 
+	@DisplayName( "It can compare mixed integers and longs" )
+	@Test
+	void testItCanCompareIntegralNumbers() {
+		assertThat( Compare.invoke( 1, 1L ) ).isEqualTo( 0 );
+		assertThat( Compare.invoke( 5_000_000_000L, 2 ) ).isEqualTo( 1 );
+		assertThat( Compare.invoke( Long.MIN_VALUE, Long.MAX_VALUE ) ).isEqualTo( -1 );
+		assertThat( Compare.invoke( 2, 2.5 ) ).isEqualTo( -1 );
+	}
+
 	@DisplayName( "It can compare strings as numbers" )
 	@Test
 	void testItCanCompareStringsAsNumbers() {
@@ -40,6 +40,17 @@ public class MinusTest {
 		assertThat( Minus.invoke( 3.5, 2.5 ).doubleValue() ).isEqualTo( 1 );
 	}
 
+	@DisplayName( "It can subtract longs without overflowing" )
+	@Test
+	void testItCanSubtractLongs() {
+		assertThat( Minus.invoke( 5_000_000_000L, 2L ) ).isEqualTo( 4_999_999_998L );
+		assertThat( Minus.invoke( -5_000_000_000L, 2L ) ).isEqualTo( -5_000_000_002L );
+		// Overflow falls back to the generic path instead of wrapping around
+		Number result = Minus.invoke( Long.MIN_VALUE, 1L );
+		assertThat( result ).isNotInstanceOf( Long.class );
+		assertThat( result.doubleValue() ).isLessThan( 0 );
+	}
+
 	@DisplayName( "It can subtract strings" )
 	@Test
 	void testItCanSubtractStrings() {
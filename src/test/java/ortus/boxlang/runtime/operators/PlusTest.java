@@ -41,6 +41,17 @@ public class PlusTest {
 		assertThat( Plus.invoke( 3.5, 2.5 ).doubleValue() ).isEqualTo( 6 );
 	}
 
+	@DisplayName( "It can add longs without overflowing" )
+	@Test
+	void testItCanAddLongs() {
+		assertThat( Plus.invoke( 5_000_000_000L, 2L ) ).isEqualTo( 5_000_000_002L );
+		assertThat( Plus.invoke( -5_000_000_000L, -2L ) ).isEqualTo( -5_000_000_002L );
+		// Overflow falls back to the generic path instead of wrapping around
+		Number result = Plus.invoke( Long.MAX_VALUE, 1L );
+		assertThat( result ).isNotInstanceOf( Long.class );
+		assertThat( result.doubleValue() ).isGreaterThan( 0 );
+	}
+
 	@DisplayName( "It can add strings" )
 	@Test
 	void testItCanAddStrings() {
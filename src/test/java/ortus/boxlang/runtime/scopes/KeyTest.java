@@ -97,4 +97,33 @@ public class KeyTest {
 		assertThat( key.getOriginalValue() ).isEqualTo( arr );
 
 	}
+
+	@DisplayName( "Test the builder interns keys" )
+	@Test
+	public void testOfInternsKeys() {
+		Key	key1	= Key.of( "internedTestKey" );
+		Key	key2	= Key.of( "internedTestKey" );
+		Key	key3	= Key.of( "INTERNEDTESTKEY" );
+
+		assertThat( key1.isInterned() ).isTrue();
+		assertThat( key1 ).isSameInstanceAs( key2 );
+		assertThat( key1 ).isNotSameInstanceAs( key3 );
+		assertThat( key1.getNameNoCase() ).isSameInstanceAs( key3.getNameNoCase() );
+		assertThat( key1 ).isEqualTo( key3 );
+		assertThat( key3.getName() ).isEqualTo( "INTERNEDTESTKEY" );
+		assertThat( KeyTable.contains( "internedTestKey" ) ).isTrue();
+	}
+
+	@DisplayName( "Test interned keys equal non-interned keys" )
+	@Test
+	public void testInternedEqualsNonInterned() {
+		Key	interned	= Key.of( "mixedKey" );
+		Key	plain		= new Key( "MIXEDKEY" );
+
+		assertThat( plain.isInterned() ).isFalse();
+		assertThat( interned ).isEqualTo( plain );
+		assertThat( plain ).isEqualTo( interned );
+		assertThat( interned.hashCode() ).isEqualTo( plain.hashCode() );
+		assertThat( Key.of( "otherKey" ) ).isNotEqualTo( interned );
+	}
 }
@@ -21,6 +21,9 @@ package ortus.boxlang.runtime.services;
 import static com.google.common.truth.Truth.assertThat;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +35,8 @@ import org.mockito.Spy;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.executors.BoxExecutor;
+import ortus.boxlang.runtime.async.executors.ParallelExecutor;
+import ortus.boxlang.runtime.scopes.Key;
 
 class AsyncServiceTest {
 
@@ -104,4 +109,45 @@ class AsyncServiceTest {
 		assertThat( asyncService.hasExecutor( "tdd3" ) ).isFalse();
 	}
 
+	@DisplayName( "It shares the parallel executors between operations" )
+	@Test
+	void testItSharesParallelExecutors() {
+		BoxExecutor	executor	= asyncService.getParallelExecutor( 4, false );
+		Object		result		= executor.submitAndGet( () -> "done" );
+
+		assertThat( result ).isEqualTo( "done" );
+		assertThat( executor.isShutdown() ).isFalse();
+		assertThat( asyncService.getParallelExecutor( 4, false ) ).isSameInstanceAs( executor );
+		assertThat( asyncService.getParallelExecutor( 8, false ) ).isNotSameInstanceAs( executor );
+		assertThat( asyncService.getParallelExecutor( 0, true ).type() ).isEqualTo( AsyncService.ExecutorType.VIRTUAL );
+		assertThat( asyncService.getParallelExecutor( Integer.MAX_VALUE, false ).maxThreads() ).isEqualTo( AsyncService.MAX_PARALLEL_THREADS );
+
+		assertThat( asyncService.getParallelExecutorStats().getAsStruct( Key.of( "executors" ) ) ).hasSize( 4 );
+		asyncService.shutdownAllExecutors();
+		assertThat( executor.isShutdown() ).isTrue();
+	}
+
+	@DisplayName( "It runs parallel operations sequentially on the calling thread when the global limit is reached" )
+	@Test
+	void testItRunsSequentiallyOverTheLimit() {
+		ForkJoinPool		pool		= new ForkJoinPool( 2 );
+		Semaphore			limiter		= new Semaphore( 1 );
+		ParallelExecutor	executor	= new ParallelExecutor( pool, "parallelTest", AsyncService.ExecutorType.FORK_JOIN, 2, limiter );
+		try {
+			assertThat( executor.submitAndGet( () -> ParallelExecutor.parallel( IntStream.range( 0, 10 ) ).isParallel() ) ).isEqualTo( true );
+			assertThat( executor.getCallerRunsCount() ).isEqualTo( 0 );
+
+			limiter.acquireUninterruptibly();
+			Thread caller = Thread.currentThread();
+			assertThat( executor.submitAndGet( () -> ParallelExecutor.parallel( IntStream.range( 0, 10 ) ).isParallel() ) ).isEqualTo( false );
+			assertThat( executor.submitAndGet( () -> Thread.currentThread() == caller ) ).isEqualTo( true );
+			assertThat( executor.getCallerRunsCount() ).isEqualTo( 2 );
+
+			// Back to parallel once the operation is done
+			assertThat( ParallelExecutor.parallel( IntStream.range( 0, 10 ) ).isParallel() ).isTrue();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
 }
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.CollectionCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
@@ -135,4 +136,51 @@ public class ArrayTest {
 		assertThat( test ).isTrue();
 	}
 
+	@DisplayName( "copyOnWrite copies share the list until either side is written to" )
+	@Test
+	void testCopyOnWrite() {
+		Array array = Array.of( "a", "b", "c" );
+		assertThat( array.canCopyOnWrite() ).isTrue();
+
+		Array copy = array.copyOnWrite();
+		assertThat( copy ).isEqualTo( array );
+		assertThat( copy.isSynchronized() ).isEqualTo( array.isSynchronized() );
+
+		copy.append( "d" );
+		assertThat( array ).containsExactly( "a", "b", "c" ).inOrder();
+
+		array.deleteAt( 1 );
+		assertThat( copy ).containsExactly( "a", "b", "c", "d" ).inOrder();
+
+		// Live views copy the list before they are handed out
+		Array other = copy.copyOnWrite();
+		other.asList().remove( "a" );
+		assertThat( copy.getAt( 1 ) ).isEqualTo( "a" );
+		assertThat( other.getAt( 1 ) ).isEqualTo( "b" );
+
+		assertThat( Array.fromList( List.of( "a" ) ).canCopyOnWrite() ).isFalse();
+	}
+
+	@DisplayName( "Read-only views don't make a copyOnWrite copy take a private list" )
+	@Test
+	void testReadOnlyViewsDontCopy() {
+		Array	array	= Array.of( "a", "b", "c" );
+		Array	copy	= array.copyOnWrite();
+
+		StringBuilder joined = new StringBuilder();
+		for ( Object value : copy.toListReadOnly() ) {
+			joined.append( value );
+		}
+		for ( Object value : CollectionCaster.cast( copy ) ) {
+			joined.append( value );
+		}
+		assertThat( joined.toString() ).isEqualTo( "abcabc" );
+		assertThat( copy.wrapped ).isSameInstanceAs( array.wrapped );
+		assertThrows( UnsupportedOperationException.class, () -> copy.toListReadOnly().add( "d" ) );
+
+		// The live iterator can remove elements, so it still copies
+		copy.iterator();
+		assertThat( copy.wrapped ).isNotSameInstanceAs( array.wrapped );
+	}
+
 }
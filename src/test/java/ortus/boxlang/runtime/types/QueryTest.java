@@ -21,6 +21,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -295,4 +296,52 @@ public class QueryTest {
 		assertThat( variables.get( Key.of( "valX" ) ) ).isEqualTo( "a" );
 	}
 
+	@DisplayName( "Test compacting to columnar storage" )
+	@Test
+	void testCompact() {
+		Query qry = new Query();
+		qry.addColumn( Key.of( "id" ), QueryColumnType.INTEGER );
+		qry.addColumn( Key.of( "category" ), QueryColumnType.VARCHAR );
+		qry.addColumn( Key.of( "price" ), QueryColumnType.DOUBLE );
+		qry.addColumn( Key.of( "mixed" ), QueryColumnType.OBJECT );
+		for ( int i = 0; i < 1000; i++ ) {
+			qry.addRow( new Object[] { i % 10 == 0 ? null : i, "cat" + ( i % 4 ), i * 1.5, i % 2 == 0 ? "even" : i } );
+		}
+
+		// Too small to bother
+		Query small = new Query();
+		small.addColumn( Key.of( "id" ), QueryColumnType.INTEGER );
+		small.addRow( new Object[] { 1 } );
+		assertThat( small.compact().isColumnar() ).isFalse();
+
+		assertThat( qry.compact().isColumnar() ).isTrue();
+		assertThat( qry.size() ).isEqualTo( 1000 );
+		assertThat( qry.getCell( Key.of( "id" ), 0 ) ).isNull();
+		assertThat( qry.getCell( Key.of( "id" ), 7 ) ).isEqualTo( 7 );
+		assertThat( qry.getCell( Key.of( "category" ), 6 ) ).isEqualTo( "cat2" );
+		assertThat( qry.getColumn( Key.of( "price" ) ).getCell( 3 ) ).isEqualTo( 4.5 );
+		assertThat( qry.getColumnData( Key.of( "mixed" ) )[ 5 ] ).isEqualTo( 5 );
+		assertThat( qry.getRowAsStruct( 2 ).get( Key.of( "mixed" ) ) ).isEqualTo( "even" );
+		int hash = qry.computeHashCode( IType.createIdentitySetForType() );
+		assertThat( qry.computeHashCode( IType.createIdentitySetForType() ) ).isEqualTo( hash );
+		assertThat( qry.toArray() ).hasLength( 1000 );
+		assertThat( qry.contains( "not a row" ) ).isFalse();
+		assertThat( qry.containsAll( List.of() ) ).isTrue();
+		// Reads don't need the rows back
+		assertThat( qry.isColumnar() ).isTrue();
+
+		// Row arrays are passed by reference, so changes go back to rows
+		qry.getRow( 1 )[ 1 ] = "changed";
+		assertThat( qry.isColumnar() ).isFalse();
+		assertThat( qry.getCell( Key.of( "category" ), 1 ) ).isEqualTo( "changed" );
+		assertThat( qry.getCell( Key.of( "category" ), 999 ) ).isEqualTo( "cat3" );
+
+		qry.compact();
+		qry.addRow( new Object[] { 1000, "cat0", 1500.0, "even" } );
+		assertThat( qry.isColumnar() ).isFalse();
+		assertThat( qry.size() ).isEqualTo( 1001 );
+		assertThat( qry.getCell( Key.of( "id" ), 1000 ) ).isEqualTo( 1000 );
+		assertThat( qry.getCell( Key.of( "price" ), 999 ) ).isEqualTo( 1498.5 );
+	}
+
 }
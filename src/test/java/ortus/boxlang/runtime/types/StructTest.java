@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.lang.ref.SoftReference;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.CollectionCaster;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
@@ -368,4 +370,108 @@ class StructTest {
 		assertThat( elapsed ).isLessThan( 5000 );
 	}
 
+	@DisplayName( "entryIterator unwraps nulls and tolerates changes to the struct" )
+	@Test
+	void testEntryIterator() {
+		for ( IStruct struct : new IStruct[] { new Struct(), new Struct( IStruct.TYPES.LINKED ), new Struct( IStruct.TYPES.SORTED ) } ) {
+			struct.put( Key.of( "one" ), 1 );
+			struct.put( Key.of( "nothing" ), null );
+			struct.put( Key.of( "two" ), 2 );
+
+			Map<Key, Object>					seen	= new HashMap<>();
+			Iterator<Map.Entry<Key, Object>>	entries	= struct.entryIterator();
+			while ( entries.hasNext() ) {
+				Map.Entry<Key, Object> entry = entries.next();
+				seen.put( entry.getKey(), entry.getValue() );
+				struct.remove( entry.getKey() );
+			}
+
+			assertThat( seen ).hasSize( 3 );
+			assertThat( seen.get( Key.of( "nothing" ) ) ).isNull();
+			assertThat( seen.get( Key.of( "two" ) ) ).isEqualTo( 2 );
+			assertThat( struct ).isEmpty();
+		}
+	}
+
+	@DisplayName( "entryStream and forEach unwrap nulls" )
+	@Test
+	void testEntryStreamAndForEach() {
+		IStruct struct = Struct.of( "one", 1, "nothing", null );
+
+		assertThat( struct.entryStream().filter( entry -> entry.getValue() == null ).count() ).isEqualTo( 1 );
+
+		Map<Key, Object> seen = new HashMap<>();
+		struct.forEach( seen::put );
+		assertThat( seen ).containsExactly( Key.of( "one" ), 1, Key.of( "nothing" ), null );
+	}
+
+	@DisplayName( "entryIterator and entryStream entries don't write through to the struct" )
+	@Test
+	void testEntriesAreReadOnly() {
+		IStruct	struct		= Struct.of( "one", 1 );
+		int		hashCode	= struct.hashCode();
+
+		Map.Entry<Key, Object> iterated = struct.entryIterator().next();
+		assertThrows( UnsupportedOperationException.class, () -> iterated.setValue( 2 ) );
+		Map.Entry<Key, Object> streamed = struct.entryStream().findFirst().get();
+		assertThrows( UnsupportedOperationException.class, () -> streamed.setValue( 2 ) );
+
+		assertThat( struct.get( Key.of( "one" ) ) ).isEqualTo( 1 );
+		assertThat( struct.hashCode() ).isEqualTo( hashCode );
+	}
+
+	@DisplayName( "copyOnWrite copies share the map until either side is written to" )
+	@Test
+	void testCopyOnWrite() {
+		Comparator<Key> longestFirst = Struct.KEY_LENGTH_LONGEST_FIRST_COMPARATOR;
+		for ( Struct struct : new Struct[] { new Struct(), new Struct( IStruct.TYPES.LINKED ), new Struct( longestFirst ) } ) {
+			struct.put( Key.of( "a" ), 1 );
+			struct.put( Key.of( "bbb" ), 2 );
+			assertThat( struct.canCopyOnWrite() ).isTrue();
+
+			Struct copy = struct.copyOnWrite();
+			assertThat( copy ).isEqualTo( struct );
+			assertThat( copy.getType() ).isEqualTo( struct.getType() );
+
+			copy.put( Key.of( "cc" ), 3 );
+			assertThat( struct.containsKey( Key.of( "cc" ) ) ).isFalse();
+
+			struct.remove( Key.of( "a" ) );
+			assertThat( copy.containsKey( Key.of( "a" ) ) ).isTrue();
+
+			// Live views copy the map before they are handed out
+			Struct other = copy.copyOnWrite();
+			other.keySet().remove( Key.of( "bbb" ) );
+			assertThat( copy.containsKey( Key.of( "bbb" ) ) ).isTrue();
+		}
+
+		Struct sorted = new Struct( longestFirst );
+		sorted.put( Key.of( "a" ), 1 );
+		Struct sortedCopy = sorted.copyOnWrite();
+		sortedCopy.put( Key.of( "bbb" ), 2 );
+		assertThat( sortedCopy.getKeysAsStrings() ).containsExactly( "bbb", "a" ).inOrder();
+
+		assertThat( new Struct( IStruct.TYPES.WEAK ).canCopyOnWrite() ).isFalse();
+		assertThat( new Struct( new HashMap<Key, Object>(), IStruct.TYPES.DEFAULT ).canCopyOnWrite() ).isFalse();
+	}
+
+	@DisplayName( "Read-only views don't make a copyOnWrite copy take a private map" )
+	@Test
+	void testReadOnlyViewsDontCopy() {
+		Struct struct = new Struct();
+		struct.put( Key.of( "a" ), 1 );
+		struct.put( Key.of( "b" ), 2 );
+		Struct copy = struct.copyOnWrite();
+
+		assertThat( copy.keySetReadOnly() ).containsExactly( Key.of( "a" ), Key.of( "b" ) );
+		assertThat( copy.getWrappedReadOnly() ).hasSize( 2 );
+		assertThat( CollectionCaster.cast( copy ) ).containsExactly( "a", "b" );
+		assertThat( copy.wrapped ).isSameInstanceAs( struct.wrapped );
+		assertThrows( UnsupportedOperationException.class, () -> copy.keySetReadOnly().remove( Key.of( "a" ) ) );
+
+		// The live key view can remove keys, so it still copies
+		copy.keySet();
+		assertThat( copy.wrapped ).isNotSameInstanceAs( struct.wrapped );
+	}
+
 }
@@ -0,0 +1,191 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.LocalScope;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class ThreadConfinedMapTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It keeps insertion order when ordered" )
+	@Test
+	public void testOrdered() {
+		ThreadConfinedMap map = new ThreadConfinedMap( true, 4 );
+		map.put( Key.of( "c" ), 1 );
+		map.put( Key.of( "a" ), 2 );
+		map.put( Key.of( "b" ), 3 );
+
+		assertThat( List.copyOf( map.keySet() ) ).containsExactly( Key.of( "c" ), Key.of( "a" ), Key.of( "b" ) ).inOrder();
+
+		map.escape();
+		assertThat( map.isEscaped() ).isTrue();
+		assertThat( List.copyOf( map.keySet() ) ).containsExactly( Key.of( "c" ), Key.of( "a" ), Key.of( "b" ) ).inOrder();
+	}
+
+	@DisplayName( "It escapes when another thread touches it" )
+	@Test
+	public void testForeignAccessEscapes() {
+		ThreadConfinedMap map = new ThreadConfinedMap( false, 4 );
+		map.put( Key.of( "foo" ), "bar" );
+		assertThat( map.isEscaped() ).isFalse();
+
+		Object value = CompletableFuture.supplyAsync( () -> map.get( Key.of( "foo" ) ) ).join();
+		assertThat( value ).isEqualTo( "bar" );
+		assertThat( map.isEscaped() ).isTrue();
+
+		// The owner keeps using it, now concurrently
+		map.put( Key.of( "baz" ), "qux" );
+		assertThat( CompletableFuture.supplyAsync( () -> map.get( Key.of( "baz" ) ) ).join() ).isEqualTo( "qux" );
+	}
+
+	@DisplayName( "Another thread can escape it" )
+	@Test
+	public void testForeignEscape() {
+		ThreadConfinedMap map = new ThreadConfinedMap( true, 4 );
+		map.put( Key.of( "foo" ), "bar" );
+
+		CompletableFuture.runAsync( map::escape ).join();
+		assertThat( map.isEscaped() ).isTrue();
+		assertThat( map.get( Key.of( "foo" ) ) ).isEqualTo( "bar" );
+	}
+
+	@DisplayName( "It doesn't lose the writes of the owner while another thread escapes it" )
+	@Test
+	public void testEscapeDuringWrites() {
+		ThreadConfinedMap			map		= new ThreadConfinedMap( false, 4 );
+		CompletableFuture<Integer>	reader	= CompletableFuture.supplyAsync( () -> {
+												while ( map.isEmpty() ) {
+													Thread.onSpinWait();
+												}
+												return map.size();
+											} );
+		for ( int i = 0; i < 100_000; i++ ) {
+			map.put( Key.of( i ), i );
+		}
+		assertThat( reader.join() ).isGreaterThan( 0 );
+		assertThat( map.isEscaped() ).isTrue();
+		assertThat( map.size() ).isEqualTo( 100_000 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			assertThat( map.get( Key.of( i ) ) ).isEqualTo( i );
+		}
+	}
+
+	@DisplayName( "Function scopes stored or returned by the code can be read from other threads" )
+	@Test
+	public void testStoredScopesReadFromOtherThreads() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				cache = {};
+				function remember( string name ) {
+					var greeting = "hi " & name;
+					cache.args = arguments;
+					return local;
+				}
+				result = remember( "luis" );
+		    """,
+		    context );
+		// @formatter:on
+		IStruct	args	= variables.getAsStruct( Key.of( "cache" ) ).getAsStruct( Key.of( "args" ) );
+		IStruct	locals	= variables.getAsStruct( result );
+		assertThat( CompletableFuture.supplyAsync( () -> args.get( Key.of( "name" ) ) ).join() ).isEqualTo( "luis" );
+		assertThat( CompletableFuture.supplyAsync( () -> locals.get( Key.of( "greeting" ) ) ).join() ).isEqualTo( "hi luis" );
+	}
+
+	@DisplayName( "Function scopes start thread confined" )
+	@Test
+	public void testScopesAreConfined() {
+		assertThat( new LocalScope().isThreadConfined() ).isTrue();
+		assertThat( new ArgumentsScope().isThreadConfined() ).isTrue();
+		assertThat( new LocalScope().escape().isThreadConfined() ).isFalse();
+	}
+
+	@DisplayName( "Closures escape the scopes of their declaring function" )
+	@Test
+	public void testClosuresEscapeScopes() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				function outer( string greeting ) {
+					var name = "luis";
+					var future = runAsync( () => greeting & " " & name );
+					return future.get();
+				}
+				result = outer( "hello" );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.get( result ) ).isEqualTo( "hello luis" );
+	}
+
+	@DisplayName( "Parallel closures can see the declaring function scopes" )
+	@Test
+	public void testParallelCallbacks() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				function outer() {
+					var prefix = "item";
+					return [ 1, 2, 3, 4 ].map( ( n ) => prefix & n, true );
+				}
+				result = outer();
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( variables.getAsArray( result ) ).containsExactly( "item1", "item2", "item3", "item4" ).inOrder();
+	}
+
+}
@@ -0,0 +1,151 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OutputBufferTest {
+
+	@Test
+	@DisplayName( "Test appending across several chunks" )
+	public void testAppendAcrossChunks() {
+		OutputBuffer	buffer		= new OutputBuffer();
+		StringBuilder	expected	= new StringBuilder();
+		for ( int i = 0; i < 5000; i++ ) {
+			buffer.append( "line " ).append( String.valueOf( i ) ).append( '\n' );
+			expected.append( "line " ).append( i ).append( '\n' );
+		}
+		buffer.append( new StringBuilder( "done" ) );
+		expected.append( "done" );
+
+		assertThat( buffer.toString() ).isEqualTo( expected.toString() );
+		assertThat( buffer.length() ).isEqualTo( expected.length() );
+		assertThat( buffer.charAt( expected.length() - 1 ) ).isEqualTo( 'e' );
+		assertThat( buffer.subSequence( 0, 6 ).toString() ).isEqualTo( "line 0" );
+	}
+
+	@Test
+	@DisplayName( "Test transferring a buffer empties it" )
+	public void testTransferFrom() {
+		OutputBuffer	parent	= new OutputBuffer().append( "parent " );
+		OutputBuffer	child	= new OutputBuffer().append( "child" );
+
+		parent.transferFrom( child );
+		assertThat( parent.toString() ).isEqualTo( "parent child" );
+		assertThat( child.length() ).isEqualTo( 0 );
+
+		// Neither buffer can see the writes of the other after the transfer
+		child.append( " again" );
+		parent.append( "!" );
+		assertThat( parent.toString() ).isEqualTo( "parent child!" );
+		assertThat( child.toString() ).isEqualTo( " again" );
+	}
+
+	@Test
+	@DisplayName( "Test many small transfers don't pile up chunks" )
+	public void testSmallTransfersAreCopied() {
+		OutputBuffer	parent		= new OutputBuffer();
+		StringBuilder	expected	= new StringBuilder();
+		for ( int i = 0; i < 10000; i++ ) {
+			char c = ( char ) ( 'a' + i % 26 );
+			parent.transferFrom( new OutputBuffer().append( c ) );
+			expected.append( c );
+		}
+		assertThat( parent.toString() ).isEqualTo( expected.toString() );
+		// Copied into chunks that double in size, instead of one chunk per transfer
+		assertThat( parent.chunkCount() ).isLessThan( 10 );
+
+		// A large transfer is still linked as is
+		OutputBuffer large = new OutputBuffer().append( "x".repeat( 50000 ) );
+		parent.transferFrom( large );
+		assertThat( parent.length() ).isEqualTo( 60000 );
+		assertThat( parent.toString() ).endsWith( "x".repeat( 50000 ) );
+		assertThat( parent.chunkCount() ).isLessThan( 20 );
+	}
+
+	@Test
+	@DisplayName( "Test a wrapped StringBuffer receives the writes" )
+	public void testWrap() {
+		StringBuffer	target	= new StringBuffer( "start " );
+		OutputBuffer	wrapped	= OutputBuffer.wrap( target );
+		wrapped.append( "middle " ).transferFrom( new OutputBuffer().append( "end" ) );
+
+		assertThat( target.toString() ).isEqualTo( "start middle end" );
+		assertThat( wrapped.toString() ).isEqualTo( "start middle end" );
+
+		OutputBuffer other = new OutputBuffer().transferFrom( wrapped );
+		assertThat( other.toString() ).isEqualTo( "start middle end" );
+		assertThat( target.length() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "Test switching a buffer to a StringBuffer keeps both in sync" )
+	public void testToStringBuffer() {
+		OutputBuffer	buffer			= new OutputBuffer().append( "before " );
+		StringBuffer	stringBuffer	= buffer.toStringBuffer();
+		assertThat( stringBuffer.toString() ).isEqualTo( "before " );
+		assertThat( buffer.toStringBuffer() ).isSameInstanceAs( stringBuffer );
+
+		buffer.append( "after" );
+		assertThat( stringBuffer.toString() ).isEqualTo( "before after" );
+		stringBuffer.setLength( 0 );
+		assertThat( buffer.length() ).isEqualTo( 0 );
+	}
+
+	@Test
+	@DisplayName( "Test writing to a writer and a stream" )
+	public void testWriteTo() throws IOException {
+		OutputBuffer buffer = new OutputBuffer().append( "héllo " ).append( "wörld" );
+
+		StringWriter writer = new StringWriter();
+		buffer.writeTo( writer );
+		assertThat( writer.toString() ).isEqualTo( "héllo wörld" );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buffer.writeTo( out, StandardCharsets.UTF_8 );
+		assertThat( out.toString( StandardCharsets.UTF_8 ) ).isEqualTo( "héllo wörld" );
+	}
+
+	@Test
+	@DisplayName( "Test writing through the buffer's writer" )
+	public void testAsWriter() throws IOException {
+		OutputBuffer	buffer		= new OutputBuffer();
+		Writer			writer		= buffer.asWriter();
+		StringBuilder	expected	= new StringBuilder();
+		char[]			chars		= "0123456789".repeat( 3000 ).toCharArray();
+
+		writer.write( "start " );
+		writer.write( chars, 5, chars.length - 5 );
+		writer.write( '!' );
+		writer.close();
+		expected.append( "start " ).append( chars, 5, chars.length - 5 ).append( '!' );
+
+		assertThat( buffer.toString() ).isEqualTo( expected.toString() );
+		assertThat( buffer.length() ).isEqualTo( expected.length() );
+	}
+
+}